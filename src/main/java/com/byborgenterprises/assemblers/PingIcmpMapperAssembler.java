@@ -6,6 +6,8 @@ import com.byborgenterprises.embeddables.Terminal;
 import com.byborgenterprises.entities.PingIcmp;
 import com.byborgenterprises.mappers.PingIcmpMapper;
 import com.byborgenterprises.mappers.TerminalMapper;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -18,6 +20,8 @@ import lombok.RequiredArgsConstructor;
  * <p>This class leverages the {@link TerminalMapper} to map the {@link Terminal}
  * field to its corresponding {@link TerminalDto} representation.
  *
+ * <p>The round trip times packed in the array of the {@link PingIcmp} are unpacked into a list.
+ *
  * <p>Designed to separate mapping logic from core business functionality, this assembler ensures
  * consistency and reusability in mapping operations.
  */
@@ -30,6 +34,23 @@ public class PingIcmpMapperAssembler implements PingIcmpMapper {
   @Override
   public @NonNull PingIcmpDto toDto(@NonNull PingIcmp pingIcmp) {
     TerminalDto terminalDto = this.getTerminalMapper().toDto(pingIcmp.getTerminal());
-    return new PingIcmpDto(pingIcmp.getHost(), terminalDto, pingIcmp.isSuccess());
+    return new PingIcmpDto(pingIcmp.getHost(), terminalDto, pingIcmp.isSuccess(), pingIcmp.getTransmitted(), pingIcmp.getReceived(), pingIcmp.getLossPercent(),
+        pingIcmp.getMinRtt(), pingIcmp.getAvgRtt(), pingIcmp.getMaxRtt(), pingIcmp.getMdevRtt(), getRoundTrips(pingIcmp), pingIcmp.getProbeMode());
+  }
+
+  /**
+   * Unpacks the round trip times of a ping.
+   *
+   * @param pingIcmp the {@link PingIcmp} entity.
+   * @return the round trip time of each reply, in milliseconds.
+   */
+  @NonNull
+  private static List<Float> getRoundTrips(@NonNull final PingIcmp pingIcmp) {
+    float[] roundTrips = pingIcmp.getRoundTrips();
+    List<Float> unpacked = new ArrayList<>(roundTrips.length);
+    for (float roundTrip : roundTrips) {
+      unpacked.add(roundTrip);
+    }
+    return List.copyOf(unpacked);
   }
 }
@@ -19,6 +19,7 @@ public class PingTcpIpMapperAssembler implements PingTcpIpMapper {
 
   @Override
   public @NonNull PingTcpIpDto toDto(@NonNull PingTcpIp pingTcpIp) {
-    return new PingTcpIpDto(pingTcpIp.getUrl(), pingTcpIp.getResponseCode(), pingTcpIp.getResponseTime(), pingTcpIp.getTime(), pingTcpIp.isSuccess());
+    return new PingTcpIpDto(pingTcpIp.getUrl(), pingTcpIp.getResponseCode(), pingTcpIp.getResponseTime(), pingTcpIp.getTime(), pingTcpIp.isSuccess(), pingTcpIp.getDnsTime(),
+        pingTcpIp.getConnectTime(), pingTcpIp.getFirstByteTime(), pingTcpIp.getTransferTime());
   }
 }
@@ -19,13 +19,14 @@ public class TerminalMapperAssembler implements TerminalMapper {
 
   @Override
   public @NonNull TerminalDto toDto(@NonNull Terminal terminal) {
-    return new TerminalDto(terminal.getCommand(), terminal.getExitCode(), terminal.getResult(), terminal.getTime());
+    return new TerminalDto(terminal.getCommand(), terminal.getExitCode(), terminal.getResult(), terminal.getTime(), terminal.getOutcome());
   }
 
   @Override
   public @NonNull Terminal toEntity(@NonNull TerminalDto terminalDto) {
     Terminal terminal = new Terminal(terminalDto.command(), terminalDto.result(), terminalDto.time());
     terminal.setExitCode(terminalDto.exitCode());
+    terminal.setOutcome(terminalDto.outcome());
     return terminal;
   }
 }
@@ -2,10 +2,14 @@ package com.byborgenterprises.assemblers;
 
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.dtos.TraceRouteDto;
+import com.byborgenterprises.dtos.TraceRouteHopDto;
 import com.byborgenterprises.embeddables.Terminal;
 import com.byborgenterprises.entities.TraceRoute;
 import com.byborgenterprises.mappers.TerminalMapper;
 import com.byborgenterprises.mappers.TraceRouteMapper;
+import com.byborgenterprises.utils.TraceRouteParser;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -20,6 +24,9 @@ import lombok.RequiredArgsConstructor;
  *
  * <p>By encapsulating the mapping logic, this assembler ensures consistent and reusable
  * transformations between entity and DTO layers, particularly for traceroute operations.
+ *
+ * <p>The hops packed in the arrays of the {@link TraceRoute} are unpacked into one
+ * {@link TraceRouteHopDto} per hop.
  */
 @RequiredArgsConstructor
 @Getter(AccessLevel.PRIVATE)
@@ -30,6 +37,25 @@ public class TraceRouteMapperAssembler implements TraceRouteMapper {
   @Override
   public @NonNull TraceRouteDto toDto(@NonNull TraceRoute traceRoute) {
     TerminalDto terminalDto = this.getTerminalMapper().toDto(traceRoute.getTerminal());
-    return new TraceRouteDto(traceRoute.getHost(), terminalDto, traceRoute.isSuccess());
+    return new TraceRouteDto(traceRoute.getHost(), terminalDto, traceRoute.isSuccess(), getHops(traceRoute));
+  }
+
+  /**
+   * Unpacks the hops of a traceroute.
+   *
+   * @param traceRoute the traceroute.
+   * @return the {@link TraceRouteHopDto} of each hop.
+   */
+  @NonNull
+  private static List<TraceRouteHopDto> getHops(@NonNull final TraceRoute traceRoute) {
+    int[] ttls = traceRoute.getHopTtls();
+    String[] addresses = traceRoute.getHopAddresses();
+    float[] roundTrips = traceRoute.getHopRoundTrips();
+    List<TraceRouteHopDto> hops = new ArrayList<>(ttls.length);
+    for (int i = 0; i < ttls.length; i++) {
+      int probe = i * TraceRouteParser.PROBES_PER_HOP;
+      hops.add(new TraceRouteHopDto(ttls[i], addresses[i], roundTrips[probe], roundTrips[probe + 1], roundTrips[probe + 2]));
+    }
+    return List.copyOf(hops);
   }
 }
@@ -0,0 +1,46 @@
+package com.byborgenterprises.configs;
+
+import java.time.Duration;
+import java.util.Objects;
+import lombok.Builder;
+import lombok.NonNull;
+
+/**
+ * The PingIcmpSettings record groups the settings of the ICMP pings: the command templates, the
+ * early verdicts and the timeout of the commands, and the echo requests sent from the JVM.
+ *
+ * <p>The settings left out of the builder take their default: no pre-resolution, no early
+ * verdict, no timeout, the {@code ping -t HOST} and {@code ping -O HOST} session commands, and 3
+ * echo requests waiting 1000 milliseconds each.
+ *
+ * @param pingCommandWindows the command template of the ping on Windows.
+ * @param pingCommandLinux the command template of the ping on Linux.
+ * @param preResolve whether the commands target the cached address of the host.
+ * @param requiredReplies the number of replies ending a ping command, {@code 0} never ends it on replies.
+ * @param requiredLosses the number of lost requests ending a ping command, {@code 0} never ends it on losses.
+ * @param commandTimeout the time a ping command may run, {@link Duration#ZERO} lets it run until it exits.
+ * @param sessionCommandWindows the command template of the ping sessions on Windows.
+ * @param sessionCommandLinux the command template of the ping sessions on Linux.
+ * @param echoCount the maximum number of echo requests sent from the JVM per ping.
+ * @param echoTimeout the time to wait for the reply of each echo request, in milliseconds.
+ */
+@Builder
+public record PingIcmpSettings(@NonNull String pingCommandWindows, @NonNull String pingCommandLinux, boolean preResolve, int requiredReplies, int requiredLosses,
+                               Duration commandTimeout, String sessionCommandWindows, String sessionCommandLinux, int echoCount, int echoTimeout) {
+
+  private static final String DEFAULT_SESSION_COMMAND_WINDOWS = "ping -t HOST";
+  private static final String DEFAULT_SESSION_COMMAND_LINUX = "ping -O HOST";
+  private static final int DEFAULT_ECHO_COUNT = 3;
+  private static final int DEFAULT_ECHO_TIMEOUT = 1000;
+
+  /**
+   * Creates the settings, filling the missing ones with their default.
+   */
+  public PingIcmpSettings {
+    commandTimeout = Objects.requireNonNullElse(commandTimeout, Duration.ZERO);
+    sessionCommandWindows = Objects.requireNonNullElse(sessionCommandWindows, DEFAULT_SESSION_COMMAND_WINDOWS);
+    sessionCommandLinux = Objects.requireNonNullElse(sessionCommandLinux, DEFAULT_SESSION_COMMAND_LINUX);
+    echoCount = echoCount > 0 ? echoCount : DEFAULT_ECHO_COUNT;
+    echoTimeout = echoTimeout > 0 ? echoTimeout : DEFAULT_ECHO_TIMEOUT;
+  }
+}
@@ -1,16 +1,28 @@
 package com.byborgenterprises.configs;
 
+import com.byborgenterprises.enums.ExecutionMode;
+import com.byborgenterprises.enums.HttpProbeMode;
+import com.byborgenterprises.enums.IcmpProbeMode;
+import com.byborgenterprises.enums.LauncherMode;
+import com.byborgenterprises.enums.OverrunPolicy;
+import com.byborgenterprises.enums.SchedulerType;
+import com.byborgenterprises.enums.TcpProbeMode;
 import java.util.List;
 import org.aeonbits.owner.Config;
 import org.aeonbits.owner.Config.Sources;
+import org.aeonbits.owner.Reloadable;
 
 /**
  * The PropertiesConfig interface provides access to application configuration properties
  * using the Owner library. It includes methods to retrieve settings related to hosts,
  * ping commands, timeouts, and traceroute parameters.
+ *
+ * <p>A {@code config.properties} file in the working directory takes precedence over the one
+ * bundled in the classpath. When {@link #getReloadInterval()} is positive, it can be edited while
+ * the application runs: the host list and the job intervals are then reloaded at that interval.
  */
-@Sources("classpath:config.properties")
-public interface PropertiesConfig extends Config {
+@Sources({"file:${user.dir}/config.properties", "classpath:config.properties"})
+public interface PropertiesConfig extends Config, Reloadable {
 
   /**
    * Retrieves the list of hosts to be monitored.
@@ -30,6 +42,15 @@ public interface PropertiesConfig extends Config {
   @DefaultValue("5000")
   long getDelayIcmp();
 
+  /**
+   * Retrieves the policy applied to the missed executions of the ICMP ping job.
+   *
+   * @return the {@link OverrunPolicy} of the job.
+   */
+  @Key("icmp.job.overrun.policy")
+  @DefaultValue("CATCH_UP")
+  OverrunPolicy getOverrunPolicyIcmp();
+
   /**
    * Retrieves the ICMP ping command for Windows systems.
    *
@@ -40,7 +61,9 @@ public interface PropertiesConfig extends Config {
   String getPingCommandWindows();
 
   /**
-   * Retrieves the ICMP ping command for Linux systems.
+   * Retrieves the ICMP ping command for Linux systems. With an early verdict, the {@code -O}
+   * option reports each unanswered request as it happens, without it a lost request only shows as
+   * a gap in the sequence numbers of the replies.
    *
    * @return the Linux-specific ping command.
    */
@@ -48,6 +71,100 @@ public interface PropertiesConfig extends Config {
   @DefaultValue("ping -c 5 HOST")
   String getPingCommandLinux();
 
+  /**
+   * Retrieves the number of echo replies after which an ICMP ping command is ended, the host being
+   * reachable.
+   *
+   * @return the number of replies, {@code 0} lets the command run to its end.
+   */
+  @Key("icmp.job.early.replies")
+  @DefaultValue("0")
+  int getPingEarlyReplies();
+
+  /**
+   * Retrieves the number of lost echo requests after which an ICMP ping command is ended, the host
+   * being unreachable.
+   *
+   * @return the number of lost requests, {@code 0} lets the command run to its end.
+   */
+  @Key("icmp.job.early.losses")
+  @DefaultValue("0")
+  int getPingEarlyLosses();
+
+  /**
+   * Retrieves the time an ICMP ping command may run before its process tree is killed.
+   *
+   * @return the timeout in milliseconds, {@code 0} lets the command run until it exits.
+   */
+  @Key("icmp.job.timeout")
+  @DefaultValue("15000")
+  long getPingCommandTimeout();
+
+  /**
+   * Retrieves how the ICMP pings probe their target, with one bounded command per tick or with one
+   * long-running command per host.
+   *
+   * @return the {@link IcmpProbeMode}.
+   */
+  @Key("icmp.probe.mode")
+  @DefaultValue("COMMAND")
+  IcmpProbeMode getIcmpProbeMode();
+
+  /**
+   * Retrieves the Windows command of a long-running ICMP ping session.
+   *
+   * @return the command template, where {@code HOST} is replaced by the target.
+   */
+  @Key("icmp.session.command.windows")
+  @DefaultValue("ping -t HOST")
+  String getPingSessionCommandWindows();
+
+  /**
+   * Retrieves the Linux command of a long-running ICMP ping session.
+   *
+   * @return the command template, where {@code HOST} is replaced by the target.
+   */
+  @Key("icmp.session.command.linux")
+  @DefaultValue("ping -O HOST")
+  String getPingSessionCommandLinux();
+
+  /**
+   * Retrieves the delay before an ICMP ping session that exited is started again.
+   *
+   * @return the delay in milliseconds.
+   */
+  @Key("icmp.session.restart.delay")
+  @DefaultValue("5000")
+  long getPingSessionRestartDelay();
+
+  /**
+   * Retrieves the maximum number of echo requests sent by an ICMP ping from the application, the
+   * requests stopping at the first reply.
+   *
+   * @return the number of echo requests.
+   */
+  @Key("icmp.echo.count")
+  @DefaultValue("3")
+  int getPingEchoCount();
+
+  /**
+   * Retrieves the time to wait for the reply of an echo request sent from the application.
+   *
+   * @return the timeout in milliseconds.
+   */
+  @Key("icmp.echo.timeout")
+  @DefaultValue("1000")
+  int getPingEchoTimeout();
+
+  /**
+   * Retrieves the number of ICMP pings sending their echo requests from the application at once.
+   *
+   * @return the number of threads.
+   */
+  @Key("icmp.echo.threads")
+  @DefaultValue("8")
+  int getPingEchoThreadNumber();
+
   /**
    * Retrieves the delay between TCP/IP ping jobs.
    *
@@ -57,6 +174,15 @@ public interface PropertiesConfig extends Config {
   @DefaultValue("5000")
   long getDelayTcpIp();
 
+  /**
+   * Retrieves the policy applied to the missed executions of the TCP/IP ping job.
+   *
+   * @return the {@link OverrunPolicy} of the job.
+   */
+  @Key("tcp.job.overrun.policy")
+  @DefaultValue("CATCH_UP")
+  OverrunPolicy getOverrunPolicyTcpIp();
+
   /**
    * Retrieves the timeout for TCP/IP requests.
    *
@@ -75,6 +201,45 @@ public interface PropertiesConfig extends Config {
   @DefaultValue("http")
   String getProtocol();
 
+  /**
+   * Indicates whether the TCP/IP ping jobs send their request without waiting for the response.
+   *
+   * @return {@code true} if the TCP/IP pings are asynchronous.
+   */
+  @Key("tcp.job.async")
+  @DefaultValue("false")
+  boolean isTcpIpAsyncEnabled();
+
+  /**
+   * Retrieves the number of threads handling the results of the asynchronous TCP/IP pings, and
+   * saving the results of the TCP handshakes in the connect probe mode.
+   *
+   * @return the number of threads.
+   */
+  @Key("tcp.job.result.threads")
+  @DefaultValue("3")
+  int getTcpIpResultThreadNumber();
+
+  /**
+   * Retrieves how the TCP/IP pings probe their target, with an HTTP request or a TCP handshake only.
+   *
+   * @return the {@link TcpProbeMode}.
+   */
+  @Key("tcp.probe.mode")
+  @DefaultValue("HTTP")
+  TcpProbeMode getTcpProbeMode();
+
+  /**
+   * Retrieves how much of the response an HTTP TCP/IP ping reads. The default reads the whole
+   * response, {@link HttpProbeMode#HEAD} and {@link HttpProbeMode#FIRST_BYTE} changing what the
+   * response and transfer times measure.
+   *
+   * @return the {@link HttpProbeMode}.
+   */
+  @Key("tcp.request.mode")
+  @DefaultValue("GET")
+  HttpProbeMode getHttpProbeMode();
+
   /**
    * Retrieves the delay between traceroute jobs.
    *
@@ -84,6 +249,15 @@ public interface PropertiesConfig extends Config {
   @DefaultValue("5000")
   long getDelayTraceroute();
 
+  /**
+   * Retrieves the policy applied to the missed executions of the traceroute job.
+   *
+   * @return the {@link OverrunPolicy} of the job.
+   */
+  @Key("traceroute.job.overrun.policy")
+  @DefaultValue("CATCH_UP")
+  OverrunPolicy getOverrunPolicyTraceroute();
+
   /**
    * Retrieves the traceroute command for Windows systems.
    *
@@ -102,6 +276,24 @@ public interface PropertiesConfig extends Config {
   @DefaultValue("traceroute HOST")
   String getTracerouteCommandLinux();
 
+  /**
+   * Retrieves the time a traceroute command may run before its process tree is killed.
+   *
+   * @return the timeout in milliseconds, {@code 0} lets the command run until it exits.
+   */
+  @Key("traceroute.job.timeout")
+  @DefaultValue("60000")
+  long getTracerouteCommandTimeout();
+
+  /**
+   * Indicates whether the output of a traceroute is saved once its hops are parsed.
+   *
+   * @return {@code true} if the output is kept, {@code false} if only the parsed hops are kept.
+   */
+  @Key("traceroute.job.output.keep")
+  @DefaultValue("false")
+  boolean isTracerouteOutputKept();
+
   /**
    * Retrieves the base URL for report submission.
    *
@@ -119,4 +311,233 @@ public interface PropertiesConfig extends Config {
   @Key("job.scheduled.thread.number")
   @DefaultValue("0")
   int getScheduledThreadNumber();
+
+  /**
+   * Retrieves the execution mode of the scheduled job bodies.
+   *
+   * @return the {@link ExecutionMode} of the jobs.
+   */
+  @Key("job.execution.mode")
+  @DefaultValue("PLATFORM")
+  ExecutionMode getExecutionMode();
+
+  /**
+   * Indicates whether the jobs sharing the same delay are spread evenly across it at start.
+   *
+   * @return {@code true} if the start of the jobs is staggered.
+   */
+  @Key("job.start.stagger")
+  @DefaultValue("true")
+  boolean isStartStaggered();
+
+  /**
+   * Indicates whether a deterministic per-host jitter is added to the start of the jobs.
+   *
+   * @return {@code true} if the start of the jobs is jittered.
+   */
+  @Key("job.start.jitter")
+  @DefaultValue("false")
+  boolean isStartJittered();
+
+  /**
+   * Retrieves the type of scheduler used for the recurring jobs.
+   *
+   * @return the {@link SchedulerType} of the workflow.
+   */
+  @Key("job.scheduler.type")
+  @DefaultValue("EXECUTOR")
+  SchedulerType getSchedulerType();
+
+  /**
+   * Retrieves the tick duration of the timing wheel scheduler.
+   *
+   * @return the tick duration in milliseconds.
+   */
+  @Key("job.scheduler.wheel.tick")
+  @DefaultValue("100")
+  long getWheelTickDuration();
+
+  /**
+   * Retrieves the number of buckets of the timing wheel scheduler.
+   *
+   * @return the number of buckets, rounded up to a power of two.
+   */
+  @Key("job.scheduler.wheel.size")
+  @DefaultValue("512")
+  int getWheelSize();
+
+  /**
+   * Indicates whether the ICMP and TCP/IP probes of a host adapt their interval to its health.
+   *
+   * @return {@code true} if the probe intervals are adaptive.
+   */
+  @Key("job.adaptive.enabled")
+  @DefaultValue("false")
+  boolean isAdaptiveEnabled();
+
+  /**
+   * Retrieves the interval of the adaptive probes of a failing host.
+   *
+   * @return the minimum interval in milliseconds.
+   */
+  @Key("job.adaptive.delay.min")
+  @DefaultValue("1000")
+  long getAdaptiveMinDelay();
+
+  /**
+   * Retrieves the interval the adaptive probes of a healthy host back off to.
+   *
+   * @return the maximum interval in milliseconds.
+   */
+  @Key("job.adaptive.delay.max")
+  @DefaultValue("60000")
+  long getAdaptiveMaxDelay();
+
+  /**
+   * Retrieves the factor applied to the adaptive interval after each successful probe.
+   *
+   * @return the backoff factor.
+   */
+  @Key("job.adaptive.backoff")
+  @DefaultValue("2.0")
+  double getAdaptiveBackoff();
+
+  /**
+   * Retrieves the interval between two reloads of the host list and job intervals, {@code 0}
+   * disables the reload.
+   *
+   * @return the reload interval in milliseconds.
+   */
+  @Key("job.reload.interval")
+  @DefaultValue("0")
+  long getReloadInterval();
+
+  /**
+   * Indicates whether the probes of a host run from a single fused task instead of one job per protocol.
+   *
+   * @return {@code true} if the probes of a host are fused.
+   */
+  @Key("job.fused.enabled")
+  @DefaultValue("false")
+  boolean isFusedEnabled();
+
+  /**
+   * Retrieves the policy applied to the missed executions of the fused probe job.
+   *
+   * @return the {@link OverrunPolicy} of the job.
+   */
+  @Key("job.fused.overrun.policy")
+  @DefaultValue("COALESCE")
+  OverrunPolicy getOverrunPolicyFused();
+
+  /**
+   * Retrieves the number of threads running the ICMP probes in bulkhead execution mode.
+   *
+   * @return the number of threads.
+   */
+  @Key("job.bulkhead.icmp.threads")
+  @DefaultValue("4")
+  int getBulkheadIcmpThreadNumber();
+
+  /**
+   * Retrieves the number of threads running the TCP/IP probes in bulkhead execution mode.
+   *
+   * @return the number of threads.
+   */
+  @Key("job.bulkhead.tcp.threads")
+  @DefaultValue("4")
+  int getBulkheadTcpIpThreadNumber();
+
+  /**
+   * Retrieves the number of threads running the traceroutes in bulkhead execution mode.
+   *
+   * @return the number of threads.
+   */
+  @Key("job.bulkhead.traceroute.threads")
+  @DefaultValue("2")
+  int getBulkheadTracerouteThreadNumber();
+
+  /**
+   * Retrieves the number of threads gathering the data of the reports.
+   *
+   * @return the number of threads.
+   */
+  @Key("report.job.threads")
+  @DefaultValue("3")
+  int getReportThreadNumber();
+
+  /**
+   * Retrieves the maximum number of ping and traceroute subprocesses running at once.
+   *
+   * @return the maximum number of subprocesses.
+   */
+  @Key("terminal.process.max")
+  @DefaultValue("32")
+  int getMaxProcesses();
+
+  /**
+   * Retrieves the maximum time a ping or traceroute waits for a subprocess slot before being skipped.
+   *
+   * @return the waiting time in milliseconds.
+   */
+  @Key("terminal.process.wait")
+  @DefaultValue("10000")
+  long getMaxProcessWait();
+
+  /**
+   * Retrieves how the processes of the ping and traceroute commands are started, by the JVM or by
+   * a long-lived helper process.
+   *
+   * @return the {@link LauncherMode}.
+   */
+  @Key("terminal.launcher")
+  @DefaultValue("DIRECT")
+  LauncherMode getLauncherMode();
+
+  /**
+   * Retrieves the number of threads of the shared HTTP client of the TCP/IP probes.
+   *
+   * @return the number of threads.
+   */
+  @Key("http.client.probe.threads")
+  @DefaultValue("4")
+  int getHttpProbeThreads();
+
+  /**
+   * Retrieves the number of threads of the shared HTTP client of the reports.
+   *
+   * @return the number of threads.
+   */
+  @Key("http.client.report.threads")
+  @DefaultValue("2")
+  int getHttpReportThreads();
+
+  /**
+   * Retrieves the time a resolved host name is cached.
+   *
+   * @return the time to live in milliseconds, {@code 0} disables the cache.
+   */
+  @Key("dns.cache.ttl")
+  @DefaultValue("60000")
+  long getDnsCacheTtl();
+
+  /**
+   * Retrieves the time a failed resolution of a host name is cached.
+   *
+   * @return the time to live in milliseconds, {@code 0} disables the negative cache.
+   */
+  @Key("dns.cache.negative.ttl")
+  @DefaultValue("5000")
+  long getDnsCacheNegativeTtl();
+
+  /**
+   * Indicates whether the ping and traceroute commands target the cached address of the host
+   * instead of its name. Disabled by default, since a command then keeps probing the cached
+   * address of a host whose name moved to another one until the cache refreshes it.
+   *
+   * @return {@code true} if the commands are pre-resolved.
+   */
+  @Key("dns.preresolve")
+  @DefaultValue("false")
+  boolean isDnsPreResolveEnabled();
 }
@@ -2,8 +2,10 @@ package com.byborgenterprises.controllers;
 
 import com.byborgenterprises.dtos.PingIcmpDto;
 import com.byborgenterprises.dtos.PingTcpIpDto;
+import com.byborgenterprises.dtos.ProbeTargetDto;
 import com.byborgenterprises.dtos.TraceRouteDto;
 import com.byborgenterprises.factories.ResponseFactory;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 
 /**
@@ -33,6 +35,23 @@ public interface PingController {
   @NonNull
   ResponseFactory<PingIcmpDto> postIcmp(@NonNull final String host);
 
+  /**
+   * Indicates whether the echo requests of an ICMP ping can be sent from the application.
+   *
+   * @return {@code true} if {@link #postIcmpEcho(String)} can send the echo requests.
+   */
+  boolean isIcmpEchoAvailable();
+
+  /**
+   * Performs a POST operation to initiate an ICMP ping for the specified host, sending the echo
+   * requests from the application instead of a ping command.
+   *
+   * @param host the target host to initiate the ICMP ping operation on.
+   * @return a {@link ResponseFactory} containing the results of the initiated ICMP ping, unavailable when the echo requests cannot be sent.
+   */
+  @NonNull
+  ResponseFactory<PingIcmpDto> postIcmpEcho(@NonNull final String host);
+
   /**
    * Performs a GET operation to retrieve TCP/IP ping results for the specified host.
    *
@@ -51,6 +70,16 @@ public interface PingController {
   @NonNull
   ResponseFactory<PingTcpIpDto> postTcp(@NonNull final String host);
 
+  /**
+   * Performs a POST operation to initiate a TCP/IP ping for the specified host without waiting for
+   * the HTTP exchange.
+   *
+   * @param host the target host to initiate the TCP/IP ping operation on.
+   * @return a {@link CompletableFuture} completed with a {@link ResponseFactory} containing the results of the initiated TCP/IP ping.
+   */
+  @NonNull
+  CompletableFuture<ResponseFactory<PingTcpIpDto>> postTcpAsync(@NonNull final String host);
+
   /**
    * Performs a GET operation to retrieve traceroute results for the specified host.
    *
@@ -69,4 +98,40 @@ public interface PingController {
   @NonNull
   ResponseFactory<TraceRouteDto> postTraceRoute(@NonNull final String host);
 
+  /**
+   * Prepares the target of the probes of the specified host, so that recurring probes can reuse
+   * its operating system, commands and URI.
+   *
+   * @param host the target host of the probes.
+   * @return a {@link ResponseFactory} containing the prepared {@link ProbeTargetDto}.
+   */
+  @NonNull
+  ResponseFactory<ProbeTargetDto> getProbeTarget(@NonNull final String host);
+
+  /**
+   * Performs a POST operation to initiate an ICMP ping for a prepared target.
+   *
+   * @param target the prepared target of the ICMP ping.
+   * @return a {@link ResponseFactory} containing the results of the initiated ICMP ping.
+   */
+  @NonNull
+  ResponseFactory<PingIcmpDto> postIcmp(@NonNull final ProbeTargetDto target);
+
+  /**
+   * Performs a POST operation to initiate a TCP/IP ping for a prepared target.
+   *
+   * @param target the prepared target of the TCP/IP ping.
+   * @return a {@link ResponseFactory} containing the results of the initiated TCP/IP ping.
+   */
+  @NonNull
+  ResponseFactory<PingTcpIpDto> postTcp(@NonNull final ProbeTargetDto target);
+
+  /**
+   * Performs a POST operation to initiate a traceroute for a prepared target.
+   *
+   * @param target the prepared target of the traceroute.
+   * @return a {@link ResponseFactory} containing the results of the initiated traceroute.
+   */
+  @NonNull
+  ResponseFactory<TraceRouteDto> postTraceRoute(@NonNull final ProbeTargetDto target);
 }
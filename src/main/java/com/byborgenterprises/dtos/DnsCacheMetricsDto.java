@@ -0,0 +1,26 @@
+package com.byborgenterprises.dtos;
+
+import java.io.Serial;
+import java.io.Serializable;
+import lombok.NonNull;
+
+/**
+ * The DnsCacheMetricsDto record encapsulates a snapshot of the use of the host name resolution
+ * cache.
+ *
+ * <p>This record is immutable and implements {@link Serializable} for data transfer.
+ *
+ * @param entries the number of cached host names, resolved or not.
+ * @param hits the number of resolutions answered with a cached address.
+ * @param negativeHits the number of resolutions answered with a cached failure.
+ * @param misses the number of resolutions that waited for a lookup.
+ * @param refreshes the number of lookups run in the background before an entry expired.
+ * @param failures the number of lookups that did not resolve the host name.
+ * @param lookups the latency distribution of the lookups, in nanoseconds.
+ */
+public record DnsCacheMetricsDto(int entries, long hits, long negativeHits, long misses, long refreshes, long failures, @NonNull LatencyHistogramDto lookups)
+    implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -3187064259915873402L;
+}
@@ -0,0 +1,23 @@
+package com.byborgenterprises.dtos;
+
+import java.io.Serial;
+import java.io.Serializable;
+import lombok.NonNull;
+
+/**
+ * The ExecutorMetricsDto record encapsulates a snapshot of the load of a thread pool.
+ *
+ * <p>This record is immutable and implements {@link Serializable} for data transfer.
+ *
+ * @param name the name of the thread pool.
+ * @param poolSize the number of threads of the pool.
+ * @param activeThreads the number of threads running a task.
+ * @param queueDepth the number of tasks waiting for a thread.
+ * @param largestPoolSize the highest number of threads the pool ever had.
+ * @param completedTasks the number of tasks completed since the start.
+ */
+public record ExecutorMetricsDto(@NonNull String name, int poolSize, int activeThreads, int queueDepth, int largestPoolSize, long completedTasks) implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -5073641265027183374L;
+}
@@ -0,0 +1,25 @@
+package com.byborgenterprises.dtos;
+
+import com.byborgenterprises.enums.HttpClientPurpose;
+import java.io.Serial;
+import java.io.Serializable;
+import lombok.NonNull;
+
+/**
+ * The HttpClientMetricsDto record encapsulates a snapshot of the use of a shared HTTP client.
+ *
+ * <p>This record is immutable and implements {@link Serializable} for data transfer.
+ *
+ * @param purpose the use of the client.
+ * @param requests the number of requests sent since the client was created.
+ * @param inFlight the number of requests waiting for their response.
+ * @param failures the number of requests that ended without a response.
+ * @param http2Responses the number of responses received over HTTP/2.
+ * @param executor the load of the thread pool of the client.
+ */
+public record HttpClientMetricsDto(@NonNull HttpClientPurpose purpose, long requests, int inFlight, long failures, long http2Responses, @NonNull ExecutorMetricsDto executor)
+    implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 2749163805137264915L;
+}
@@ -0,0 +1,24 @@
+package com.byborgenterprises.dtos;
+
+import java.io.Serial;
+import java.io.Serializable;
+import lombok.NonNull;
+
+/**
+ * The LatencyHistogramDto record encapsulates a snapshot of the distribution of a latency.
+ *
+ * <p>This record is immutable and implements {@link Serializable} for data transfer.
+ *
+ * @param name the name of the measured latency.
+ * @param count the number of recorded values.
+ * @param mean the mean of the recorded values, in nanoseconds.
+ * @param p50 the median of the recorded values, in nanoseconds.
+ * @param p90 the 90th percentile of the recorded values, in nanoseconds.
+ * @param p99 the 99th percentile of the recorded values, in nanoseconds.
+ * @param max the highest recorded value, in nanoseconds.
+ */
+public record LatencyHistogramDto(@NonNull String name, long count, long mean, long p50, long p90, long p99, long max) implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -6720918255404397126L;
+}
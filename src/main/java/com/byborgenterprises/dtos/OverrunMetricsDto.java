@@ -0,0 +1,27 @@
+package com.byborgenterprises.dtos;
+
+import java.io.Serial;
+import java.io.Serializable;
+import lombok.NonNull;
+
+/**
+ * The OverrunMetricsDto record encapsulates the scheduling accuracy measured for a recurring job.
+ *
+ * <p>This record is immutable and implements {@link Serializable} for data transfer.
+ *
+ * @param job the name of the job.
+ * @param period the period of the job, in milliseconds.
+ * @param executions the number of executions of the job.
+ * @param overruns the number of executions that lasted longer than the period.
+ * @param skippedTicks the number of ticks that were never executed because of the overrun policy.
+ * @param lastLag the delay between the scheduled and the actual start of the last execution, in milliseconds.
+ * @param maxLag the highest start delay observed, in milliseconds.
+ * @param lastDuration the duration of the last execution, in milliseconds.
+ * @param maxDuration the longest execution observed, in milliseconds.
+ */
+public record OverrunMetricsDto(@NonNull String job, long period, long executions, long overruns, long skippedTicks, long lastLag, long maxLag, long lastDuration,
+                                long maxDuration) implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -1722415826455230337L;
+}
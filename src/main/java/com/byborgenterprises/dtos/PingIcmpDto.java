@@ -1,7 +1,9 @@
 package com.byborgenterprises.dtos;
 
+import com.byborgenterprises.enums.IcmpProbeMode;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.List;
 import lombok.NonNull;
 
 /**
@@ -13,10 +15,44 @@ import lombok.NonNull;
  * @param host the hostname or IP address that was pinged.
  * @param terminal the {@link TerminalDto} containing terminal execution details.
  * @param success a boolean indicating whether the ping operation was successful.
+ * @param transmitted the number of echo requests sent, or {@code -1} if unknown.
+ * @param received the number of echo replies received, or {@code -1} if unknown.
+ * @param lossPercent the percentage of lost echo requests, or {@code -1} if unknown.
+ * @param minRtt the minimum round trip time in milliseconds, or {@code -1} if unknown.
+ * @param avgRtt the average round trip time in milliseconds, or {@code -1} if unknown.
+ * @param maxRtt the maximum round trip time in milliseconds, or {@code -1} if unknown.
+ * @param mdevRtt the mean deviation of the round trip times in milliseconds, or {@code -1} if unknown.
+ * @param roundTrips the round trip time of each reply in milliseconds, empty when unknown.
+ * @param probeMode the {@link IcmpProbeMode} that produced the ping.
  */
-public record PingIcmpDto(@NonNull String host, @NonNull TerminalDto terminal, boolean success) implements Serializable {
+public record PingIcmpDto(@NonNull String host, @NonNull TerminalDto terminal, boolean success, int transmitted, int received, double lossPercent, double minRtt,
+                          double avgRtt, double maxRtt, double mdevRtt, @NonNull List<Float> roundTrips, @NonNull IcmpProbeMode probeMode) implements Serializable {
 
   @Serial
-  private static final long serialVersionUID = -4084948623290952279L;
+  private static final long serialVersionUID = -6219484310553960672L;
+
+  /**
+   * Creates an ICMP ping of a ping command with unknown loss and round trip times.
+   *
+   * @param host the hostname or IP address that was pinged.
+   * @param terminal the {@link TerminalDto} containing terminal execution details.
+   * @param success a boolean indicating whether the ping operation was successful.
+   * @param transmitted the number of echo requests sent, or {@code -1} if unknown.
+   * @param received the number of echo replies received, or {@code -1} if unknown.
+   */
+  public PingIcmpDto(@NonNull String host, @NonNull TerminalDto terminal, boolean success, int transmitted, int received) {
+    this(host, terminal, success, transmitted, received, -1, -1, -1, -1, -1, List.of(), IcmpProbeMode.COMMAND);
+  }
+
+  /**
+   * Creates an ICMP ping of a ping command with unknown statistics.
+   *
+   * @param host the hostname or IP address that was pinged.
+   * @param terminal the {@link TerminalDto} containing terminal execution details.
+   * @param success a boolean indicating whether the ping operation was successful.
+   */
+  public PingIcmpDto(@NonNull String host, @NonNull TerminalDto terminal, boolean success) {
+    this(host, terminal, success, -1, -1);
+  }
 
 }
@@ -10,6 +10,10 @@ import lombok.NonNull;
  * The PingTcpIpDto record encapsulates the details of a TCP/IP ping operation.
  * It includes information about the target URL, response details, and the result of the ping.
  *
+ * <p>In the HTTP probe mode, the JDK client does not expose its connections: the TCP and TLS
+ * handshakes of a new connection are counted in the first byte time, and the connect time is
+ * {@code -1}. In the CONNECT probe mode, no HTTP phase is measured.
+ *
  * <p>This record is immutable and implements {@link Serializable} for data transfer.
  *
  * @param url the target {@link URI} that was pinged.
@@ -17,9 +21,27 @@ import lombok.NonNull;
  * @param responseTime the time taken for the response, in milliseconds.
  * @param time the {@link LocalDateTime} when the ping was performed.
  * @param success a boolean indicating whether the ping operation was successful.
+ * @param dnsTime the time taken to look the host name up, in nanoseconds, or {@code -1} if not measured or answered by the DNS cache.
+ * @param connectTime the time taken by the TCP handshake, in nanoseconds, or {@code -1} if not measured, only measured in the CONNECT probe mode.
+ * @param firstByteTime the time from the sending of the request to the response headers, in nanoseconds, or {@code -1} if not measured.
+ * @param transferTime the time taken to receive the response body, in nanoseconds, or {@code -1} if not measured.
  */
-public record PingTcpIpDto(@NonNull URI url, int responseCode, long responseTime, @NonNull LocalDateTime time, boolean success) implements Serializable {
+public record PingTcpIpDto(@NonNull URI url, int responseCode, long responseTime, @NonNull LocalDateTime time, boolean success, long dnsTime, long connectTime,
+                           long firstByteTime, long transferTime) implements Serializable {
 
   @Serial
-  private static final long serialVersionUID = -3491549973406788517L;
+  private static final long serialVersionUID = 1862450217337916408L;
+
+  /**
+   * Creates a TCP/IP ping with no phase measured.
+   *
+   * @param url the target {@link URI} that was pinged.
+   * @param responseCode the HTTP response code returned by the ping.
+   * @param responseTime the time taken for the response, in milliseconds.
+   * @param time the {@link LocalDateTime} when the ping was performed.
+   * @param success a boolean indicating whether the ping operation was successful.
+   */
+  public PingTcpIpDto(@NonNull URI url, int responseCode, long responseTime, @NonNull LocalDateTime time, boolean success) {
+    this(url, responseCode, responseTime, time, success, -1L, -1L, -1L, -1L);
+  }
 }
@@ -0,0 +1,27 @@
+package com.byborgenterprises.dtos;
+
+import com.byborgenterprises.enums.OperatingSystem;
+import java.io.Serial;
+import java.io.Serializable;
+import java.net.URI;
+import lombok.NonNull;
+
+/**
+ * The ProbeTargetDto record holds everything the probes of a host need, prepared once so that the
+ * recurring probes do not resolve the operating system or build their commands and URI on every
+ * execution.
+ *
+ * <p>This record is immutable and implements {@link Serializable} for data transfer.
+ *
+ * @param host the hostname or IP address of the target.
+ * @param operatingSystem the {@link OperatingSystem} the commands are built for.
+ * @param pingCommand the terminal command of the ICMP ping.
+ * @param uri the {@link URI} of the TCP/IP ping.
+ * @param tracerouteCommand the terminal command of the traceroute.
+ */
+public record ProbeTargetDto(@NonNull String host, @NonNull OperatingSystem operatingSystem, @NonNull String pingCommand, @NonNull URI uri, @NonNull String tracerouteCommand)
+    implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 4920731856512093347L;
+}
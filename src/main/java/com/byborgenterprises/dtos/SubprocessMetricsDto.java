@@ -0,0 +1,25 @@
+package com.byborgenterprises.dtos;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * The SubprocessMetricsDto record encapsulates a snapshot of the admission of terminal subprocesses.
+ *
+ * <p>This record is immutable and implements {@link Serializable} for data transfer.
+ *
+ * @param maxProcesses the maximum number of subprocesses running at once.
+ * @param running the number of subprocesses currently running.
+ * @param waiting the number of commands waiting for a subprocess slot.
+ * @param admitted the number of commands admitted since the start.
+ * @param rejected the number of commands rejected after waiting too long.
+ * @param lastQueueTime the time the last admitted command waited, in milliseconds.
+ * @param maxQueueTime the longest time an admitted command waited, in milliseconds.
+ * @param averageQueueTime the average time the admitted commands waited, in milliseconds.
+ */
+public record SubprocessMetricsDto(int maxProcesses, int running, int waiting, long admitted, long rejected, long lastQueueTime, long maxQueueTime, long averageQueueTime)
+    implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 8157493024783364811L;
+}
@@ -1,5 +1,6 @@
 package com.byborgenterprises.dtos;
 
+import com.byborgenterprises.enums.TerminalOutcome;
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -15,9 +16,22 @@ import lombok.NonNull;
  * @param exitCode the exit code returned by the terminal after execution.
  * @param result the output or result of the terminal command.
  * @param time the {@link LocalDateTime} when the command was executed.
+ * @param outcome the {@link TerminalOutcome} of the execution.
  */
-public record TerminalDto(@NonNull String command, int exitCode, @NonNull String result, @NonNull LocalDateTime time) implements Serializable {
+public record TerminalDto(@NonNull String command, int exitCode, @NonNull String result, @NonNull LocalDateTime time, @NonNull TerminalOutcome outcome) implements Serializable {
 
   @Serial
-  private static final long serialVersionUID = 6161605489375734389L;
+  private static final long serialVersionUID = -2309458316742175683L;
+
+  /**
+   * Creates the details of a command that ran until it exited by itself.
+   *
+   * @param command the command executed in the terminal.
+   * @param exitCode the exit code returned by the terminal after execution.
+   * @param result the output or result of the terminal command.
+   * @param time the {@link LocalDateTime} when the command was executed.
+   */
+  public TerminalDto(@NonNull String command, int exitCode, @NonNull String result, @NonNull LocalDateTime time) {
+    this(command, exitCode, result, time, TerminalOutcome.COMPLETED);
+  }
 }
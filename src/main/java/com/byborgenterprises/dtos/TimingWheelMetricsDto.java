@@ -0,0 +1,25 @@
+package com.byborgenterprises.dtos;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * The TimingWheelMetricsDto record encapsulates a snapshot of the health of the timing wheel scheduler.
+ *
+ * <p>This record is immutable and implements {@link Serializable} for data transfer.
+ *
+ * @param tickDuration the duration of one tick, in milliseconds.
+ * @param wheelSize the number of buckets in the wheel.
+ * @param ticks the number of ticks processed since the start.
+ * @param lastTickLag the delay of the last tick behind its deadline, in milliseconds.
+ * @param maxTickLag the highest tick delay observed, in milliseconds.
+ * @param scheduledTasks the number of tasks registered in the wheel.
+ * @param occupiedBuckets the number of buckets holding at least one task.
+ * @param maxBucketSize the size of the largest bucket seen during the last revolution.
+ */
+public record TimingWheelMetricsDto(long tickDuration, int wheelSize, long ticks, long lastTickLag, long maxTickLag, long scheduledTasks, int occupiedBuckets,
+                                    int maxBucketSize) implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 2760457014316523894L;
+}
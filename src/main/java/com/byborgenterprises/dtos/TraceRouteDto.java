@@ -2,6 +2,7 @@ package com.byborgenterprises.dtos;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.List;
 import lombok.NonNull;
 
 /**
@@ -13,10 +14,22 @@ import lombok.NonNull;
  * @param host the hostname or IP address where the traceroute was performed.
  * @param terminal the {@link TerminalDto} containing terminal execution details.
  * @param success a boolean indicating whether the traceroute operation was successful.
+ * @param hops the {@link TraceRouteHopDto} of each hop parsed from the output, in the order of the route.
  */
-public record TraceRouteDto(@NonNull String host, @NonNull TerminalDto terminal, boolean success) implements Serializable {
+public record TraceRouteDto(@NonNull String host, @NonNull TerminalDto terminal, boolean success, @NonNull List<TraceRouteHopDto> hops) implements Serializable {
 
   @Serial
-  private static final long serialVersionUID = 6953704549704662216L;
+  private static final long serialVersionUID = -2740925120764136610L;
+
+  /**
+   * Creates a traceroute without parsed hops.
+   *
+   * @param host the hostname or IP address where the traceroute was performed.
+   * @param terminal the {@link TerminalDto} containing terminal execution details.
+   * @param success a boolean indicating whether the traceroute operation was successful.
+   */
+  public TraceRouteDto(@NonNull String host, @NonNull TerminalDto terminal, boolean success) {
+    this(host, terminal, success, List.of());
+  }
 
 }
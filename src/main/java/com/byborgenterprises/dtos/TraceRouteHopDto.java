@@ -0,0 +1,30 @@
+package com.byborgenterprises.dtos;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * The TraceRouteHopDto record encapsulates one hop of a traceroute operation.
+ *
+ * <p>This record is immutable and implements {@link Serializable} for data transfer.
+ *
+ * @param ttl the time to live of the hop.
+ * @param address the address of the first responder of the hop, or {@code null} if no probe was answered.
+ * @param firstRtt the round trip time of the first probe in milliseconds, or {@code -1} if it timed out.
+ * @param secondRtt the round trip time of the second probe in milliseconds, or {@code -1} if it timed out.
+ * @param thirdRtt the round trip time of the third probe in milliseconds, or {@code -1} if it timed out.
+ */
+public record TraceRouteHopDto(int ttl, String address, float firstRtt, float secondRtt, float thirdRtt) implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 4870183563092734951L;
+
+  /**
+   * Indicates whether every probe of the hop timed out.
+   *
+   * @return {@code true} if the hop did not answer.
+   */
+  public boolean timedOut() {
+    return this.firstRtt < 0 && this.secondRtt < 0 && this.thirdRtt < 0;
+  }
+}
@@ -1,5 +1,6 @@
 package com.byborgenterprises.embeddables;
 
+import com.byborgenterprises.enums.TerminalOutcome;
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -41,4 +42,10 @@ public class Terminal implements Serializable {
   @NonNull
   private LocalDateTime time;
 
+  /**
+   * The {@link TerminalOutcome} of the execution.
+   */
+  @NonNull
+  private TerminalOutcome outcome = TerminalOutcome.COMPLETED;
+
 }
@@ -2,6 +2,7 @@ package com.byborgenterprises.entities;
 
 import com.byborgenterprises.annotations.Id;
 import com.byborgenterprises.embeddables.Terminal;
+import com.byborgenterprises.enums.IcmpProbeMode;
 import java.io.Serial;
 import java.io.Serializable;
 import lombok.Data;
@@ -17,7 +18,7 @@ import lombok.NonNull;
 public class PingIcmp implements Serializable {
 
   @Serial
-  private static final long serialVersionUID = -1835936303993406763L;
+  private static final long serialVersionUID = -4472138829016530417L;
 
   /**
    * The hostname or IP address associated with the ICMP ping operation.
@@ -38,4 +39,71 @@ public class PingIcmp implements Serializable {
    */
   private boolean success;
 
+  /**
+   * The number of echo requests sent, or {@code -1} if unknown.
+   */
+  private int transmitted = -1;
+
+  /**
+   * The number of echo replies received, or {@code -1} if unknown.
+   */
+  private int received = -1;
+
+  /**
+   * The percentage of lost echo requests, or {@code -1} if unknown.
+   */
+  private double lossPercent = -1;
+
+  /**
+   * The minimum round trip time in milliseconds, or {@code -1} if unknown.
+   */
+  private double minRtt = -1;
+
+  /**
+   * The average round trip time in milliseconds, or {@code -1} if unknown.
+   */
+  private double avgRtt = -1;
+
+  /**
+   * The maximum round trip time in milliseconds, or {@code -1} if unknown.
+   */
+  private double maxRtt = -1;
+
+  /**
+   * The mean deviation of the round trip times in milliseconds, or {@code -1} if unknown.
+   */
+  private double mdevRtt = -1;
+
+  /**
+   * The round trip time of each reply in milliseconds, in the order of the replies, empty for a
+   * ping session whose replies are only summed up.
+   */
+  @NonNull
+  private float[] roundTrips = new float[0];
+
+  /**
+   * The {@link IcmpProbeMode} that produced the ping.
+   */
+  @NonNull
+  private IcmpProbeMode probeMode = IcmpProbeMode.COMMAND;
+
+  /**
+   * Retrieves the round trip time of each reply.
+   *
+   * @return a copy of the round trip times, in milliseconds.
+   */
+  @NonNull
+  public float[] getRoundTrips() {
+    return this.roundTrips.clone();
+  }
+
+  /**
+   * Sets the round trip time of each reply.
+   *
+   * @param roundTrips the round trip times in milliseconds, copied.
+   */
+  public void setRoundTrips(@NonNull final float[] roundTrips) {
+    this.roundTrips = roundTrips.clone();
+  }
+
 }
@@ -49,4 +49,26 @@ public class PingTcpIp implements Serializable {
    */
   private boolean success;
 
+  /**
+   * The time taken to look the host name up, in nanoseconds, or {@code -1} if not measured or
+   * answered by the DNS cache.
+   */
+  private long dnsTime = -1L;
+
+  /**
+   * The time taken by the TCP handshake, in nanoseconds, or {@code -1} if not measured, only
+   * measured in the CONNECT probe mode.
+   */
+  private long connectTime = -1L;
+
+  /**
+   * The time from the sending of the request to the response headers, in nanoseconds, or {@code -1} if not measured.
+   */
+  private long firstByteTime = -1L;
+
+  /**
+   * The time taken to receive the response body, in nanoseconds, or {@code -1} if not measured.
+   */
+  private long transferTime = -1L;
+
 }
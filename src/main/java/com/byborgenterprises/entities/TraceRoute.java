@@ -17,7 +17,7 @@ import lombok.NonNull;
 public class TraceRoute implements Serializable {
 
   @Serial
-  private static final long serialVersionUID = 1234567890123456789L;
+  private static final long serialVersionUID = -3317390270612877541L;
 
   /**
    * The hostname or IP address associated with the traceroute operation.
@@ -38,5 +38,82 @@ public class TraceRoute implements Serializable {
    */
   private boolean success;
 
+  /**
+   * The time to live of each hop.
+   */
+  @NonNull
+  private int[] hopTtls = new int[0];
+
+  /**
+   * The address of the first responder of each hop, {@code null} for a hop without responder.
+   */
+  @NonNull
+  private String[] hopAddresses = new String[0];
+
+  /**
+   * The round trip times of the probes of each hop in milliseconds, packed by
+   * {@link com.byborgenterprises.utils.TraceRouteParser#PROBES_PER_HOP} per hop, {@code -1} for a
+   * probe that timed out.
+   */
+  @NonNull
+  private float[] hopRoundTrips = new float[0];
+
+  /**
+   * Retrieves the time to live of each hop.
+   *
+   * @return a copy of the times to live.
+   */
+  @NonNull
+  public int[] getHopTtls() {
+    return this.hopTtls.clone();
+  }
+
+  /**
+   * Sets the time to live of each hop.
+   *
+   * @param hopTtls the times to live, copied.
+   */
+  public void setHopTtls(@NonNull final int[] hopTtls) {
+    this.hopTtls = hopTtls.clone();
+  }
+
+  /**
+   * Retrieves the address of the first responder of each hop.
+   *
+   * @return a copy of the addresses.
+   */
+  @NonNull
+  public String[] getHopAddresses() {
+    return this.hopAddresses.clone();
+  }
+
+  /**
+   * Sets the address of the first responder of each hop.
+   *
+   * @param hopAddresses the addresses, copied.
+   */
+  public void setHopAddresses(@NonNull final String[] hopAddresses) {
+    this.hopAddresses = hopAddresses.clone();
+  }
+
+  /**
+   * Retrieves the round trip times of the probes of each hop.
+   *
+   * @return a copy of the round trip times, in milliseconds.
+   */
+  @NonNull
+  public float[] getHopRoundTrips() {
+    return this.hopRoundTrips.clone();
+  }
+
+  /**
+   * Sets the round trip times of the probes of each hop.
+   *
+   * @param hopRoundTrips the round trip times in milliseconds, copied.
+   */
+  public void setHopRoundTrips(@NonNull final float[] hopRoundTrips) {
+    this.hopRoundTrips = hopRoundTrips.clone();
+  }
+
 }
 
@@ -0,0 +1,25 @@
+package com.byborgenterprises.enums;
+
+/**
+ * The ExecutionMode enum represents the supported ways of running the body of scheduled jobs.
+ */
+public enum ExecutionMode {
+
+  /**
+   * The job body runs directly on the scheduler platform threads.
+   */
+  PLATFORM,
+
+  /**
+   * The scheduler only dispatches ticks and every job body runs on its own virtual thread.
+   * When the running JVM has no virtual threads, a pool of platform threads growing up to one thread
+   * per scheduled job is used instead.
+   */
+  VIRTUAL,
+
+  /**
+   * The scheduler only dispatches ticks and the job bodies run on a separately sized pool per type
+   * of job, so a slow type of probe cannot hold the threads of the others.
+   */
+  BULKHEAD
+}
@@ -0,0 +1,18 @@
+package com.byborgenterprises.enums;
+
+/**
+ * The HttpClientPurpose enum represents the uses of the shared HTTP clients. Each purpose has its
+ * own client, so that the load of the probes never delays the reports and inversely.
+ */
+public enum HttpClientPurpose {
+
+  /**
+   * Represents the TCP/IP probes of the monitored hosts.
+   */
+  PROBE,
+
+  /**
+   * Represents the reports sent to the report API.
+   */
+  REPORT
+}
@@ -18,6 +18,11 @@ public enum HttpMethod {
    */
   GET("GET"),
 
+  /**
+   * Represents an HTTP HEAD request.
+   */
+  HEAD("HEAD"),
+
   /**
    * Represents an HTTP POST request.
    */
@@ -0,0 +1,27 @@
+package com.byborgenterprises.enums;
+
+/**
+ * The HttpPhase enum represents the successive phases of a TCP/IP ping.
+ */
+public enum HttpPhase {
+
+  /**
+   * The resolution of the host name.
+   */
+  DNS,
+
+  /**
+   * The TCP handshake with the target, only measured in the CONNECT probe mode.
+   */
+  CONNECT,
+
+  /**
+   * The wait from the sending of the request to the reception of the response headers.
+   */
+  FIRST_BYTE,
+
+  /**
+   * The reception of the response body.
+   */
+  TRANSFER
+}
@@ -0,0 +1,23 @@
+package com.byborgenterprises.enums;
+
+/**
+ * The HttpProbeMode enum represents how much of the response an HTTP TCP/IP ping reads.
+ */
+public enum HttpProbeMode {
+
+  /**
+   * The probe sends a GET request and reads the whole response body.
+   */
+  GET,
+
+  /**
+   * The probe sends a HEAD request, the server only answers with the status and headers.
+   */
+  HEAD,
+
+  /**
+   * The probe sends a GET request and completes at the first byte of the response body, the rest
+   * of a small HTTP/1.1 body being discarded to keep the connection.
+   */
+  FIRST_BYTE
+}
@@ -0,0 +1,26 @@
+package com.byborgenterprises.enums;
+
+/**
+ * The IcmpProbeMode enum represents the supported ways of probing a host over ICMP.
+ */
+public enum IcmpProbeMode {
+
+  /**
+   * Each tick of the job runs a ping command sending a bounded number of echo requests, and saves
+   * its verdict once the command ended.
+   */
+  COMMAND,
+
+  /**
+   * Each host keeps one ping command running for the whole workflow, each reply or lost request it
+   * reports updates the ping of the host as it is written, and each tick of the job judges the
+   * latest update.
+   */
+  SESSION,
+
+  /**
+   * Each tick of the job sends echo requests from the JVM, without starting a ping command. The
+   * ping command is run instead when the requests cannot be sent.
+   */
+  ECHO
+}
@@ -0,0 +1,51 @@
+package com.byborgenterprises.enums;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The JobType enum represents the kinds of scheduled jobs executed per host.
+ * Each enum constant is associated with a code used to name the job and its thread.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JobType {
+
+  /**
+   * Represents the ICMP ping job.
+   */
+  ICMP("icmp"),
+
+  /**
+   * Represents the TCP/IP ping job.
+   */
+  TCP_IP("tcp"),
+
+  /**
+   * Represents the traceroute job.
+   */
+  TRACEROUTE("traceroute"),
+
+  /**
+   * Represents the fused job running all the probes of a host.
+   */
+  PROBE("probe");
+
+  /**
+   * The code representing the job type.
+   */
+  @NonNull
+  private final String code;
+
+  /**
+   * Builds the job name used for logging and thread naming for the given host.
+   *
+   * @param host the host the job is executed for.
+   * @return the job name, e.g. {@code job-example.com-icmp}.
+   */
+  @NonNull
+  public String getJobName(@NonNull final String host) {
+    return "job-" + host + "-" + this.getCode();
+  }
+}
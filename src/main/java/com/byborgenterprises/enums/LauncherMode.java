@@ -0,0 +1,20 @@
+package com.byborgenterprises.enums;
+
+/**
+ * The LauncherMode enum represents the supported ways of starting the processes of the terminal
+ * commands.
+ */
+public enum LauncherMode {
+
+  /**
+   * Each command is started by the JVM itself, with a {@link ProcessBuilder}.
+   */
+  DIRECT,
+
+  /**
+   * Each command is started by a long-lived shell helper, started once by the JVM, so that the JVM
+   * does not fork while the probes run. Only supported on Linux, other systems start the commands
+   * directly.
+   */
+  HELPER
+}
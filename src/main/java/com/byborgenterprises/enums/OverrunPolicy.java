@@ -0,0 +1,23 @@
+package com.byborgenterprises.enums;
+
+/**
+ * The OverrunPolicy enum represents how a recurring job handles the ticks that became due
+ * while its previous execution was still running.
+ */
+public enum OverrunPolicy {
+
+  /**
+   * Every missed tick is executed, back to back, until the job is on schedule again.
+   */
+  CATCH_UP,
+
+  /**
+   * All the missed ticks are merged into a single execution, started as soon as possible.
+   */
+  COALESCE,
+
+  /**
+   * The missed ticks are dropped and the job waits for the next tick due after the end of the previous execution.
+   */
+  SKIP
+}
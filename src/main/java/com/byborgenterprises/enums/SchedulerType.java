@@ -0,0 +1,18 @@
+package com.byborgenterprises.enums;
+
+/**
+ * The SchedulerType enum represents the supported schedulers for the recurring jobs.
+ */
+public enum SchedulerType {
+
+  /**
+   * Jobs are registered in a {@link java.util.concurrent.ScheduledThreadPoolExecutor}, one heap entry per job.
+   */
+  EXECUTOR,
+
+  /**
+   * Jobs are registered in a hashed timing wheel with constant time insertion and expiration,
+   * suited for very large host fleets.
+   */
+  TIMING_WHEEL
+}
@@ -0,0 +1,18 @@
+package com.byborgenterprises.enums;
+
+/**
+ * The TcpProbeMode enum represents the supported ways of probing a host over TCP/IP.
+ */
+public enum TcpProbeMode {
+
+  /**
+   * The probe sends an HTTP request and waits for its response, the probe succeeds on any HTTP status.
+   */
+  HTTP,
+
+  /**
+   * The probe only opens a TCP connection to the port of the target and closes it once the
+   * handshake completed, the probe succeeds if the connection is established.
+   */
+  CONNECT
+}
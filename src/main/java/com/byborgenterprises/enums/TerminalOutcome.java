@@ -0,0 +1,29 @@
+package com.byborgenterprises.enums;
+
+/**
+ * The TerminalOutcome enum represents how the execution of a terminal command ended.
+ */
+public enum TerminalOutcome {
+
+  /**
+   * The command ran until it exited by itself.
+   */
+  COMPLETED,
+
+  /**
+   * The command was ended once its output was conclusive, its output is partial.
+   */
+  STOPPED,
+
+  /**
+   * The command did not exit before its deadline and its process tree was killed, its output is
+   * partial.
+   */
+  TIMED_OUT,
+
+  /**
+   * The command keeps running, its output is the latest line it wrote and its exit code is not
+   * known yet.
+   */
+  RUNNING
+}
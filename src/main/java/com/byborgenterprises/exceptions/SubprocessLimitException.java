@@ -0,0 +1,21 @@
+package com.byborgenterprises.exceptions;
+
+import lombok.experimental.StandardException;
+
+/**
+ * The SubprocessLimitException class represents a custom runtime exception used
+ * when a terminal command cannot be started because too many subprocesses are
+ * already running.
+ *
+ * <p>This exception is thrown by {@link com.byborgenterprises.utils.SubprocessGovernor}
+ * when no subprocess slot becomes free within the configured waiting time. The caller
+ * is expected to skip the command rather than fail, since the limit protects the host
+ * from running out of processes and file descriptors.
+ *
+ * <p>It extends {@link RuntimeException} and is annotated with
+ * {@link lombok.experimental.StandardException} to provide standard constructors.
+ */
+@StandardException
+public class SubprocessLimitException extends RuntimeException {
+
+}
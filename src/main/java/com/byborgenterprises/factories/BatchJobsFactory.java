@@ -1,22 +1,50 @@
 package com.byborgenterprises.factories;
 
 import com.byborgenterprises.configs.BatchJobsConfig;
+import com.byborgenterprises.dtos.ExecutorMetricsDto;
 import com.byborgenterprises.dtos.PingIcmpDto;
 import com.byborgenterprises.dtos.PingTcpIpDto;
+import com.byborgenterprises.dtos.ProbeTargetDto;
 import com.byborgenterprises.dtos.ReportDto;
 import com.byborgenterprises.dtos.TraceRouteDto;
+import com.byborgenterprises.enums.ExecutionMode;
+import com.byborgenterprises.enums.IcmpProbeMode;
+import com.byborgenterprises.enums.JobType;
+import com.byborgenterprises.enums.OverrunPolicy;
+import com.byborgenterprises.enums.ResponseStatus;
+import com.byborgenterprises.enums.SchedulerType;
 import com.byborgenterprises.exceptions.BatchJobsException;
 import com.byborgenterprises.exceptions.ResponseServerErrorException;
-import java.util.AbstractMap.SimpleEntry;
+import com.byborgenterprises.schedulers.AdaptiveIntervals;
+import com.byborgenterprises.schedulers.ExecutorJobScheduler;
+import com.byborgenterprises.schedulers.FusedProbeTask;
+import com.byborgenterprises.schedulers.JobDefinition;
+import com.byborgenterprises.schedulers.JobDispatcher;
+import com.byborgenterprises.schedulers.JobScheduler;
+import com.byborgenterprises.schedulers.JobStartPlanner;
+import com.byborgenterprises.schedulers.JobSupervisor;
+import com.byborgenterprises.schedulers.OverrunMonitor;
+import com.byborgenterprises.schedulers.ScheduledJob;
+import com.byborgenterprises.schedulers.TimingWheelJobScheduler;
+import com.byborgenterprises.utils.ExecutorTools;
+import com.byborgenterprises.utils.IcmpEchoEngine;
+import com.byborgenterprises.utils.NetworkTools;
+import com.byborgenterprises.utils.TerminalTools;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
@@ -45,6 +73,51 @@ import lombok.extern.log4j.Log4j2;
 @Getter(AccessLevel.PRIVATE)
 public class BatchJobsFactory extends InitializationFactory implements BatchJobsConfig {
 
+  private static final String RELOAD_JOB_NAME = "job-reload";
+
+  /**
+   * Supervisor notified when a scheduled job terminates.
+   */
+  private final JobSupervisor jobSupervisor = new JobSupervisor();
+
+  /**
+   * Monitor of the scheduling delays and overruns of the scheduled jobs.
+   */
+  @Getter(AccessLevel.PUBLIC)
+  private final OverrunMonitor overrunMonitor = new OverrunMonitor();
+
+  /**
+   * Health driven intervals of the adaptive probes.
+   */
+  @Getter(AccessLevel.PUBLIC)
+  private final AdaptiveIntervals adaptiveIntervals = new AdaptiveIntervals();
+
+  /**
+   * The jobs currently registered in the scheduler, by job name.
+   */
+  private final Map<String, ScheduledJob> scheduledJobs = new ConcurrentHashMap<>();
+
+  /**
+   * Pool gathering the data of the reports, kept apart from the probes.
+   */
+  private final ThreadPoolExecutor reportExecutor = ExecutorTools.newFixedThreadPool("report", this.getPropertiesConfig().getReportThreadNumber());
+
+  /**
+   * Pool handling the results of the asynchronous TCP/IP probes, which may send reports, so that
+   * the threads of the HTTP client only complete exchanges.
+   */
+  private final ThreadPoolExecutor tcpIpResultExecutor = ExecutorTools.newFixedThreadPool("tcp-result", this.getPropertiesConfig().getTcpIpResultThreadNumber());
+
+  /**
+   * The hosts with an asynchronous TCP/IP probe waiting for its response.
+   */
+  private final Set<String> tcpIpInFlight = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Dispatcher of the running workflow, {@code null} when no workflow runs.
+   */
+  private volatile JobDispatcher jobDispatcher;
+
   /**
    * Extracts the error stack from a given throwable, formatting it into a readable collection.
    *
@@ -66,105 +139,521 @@ public class BatchJobsFactory extends InitializationFactory implements BatchJobs
 
   @Override
   public void startWorkflow() {
-    int numThreads = this.getPropertiesConfig().getScheduledThreadNumber() == 0 ? Runtime.getRuntime().availableProcessors() : this.getPropertiesConfig().getScheduledThreadNumber();
-    ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(numThreads);
+    JobDispatcher jobDispatcher = new JobDispatcher(this.getPropertiesConfig().getExecutionMode(), this.getBulkheadSizes());
+    this.jobDispatcher = jobDispatcher;
+    JobScheduler jobScheduler = this.getJobScheduler(this.getSchedulerThreadNumber(jobDispatcher.getExecutionMode()));
     try {
       log.info("Starting workflow...");
 
-      var jobs = this.getPropertiesConfig().getHosts().parallelStream().flatMap(host -> this.getJobsPerHost(host).stream())
-          .map(info -> scheduledExecutorService.scheduleAtFixedRate(info.getKey(), 0L, info.getValue(), TimeUnit.MILLISECONDS)).toList();
+      this.applyJobs(jobScheduler, jobDispatcher);
+      long reloadInterval = this.getPropertiesConfig().getReloadInterval();
+      if (reloadInterval > 0) {
+        Runnable reload = this.getJobSupervisor().supervise(RELOAD_JOB_NAME, () -> this.reloadJobs(jobScheduler, jobDispatcher));
+        jobScheduler.scheduleAtFixedRate(reload, reloadInterval, reloadInterval, TimeUnit.MILLISECONDS);
+      }
 
-      log.info("Jobs scheduled:\n{}", jobs.stream().map(Object::toString).collect(Collectors.joining("\n")));
+      log.info("Jobs scheduled:\n{}", this.getJobsStatus());
 
-      boolean jobsStopped = false;
-      while (!jobs.isEmpty() && !jobsStopped) {
-        jobsStopped = jobs.parallelStream().anyMatch(Future::isDone);
+      if (!this.getScheduledJobs().isEmpty() || reloadInterval > 0) {
+        String terminatedJob = this.getJobSupervisor().awaitTermination();
+        log.info("Internal error critical found on {}", terminatedJob);
       }
-      log.info("Internal error critical found");
-      log.info("Jobs status:\n{}", jobs.stream().map(Object::toString).collect(Collectors.joining("\n")));
+      log.info("Jobs status:\n{}", this.getJobsStatus());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.info("Workflow interrupted");
     } finally {
-      scheduledExecutorService.shutdown();
+      if (jobScheduler instanceof TimingWheelJobScheduler timingWheelJobScheduler) {
+        log.info("Timing wheel metrics: {}", timingWheelJobScheduler.getMetrics());
+      }
+      jobScheduler.shutdown();
+      jobDispatcher.shutdown();
+      log.info("ICMP sessions: {} open, {} restarts", this.getPingSessionSupervisor().getSessionCount(), this.getPingSessionSupervisor().getRestartCount());
+      this.getPingSessionSupervisor().closeAll();
+      this.getIcmpEchoEngine().ifPresent(IcmpEchoEngine::close);
+      log.info("Jobs overrun metrics:\n{}", this.getOverrunMonitor().getMetrics().stream().map(Object::toString).collect(Collectors.joining("\n")));
+      log.info("Executors metrics:\n{}", this.getExecutorMetrics().stream().map(Object::toString).collect(Collectors.joining("\n")));
+      log.info("Subprocess metrics: {}, killed processes: {}", TerminalTools.getGovernorMetrics(), TerminalTools.getKilledProcesses());
+      log.info("HTTP clients metrics:\n{}", NetworkTools.getHttpClientMetrics().stream().map(Object::toString).collect(Collectors.joining("\n")));
+      log.info("DNS cache metrics: {}", NetworkTools.getDnsCacheMetrics());
+      log.info("TCP/IP ping phases metrics:\n{}", NetworkTools.getPhaseMetrics().stream().map(Object::toString).collect(Collectors.joining("\n")));
+      this.jobDispatcher = null;
       log.info("Shutting down the program ...");
     }
   }
 
+  /**
+   * Reloads the configuration and applies the changes of the host list and job intervals to the
+   * running jobs. Errors are logged and the previous jobs are kept, so that a broken configuration
+   * file does not stop the workflow.
+   *
+   * @param jobScheduler the scheduler of the workflow.
+   * @param jobDispatcher the dispatcher of the job bodies.
+   */
+  private void reloadJobs(@NonNull final JobScheduler jobScheduler, @NonNull final JobDispatcher jobDispatcher) {
+    try {
+      this.getPropertiesConfig().reload();
+      this.applyJobs(jobScheduler, jobDispatcher);
+    } catch (RuntimeException e) {
+      log.error("Unable to reload the jobs configuration", e);
+    }
+  }
+
+  /**
+   * Brings the scheduled jobs in line with the configuration: the jobs of removed hosts are
+   * cancelled, the jobs whose interval changed are rescheduled, and jobs are scheduled for the
+   * added hosts. Jobs left unchanged keep running untouched.
+   *
+   * @param jobScheduler the scheduler of the workflow.
+   * @param jobDispatcher the dispatcher of the job bodies.
+   */
+  private void applyJobs(@NonNull final JobScheduler jobScheduler, @NonNull final JobDispatcher jobDispatcher) {
+    Map<String, JobDefinition> definitions = this.getPropertiesConfig().getHosts().stream().flatMap(host -> this.getJobsPerHost(host).stream())
+        .collect(Collectors.toMap(JobDefinition::name, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+
+    List<String> cancelled = new ArrayList<>();
+    this.getScheduledJobs().values().removeIf(scheduledJob -> {
+      JobDefinition definition = definitions.get(scheduledJob.definition().name());
+      if (Objects.nonNull(definition) && isUnchanged(scheduledJob.definition(), definition)) {
+        return false;
+      }
+      scheduledJob.cancel();
+      this.release(scheduledJob.definition());
+      cancelled.add(scheduledJob.definition().name());
+      return true;
+    });
+
+    JobStartPlanner jobStartPlanner = new JobStartPlanner(this.getPropertiesConfig().isStartStaggered(), this.getPropertiesConfig().isStartJittered());
+    List<JobDefinition> added = definitions.values().stream().filter(definition -> !this.getScheduledJobs().containsKey(definition.name())).toList();
+    List<JobDefinition> planned = jobStartPlanner.plan(added.stream().map(this::adaptInterval).toList());
+    for (int i = 0; i < added.size(); i++) {
+      this.getScheduledJobs().put(added.get(i).name(), new ScheduledJob(added.get(i), this.scheduleJob(jobScheduler, jobDispatcher, planned.get(i))));
+    }
+    this.getPingSessionSupervisor().retain(this.getPropertiesConfig().getIcmpProbeMode() == IcmpProbeMode.SESSION ? this.getPropertiesConfig().getHosts() : List.of());
+
+    if (!cancelled.isEmpty() || !added.isEmpty()) {
+      log.info("Jobs configuration applied, {} job(s) cancelled {}, {} job(s) scheduled {}", cancelled.size(), cancelled, added.size(), added.stream().map(JobDefinition::name).toList());
+    }
+  }
+
+  /**
+   * Describes the status of the scheduled jobs, one per line.
+   *
+   * @return the status of the scheduled jobs.
+   */
+  @NonNull
+  private String getJobsStatus() {
+    return this.getScheduledJobs().values().stream().map(scheduledJob -> scheduledJob.definition().name() + " " + scheduledJob.future()).collect(Collectors.joining("\n"));
+  }
+
+  /**
+   * Registers a job in the scheduler, supervised, monitored for overruns and dispatched according
+   * to the execution mode. The detached stages of a fused job, all of them in bulkhead execution
+   * mode and the traceroute otherwise, are supervised and dispatched one by one to their pool.
+   *
+   * @param jobScheduler the scheduler of the workflow.
+   * @param jobDispatcher the dispatcher of the job bodies.
+   * @param definition the definition of the job, already adapted and planned.
+   * @return the {@link Future} of the scheduled job.
+   */
+  @NonNull
+  private Future<?> scheduleJob(@NonNull final JobScheduler jobScheduler, @NonNull final JobDispatcher jobDispatcher, @NonNull final JobDefinition definition) {
+    JobDefinition scheduled = definition;
+    if (scheduled.job() instanceof FusedProbeTask fusedProbeTask) {
+      scheduled = scheduled.withJob(fusedProbeTask.map(
+          stage -> jobDispatcher.isDetached(stage) ? stage.withJob(jobDispatcher.dispatchStage(stage, this.getJobSupervisor().supervise(stage.name(), stage.job()))) : stage));
+    }
+    Runnable supervised = this.getJobSupervisor().supervise(scheduled.name(), scheduled.job());
+    Runnable tracked = this.isAsync(scheduled.type()) ? this.getOverrunMonitor().trackAsync(scheduled, this.getOverrunPolicy(scheduled.type()), supervised)
+        : this.getOverrunMonitor().track(scheduled, this.getOverrunPolicy(scheduled.type()), supervised);
+    return jobScheduler.scheduleAtFixedRate(jobDispatcher.dispatch(scheduled, tracked), scheduled.initialDelay(), scheduled.period(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Gates the adaptive probes by the health of their host. An adaptive probe is scheduled at the
+   * minimum interval and only runs when its adaptive interval elapsed. The stages of a fused job are
+   * adapted one by one, and the fused job period follows. The start offsets are planned against
+   * the adapted period, the one the job is actually scheduled with.
+   *
+   * @param definition the definition of the job.
+   * @return the definition to schedule.
+   */
+  @NonNull
+  private JobDefinition adaptInterval(@NonNull final JobDefinition definition) {
+    if (definition.job() instanceof FusedProbeTask fusedProbeTask) {
+      FusedProbeTask adapted = fusedProbeTask.map(this::adaptInterval);
+      return definition.withJob(adapted).withPeriod(adapted.getPeriod());
+    }
+    if (!this.isAdaptive(definition.type())) {
+      return definition;
+    }
+    long minDelay = this.getPropertiesConfig().getAdaptiveMinDelay();
+    Runnable gated = this.getAdaptiveIntervals().gate(definition, minDelay, this.getPropertiesConfig().getAdaptiveMaxDelay(), this.getPropertiesConfig().getAdaptiveBackoff(), definition.job());
+    return definition.withJob(gated).withPeriod(minDelay);
+  }
+
+  /**
+   * Indicates whether a type of job runs at an adaptive interval. Only the ICMP and TCP/IP probes
+   * adapt to the health of the host, the traceroute keeps its fixed interval.
+   *
+   * @param jobType the type of the job.
+   * @return {@code true} if the job interval is adaptive.
+   */
+  private boolean isAdaptive(@NonNull final JobType jobType) {
+    return (jobType == JobType.ICMP || jobType == JobType.TCP_IP) && this.getPropertiesConfig().isAdaptiveEnabled();
+  }
+
+  /**
+   * Indicates whether the executions of a type of job complete after its tick returned, as the
+   * TCP/IP probes do when they are asynchronous.
+   *
+   * @param jobType the type of the job.
+   * @return {@code true} if the job reports its executions to the {@link OverrunMonitor} on completion.
+   */
+  private boolean isAsync(@NonNull final JobType jobType) {
+    return jobType == JobType.TCP_IP && this.getPropertiesConfig().isTcpIpAsyncEnabled();
+  }
+
+  /**
+   * Indicates whether a job can keep running after a reload, that is when its interval, and the
+   * intervals of its stages for a fused job, did not change.
+   *
+   * @param running the definition of the running job.
+   * @param reloaded the definition of the job in the reloaded configuration.
+   * @return {@code true} if the running job can be kept.
+   */
+  private static boolean isUnchanged(@NonNull final JobDefinition running, @NonNull final JobDefinition reloaded) {
+    if (running.period() != reloaded.period()) {
+      return false;
+    }
+    if (running.job() instanceof FusedProbeTask runningTask && reloaded.job() instanceof FusedProbeTask reloadedTask) {
+      return runningTask.getStagePeriods().equals(reloadedTask.getStagePeriods());
+    }
+    return running.job() instanceof FusedProbeTask == reloaded.job() instanceof FusedProbeTask;
+  }
+
+  /**
+   * Stops monitoring and adapting a cancelled job, and the stages of a fused job.
+   *
+   * @param definition the definition of the cancelled job.
+   */
+  private void release(@NonNull final JobDefinition definition) {
+    this.getOverrunMonitor().untrack(definition.name());
+    this.getAdaptiveIntervals().remove(definition.name());
+    if (definition.job() instanceof FusedProbeTask fusedProbeTask) {
+      fusedProbeTask.getStages().forEach(this::release);
+    }
+  }
+
+  /**
+   * Retrieves the configured {@link OverrunPolicy} of a type of job.
+   *
+   * @param jobType the type of the job.
+   * @return the {@link OverrunPolicy} of the job.
+   */
+  @NonNull
+  private OverrunPolicy getOverrunPolicy(@NonNull final JobType jobType) {
+    return switch (jobType) {
+      case ICMP -> this.getPropertiesConfig().getOverrunPolicyIcmp();
+      case TCP_IP -> this.getPropertiesConfig().getOverrunPolicyTcpIp();
+      case TRACEROUTE -> this.getPropertiesConfig().getOverrunPolicyTraceroute();
+      case PROBE -> this.getPropertiesConfig().getOverrunPolicyFused();
+    };
+  }
+
+  /**
+   * Retrieves a snapshot of the load of the report pool and, while a workflow runs in bulkhead
+   * execution mode, of the pool of each type of probe.
+   *
+   * @return a collection of {@link ExecutorMetricsDto}.
+   */
+  @NonNull
+  public Collection<@NonNull ExecutorMetricsDto> getExecutorMetrics() {
+    Collection<ExecutorMetricsDto> metrics = new ArrayList<>();
+    JobDispatcher dispatcher = this.jobDispatcher;
+    if (Objects.nonNull(dispatcher)) {
+      metrics.addAll(dispatcher.getMetrics());
+    }
+    metrics.add(ExecutorTools.getMetrics("report", this.getReportExecutor()));
+    metrics.add(ExecutorTools.getMetrics("tcp-result", this.getTcpIpResultExecutor()));
+    return metrics;
+  }
+
+  /**
+   * Retrieves the configured number of threads of the pool of each type of probe.
+   *
+   * @return the number of threads by {@link JobType}.
+   */
+  @NonNull
+  private Map<JobType, Integer> getBulkheadSizes() {
+    return Map.of(JobType.ICMP, this.getPropertiesConfig().getBulkheadIcmpThreadNumber(), JobType.TCP_IP, this.getPropertiesConfig().getBulkheadTcpIpThreadNumber(),
+        JobType.TRACEROUTE, this.getPropertiesConfig().getBulkheadTracerouteThreadNumber());
+  }
+
+  /**
+   * Creates the scheduler of the recurring jobs according to the configured {@link SchedulerType}.
+   *
+   * @param threadNumber the number of threads of the scheduler.
+   * @return the {@link JobScheduler} of the workflow.
+   */
+  @NonNull
+  private JobScheduler getJobScheduler(final int threadNumber) {
+    return switch (this.getPropertiesConfig().getSchedulerType()) {
+      case EXECUTOR -> new ExecutorJobScheduler(threadNumber);
+      case TIMING_WHEEL -> new TimingWheelJobScheduler(this.getPropertiesConfig().getWheelTickDuration(), this.getPropertiesConfig().getWheelSize(), threadNumber);
+    };
+  }
+
+  /**
+   * Retrieves the number of scheduler threads. When not configured, it defaults to the number of
+   * available processors, or to a single thread when the scheduler only dispatches ticks.
+   *
+   * @param executionMode the execution mode of the job bodies.
+   * @return the number of scheduler threads.
+   */
+  private int getSchedulerThreadNumber(@NonNull final ExecutionMode executionMode) {
+    int configured = this.getPropertiesConfig().getScheduledThreadNumber();
+    if (configured > 0) {
+      return configured;
+    }
+    return switch (executionMode) {
+      case PLATFORM -> Runtime.getRuntime().availableProcessors();
+      case VIRTUAL, BULKHEAD -> 1;
+    };
+  }
+
   /**
    * Retrieves all jobs to be executed for a specific host.
    *
    * @param host the host for which jobs will be created.
-   * @return a collection of runnable jobs paired with their execution delay.
+   * @return a collection of job definitions with their execution delay.
    */
-  private @NonNull Collection<@NonNull SimpleEntry<@NonNull Runnable, @NonNull Long>> getJobsPerHost(@NonNull final String host) {
-    Collection<SimpleEntry<Runnable, Long>> jobs = new ArrayList<>();
-    jobs.add(new SimpleEntry<>(this.pingIcmpProtocolJob(host), this.getPropertiesConfig().getDelayIcmp()));
-    jobs.add(new SimpleEntry<>(this.pingTcpIpProtocolJob(host), this.getPropertiesConfig().getDelayTcpIp()));
-    jobs.add(new SimpleEntry<>(this.traceRouteJob(host), this.getPropertiesConfig().getDelayTraceroute()));
+  private @NonNull Collection<@NonNull JobDefinition> getJobsPerHost(@NonNull final String host) {
+    if (this.getPropertiesConfig().isFusedEnabled()) {
+      Optional<JobDefinition> fusedJob = this.getFusedJob(host);
+      if (fusedJob.isPresent()) {
+        return List.of(fusedJob.get());
+      }
+    }
+    Collection<JobDefinition> jobs = new ArrayList<>();
+    jobs.add(new JobDefinition(host, JobType.ICMP, this.pingIcmpProtocolJob(host), this.getPropertiesConfig().getDelayIcmp()));
+    jobs.add(new JobDefinition(host, JobType.TCP_IP, this.pingTcpIpProtocolJob(host), this.getPropertiesConfig().getDelayTcpIp()));
+    jobs.add(new JobDefinition(host, JobType.TRACEROUTE, this.traceRouteJob(host), this.getPropertiesConfig().getDelayTraceroute()));
     return jobs;
   }
 
+  /**
+   * Creates the fused job running all the probes of a host, with the target of the probes prepared
+   * once. When the target cannot be prepared, the host falls back to one job per protocol.
+   *
+   * @param host the host for which the job will be created.
+   * @return an {@link Optional} containing the fused job definition, or empty if the target could not be prepared.
+   */
+  @NonNull
+  private Optional<JobDefinition> getFusedJob(@NonNull final String host) {
+    try {
+      ProbeTargetDto target = this.responseValidation(this.getPingController().getProbeTarget(host), host, "Probe target preparation");
+      List<JobDefinition> stages = List.of(
+          new JobDefinition(host, JobType.ICMP, () -> this.runIcmpProbe(host, this.getIcmpProbe(host, () -> this.getPingController().postIcmp(target))),
+              this.getPropertiesConfig().getDelayIcmp()),
+          new JobDefinition(host, JobType.TCP_IP, () -> this.runTcpIpProbe(host, () -> this.getPingController().postTcp(target)), this.getPropertiesConfig().getDelayTcpIp()),
+          new JobDefinition(host, JobType.TRACEROUTE, () -> this.runTraceRoute(host, () -> this.getPingController().postTraceRoute(target)), this.getPropertiesConfig().getDelayTraceroute()));
+      FusedProbeTask fusedProbeTask = new FusedProbeTask(JobType.PROBE.getJobName(host), stages);
+      return Optional.of(new JobDefinition(host, JobType.PROBE, fusedProbeTask, fusedProbeTask.getPeriod()));
+    } catch (RuntimeException e) {
+      log.warn("Unable to prepare the probe target of {}, its probes will not be fused: {}", host, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
   @Override
   public @NonNull Runnable pingIcmpProtocolJob(@NonNull String host) {
     return () -> {
-      Thread.currentThread().setName("job-" + host + "-icmp");
-      try {
-        ResponseFactory<PingIcmpDto> responseFactory = this.getPingController().postIcmp(host);
-        PingIcmpDto pingIcmpDto = this.responseValidation(responseFactory, host, "ICMP protocol Ping");
-        if (!pingIcmpDto.success()) {
-          log.debug("Unsuccessful Ping ICMP Protocol Job for host {}", host);
-          ReportDto reportDto = this.getReport(host);
-          ResponseFactory<Void> posted = this.getReportController().postReport(reportDto);
-          this.responseValidation(posted, host, "Report for ICMP protocol Ping");
-          log.debug("Report information sent to Report API");
-        } else {
-          log.debug("Successful Ping ICMP Protocol Job for host {}", host);
+      Thread.currentThread().setName(JobType.ICMP.getJobName(host));
+      this.runIcmpProbe(host, this.getIcmpProbe(host, () -> this.getPingController().postIcmp(host)));
+    };
+  }
+
+  /**
+   * Retrieves the ICMP probe of a host, following the probe mode configured at each tick. In
+   * session mode, the probe makes sure the session of the host is open and judges the ping it last
+   * updated, no command is started by the tick. In echo mode, the probe sends the echo requests
+   * itself when the JVM can send them, and otherwise runs the ping command.
+   *
+   * @param host the target host of the ping.
+   * @param commandProbe the request running a ping command, used in command mode.
+   * @return the request performing the ping.
+   */
+  @NonNull
+  private Supplier<ResponseFactory<PingIcmpDto>> getIcmpProbe(@NonNull final String host, @NonNull final Supplier<ResponseFactory<PingIcmpDto>> commandProbe) {
+    return () -> {
+      IcmpProbeMode icmpProbeMode = this.getPropertiesConfig().getIcmpProbeMode();
+      if (icmpProbeMode == IcmpProbeMode.SESSION) {
+        this.getPingSessionSupervisor().open(host);
+        return this.getPingController().getIcmp(host);
+      }
+      if (icmpProbeMode == IcmpProbeMode.ECHO && this.getPingController().isIcmpEchoAvailable()) {
+        ResponseFactory<PingIcmpDto> echo = this.getPingController().postIcmpEcho(host);
+        if (echo.getStatus() != ResponseStatus.SERVICE_UNAVAILABLE) {
+          return echo;
         }
-      } catch (BatchJobsException e) {
-        Collection<String> errorStack = getErrorStack(e);
-        log.debug("Batch Job Error on ICMP protocol Ping:\n{}", String.join("\n", errorStack));
+        log.debug("Echo requests to {} cannot be sent, running the ping command: {}", host, Objects.toString(echo.getException()));
       }
+      return commandProbe.get();
     };
   }
 
   @Override
   public @NonNull Runnable pingTcpIpProtocolJob(@NonNull String host) {
+    if (this.getPropertiesConfig().isTcpIpAsyncEnabled()) {
+      return () -> this.runTcpIpProbeAsync(host);
+    }
     return () -> {
-      Thread.currentThread().setName("job-" + host + "-tcp");
-      try {
-        ResponseFactory<PingTcpIpDto> responseFactory = this.getPingController().postTcp(host);
-        PingTcpIpDto pingTcpIpDto = this.responseValidation(responseFactory, host, "TCP/IP protocol Ping");
-        if (!pingTcpIpDto.success()) {
-          log.debug("Unsuccessful TCP/IP Protocol Ping Job for host {}", host);
-          ReportDto reportDto = this.getReport(host);
-          this.responseValidation(this.getReportController().postReport(reportDto), host, "Report for TCP/IP protocol Ping");
-        } else {
-          log.debug("Successful TCP/IP Protocol Ping Job for host {}", host);
-        }
-      } catch (BatchJobsException e) {
-        Collection<String> errorStack = getErrorStack(e);
-        log.debug("Batch Job Error on TCP/IP protocol Ping:\n{}", String.join("\n", errorStack));
-      }
+      Thread.currentThread().setName(JobType.TCP_IP.getJobName(host));
+      this.runTcpIpProbe(host, () -> this.getPingController().postTcp(host));
     };
   }
 
   @Override
   public @NonNull Runnable traceRouteJob(@NonNull String host) {
     return () -> {
-      Thread.currentThread().setName("job-" + host + "-traceroute");
-      try {
-        ResponseFactory<TraceRouteDto> responseFactory = this.getPingController().postTraceRoute(host);
-        TraceRouteDto traceRouteDto = this.responseValidation(responseFactory, host, "Trace Route");
-        if (!traceRouteDto.success()) {
-          log.debug("Unsuccessful Trace Route Job for host {}", host);
-          ReportDto reportDto = this.getReport(host);
-          this.responseValidation(this.getReportController().postReport(reportDto), host, "Report for Trace Route");
-        } else {
-          log.debug("Successful Trace Route Job for host {}", host);
+      Thread.currentThread().setName(JobType.TRACEROUTE.getJobName(host));
+      this.runTraceRoute(host, () -> this.getPingController().postTraceRoute(host));
+    };
+  }
+
+  /**
+   * Runs an ICMP ping and sends a report when it is unsuccessful.
+   *
+   * @param host the target host of the ping.
+   * @param probe the request performing the ping.
+   */
+  private void runIcmpProbe(@NonNull final String host, @NonNull final Supplier<ResponseFactory<PingIcmpDto>> probe) {
+    try {
+      ResponseFactory<PingIcmpDto> responseFactory = probe.get();
+      this.recordFailedProbe(JobType.ICMP, host, responseFactory);
+      PingIcmpDto pingIcmpDto = this.responseValidation(responseFactory, host, "ICMP protocol Ping");
+      this.getAdaptiveIntervals().record(JobType.ICMP.getJobName(host), pingIcmpDto.success());
+      if (!pingIcmpDto.success()) {
+        log.debug("Unsuccessful Ping ICMP Protocol Job for host {}", host);
+        ReportDto reportDto = this.getReport(host);
+        ResponseFactory<Void> posted = this.getReportController().postReport(reportDto);
+        this.responseValidation(posted, host, "Report for ICMP protocol Ping");
+        log.debug("Report information sent to Report API");
+      } else {
+        log.debug("Successful Ping ICMP Protocol Job for host {}", host);
+      }
+    } catch (BatchJobsException e) {
+      Collection<String> errorStack = getErrorStack(e);
+      log.debug("Batch Job Error on ICMP protocol Ping:\n{}", String.join("\n", errorStack));
+    }
+  }
+
+  /**
+   * Runs a TCP/IP ping and sends a report when it is unsuccessful.
+   *
+   * @param host the target host of the ping.
+   * @param probe the request performing the ping.
+   */
+  private void runTcpIpProbe(@NonNull final String host, @NonNull final Supplier<ResponseFactory<PingTcpIpDto>> probe) {
+    this.handleTcpIpResponse(host, probe.get());
+  }
+
+  /**
+   * Sends a TCP/IP ping without waiting for its response, the result is handled on the TCP/IP
+   * result pool once the response arrived. A host keeps at most one ping waiting for its response,
+   * the ticks firing meanwhile are skipped. The handling of the result is supervised like the job
+   * itself, and the ping is measured by the {@link OverrunMonitor} until its result was handled.
+   *
+   * @param host the target host of the ping.
+   */
+  private void runTcpIpProbeAsync(@NonNull final String host) {
+    String jobName = JobType.TCP_IP.getJobName(host);
+    if (!this.getTcpIpInFlight().add(host)) {
+      log.debug("TCP/IP Protocol Ping of host {} still waiting for its response, tick skipped", host);
+      this.getOverrunMonitor().skip(jobName);
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      this.getPingController().postTcpAsync(host).whenCompleteAsync((responseFactory, throwable) -> {
+        try {
+          this.getJobSupervisor().supervise(jobName, () -> {
+            if (Objects.nonNull(throwable)) {
+              throw new IllegalStateException("TCP/IP Protocol Ping of host " + host + " completed without response", throwable);
+            }
+            this.handleTcpIpResponse(host, responseFactory);
+          }).run();
+        } finally {
+          this.getTcpIpInFlight().remove(host);
+          this.getOverrunMonitor().complete(jobName, start);
         }
-      } catch (BatchJobsException e) {
-        Collection<String> errorStack = getErrorStack(e);
-        log.debug("Batch Job Error on Trace Route:\n{}", String.join("\n", errorStack));
+      }, this.getTcpIpResultExecutor());
+    } catch (RuntimeException e) {
+      this.getTcpIpInFlight().remove(host);
+      throw e;
+    }
+  }
+
+  /**
+   * Handles the result of a TCP/IP ping and sends a report when it is unsuccessful.
+   *
+   * @param host the target host of the ping.
+   * @param responseFactory the response of the ping.
+   */
+  private void handleTcpIpResponse(@NonNull final String host, @NonNull final ResponseFactory<PingTcpIpDto> responseFactory) {
+    try {
+      this.recordFailedProbe(JobType.TCP_IP, host, responseFactory);
+      PingTcpIpDto pingTcpIpDto = this.responseValidation(responseFactory, host, "TCP/IP protocol Ping");
+      this.getAdaptiveIntervals().record(JobType.TCP_IP.getJobName(host), pingTcpIpDto.success());
+      if (!pingTcpIpDto.success()) {
+        log.debug("Unsuccessful TCP/IP Protocol Ping Job for host {}", host);
+        ReportDto reportDto = this.getReport(host);
+        this.responseValidation(this.getReportController().postReport(reportDto), host, "Report for TCP/IP protocol Ping");
+      } else {
+        log.debug("Successful TCP/IP Protocol Ping Job for host {}", host);
       }
-    };
+    } catch (BatchJobsException e) {
+      Collection<String> errorStack = getErrorStack(e);
+      log.debug("Batch Job Error on TCP/IP protocol Ping:\n{}", String.join("\n", errorStack));
+    }
+  }
+
+  /**
+   * Runs a traceroute and sends a report when it is unsuccessful.
+   *
+   * @param host the target host of the traceroute.
+   * @param probe the request performing the traceroute.
+   */
+  private void runTraceRoute(@NonNull final String host, @NonNull final Supplier<ResponseFactory<TraceRouteDto>> probe) {
+    try {
+      ResponseFactory<TraceRouteDto> responseFactory = probe.get();
+      TraceRouteDto traceRouteDto = this.responseValidation(responseFactory, host, "Trace Route");
+      if (!traceRouteDto.success()) {
+        log.debug("Unsuccessful Trace Route Job for host {}", host);
+        ReportDto reportDto = this.getReport(host);
+        this.responseValidation(this.getReportController().postReport(reportDto), host, "Report for Trace Route");
+      } else {
+        log.debug("Successful Trace Route Job for host {}", host);
+      }
+    } catch (BatchJobsException e) {
+      Collection<String> errorStack = getErrorStack(e);
+      log.debug("Batch Job Error on Trace Route:\n{}", String.join("\n", errorStack));
+    }
+  }
+
+  /**
+   * Records a probe whose request did not succeed as a failure of its host, so that the adaptive
+   * interval of a host whose probes keep failing stays at the minimum instead of looking idle.
+   *
+   * @param jobType the type of the probe.
+   * @param host the target host of the probe.
+   * @param responseFactory the response of the probe.
+   */
+  private void recordFailedProbe(@NonNull final JobType jobType, @NonNull final String host, @NonNull final ResponseFactory<?> responseFactory) {
+    if (responseFactory.getStatus() != ResponseStatus.OK) {
+      this.getAdaptiveIntervals().record(jobType.getJobName(host), false);
+    }
   }
 
   /**
@@ -194,9 +683,9 @@ public class BatchJobsFactory extends InitializationFactory implements BatchJobs
    */
   @NonNull
   private ReportDto getReport(@NonNull final String host) {
-    CompletableFuture<PingIcmpDto> icmpRequest = CompletableFuture.supplyAsync(this.getPingIcmpDtoSupplier(host));
-    CompletableFuture<PingTcpIpDto> tcpIpRequest = CompletableFuture.supplyAsync(this.getPingTcpIpDtoSupplier(host));
-    CompletableFuture<TraceRouteDto> traceRouteRequest = CompletableFuture.supplyAsync(this.getGetTraceRoutePing(host));
+    CompletableFuture<PingIcmpDto> icmpRequest = CompletableFuture.supplyAsync(this.getPingIcmpDtoSupplier(host), this.getReportExecutor());
+    CompletableFuture<PingTcpIpDto> tcpIpRequest = CompletableFuture.supplyAsync(this.getPingTcpIpDtoSupplier(host), this.getReportExecutor());
+    CompletableFuture<TraceRouteDto> traceRouteRequest = CompletableFuture.supplyAsync(this.getGetTraceRoutePing(host), this.getReportExecutor());
     CompletableFuture<Void> getRequests = CompletableFuture.allOf(icmpRequest, tcpIpRequest, traceRouteRequest);
     getRequests.join();
 
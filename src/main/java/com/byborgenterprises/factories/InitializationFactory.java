@@ -4,14 +4,19 @@ import com.byborgenterprises.assemblers.PingIcmpMapperAssembler;
 import com.byborgenterprises.assemblers.PingTcpIpMapperAssembler;
 import com.byborgenterprises.assemblers.TerminalMapperAssembler;
 import com.byborgenterprises.assemblers.TraceRouteMapperAssembler;
+import com.byborgenterprises.configs.PingIcmpSettings;
 import com.byborgenterprises.configs.PropertiesConfig;
 import com.byborgenterprises.controllers.PingController;
 import com.byborgenterprises.controllers.ReportController;
+import com.byborgenterprises.enums.HttpClientPurpose;
+import com.byborgenterprises.enums.IcmpProbeMode;
+import com.byborgenterprises.enums.TcpProbeMode;
 import com.byborgenterprises.mappers.PingIcmpMapper;
 import com.byborgenterprises.mappers.PingTcpIpMapper;
 import com.byborgenterprises.mappers.TerminalMapper;
 import com.byborgenterprises.mappers.TraceRouteMapper;
 import com.byborgenterprises.providers.PingIcmpProvider;
+import com.byborgenterprises.providers.PingTcpIpConnectProvider;
 import com.byborgenterprises.providers.PingTcpIpProvider;
 import com.byborgenterprises.providers.ReportProvider;
 import com.byborgenterprises.providers.TraceRouteProvider;
@@ -20,12 +25,21 @@ import com.byborgenterprises.repositories.PingTcpIpRepository;
 import com.byborgenterprises.repositories.TraceRouteRepository;
 import com.byborgenterprises.requests.PingRequest;
 import com.byborgenterprises.requests.ReportRequest;
+import com.byborgenterprises.schedulers.PingSessionSupervisor;
 import com.byborgenterprises.services.PingIcmpService;
 import com.byborgenterprises.services.PingTcpIpService;
 import com.byborgenterprises.services.ReportService;
 import com.byborgenterprises.services.TraceRouteService;
+import com.byborgenterprises.utils.ConnectProbeEngine;
+import com.byborgenterprises.utils.ExecutorTools;
+import com.byborgenterprises.utils.IcmpEchoEngine;
+import com.byborgenterprises.utils.NetworkTools;
+import com.byborgenterprises.utils.TerminalTools;
+import java.time.Duration;
+import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
 import org.aeonbits.owner.ConfigFactory;
 
 /**
@@ -45,6 +59,7 @@ import org.aeonbits.owner.ConfigFactory;
  *   <li>Providing controllers for interacting with services and responding to requests.</li>
  * </ul>
  */
+@Log4j2
 @Getter(AccessLevel.PRIVATE)
 public class InitializationFactory {
   //@formatter:off
@@ -69,12 +84,18 @@ public class InitializationFactory {
   private final TraceRouteMapper traceRouteMapper = new TraceRouteMapperAssembler(this.getTerminalMapper());
   private final PingTcpIpMapper pingTcpIpMapper = new PingTcpIpMapperAssembler();
 
+  /**
+   * Engine sending the ICMP echo requests from the JVM, {@code null} when it cannot send them.
+   */
+  @Getter(AccessLevel.NONE)
+  private final IcmpEchoEngine icmpEchoEngine = this.createIcmpEchoEngine();
+
   /**
    * Services implementing core logic for ICMP, TCP/IP, traceroute, and reporting.
    */
-  private final PingIcmpService pingIcmpService = new PingIcmpProvider(this.getPropertiesConfig().getPingCommandWindows(), this.getPropertiesConfig().getPingCommandLinux(), this.getPingIcmpRepository(), this.getPingIcmpMapper(), this.getTerminalMapper());
-  private final PingTcpIpService pingTcpIpService = new PingTcpIpProvider(this.getPingTcpIpRepository(), this.getPingTcpIpMapper(), this.getPropertiesConfig().getTimeout(), this.getPropertiesConfig().getProtocol());
-  private final TraceRouteService traceRouteService = new TraceRouteProvider(this.getTraceRouteRepository(), this.getTraceRouteMapper(), this.getTerminalMapper(), this.getPropertiesConfig().getTracerouteCommandWindows(), this.getPropertiesConfig().getTracerouteCommandLinux());
+  private final PingIcmpService pingIcmpService = new PingIcmpProvider(this.getPingIcmpSettings(), this.getPingIcmpRepository(), this.getPingIcmpMapper(), this.getTerminalMapper(), this.icmpEchoEngine);
+  private final PingTcpIpService pingTcpIpService = this.createPingTcpIpService();
+  private final TraceRouteService traceRouteService = new TraceRouteProvider(this.getTraceRouteRepository(), this.getTraceRouteMapper(), this.getTerminalMapper(), this.getPropertiesConfig().getTracerouteCommandWindows(), this.getPropertiesConfig().getTracerouteCommandLinux(), this.getPropertiesConfig().isDnsPreResolveEnabled(), Duration.ofMillis(this.getPropertiesConfig().getTracerouteCommandTimeout()), this.getPropertiesConfig().isTracerouteOutputKept());
   private final ReportService reportService = new ReportProvider(this.getPropertiesConfig().getReportUrl());
 
   /**
@@ -84,5 +105,84 @@ public class InitializationFactory {
   private final PingController pingController = new PingRequest(this.getPingIcmpService(), this.getPingTcpIpService(), this.getTraceRouteService());
   @Getter(AccessLevel.PUBLIC)
   private final ReportController reportController = new ReportRequest(this.getReportService());
+
+  /**
+   * Supervisor of the long-running ICMP ping sessions, used in the session probe mode.
+   */
+  @Getter(AccessLevel.PUBLIC)
+  private final PingSessionSupervisor pingSessionSupervisor = new PingSessionSupervisor(this.getPingIcmpService(), this.getPropertiesConfig().getPingSessionRestartDelay());
   //@formatter:on
+
+  /**
+   * Retrieves the engine sending the ICMP echo requests from the JVM.
+   *
+   * @return an {@link Optional} of the {@link IcmpEchoEngine}, empty when the JVM cannot send echo requests.
+   */
+  public Optional<IcmpEchoEngine> getIcmpEchoEngine() {
+    return Optional.ofNullable(this.icmpEchoEngine);
+  }
+
+  /**
+   * Creates the engine sending the ICMP echo requests from the JVM, when it sends real echo
+   * requests. Without it, the echo probe mode runs the ping command.
+   *
+   * @return the {@link IcmpEchoEngine}, {@code null} if the JVM cannot send echo requests.
+   */
+  private IcmpEchoEngine createIcmpEchoEngine() {
+    if (!IcmpEchoEngine.isSupported()) {
+      if (this.getPropertiesConfig().getIcmpProbeMode() == IcmpProbeMode.ECHO) {
+        log.warn("ICMP echo requests cannot be sent from the JVM, running the ping command instead");
+      }
+      return null;
+    }
+    return new IcmpEchoEngine("icmp-echo", this.getPropertiesConfig().getPingEchoThreadNumber());
+  }
+
+  /**
+   * Retrieves the settings of the ICMP pings from the configuration.
+   *
+   * @return the {@link PingIcmpSettings}.
+   */
+  private PingIcmpSettings getPingIcmpSettings() {
+    PropertiesConfig config = this.getPropertiesConfig();
+    return PingIcmpSettings.builder()
+        .pingCommandWindows(config.getPingCommandWindows())
+        .pingCommandLinux(config.getPingCommandLinux())
+        .preResolve(config.isDnsPreResolveEnabled())
+        .requiredReplies(config.getPingEarlyReplies())
+        .requiredLosses(config.getPingEarlyLosses())
+        .commandTimeout(Duration.ofMillis(config.getPingCommandTimeout()))
+        .sessionCommandWindows(config.getPingSessionCommandWindows())
+        .sessionCommandLinux(config.getPingSessionCommandLinux())
+        .echoCount(config.getPingEchoCount())
+        .echoTimeout(config.getPingEchoTimeout())
+        .build();
+  }
+
+  /**
+   * Creates the TCP/IP ping service of the configured probe mode.
+   *
+   * @return the {@link PingTcpIpService}.
+   */
+  private PingTcpIpService createPingTcpIpService() {
+    if (this.getPropertiesConfig().getTcpProbeMode() == TcpProbeMode.CONNECT) {
+      return new PingTcpIpConnectProvider(this.getPingTcpIpRepository(), this.getPingTcpIpMapper(), new ConnectProbeEngine("tcp-connect"),
+          ExecutorTools.newFixedThreadPool("tcp-connect-result", this.getPropertiesConfig().getTcpIpResultThreadNumber()), this.getPropertiesConfig().getTimeout(),
+          this.getPropertiesConfig().getProtocol());
+    }
+    return new PingTcpIpProvider(this.getPingTcpIpRepository(), this.getPingTcpIpMapper(), this.getPropertiesConfig().getTimeout(), this.getPropertiesConfig().getProtocol(),
+        this.getPropertiesConfig().getHttpProbeMode());
+  }
+
+  /**
+   * Creates the components of the application and applies the process-wide settings of the
+   * resolution cache, the terminal subprocesses and their launcher, and the shared HTTP clients.
+   */
+  public InitializationFactory() {
+    NetworkTools.configureDnsCache(this.getPropertiesConfig().getDnsCacheTtl(), this.getPropertiesConfig().getDnsCacheNegativeTtl());
+    TerminalTools.configureGovernor(this.getPropertiesConfig().getMaxProcesses(), this.getPropertiesConfig().getMaxProcessWait());
+    TerminalTools.configureLauncher(this.getPropertiesConfig().getLauncherMode());
+    NetworkTools.configureHttpClient(HttpClientPurpose.PROBE, this.getPropertiesConfig().getHttpProbeThreads());
+    NetworkTools.configureHttpClient(HttpClientPurpose.REPORT, this.getPropertiesConfig().getHttpReportThreads());
+  }
 }
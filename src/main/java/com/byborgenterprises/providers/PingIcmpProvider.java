@@ -1,15 +1,30 @@
 package com.byborgenterprises.providers;
 
+import com.byborgenterprises.configs.PingIcmpSettings;
 import com.byborgenterprises.dtos.PingIcmpDto;
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.embeddables.Terminal;
 import com.byborgenterprises.entities.PingIcmp;
+import com.byborgenterprises.enums.IcmpProbeMode;
 import com.byborgenterprises.enums.OperatingSystem;
+import com.byborgenterprises.enums.TerminalOutcome;
 import com.byborgenterprises.mappers.PingIcmpMapper;
 import com.byborgenterprises.mappers.TerminalMapper;
 import com.byborgenterprises.repositories.PingIcmpRepository;
 import com.byborgenterprises.services.PingIcmpService;
+import com.byborgenterprises.utils.EchoReplyWatcher;
+import com.byborgenterprises.utils.IcmpEchoEngine;
+import com.byborgenterprises.utils.NetworkTools;
+import com.byborgenterprises.utils.PingOutputParser;
+import com.byborgenterprises.utils.RoundTripStatistics;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -24,20 +39,58 @@ import lombok.Synchronized;
  * <p>This class encapsulates the business logic for processing ICMP ping operations,
  * including determining the appropriate command based on the operating system,
  * evaluating ping success, and transforming data between entity and DTO representations.
+ *
+ * <p>The output of a ping command can be watched while it runs, the command then ends as soon as
+ * the required number of replies or of lost requests is counted. A ping command is killed when it
+ * runs longer than the command timeout. The verdict of a stopped or killed ping is its counted
+ * replies, and its partial output is saved.
+ *
+ * <p>When the pre-resolution is enabled, the command targets the cached address of the host
+ * instead of its name, so that the ping does not wait for a lookup of its own.
+ *
+ * <p>A ping session keeps one command running per host, each reply or lost request it reports
+ * replaces the saved ping of the host, judged by that latest line, with the counts and the round
+ * trip times of every request since the start of the session. The sessions of different hosts
+ * update their pings concurrently, one session thread writing the ping of its host.
+ *
+ * <p>With an {@link IcmpEchoEngine}, the echo requests can be sent from the JVM instead of a ping
+ * command. Their counts and round trip times are saved as measured, the terminal details only
+ * naming the probed address, and the ping is marked with the {@link IcmpProbeMode#ECHO} mode.
+ *
+ * <p>The statistics of a ping, its packet loss and its round trip times, are parsed once from its
+ * output by a {@link PingOutputParser} and saved with it, with the round trip time of each reply.
+ * A session only saves the statistics summed up by its watcher, as it replies for the whole
+ * workflow.
  */
 @RequiredArgsConstructor
 @Getter(AccessLevel.PRIVATE)
 public class PingIcmpProvider implements PingIcmpService {
 
   private static final String HOST_TARGET = "HOST";
-  private static final String WINDOWS_RESULT_TARGET = " = 0 (0% ";
   private static final String PORT_TARGET = ":";
-  private final String pingCommandWindows;
-  private final String pingCommandLinux;
+  private static final String ECHO_COMMAND = "icmp echo ";
+  private final PingIcmpSettings settings;
   private final PingIcmpRepository pingIcmpRepository;
   private final PingIcmpMapper pingIcmpMapper;
   private final TerminalMapper terminalMapper;
 
+  /**
+   * Engine sending the echo requests from the JVM, {@code null} when the JVM cannot send them.
+   */
+  private final IcmpEchoEngine echoEngine;
+
+  /**
+   * Creates a provider running every ping as a command, without sending echo requests itself.
+   *
+   * @param settings the settings of the pings.
+   * @param pingIcmpRepository the repository of the ICMP pings.
+   * @param pingIcmpMapper the mapper of the ICMP pings.
+   * @param terminalMapper the mapper of the terminal executions.
+   */
+  public PingIcmpProvider(final PingIcmpSettings settings, final PingIcmpRepository pingIcmpRepository, final PingIcmpMapper pingIcmpMapper, final TerminalMapper terminalMapper) {
+    this(settings, pingIcmpRepository, pingIcmpMapper, terminalMapper, null);
+  }
+
   /**
    * Creates a {@link PingIcmp} entity with the given details.
    *
@@ -53,25 +106,194 @@ public class PingIcmpProvider implements PingIcmpService {
     return pingIcmp;
   }
 
+  /**
+   * Fills the round trip times of a {@link PingIcmp} entity.
+   *
+   * @param pingIcmp the entity.
+   * @param roundTrips the statistics of the round trip times.
+   */
+  private static void setRoundTripStatistics(@NonNull final PingIcmp pingIcmp, @NonNull final RoundTripStatistics roundTrips) {
+    pingIcmp.setMinRtt(roundTrips.getMinRtt());
+    pingIcmp.setAvgRtt(roundTrips.getAvgRtt());
+    pingIcmp.setMaxRtt(roundTrips.getMaxRtt());
+    pingIcmp.setMdevRtt(roundTrips.getMdevRtt());
+  }
+
+  /**
+   * Creates a {@link PingIcmp} entity holding the statistics parsed from the output of a ping.
+   *
+   * @param host the hostname or IP address.
+   * @param terminal the terminal execution details.
+   * @param success whether the ping operation was successful.
+   * @param statistics the statistics parsed from the output of the ping.
+   * @return a {@link PingIcmp} entity.
+   */
+  @NonNull
+  private static PingIcmp getPingIcmp(@NonNull final String host, @NonNull final Terminal terminal, final boolean success, @NonNull final PingOutputParser statistics) {
+    PingIcmp pingIcmp = getPingIcmp(host, terminal, success);
+    pingIcmp.setTransmitted(statistics.getTransmitted());
+    pingIcmp.setReceived(statistics.getReceived());
+    pingIcmp.setLossPercent(statistics.getLossPercent());
+    pingIcmp.setMinRtt(statistics.getMinRtt());
+    pingIcmp.setAvgRtt(statistics.getAvgRtt());
+    pingIcmp.setMaxRtt(statistics.getMaxRtt());
+    pingIcmp.setMdevRtt(statistics.getMdevRtt());
+    double[] roundTrips = statistics.getRoundTrips();
+    float[] packed = new float[roundTrips.length];
+    for (int i = 0; i < roundTrips.length; i++) {
+      packed[i] = (float) roundTrips[i];
+    }
+    pingIcmp.setRoundTrips(packed);
+    return pingIcmp;
+  }
+
+  /**
+   * Retrieves the target of the ping commands of a host, without its port, and resolved to its
+   * cached address when the pre-resolution is enabled.
+   *
+   * @param host the hostname or IP address, optionally with a port.
+   * @return the target of the ping commands.
+   */
+  @NonNull
+  private String getCommandTarget(@NonNull final String host) {
+    String hostFiltrated = getHostWithoutPort(host);
+    return this.getSettings().preResolve() ? NetworkTools.resolveAddress(hostFiltrated) : hostFiltrated;
+  }
+
+  /**
+   * Removes the port of a host.
+   *
+   * @param host the hostname or IP address, optionally with a port.
+   * @return the hostname or IP address.
+   */
+  @NonNull
+  private static String getHostWithoutPort(@NonNull final String host) {
+    return host.contains(PORT_TARGET) ? host.substring(0, host.indexOf(PORT_TARGET)) : host;
+  }
+
   @Override
   public @NonNull String getTerminalCommand(@NonNull String host, @NonNull OperatingSystem operatingSystem) {
-    String hostFiltrated = host.contains(PORT_TARGET) ? host.substring(0, host.indexOf(PORT_TARGET)) : host;
+    String hostFiltrated = this.getCommandTarget(host);
     return switch (operatingSystem) {
-      case LINUX -> this.getPingCommandLinux().replace(HOST_TARGET, hostFiltrated);
-      case WINDOWS -> this.getPingCommandWindows().replace(HOST_TARGET, hostFiltrated);
+      case LINUX -> this.getSettings().pingCommandLinux().replace(HOST_TARGET, hostFiltrated);
+      case WINDOWS -> this.getSettings().pingCommandWindows().replace(HOST_TARGET, hostFiltrated);
     };
   }
 
   @Override
-  @Synchronized
+  public @NonNull String getSessionCommand(@NonNull String host, @NonNull OperatingSystem operatingSystem) {
+    String hostFiltrated = this.getCommandTarget(host);
+    return switch (operatingSystem) {
+      case LINUX -> this.getSettings().sessionCommandLinux().replace(HOST_TARGET, hostFiltrated);
+      case WINDOWS -> this.getSettings().sessionCommandWindows().replace(HOST_TARGET, hostFiltrated);
+    };
+  }
+
+  @Override
+  public @NonNull Duration getCommandTimeout() {
+    return this.getSettings().commandTimeout();
+  }
+
+  @Override
+  public @NonNull EchoReplyWatcher createReplyWatcher() {
+    return new EchoReplyWatcher(this.getSettings().requiredReplies(), this.getSettings().requiredLosses());
+  }
+
+  @Override
   public @NonNull PingIcmpDto createOrUpdatePing(@NonNull String host, @NonNull TerminalDto terminalDto, @NonNull OperatingSystem os) {
+    PingOutputParser statistics = PingOutputParser.parse(terminalDto.result());
+    return this.savePing(host, terminalDto, os, statistics, statistics.getReplies() > 0);
+  }
+
+  @Override
+  public @NonNull PingIcmpDto createOrUpdatePing(@NonNull String host, @NonNull TerminalDto terminalDto, @NonNull OperatingSystem os, @NonNull EchoReplyWatcher echoReplyWatcher) {
+    return this.savePing(host, terminalDto, os, PingOutputParser.parse(terminalDto.result()), echoReplyWatcher.isReachable());
+  }
+
+  /**
+   * Saves the ping of a command from the statistics parsed from its output.
+   *
+   * @param host the target host for the ICMP ping.
+   * @param terminalDto the terminal details of the command.
+   * @param os the operating system running the command.
+   * @param statistics the statistics parsed from the output of the command.
+   * @param reachable the verdict of a stopped or killed command.
+   * @return the saved {@link PingIcmpDto}.
+   */
+  @NonNull
+  @Synchronized
+  private PingIcmpDto savePing(@NonNull final String host, @NonNull final TerminalDto terminalDto, @NonNull final OperatingSystem os, @NonNull final PingOutputParser statistics,
+      final boolean reachable) {
     Terminal terminal = this.getTerminalMapper().toEntity(terminalDto);
-    boolean success = switch (os) {
-      case WINDOWS -> terminalDto.exitCode() == 0 && terminalDto.result().contains(WINDOWS_RESULT_TARGET);
+    boolean success = terminalDto.outcome() != TerminalOutcome.COMPLETED ? reachable : switch (os) {
+      case WINDOWS -> terminalDto.exitCode() == 0 && statistics.getLossPercent() == 0;
       case LINUX -> terminalDto.exitCode() == 0;
     };
 
-    PingIcmp pingIcmp = getPingIcmp(host, terminal, success);
+    PingIcmp pingIcmp = getPingIcmp(host, terminal, success, statistics);
+
+    PingIcmp save = this.getPingIcmpRepository().save(pingIcmp);
+    return this.getPingIcmpMapper().toDto(save);
+  }
+
+  @Override
+  public @NonNull PingIcmpDto updateSessionPing(@NonNull String host, @NonNull TerminalDto terminalDto, @NonNull EchoReplyWatcher echoReplyWatcher, boolean reply) {
+    PingIcmp pingIcmp = getPingIcmp(host, this.getTerminalMapper().toEntity(terminalDto), reply);
+    pingIcmp.setTransmitted(echoReplyWatcher.getReplies() + echoReplyWatcher.getLosses());
+    pingIcmp.setReceived(echoReplyWatcher.getReplies());
+    pingIcmp.setLossPercent(PingOutputParser.getLossPercent(pingIcmp.getTransmitted(), pingIcmp.getReceived()));
+    pingIcmp.setMinRtt(echoReplyWatcher.getMinRtt());
+    pingIcmp.setAvgRtt(echoReplyWatcher.getAvgRtt());
+    pingIcmp.setMaxRtt(echoReplyWatcher.getMaxRtt());
+    pingIcmp.setMdevRtt(echoReplyWatcher.getMdevRtt());
+    pingIcmp.setProbeMode(IcmpProbeMode.SESSION);
+
+    PingIcmp save = this.getPingIcmpRepository().save(pingIcmp);
+    return this.getPingIcmpMapper().toDto(save);
+  }
+
+  @Override
+  public boolean isEchoAvailable() {
+    IcmpEchoEngine engine = this.getEchoEngine();
+    return Objects.nonNull(engine) && !engine.isClosed();
+  }
+
+  @Override
+  public @NonNull PingIcmpDto createOrUpdateEchoPing(@NonNull String host) {
+    if (!this.isEchoAvailable()) {
+      throw new IllegalStateException("No ICMP echo engine to send the echo requests");
+    }
+    String target = getHostWithoutPort(host);
+    LocalDateTime time = LocalDateTime.now();
+    RoundTripStatistics statistics = new RoundTripStatistics();
+    float[] replies = new float[0];
+    int transmitted = 0;
+    TerminalDto terminalDto;
+    try {
+      InetAddress address = NetworkTools.resolve(target);
+      long[] roundTrips = this.getEchoEngine().echo(address, this.getSettings().echoCount(), this.getSettings().echoTimeout()).join();
+      transmitted = roundTrips.length;
+      replies = new float[roundTrips.length];
+      for (long roundTrip : roundTrips) {
+        if (roundTrip >= 0) {
+          double milliseconds = roundTrip / (double) TimeUnit.MILLISECONDS.toNanos(1L);
+          replies[statistics.getCount()] = (float) milliseconds;
+          statistics.add(milliseconds);
+        }
+      }
+      replies = Arrays.copyOf(replies, statistics.getCount());
+      terminalDto = new TerminalDto(ECHO_COMMAND + address.getHostAddress(), statistics.getCount() > 0 ? 0 : 1, "", time);
+    } catch (UnknownHostException e) {
+      terminalDto = new TerminalDto(ECHO_COMMAND + target, 2, "Unknown host " + target, time);
+    }
+
+    PingIcmp pingIcmp = getPingIcmp(host, this.getTerminalMapper().toEntity(terminalDto), statistics.getCount() > 0);
+    pingIcmp.setTransmitted(transmitted);
+    pingIcmp.setReceived(statistics.getCount());
+    pingIcmp.setLossPercent(PingOutputParser.getLossPercent(transmitted, statistics.getCount()));
+    setRoundTripStatistics(pingIcmp, statistics);
+    pingIcmp.setRoundTrips(replies);
+    pingIcmp.setProbeMode(IcmpProbeMode.ECHO);
 
     PingIcmp save = this.getPingIcmpRepository().save(pingIcmp);
     return this.getPingIcmpMapper().toDto(save);
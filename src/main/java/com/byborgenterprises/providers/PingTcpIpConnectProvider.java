@@ -0,0 +1,170 @@
+package com.byborgenterprises.providers;
+
+import com.byborgenterprises.dtos.PingTcpIpDto;
+import com.byborgenterprises.entities.PingTcpIp;
+import com.byborgenterprises.enums.HttpPhase;
+import com.byborgenterprises.mappers.PingTcpIpMapper;
+import com.byborgenterprises.repositories.PingTcpIpRepository;
+import com.byborgenterprises.services.PingTcpIpService;
+import com.byborgenterprises.utils.ConnectProbeEngine;
+import com.byborgenterprises.utils.NetworkTools;
+import com.byborgenterprises.utils.PhaseTimer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The PingTcpIpConnectProvider class implements {@link PingTcpIpService} with a TCP handshake
+ * instead of an HTTP exchange, for a pure reachability check of the port of the target URL.
+ *
+ * <p>The connections are driven by a {@link ConnectProbeEngine}, so the probes never hold a thread
+ * while connecting. The results are saved on a separate executor, so that the thread of the
+ * engine only completes the handshakes and stamps their times. A probe succeeds if the connection
+ * is established, its response code is then {@code 0} since no HTTP status is received, and
+ * {@code -1} otherwise. The results are stored in the same repository as the HTTP probes, keyed by
+ * the target URL.
+ *
+ * <p>Each probe times the resolution of the host, unless the DNS cache answered it, and the
+ * handshake, no HTTP phase is measured. The host is resolved without blocking the caller, a host
+ * missing from the DNS cache being looked up on the lookup pool of the cache.
+ */
+@RequiredArgsConstructor
+@Getter(AccessLevel.PRIVATE)
+public class PingTcpIpConnectProvider implements PingTcpIpService {
+
+  private final PingTcpIpRepository pingTcpIpRepository;
+  private final PingTcpIpMapper pingTcpIpMapper;
+  private final ConnectProbeEngine connectProbeEngine;
+  private final Executor resultExecutor;
+  private final long timeout;
+  private final String protocol;
+
+  /**
+   * Retrieves the port a TCP/IP ping connects to, the port of the URL or the default port of its
+   * scheme.
+   *
+   * @param uri the target URL of the ping.
+   * @return the port.
+   */
+  private static int getPort(@NonNull final URI uri) {
+    if (uri.getPort() != -1) {
+      return uri.getPort();
+    }
+    return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+  }
+
+  @Override
+  public @NonNull PingTcpIpDto createOrUpdatePing(@NonNull String host) {
+    return this.createOrUpdatePingByUri(this.getUri(host));
+  }
+
+  @Override
+  public @NonNull PingTcpIpDto createOrUpdatePingByUri(@NonNull URI uri) {
+    return this.createOrUpdatePingByUriAsync(uri).join();
+  }
+
+  @Override
+  public @NonNull CompletableFuture<PingTcpIpDto> createOrUpdatePingAsync(@NonNull String host) {
+    return this.createOrUpdatePingByUriAsync(this.getUri(host));
+  }
+
+  @Override
+  public @NonNull CompletableFuture<PingTcpIpDto> createOrUpdatePingByUriAsync(@NonNull URI uri) {
+    LocalDateTime time = LocalDateTime.now();
+    PhaseTimer phaseTimer = new PhaseTimer();
+    if (Objects.isNull(uri.getHost())) {
+      return CompletableFuture.completedFuture(this.savePing(uri, false, 0L, time, phaseTimer));
+    }
+    boolean cached = NetworkTools.isResolutionCached(uri.getHost());
+    return NetworkTools.resolveAsync(uri.getHost()).handle((resolved, throwable) -> {
+      if (!cached) {
+        phaseTimer.lap(HttpPhase.DNS);
+      }
+      if (Objects.isNull(throwable)) {
+        return this.connect(uri, new InetSocketAddress(resolved, getPort(uri)), time, phaseTimer);
+      }
+      Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+      if (cause instanceof UnknownHostException) {
+        return CompletableFuture.completedFuture(this.savePing(uri, false, Math.max(phaseTimer.get(HttpPhase.DNS), 0L), time, phaseTimer));
+      }
+      return CompletableFuture.<PingTcpIpDto>failedFuture(cause);
+    }).thenCompose(Function.identity());
+  }
+
+  /**
+   * Opens a TCP connection to the resolved address of the target URL and saves the result on the
+   * result executor.
+   *
+   * @param uri the target URL of the ping.
+   * @param address the resolved address of the host and the port of the URL.
+   * @param time the time the ping started.
+   * @param phaseTimer the timer of the ping, the resolution already measured.
+   * @return a {@link CompletableFuture} completed with the saved ping.
+   */
+  @NonNull
+  private CompletableFuture<PingTcpIpDto> connect(@NonNull final URI uri, @NonNull final InetSocketAddress address, @NonNull final LocalDateTime time,
+      @NonNull final PhaseTimer phaseTimer) {
+    long startTime = System.nanoTime();
+    return this.getConnectProbeEngine().connect(address, this.getTimeout()).handleAsync((connectTime, throwable) -> {
+      if (Objects.isNull(throwable)) {
+        phaseTimer.set(HttpPhase.CONNECT, connectTime);
+        return this.savePing(uri, true, connectTime, time, phaseTimer);
+      }
+      Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+      if (cause instanceof IOException) {
+        // refused, unreachable or timeout
+        return this.savePing(uri, false, System.nanoTime() - startTime, time, phaseTimer);
+      }
+      throw throwable instanceof CompletionException completionException ? completionException : new CompletionException(throwable);
+    }, this.getResultExecutor());
+  }
+
+  @Override
+  public @NonNull URI getUri(@NonNull String host) {
+    return NetworkTools.getUri(this.getProtocol(), host, Map.of());
+  }
+
+  /**
+   * Saves the result of a TCP handshake to the repository, unless a newer ping of the same URL is
+   * already stored.
+   *
+   * @param uri the target URL of the ping.
+   * @param connected whether the connection was established.
+   * @param connectTime the time taken by the handshake, in nanoseconds.
+   * @param time the timestamp when the ping was performed.
+   * @param phaseTimer the timer of the phases of the ping.
+   * @return a {@link PingTcpIpDto} representing the latest stored ping operation of the URL.
+   */
+  private @NonNull PingTcpIpDto savePing(@NonNull final URI uri, final boolean connected, final long connectTime, @NonNull final LocalDateTime time,
+      @NonNull final PhaseTimer phaseTimer) {
+    NetworkTools.recordPhases(phaseTimer);
+    PingTcpIp pingTcpIp = new PingTcpIp(uri, time);
+    pingTcpIp.setResponseCode(connected ? 0 : -1);
+    pingTcpIp.setResponseTime(TimeUnit.NANOSECONDS.toMillis(connectTime));
+    pingTcpIp.setSuccess(connected);
+    pingTcpIp.setDnsTime(phaseTimer.get(HttpPhase.DNS));
+    pingTcpIp.setConnectTime(phaseTimer.get(HttpPhase.CONNECT));
+    PingTcpIp savedPing = this.getPingTcpIpRepository().saveIf(pingTcpIp, (stored, probed) -> !probed.getTime().isBefore(stored.getTime()));
+    return this.getPingTcpIpMapper().toDto(savedPing);
+  }
+
+  @Override
+  public @NonNull Optional<PingTcpIpDto> getPing(@NonNull String host) {
+    URI url = this.getUri(host);
+    return this.getPingTcpIpRepository().findById(url).map(pingTcpIp -> this.getPingTcpIpMapper().toDto(pingTcpIp));
+  }
+}
@@ -2,22 +2,33 @@ package com.byborgenterprises.providers;
 
 import com.byborgenterprises.dtos.PingTcpIpDto;
 import com.byborgenterprises.entities.PingTcpIp;
+import com.byborgenterprises.enums.HttpClientPurpose;
 import com.byborgenterprises.enums.HttpMethod;
+import com.byborgenterprises.enums.HttpPhase;
+import com.byborgenterprises.enums.HttpProbeMode;
 import com.byborgenterprises.mappers.PingTcpIpMapper;
 import com.byborgenterprises.repositories.PingTcpIpRepository;
 import com.byborgenterprises.services.PingTcpIpService;
+import com.byborgenterprises.utils.FirstByteBodyHandler;
 import com.byborgenterprises.utils.NetworkTools;
+import com.byborgenterprises.utils.PhaseTimer;
+import com.byborgenterprises.utils.TimedBodyHandler;
 import java.io.IOException;
 import java.net.URI;
+import java.net.UnknownHostException;
 import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.Synchronized;
 
 /**
  * The PingTcpIpProvider class implements {@link PingTcpIpService} to manage
@@ -26,15 +37,46 @@ import lombok.Synchronized;
  *
  * <p>This class encapsulates the business logic for processing TCP/IP ping operations,
  * including constructing requests, handling responses, and evaluating success criteria.
+ *
+ * <p>The probe mode sets how much of the response is read: the whole body, only the headers of a
+ * HEAD request, or the body up to its first byte.
+ *
+ * <p>Each ping times the resolution of the host, the wait for the response headers and the
+ * reception of the body. The host is looked up through the resolver of the JVM, whose cache then
+ * answers the lookup of the HTTP client. The shared HTTP client does not expose its connections,
+ * so the TCP and TLS handshakes of a new connection are part of the wait for the headers, no
+ * separate phase being recorded for them.
+ *
+ * <p>Probes hold no lock while waiting for the network, so a slow host never delays the others.
+ * A probe result is stored only if it is not older than the stored one, which keeps the latest
+ * result of each host when probes of the same host overlap.
  */
 @RequiredArgsConstructor
 @Getter(AccessLevel.PRIVATE)
 public class PingTcpIpProvider implements PingTcpIpService {
 
+  /**
+   * Handler reading the response bodies up to their first byte.
+   */
+  private static final FirstByteBodyHandler FIRST_BYTE_BODY_HANDLER = new FirstByteBodyHandler();
+
   private final PingTcpIpRepository pingTcpIpRepository;
   private final PingTcpIpMapper pingTcpIpMapper;
   private final long timeout;
   private final String protocol;
+  private final HttpProbeMode probeMode;
+
+  /**
+   * Creates a provider reading the whole response body of the probes.
+   *
+   * @param pingTcpIpRepository the repository of the TCP/IP pings.
+   * @param pingTcpIpMapper the mapper of the TCP/IP pings.
+   * @param timeout the timeout of the requests, in milliseconds.
+   * @param protocol the protocol of the requests.
+   */
+  public PingTcpIpProvider(final PingTcpIpRepository pingTcpIpRepository, final PingTcpIpMapper pingTcpIpMapper, final long timeout, final String protocol) {
+    this(pingTcpIpRepository, pingTcpIpMapper, timeout, protocol, HttpProbeMode.GET);
+  }
 
   /**
    * Creates a {@link PingTcpIp} entity with the given details.
@@ -44,52 +86,166 @@ public class PingTcpIpProvider implements PingTcpIpService {
    * @param responseTime the time taken for the response, in milliseconds.
    * @param time the timestamp when the ping was performed.
    * @param success whether the ping operation was successful.
+   * @param phaseTimer the timer of the phases of the ping.
    * @return a {@link PingTcpIp} entity.
    */
   @NonNull
-  private static PingTcpIp getPingTcpIp(@NonNull final URI url, final int responseCode, final long responseTime, @NonNull final LocalDateTime time, final boolean success) {
+  private static PingTcpIp getPingTcpIp(@NonNull final URI url, final int responseCode, final long responseTime, @NonNull final LocalDateTime time, final boolean success,
+      @NonNull final PhaseTimer phaseTimer) {
     PingTcpIp pingTcpIp = new PingTcpIp(url, time);
     pingTcpIp.setResponseCode(responseCode);
     pingTcpIp.setResponseTime(responseTime);
     pingTcpIp.setSuccess(success);
+    pingTcpIp.setDnsTime(phaseTimer.get(HttpPhase.DNS));
+    pingTcpIp.setFirstByteTime(phaseTimer.get(HttpPhase.FIRST_BYTE));
+    pingTcpIp.setTransferTime(phaseTimer.get(HttpPhase.TRANSFER));
     return pingTcpIp;
   }
 
+  /**
+   * Times the resolution of the host of a TCP/IP ping. A resolution answered by the DNS cache is not
+   * a lookup and is stored as not measured.
+   *
+   * @param uri the target URL of the ping.
+   * @param phaseTimer the timer of the ping.
+   * @throws UnknownHostException if the host name cannot be resolved.
+   */
+  private static void lookUp(@NonNull final URI uri, @NonNull final PhaseTimer phaseTimer) throws UnknownHostException {
+    if (Objects.nonNull(uri.getHost())) {
+      boolean cached = NetworkTools.isResolutionCached(uri.getHost());
+      phaseTimer.start();
+      NetworkTools.resolve(uri.getHost());
+      if (!cached) {
+        phaseTimer.lap(HttpPhase.DNS);
+      }
+    }
+  }
+
   @Override
-  @Synchronized
   public @NonNull PingTcpIpDto createOrUpdatePing(@NonNull String host) {
+    return this.createOrUpdatePingByUri(this.getUri(host));
+  }
+
+  @Override
+  public @NonNull PingTcpIpDto createOrUpdatePingByUri(@NonNull URI uri) {
     LocalDateTime time = LocalDateTime.now();
     long startTime = System.currentTimeMillis();
-    URI uri = NetworkTools.getUri(this.getProtocol(), host, Map.of());
+    PhaseTimer phaseTimer = new PhaseTimer();
 
     try {
-      HttpResponse<String> httpResponse = NetworkTools.httpRequest(uri, Map.of("Content-Type", "text/plain"), HttpMethod.GET, "", this.getTimeout());
-      return this.savePing(uri, httpResponse.statusCode(), System.currentTimeMillis() - startTime, time);
+      lookUp(uri, phaseTimer);
+      int statusCode = this.sendProbe(uri, phaseTimer);
+      return this.savePing(uri, statusCode, System.currentTimeMillis() - startTime, time, phaseTimer);
     } catch (IOException e) {
       // timeout
-      return this.savePing(uri, -1, System.currentTimeMillis() - startTime, time);
+      return this.savePing(uri, -1, System.currentTimeMillis() - startTime, time, phaseTimer);
+    }
+  }
+
+  @Override
+  public @NonNull CompletableFuture<PingTcpIpDto> createOrUpdatePingAsync(@NonNull String host) {
+    return this.createOrUpdatePingByUriAsync(this.getUri(host));
+  }
+
+  @Override
+  public @NonNull CompletableFuture<PingTcpIpDto> createOrUpdatePingByUriAsync(@NonNull URI uri) {
+    LocalDateTime time = LocalDateTime.now();
+    long startTime = System.currentTimeMillis();
+    PhaseTimer phaseTimer = new PhaseTimer();
+
+    try {
+      lookUp(uri, phaseTimer);
+    } catch (UnknownHostException e) {
+      return CompletableFuture.completedFuture(this.savePing(uri, -1, System.currentTimeMillis() - startTime, time, phaseTimer));
     }
+    return this.sendProbeAsync(uri, phaseTimer)
+        .handle((statusCode, throwable) -> {
+          long responseTime = System.currentTimeMillis() - startTime;
+          if (Objects.isNull(throwable)) {
+            return this.savePing(uri, statusCode, responseTime, time, phaseTimer);
+          }
+          Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+          if (cause instanceof IOException) {
+            // timeout
+            return this.savePing(uri, -1, responseTime, time, phaseTimer);
+          }
+          throw throwable instanceof CompletionException completionException ? completionException : new CompletionException(throwable);
+        });
+  }
+
+  /**
+   * Sends the request of a TCP/IP ping in the probe mode of the provider.
+   *
+   * @param uri the target URL of the ping.
+   * @param phaseTimer the timer of the ping.
+   * @return the HTTP status code of the response.
+   * @throws IOException if an I/O error occurs, including a timeout.
+   */
+  private int sendProbe(@NonNull final URI uri, @NonNull final PhaseTimer phaseTimer) throws IOException {
+    HttpMethod method = this.getProbeMode() == HttpProbeMode.HEAD ? HttpMethod.HEAD : HttpMethod.GET;
+    phaseTimer.start();
+    return NetworkTools.httpRequest(HttpClientPurpose.PROBE, uri, Map.of("Content-Type", "text/plain"), method, "", this.getTimeout(), this.getBodyHandler(phaseTimer)).statusCode();
+  }
+
+  /**
+   * Sends the request of a TCP/IP ping in the probe mode of the provider without waiting for the
+   * response.
+   *
+   * @param uri the target URL of the ping.
+   * @param phaseTimer the timer of the ping.
+   * @return a {@link CompletableFuture} completed with the HTTP status code of the response, or exceptionally with the {@link IOException} of the exchange.
+   */
+  @NonNull
+  private CompletableFuture<Integer> sendProbeAsync(@NonNull final URI uri, @NonNull final PhaseTimer phaseTimer) {
+    HttpMethod method = this.getProbeMode() == HttpProbeMode.HEAD ? HttpMethod.HEAD : HttpMethod.GET;
+    phaseTimer.start();
+    return NetworkTools.httpRequestAsync(HttpClientPurpose.PROBE, uri, Map.of("Content-Type", "text/plain"), method, "", this.getTimeout(), this.getBodyHandler(phaseTimer))
+        .thenApply(HttpResponse::statusCode);
+  }
+
+  /**
+   * Creates the handler of the response body of a ping in the probe mode of the provider, timing
+   * the reception of the response.
+   *
+   * @param phaseTimer the timer of the ping.
+   * @return the {@link BodyHandler} of the ping.
+   */
+  @NonNull
+  private BodyHandler<?> getBodyHandler(@NonNull final PhaseTimer phaseTimer) {
+    return switch (this.getProbeMode()) {
+      case GET -> new TimedBodyHandler<>(BodyHandlers.ofString(), phaseTimer);
+      case HEAD -> new TimedBodyHandler<>(BodyHandlers.discarding(), phaseTimer);
+      case FIRST_BYTE -> new TimedBodyHandler<>(FIRST_BYTE_BODY_HANDLER, phaseTimer);
+    };
+  }
+
+  @Override
+  public @NonNull URI getUri(@NonNull String host) {
+    return NetworkTools.getUri(this.getProtocol(), host, Map.of());
   }
 
   /**
-   * Saves the details of a TCP/IP ping operation to the repository.
+   * Saves the details of a TCP/IP ping operation to the repository, unless a newer ping of the
+   * same URL is already stored.
    *
    * @param uri the target URL of the ping.
    * @param responseCode the HTTP response code returned.
    * @param responseTime the time taken for the response, in milliseconds.
    * @param time the timestamp when the ping was performed.
-   * @return a {@link PingTcpIpDto} representing the saved ping operation.
+   * @param phaseTimer the timer of the phases of the ping.
+   * @return a {@link PingTcpIpDto} representing the latest stored ping operation of the URL.
    */
-  private @NonNull PingTcpIpDto savePing(@NonNull final URI uri, int responseCode, long responseTime, @NonNull final LocalDateTime time) {
+  private @NonNull PingTcpIpDto savePing(@NonNull final URI uri, int responseCode, long responseTime, @NonNull final LocalDateTime time, @NonNull final PhaseTimer phaseTimer) {
     boolean isSuccess = responseCode >= 100 && responseCode <= 599;
-    PingTcpIp pingTcpIp = getPingTcpIp(uri, responseCode, responseTime, time, isSuccess);
-    PingTcpIp savedPing = this.getPingTcpIpRepository().save(pingTcpIp);
+    NetworkTools.recordPhases(phaseTimer);
+    PingTcpIp pingTcpIp = getPingTcpIp(uri, responseCode, responseTime, time, isSuccess, phaseTimer);
+    PingTcpIp savedPing = this.getPingTcpIpRepository().saveIf(pingTcpIp, (stored, probed) -> !probed.getTime().isBefore(stored.getTime()));
     return this.getPingTcpIpMapper().toDto(savedPing);
   }
 
   @Override
   public @NonNull Optional<PingTcpIpDto> getPing(@NonNull String host) {
-    URI url = NetworkTools.getUri(this.getProtocol(), host, Map.of());
+    URI url = this.getUri(host);
     return this.getPingTcpIpRepository().findById(url).map(pingTcpIp -> this.getPingTcpIpMapper().toDto(pingTcpIp));
   }
 }
@@ -1,6 +1,7 @@
 package com.byborgenterprises.providers;
 
 import com.byborgenterprises.dtos.ReportDto;
+import com.byborgenterprises.enums.HttpClientPurpose;
 import com.byborgenterprises.enums.HttpMethod;
 import com.byborgenterprises.exceptions.ReportException;
 import com.byborgenterprises.services.ReportService;
@@ -62,7 +63,7 @@ public class ReportProvider implements ReportService {
     URI uri = NetworkTools.getUri(this.getReportUrl(), Map.of());
 
     try {
-      HttpResponse<String> httpResponse = NetworkTools.httpRequest(uri, header, method, body, 10000L);
+      HttpResponse<String> httpResponse = NetworkTools.httpRequest(HttpClientPurpose.REPORT, uri, header, method, body, 10000L);
       return httpResponse.statusCode();
     } catch (IOException e) {
       throw new ReportException("Unable to send report " + reportDto + " to the API", e);
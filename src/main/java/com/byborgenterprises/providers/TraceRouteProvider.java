@@ -9,6 +9,9 @@ import com.byborgenterprises.mappers.TerminalMapper;
 import com.byborgenterprises.mappers.TraceRouteMapper;
 import com.byborgenterprises.repositories.TraceRouteRepository;
 import com.byborgenterprises.services.TraceRouteService;
+import com.byborgenterprises.utils.NetworkTools;
+import com.byborgenterprises.utils.TraceRouteParser;
+import java.time.Duration;
 import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -23,6 +26,14 @@ import lombok.RequiredArgsConstructor;
  * <p>This class encapsulates the logic for processing traceroute operations,
  * including constructing terminal commands, evaluating execution success, and
  * transforming data between entity and DTO representations.
+ *
+ * <p>When the pre-resolution is enabled, the command targets the cached address of the host
+ * instead of its name, so that the traceroute does not wait for a lookup of its own. A traceroute
+ * command is killed when it runs longer than the command timeout.
+ *
+ * <p>The hops of a traceroute are parsed once from its output by a {@link TraceRouteParser} and
+ * saved packed with it. Unless the output is kept, the saved terminal details drop the output of a
+ * traceroute whose hops were parsed, an output without hops being kept to tell what went wrong.
  */
 @RequiredArgsConstructor
 @Getter(AccessLevel.PRIVATE)
@@ -36,34 +47,68 @@ public class TraceRouteProvider implements TraceRouteService {
   private final TerminalMapper terminalMapper;
   private final String tracerouteCommandWindows;
   private final String tracerouteCommandLinux;
+  private final boolean preResolve;
+  private final Duration commandTimeout;
+  private final boolean keepOutput;
+
+  /**
+   * Creates a provider building commands that resolve the host name themselves, and keeping the
+   * output of the traceroutes.
+   *
+   * @param traceRouteRepository the repository of the traceroutes.
+   * @param traceRouteMapper the mapper of the traceroutes.
+   * @param terminalMapper the mapper of the terminal executions.
+   * @param tracerouteCommandWindows the command template of the traceroute on Windows.
+   * @param tracerouteCommandLinux the command template of the traceroute on Linux.
+   */
+  public TraceRouteProvider(final TraceRouteRepository traceRouteRepository, final TraceRouteMapper traceRouteMapper, final TerminalMapper terminalMapper,
+      final String tracerouteCommandWindows, final String tracerouteCommandLinux) {
+    this(traceRouteRepository, traceRouteMapper, terminalMapper, tracerouteCommandWindows, tracerouteCommandLinux, false, Duration.ZERO, true);
+  }
 
   /**
    * Creates a {@link TraceRoute} entity with the given details.
    *
    * @param host the hostname or IP address.
    * @param terminal the terminal execution details.
+   * @param hops the hops parsed from the output of the traceroute.
    * @return a {@link TraceRoute} entity.
    */
   @NonNull
-  private static TraceRoute getTraceRoute(final String host, final Terminal terminal) {
+  private static TraceRoute getTraceRoute(final String host, final Terminal terminal, @NonNull final TraceRouteParser hops) {
     TraceRoute traceRoute = new TraceRoute(host, terminal);
     traceRoute.setSuccess(terminal.getExitCode() == 0);
+    traceRoute.setHopTtls(hops.getTtls());
+    traceRoute.setHopAddresses(hops.getAddresses());
+    traceRoute.setHopRoundTrips(hops.getRoundTrips());
     return traceRoute;
   }
 
   @Override
   public @NonNull String getTerminalCommand(@NonNull String host, @NonNull OperatingSystem operatingSystem) {
     String hostFiltrated = host.contains(PORT_TARGET) ? host.substring(0, host.indexOf(PORT_TARGET)) : host;
+    if (this.isPreResolve()) {
+      hostFiltrated = NetworkTools.resolveAddress(hostFiltrated);
+    }
     return switch (operatingSystem) {
       case LINUX -> this.getTracerouteCommandLinux().replace(HOST_TARGET, hostFiltrated);
       case WINDOWS -> WINDOWS_CMD_EXE.concat(this.getTracerouteCommandWindows().replace(HOST_TARGET, hostFiltrated));
     };
   }
 
+  @Override
+  public @NonNull Duration getCommandTimeout() {
+    return this.commandTimeout;
+  }
+
   @Override
   public @NonNull TraceRouteDto createOrUpdateTraceRoute(@NonNull String host, @NonNull TerminalDto terminalDto, @NonNull OperatingSystem os) {
     Terminal terminal = this.getTerminalMapper().toEntity(terminalDto);
-    TraceRoute traceRoute = getTraceRoute(host, terminal);
+    TraceRouteParser hops = TraceRouteParser.parse(terminalDto.result());
+    if (!this.isKeepOutput() && hops.getTtls().length > 0) {
+      terminal.setResult("");
+    }
+    TraceRoute traceRoute = getTraceRoute(host, terminal, hops);
     TraceRoute save = this.getTraceRouteRepository().save(traceRoute);
     return this.getTraceRouteMapper().toDto(save);
   }
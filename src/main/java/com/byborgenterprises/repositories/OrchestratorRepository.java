@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -65,16 +66,45 @@ public abstract class OrchestratorRepository<K, E> {
   @NonNull
   @Synchronized
   public E save(@NonNull E entity) {
+    K id = this.requireId(entity);
+    this.getDataBase().put(id, entity);
+    return this.getDataBase().getOrDefault(id, entity);
+  }
+
+  /**
+   * Saves an entity unless the stored entity with the same identifier must be kept.
+   *
+   * <p>The check and the replacement are atomic for the identifier only, so concurrent writers of
+   * different entities never wait for each other.
+   *
+   * @param entity the entity to save.
+   * @param replace tests the stored entity and the given one, returns {@code true} if the stored entity must be replaced.
+   * @return the entity stored after the operation.
+   * @throws OrchestratorRepositoryException if the entity does not have a valid field annotated with {@link Id}.
+   */
+  @NonNull
+  public E saveIf(@NonNull E entity, @NonNull BiPredicate<@NonNull E, @NonNull E> replace) {
+    K id = this.requireId(entity);
+    return this.getDataBase().compute(id, (key, stored) -> Objects.isNull(stored) || replace.test(stored, entity) ? entity : stored);
+  }
+
+  /**
+   * Retrieves the identifier of an entity from its field annotated with {@link Id}.
+   *
+   * @param entity the entity from which to retrieve the identifier.
+   * @return the identifier of the entity.
+   * @throws OrchestratorRepositoryException if the entity does not have a field annotated with {@link Id}, or if its value is {@code null}.
+   */
+  @NonNull
+  private K requireId(@NonNull E entity) {
     Field idField = this.findIdField(entity.getClass()).orElseThrow(
         () -> new OrchestratorRepositoryException("No field annotated with @Id found in class: " + entity.getClass().getName(), new IllegalStateException("Entity Id not found")));
 
     K id = this.extractId(entity, idField);
     if (Objects.isNull(id)) {
       throw new OrchestratorRepositoryException("The @Id field in entity " + entity + " cannot be null", new IllegalStateException("Entity Id can not be null"));
-    } else {
-      this.getDataBase().put(id, entity);
-      return this.getDataBase().getOrDefault(id, entity);
     }
+    return id;
   }
 
   /**
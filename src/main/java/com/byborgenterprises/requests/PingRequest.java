@@ -3,16 +3,23 @@ package com.byborgenterprises.requests;
 import com.byborgenterprises.controllers.PingController;
 import com.byborgenterprises.dtos.PingIcmpDto;
 import com.byborgenterprises.dtos.PingTcpIpDto;
+import com.byborgenterprises.dtos.ProbeTargetDto;
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.dtos.TraceRouteDto;
 import com.byborgenterprises.enums.OperatingSystem;
 import com.byborgenterprises.enums.ResponseStatus;
+import com.byborgenterprises.exceptions.SubprocessLimitException;
 import com.byborgenterprises.factories.ResponseFactory;
 import com.byborgenterprises.services.PingIcmpService;
 import com.byborgenterprises.services.PingTcpIpService;
 import com.byborgenterprises.services.TraceRouteService;
+import com.byborgenterprises.utils.EchoReplyWatcher;
+import com.byborgenterprises.utils.LineListener;
 import com.byborgenterprises.utils.OperatingSystemTools;
 import com.byborgenterprises.utils.TerminalTools;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -52,9 +59,29 @@ public class PingRequest implements PingController {
     try {
       OperatingSystem operatingSystem = OperatingSystemTools.getOperatingSystem();
       String command = this.getPingIcmpService().getTerminalCommand(host, operatingSystem);
-      TerminalDto terminalDto = TerminalTools.executeCommand(command);
-      PingIcmpDto pingIcmpDto = this.getPingIcmpService().createOrUpdatePing(host, terminalDto, operatingSystem);
+      EchoReplyWatcher echoReplyWatcher = this.getPingIcmpService().createReplyWatcher();
+      TerminalDto terminalDto = TerminalTools.executeCommand(command, echoReplyWatcher, this.getPingIcmpService().getCommandTimeout());
+      PingIcmpDto pingIcmpDto = this.getPingIcmpService().createOrUpdatePing(host, terminalDto, operatingSystem, echoReplyWatcher);
       return ResponseFactory.<PingIcmpDto>builder().response(pingIcmpDto).status(ResponseStatus.OK).build();
+    } catch (SubprocessLimitException e) {
+      return ResponseFactory.<PingIcmpDto>builder().status(ResponseStatus.SERVICE_UNAVAILABLE).exception(e).build();
+    } catch (Exception e) {
+      return ResponseFactory.<PingIcmpDto>builder().status(ResponseStatus.INTERNAL_SERVER_ERROR).exception(e).build();
+    }
+  }
+
+  @Override
+  public boolean isIcmpEchoAvailable() {
+    return this.getPingIcmpService().isEchoAvailable();
+  }
+
+  @Override
+  public @NonNull ResponseFactory<PingIcmpDto> postIcmpEcho(@NonNull String host) {
+    try {
+      PingIcmpDto pingIcmpDto = this.getPingIcmpService().createOrUpdateEchoPing(host);
+      return ResponseFactory.<PingIcmpDto>builder().response(pingIcmpDto).status(ResponseStatus.OK).build();
+    } catch (IllegalStateException | CompletionException e) {
+      return ResponseFactory.<PingIcmpDto>builder().status(ResponseStatus.SERVICE_UNAVAILABLE).exception(e).build();
     } catch (Exception e) {
       return ResponseFactory.<PingIcmpDto>builder().status(ResponseStatus.INTERNAL_SERVER_ERROR).exception(e).build();
     }
@@ -76,6 +103,22 @@ public class PingRequest implements PingController {
     }
   }
 
+  @Override
+  public @NonNull CompletableFuture<ResponseFactory<PingTcpIpDto>> postTcpAsync(@NonNull String host) {
+    try {
+      return this.getPingTcpIpService().createOrUpdatePingAsync(host).handle((pingTcpIpDto, throwable) -> {
+        if (Objects.isNull(throwable)) {
+          return ResponseFactory.<PingTcpIpDto>builder().response(pingTcpIpDto).status(ResponseStatus.OK).build();
+        }
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        Exception exception = cause instanceof Exception e ? e : new CompletionException(cause);
+        return ResponseFactory.<PingTcpIpDto>builder().status(ResponseStatus.INTERNAL_SERVER_ERROR).exception(exception).build();
+      });
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(ResponseFactory.<PingTcpIpDto>builder().status(ResponseStatus.INTERNAL_SERVER_ERROR).exception(e).build());
+    }
+  }
+
   @Override
   public @NonNull ResponseFactory<TraceRouteDto> getTraceRoute(@NonNull String host) {
     return this.getTraceRouteService().getTraceRoute(host).map(traceRouteDto -> ResponseFactory.<TraceRouteDto>builder().response(traceRouteDto).status(ResponseStatus.OK).build())
@@ -87,9 +130,60 @@ public class PingRequest implements PingController {
     try {
       OperatingSystem operatingSystem = OperatingSystemTools.getOperatingSystem();
       String command = this.getTraceRouteService().getTerminalCommand(host, operatingSystem);
-      TerminalDto terminalDto = TerminalTools.executeCommand(command);
+      TerminalDto terminalDto = TerminalTools.executeCommand(command, LineListener.NONE, this.getTraceRouteService().getCommandTimeout());
       TraceRouteDto traceRouteDto = this.getTraceRouteService().createOrUpdateTraceRoute(host, terminalDto, operatingSystem);
       return ResponseFactory.<TraceRouteDto>builder().response(traceRouteDto).status(ResponseStatus.OK).build();
+    } catch (SubprocessLimitException e) {
+      return ResponseFactory.<TraceRouteDto>builder().status(ResponseStatus.SERVICE_UNAVAILABLE).exception(e).build();
+    } catch (Exception e) {
+      return ResponseFactory.<TraceRouteDto>builder().status(ResponseStatus.INTERNAL_SERVER_ERROR).exception(e).build();
+    }
+  }
+
+  @Override
+  public @NonNull ResponseFactory<ProbeTargetDto> getProbeTarget(@NonNull String host) {
+    try {
+      OperatingSystem operatingSystem = OperatingSystemTools.getOperatingSystem();
+      ProbeTargetDto target = new ProbeTargetDto(host, operatingSystem, this.getPingIcmpService().getTerminalCommand(host, operatingSystem), this.getPingTcpIpService().getUri(host),
+          this.getTraceRouteService().getTerminalCommand(host, operatingSystem));
+      return ResponseFactory.<ProbeTargetDto>builder().response(target).status(ResponseStatus.OK).build();
+    } catch (Exception e) {
+      return ResponseFactory.<ProbeTargetDto>builder().status(ResponseStatus.INTERNAL_SERVER_ERROR).exception(e).build();
+    }
+  }
+
+  @Override
+  public @NonNull ResponseFactory<PingIcmpDto> postIcmp(@NonNull ProbeTargetDto target) {
+    try {
+      EchoReplyWatcher echoReplyWatcher = this.getPingIcmpService().createReplyWatcher();
+      TerminalDto terminalDto = TerminalTools.executeCommand(target.pingCommand(), echoReplyWatcher, this.getPingIcmpService().getCommandTimeout());
+      PingIcmpDto pingIcmpDto = this.getPingIcmpService().createOrUpdatePing(target.host(), terminalDto, target.operatingSystem(), echoReplyWatcher);
+      return ResponseFactory.<PingIcmpDto>builder().response(pingIcmpDto).status(ResponseStatus.OK).build();
+    } catch (SubprocessLimitException e) {
+      return ResponseFactory.<PingIcmpDto>builder().status(ResponseStatus.SERVICE_UNAVAILABLE).exception(e).build();
+    } catch (Exception e) {
+      return ResponseFactory.<PingIcmpDto>builder().status(ResponseStatus.INTERNAL_SERVER_ERROR).exception(e).build();
+    }
+  }
+
+  @Override
+  public @NonNull ResponseFactory<PingTcpIpDto> postTcp(@NonNull ProbeTargetDto target) {
+    try {
+      PingTcpIpDto pingTcpIpDto = this.getPingTcpIpService().createOrUpdatePingByUri(target.uri());
+      return ResponseFactory.<PingTcpIpDto>builder().response(pingTcpIpDto).status(ResponseStatus.OK).build();
+    } catch (Exception e) {
+      return ResponseFactory.<PingTcpIpDto>builder().status(ResponseStatus.INTERNAL_SERVER_ERROR).exception(e).build();
+    }
+  }
+
+  @Override
+  public @NonNull ResponseFactory<TraceRouteDto> postTraceRoute(@NonNull ProbeTargetDto target) {
+    try {
+      TerminalDto terminalDto = TerminalTools.executeCommand(target.tracerouteCommand(), LineListener.NONE, this.getTraceRouteService().getCommandTimeout());
+      TraceRouteDto traceRouteDto = this.getTraceRouteService().createOrUpdateTraceRoute(target.host(), terminalDto, target.operatingSystem());
+      return ResponseFactory.<TraceRouteDto>builder().response(traceRouteDto).status(ResponseStatus.OK).build();
+    } catch (SubprocessLimitException e) {
+      return ResponseFactory.<TraceRouteDto>builder().status(ResponseStatus.SERVICE_UNAVAILABLE).exception(e).build();
     } catch (Exception e) {
       return ResponseFactory.<TraceRouteDto>builder().status(ResponseStatus.INTERNAL_SERVER_ERROR).exception(e).build();
     }
@@ -0,0 +1,142 @@
+package com.byborgenterprises.schedulers;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The AdaptiveIntervals class adapts the interval between two probes of a host to the health of
+ * that host.
+ *
+ * <p>An adaptive job is scheduled at the minimum interval and each tick is gated by the due time of
+ * its next probe. Every successful probe multiplies the interval by the backoff factor, up to the
+ * maximum interval, so stable hosts are probed less and less often. A failed probe resets the
+ * interval to the minimum and makes the next tick probe again, so failures are confirmed and
+ * recoveries detected at full speed.
+ */
+@Log4j2
+@Getter(AccessLevel.PRIVATE)
+public class AdaptiveIntervals {
+
+  /**
+   * The interval state of the adaptive jobs, by job name.
+   */
+  private final Map<String, Interval> intervals = new ConcurrentHashMap<>();
+
+  /**
+   * Wraps a job so that it only probes when its adaptive interval elapsed. The wrapped job must be
+   * scheduled with a period of {@code minDelay}.
+   *
+   * @param definition the definition of the job, its period is the initial interval.
+   * @param minDelay the minimum interval, in milliseconds.
+   * @param maxDelay the maximum interval, in milliseconds.
+   * @param backoff the factor applied to the interval after a successful probe.
+   * @param job the job to gate.
+   * @return the gated job.
+   * @throws IllegalArgumentException if the bounds are not positive and ordered or the backoff is lower than one.
+   */
+  @NonNull
+  public Runnable gate(@NonNull final JobDefinition definition, final long minDelay, final long maxDelay, final double backoff, @NonNull final Runnable job) {
+    if (minDelay <= 0 || maxDelay < minDelay || backoff < 1.0) {
+      throw new IllegalArgumentException("Adaptive delays must be positive and ordered, and the backoff at least one");
+    }
+    Interval interval = new Interval(TimeUnit.MILLISECONDS.toNanos(minDelay), TimeUnit.MILLISECONDS.toNanos(maxDelay), backoff,
+        TimeUnit.MILLISECONDS.toNanos(Math.min(Math.max(definition.period(), minDelay), maxDelay)));
+    this.getIntervals().put(definition.name(), interval);
+    return () -> {
+      if (interval.isDue(System.nanoTime())) {
+        job.run();
+      }
+    };
+  }
+
+  /**
+   * Records the result of a probe and adapts the interval of the job.
+   *
+   * @param jobName the name of the job.
+   * @param success {@code true} if the probed host is healthy.
+   */
+  public void record(@NonNull final String jobName, final boolean success) {
+    Interval interval = this.getIntervals().get(jobName);
+    if (Objects.nonNull(interval)) {
+      interval.record(success);
+      log.debug("Next probe of {} in {} ms", jobName, TimeUnit.NANOSECONDS.toMillis(interval.current));
+    }
+  }
+
+  /**
+   * Retrieves the current interval of a job.
+   *
+   * @param jobName the name of the job.
+   * @return the interval in milliseconds, or {@code -1} if the job is not adaptive.
+   */
+  public long getInterval(@NonNull final String jobName) {
+    Interval interval = this.getIntervals().get(jobName);
+    return Objects.isNull(interval) ? -1L : TimeUnit.NANOSECONDS.toMillis(interval.current);
+  }
+
+  /**
+   * Stops adapting the interval of a job.
+   *
+   * @param jobName the name of the job.
+   */
+  public void remove(@NonNull final String jobName) {
+    this.getIntervals().remove(jobName);
+  }
+
+  /**
+   * The Interval class holds the adaptive interval of one job. A tick is considered due when less
+   * than half of the minimum interval remains, to absorb the jitter of the scheduler.
+   */
+  private static final class Interval {
+
+    private final long min;
+    private final long max;
+    private final double backoff;
+    private volatile long current;
+    private volatile long lastProbe;
+    private volatile long nextProbe = Long.MIN_VALUE;
+
+    private Interval(final long min, final long max, final double backoff, final long current) {
+      this.min = min;
+      this.max = max;
+      this.backoff = backoff;
+      this.current = current;
+    }
+
+    /**
+     * Checks whether a probe is due and, if so, plans the next one with the current interval.
+     *
+     * @param now the current time, in {@link System#nanoTime()} units.
+     * @return {@code true} if the job must probe now.
+     */
+    private boolean isDue(final long now) {
+      if (this.nextProbe != Long.MIN_VALUE && now - this.nextProbe < -this.min / 2) {
+        return false;
+      }
+      this.lastProbe = now;
+      this.nextProbe = now + this.current;
+      return true;
+    }
+
+    /**
+     * Adapts the interval to the result of the last probe.
+     *
+     * @param success {@code true} if the probed host is healthy.
+     */
+    private void record(final boolean success) {
+      if (success) {
+        this.current = Math.min((long) (this.current * this.backoff), this.max);
+        this.nextProbe = this.lastProbe + this.current;
+      } else {
+        this.current = this.min;
+        this.nextProbe = Long.MIN_VALUE;
+      }
+    }
+  }
+}
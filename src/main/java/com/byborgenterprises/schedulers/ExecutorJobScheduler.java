@@ -0,0 +1,38 @@
+package com.byborgenterprises.schedulers;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The ExecutorJobScheduler class implements {@link JobScheduler} on top of a
+ * {@link ScheduledExecutorService}, where every job owns an entry in the executor heap.
+ */
+@Getter(AccessLevel.PRIVATE)
+public class ExecutorJobScheduler implements JobScheduler {
+
+  private final ScheduledExecutorService scheduledExecutorService;
+
+  /**
+   * Creates a scheduler backed by a scheduled thread pool.
+   *
+   * @param threadNumber the number of scheduler threads.
+   */
+  public ExecutorJobScheduler(final int threadNumber) {
+    this.scheduledExecutorService = Executors.newScheduledThreadPool(threadNumber);
+  }
+
+  @Override
+  public @NonNull Future<?> scheduleAtFixedRate(@NonNull Runnable job, long initialDelay, long period, @NonNull TimeUnit unit) {
+    return this.getScheduledExecutorService().scheduleAtFixedRate(job, initialDelay, period, unit);
+  }
+
+  @Override
+  public void shutdown() {
+    this.getScheduledExecutorService().shutdown();
+  }
+}
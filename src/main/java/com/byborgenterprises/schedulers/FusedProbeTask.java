@@ -0,0 +1,140 @@
+package com.byborgenterprises.schedulers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The FusedProbeTask class runs all the probes of a host from a single scheduled task.
+ *
+ * <p>Each probe is a stage with its own period. The task is scheduled at the greatest common
+ * divisor of the stage periods and, on each tick, runs the stages that are due, in order. A host
+ * therefore needs one scheduler entry and one thread handoff per tick instead of one per probe,
+ * and its probes share the target prepared once for the host.
+ *
+ * <p>A stage is due when its period elapsed since its previous execution, measured on the
+ * monotonic clock rather than counted in ticks: dropped, coalesced or late ticks do not shift the
+ * stages, and a stage behind by more than a period runs once and restarts from the current time
+ * instead of catching up. Half a tick of tolerance absorbs the scheduling jitter.
+ */
+@Getter(AccessLevel.PRIVATE)
+public class FusedProbeTask implements Runnable {
+
+  /**
+   * The name of the task, given to the thread running it.
+   */
+  private final String jobName;
+
+  /**
+   * The stages of the pipeline, in execution order.
+   */
+  @Getter(AccessLevel.PUBLIC)
+  private final List<JobDefinition> stages;
+
+  /**
+   * The period of the task, in milliseconds.
+   */
+  @Getter(AccessLevel.PUBLIC)
+  private final long period;
+
+  /**
+   * The period of each stage, in nanoseconds.
+   */
+  private final long[] stageIntervals;
+
+  /**
+   * The time each stage is next due, in {@link System#nanoTime()} units. Executions never overlap,
+   * so it is only written by one thread at a time.
+   */
+  private final long[] dueTimes;
+
+  /**
+   * Indicates whether the task ran at least once, the due times being set on the first run.
+   */
+  private volatile boolean started;
+
+  /**
+   * Creates a fused task for the given stages.
+   *
+   * @param jobName the name of the task.
+   * @param stages the stages of the pipeline, in execution order.
+   * @throws IllegalArgumentException if there is no stage or a stage period is not positive.
+   */
+  public FusedProbeTask(@NonNull final String jobName, @NonNull final List<@NonNull JobDefinition> stages) {
+    if (stages.isEmpty() || stages.stream().anyMatch(stage -> stage.period() <= 0)) {
+      throw new IllegalArgumentException("A fused task needs stages with positive periods");
+    }
+    this.jobName = jobName;
+    this.stages = List.copyOf(stages);
+    this.period = stages.stream().mapToLong(JobDefinition::period).reduce(FusedProbeTask::gcd).orElseThrow();
+    this.stageIntervals = stages.stream().mapToLong(stage -> TimeUnit.MILLISECONDS.toNanos(stage.period())).toArray();
+    this.dueTimes = new long[stages.size()];
+  }
+
+  /**
+   * Computes the greatest common divisor of two periods.
+   *
+   * @param a the first period.
+   * @param b the second period.
+   * @return the greatest common divisor.
+   */
+  private static long gcd(final long a, final long b) {
+    return b == 0 ? a : gcd(b, a % b);
+  }
+
+  /**
+   * Creates a fused task with the same name and transformed stages.
+   *
+   * @param mapper the transformation applied to each stage.
+   * @return the new {@link FusedProbeTask}.
+   */
+  @NonNull
+  public FusedProbeTask map(@NonNull final UnaryOperator<JobDefinition> mapper) {
+    return new FusedProbeTask(this.getJobName(), this.getStages().stream().map(mapper).toList());
+  }
+
+  /**
+   * Retrieves the periods of the stages, in execution order.
+   *
+   * @return the stage periods in milliseconds.
+   */
+  @NonNull
+  public List<Long> getStagePeriods() {
+    return this.getStages().stream().map(JobDefinition::period).toList();
+  }
+
+  /**
+   * Runs the stages due on the current tick.
+   */
+  @Override
+  public void run() {
+    this.run(System.nanoTime());
+  }
+
+  /**
+   * Runs the stages due at the given time, all of them on the first run.
+   *
+   * @param now the current time, in {@link System#nanoTime()} units.
+   */
+  void run(final long now) {
+    Thread.currentThread().setName(this.getJobName());
+    if (!this.started) {
+      Arrays.fill(this.getDueTimes(), now);
+      this.started = true;
+    }
+    long tolerance = TimeUnit.MILLISECONDS.toNanos(this.getPeriod()) / 2;
+    for (int i = 0; i < this.getStageIntervals().length; i++) {
+      long dueTime = this.getDueTimes()[i];
+      if (now - dueTime < -tolerance) {
+        continue;
+      }
+      long nextDueTime = dueTime + this.getStageIntervals()[i];
+      this.getDueTimes()[i] = nextDueTime - now < tolerance ? now + this.getStageIntervals()[i] : nextDueTime;
+      this.getStages().get(i).job().run();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.enums.JobType;
+import lombok.NonNull;
+
+/**
+ * The JobDefinition record describes a recurring job to be scheduled for a host.
+ *
+ * @param host the host the job is executed for.
+ * @param type the {@link JobType} of the job.
+ * @param job the {@link Runnable} executed on each tick.
+ * @param period the period between two executions, in milliseconds.
+ * @param initialDelay the delay before the first execution, in milliseconds.
+ */
+public record JobDefinition(@NonNull String host, @NonNull JobType type, @NonNull Runnable job, long period, long initialDelay) {
+
+  /**
+   * Creates a job definition starting without delay.
+   *
+   * @param host the host the job is executed for.
+   * @param type the {@link JobType} of the job.
+   * @param job the {@link Runnable} executed on each tick.
+   * @param period the period between two executions, in milliseconds.
+   */
+  public JobDefinition(@NonNull String host, @NonNull JobType type, @NonNull Runnable job, long period) {
+    this(host, type, job, period, 0L);
+  }
+
+  /**
+   * Retrieves the name of the job, used for logging and supervision.
+   *
+   * @return the job name.
+   */
+  @NonNull
+  public String name() {
+    return this.type().getJobName(this.host());
+  }
+
+  /**
+   * Creates a copy of this definition with another initial delay.
+   *
+   * @param delay the delay before the first execution, in milliseconds.
+   * @return the new {@link JobDefinition}.
+   */
+  @NonNull
+  public JobDefinition withInitialDelay(final long delay) {
+    return new JobDefinition(this.host(), this.type(), this.job(), this.period(), delay);
+  }
+
+  /**
+   * Creates a copy of this definition with another period.
+   *
+   * @param period the period between two executions, in milliseconds.
+   * @return the new {@link JobDefinition}.
+   */
+  @NonNull
+  public JobDefinition withPeriod(final long period) {
+    return new JobDefinition(this.host(), this.type(), this.job(), period, this.initialDelay());
+  }
+
+  /**
+   * Creates a copy of this definition with another job.
+   *
+   * @param runnable the {@link Runnable} executed on each tick.
+   * @return the new {@link JobDefinition}.
+   */
+  @NonNull
+  public JobDefinition withJob(@NonNull final Runnable runnable) {
+    return new JobDefinition(this.host(), this.type(), runnable, this.period(), this.initialDelay());
+  }
+}
@@ -0,0 +1,246 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.dtos.ExecutorMetricsDto;
+import com.byborgenterprises.enums.ExecutionMode;
+import com.byborgenterprises.enums.JobType;
+import com.byborgenterprises.utils.ExecutorTools;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The JobDispatcher class decides where the body of a scheduled job runs, according to the
+ * configured {@link ExecutionMode}.
+ *
+ * <p>In {@link ExecutionMode#PLATFORM} mode the body runs directly on the scheduler thread.
+ * In {@link ExecutionMode#VIRTUAL} mode the scheduler thread only dispatches the tick and the
+ * body runs on a virtual thread, so blocking probes no longer hold scheduler threads. In
+ * {@link ExecutionMode#BULKHEAD} mode the body runs on the pool of its {@link JobType}, so a burst
+ * of slow traceroutes only queues behind other traceroutes. A tick is dropped when the previous
+ * execution of the same job is still running, preserving the no-overlap guarantee of fixed-rate
+ * scheduling.
+ *
+ * <p>The stages of a fused job run within the fused job, except those detached by
+ * {@link #dispatchStage(JobDefinition, Runnable)}: every stage in {@link ExecutionMode#BULKHEAD}
+ * mode, and the traceroute stage in the other modes, so that a slow traceroute does not hold back
+ * the probes of its host.
+ */
+@Log4j2
+@Getter(AccessLevel.PRIVATE)
+public class JobDispatcher {
+
+  private static final String TRACEROUTE_STAGE_NAME = "fused-traceroute";
+
+  /**
+   * The execution mode of the job bodies.
+   */
+  @Getter(AccessLevel.PUBLIC)
+  private final ExecutionMode executionMode;
+
+  /**
+   * The executor running job bodies, {@code null} in {@link ExecutionMode#PLATFORM} mode.
+   */
+  private final ExecutorService workerExecutor;
+
+  /**
+   * The pools running job bodies by type of job, empty unless in {@link ExecutionMode#BULKHEAD} mode.
+   */
+  private final Map<JobType, ThreadPoolExecutor> bulkheads = new EnumMap<>(JobType.class);
+
+  /**
+   * The pool running the traceroute stages of fused jobs, {@code null} in {@link ExecutionMode#BULKHEAD} mode.
+   */
+  private final ThreadPoolExecutor tracerouteStageExecutor;
+
+  /**
+   * Creates a dispatcher for the given execution mode, with single threaded bulkheads.
+   *
+   * @param executionMode the execution mode of the job bodies.
+   */
+  public JobDispatcher(@NonNull final ExecutionMode executionMode) {
+    this(executionMode, Map.of());
+  }
+
+  /**
+   * Creates a dispatcher for the given execution mode.
+   *
+   * @param executionMode the execution mode of the job bodies.
+   * @param bulkheadSizes the number of threads of the pool of each type of probe in
+   *     {@link ExecutionMode#BULKHEAD} mode, one thread when missing.
+   */
+  public JobDispatcher(@NonNull final ExecutionMode executionMode, @NonNull final Map<JobType, Integer> bulkheadSizes) {
+    this.executionMode = executionMode;
+    this.workerExecutor = switch (executionMode) {
+      case PLATFORM, BULKHEAD -> null;
+      case VIRTUAL -> newVirtualThreadExecutor();
+    };
+    this.tracerouteStageExecutor = executionMode == ExecutionMode.BULKHEAD ? null : ExecutorTools.newCachedThreadPool(TRACEROUTE_STAGE_NAME);
+    if (executionMode == ExecutionMode.BULKHEAD) {
+      for (JobType jobType : List.of(JobType.ICMP, JobType.TCP_IP, JobType.TRACEROUTE)) {
+        this.bulkheads.put(jobType, ExecutorTools.newFixedThreadPool(getBulkheadName(jobType), bulkheadSizes.getOrDefault(jobType, 1)));
+      }
+    }
+  }
+
+  /**
+   * Retrieves the name of the pool of a type of job.
+   *
+   * @param jobType the type of job.
+   * @return the name of the pool.
+   */
+  @NonNull
+  private static String getBulkheadName(@NonNull final JobType jobType) {
+    return "bulkhead-" + jobType.getCode();
+  }
+
+  /**
+   * Creates an executor starting a new virtual thread per task. The virtual thread API is looked up
+   * at runtime, so when the JVM does not provide it, as on Java 17, a pool of daemon platform
+   * threads starting a thread for each job body submitted while its threads are busy is returned
+   * instead. As a job never overlaps itself, the pool grows up to the number of scheduled jobs and
+   * no tick is dropped for lack of a free thread.
+   *
+   * @return the executor for job bodies.
+   */
+  @NonNull
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      Object executor = MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class)).invoke();
+      log.info("Job bodies will run on virtual threads");
+      return (ExecutorService) executor;
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      log.warn("Virtual threads are not available on this JVM, job bodies will run on a pool of platform threads growing with the scheduled jobs");
+      return ExecutorTools.newCachedThreadPool("job-worker");
+    } catch (Throwable e) {
+      throw new IllegalStateException("Unable to create the virtual thread executor", e);
+    }
+  }
+
+  /**
+   * Wraps a job so that each scheduler tick runs its body according to the execution mode. In
+   * {@link ExecutionMode#BULKHEAD} mode the job has no type, so its body runs on the scheduler thread.
+   *
+   * @param jobName the name of the job, used for logging.
+   * @param job the job body.
+   * @return the {@link Runnable} to be registered in the scheduler.
+   */
+  @NonNull
+  public Runnable dispatch(@NonNull final String jobName, @NonNull final Runnable job) {
+    return this.dispatch(jobName, this.getWorkerExecutor(), job);
+  }
+
+  /**
+   * Wraps a job so that each scheduler tick runs its body according to the execution mode and the
+   * type of the job.
+   *
+   * @param definition the definition of the job.
+   * @param job the job body.
+   * @return the {@link Runnable} to be registered in the scheduler.
+   */
+  @NonNull
+  public Runnable dispatch(@NonNull final JobDefinition definition, @NonNull final Runnable job) {
+    ExecutorService executor = this.getExecutionMode() == ExecutionMode.BULKHEAD ? this.getBulkheads().get(definition.type()) : this.getWorkerExecutor();
+    return this.dispatch(definition.name(), executor, job);
+  }
+
+  /**
+   * Indicates whether a stage of a fused job runs apart from the fused job, on its own executor.
+   *
+   * @param stage the definition of the stage.
+   * @return {@code true} if the stage is detached by {@link #dispatchStage(JobDefinition, Runnable)}.
+   */
+  public boolean isDetached(@NonNull final JobDefinition stage) {
+    return this.getExecutionMode() == ExecutionMode.BULKHEAD || stage.type() == JobType.TRACEROUTE;
+  }
+
+  /**
+   * Wraps a stage of a fused job so that the fused job hands it off to its executor instead of
+   * running it inline: the pool of its type in {@link ExecutionMode#BULKHEAD} mode, the traceroute
+   * stage pool in the other modes. The other stages are returned unchanged.
+   *
+   * @param stage the definition of the stage.
+   * @param job the stage body.
+   * @return the {@link Runnable} to be run by the fused job.
+   */
+  @NonNull
+  public Runnable dispatchStage(@NonNull final JobDefinition stage, @NonNull final Runnable job) {
+    if (this.getExecutionMode() == ExecutionMode.BULKHEAD) {
+      return this.dispatch(stage, job);
+    }
+    return this.dispatch(stage.name(), this.isDetached(stage) ? this.getTracerouteStageExecutor() : null, job);
+  }
+
+  /**
+   * Wraps a job so that each scheduler tick runs its body on the given executor, dropping the tick
+   * while the previous execution is still running.
+   *
+   * @param jobName the name of the job, used for logging.
+   * @param executor the executor of the body, {@code null} to run it on the scheduler thread.
+   * @param job the job body.
+   * @return the {@link Runnable} to be registered in the scheduler.
+   */
+  @NonNull
+  private Runnable dispatch(@NonNull final String jobName, final ExecutorService executor, @NonNull final Runnable job) {
+    if (Objects.isNull(executor)) {
+      return job;
+    }
+    AtomicBoolean running = new AtomicBoolean(false);
+    return () -> {
+      if (!running.compareAndSet(false, true)) {
+        log.debug("Tick dropped for {}, previous execution still running", jobName);
+        return;
+      }
+      try {
+        executor.execute(() -> {
+          try {
+            job.run();
+          } finally {
+            running.set(false);
+          }
+        });
+      } catch (RuntimeException e) {
+        running.set(false);
+        throw e;
+      }
+    };
+  }
+
+  /**
+   * Retrieves a snapshot of the load of the bulkheads, or of the traceroute stage pool outside
+   * {@link ExecutionMode#BULKHEAD} mode.
+   *
+   * @return a collection of {@link ExecutorMetricsDto}.
+   */
+  @NonNull
+  public Collection<@NonNull ExecutorMetricsDto> getMetrics() {
+    if (Objects.nonNull(this.getTracerouteStageExecutor())) {
+      return List.of(ExecutorTools.getMetrics(TRACEROUTE_STAGE_NAME, this.getTracerouteStageExecutor()));
+    }
+    return this.getBulkheads().entrySet().stream().map(entry -> ExecutorTools.getMetrics(getBulkheadName(entry.getKey()), entry.getValue())).toList();
+  }
+
+  /**
+   * Stops accepting new job bodies and lets the running ones finish.
+   */
+  public void shutdown() {
+    if (Objects.nonNull(this.getWorkerExecutor())) {
+      this.getWorkerExecutor().shutdown();
+    }
+    if (Objects.nonNull(this.getTracerouteStageExecutor())) {
+      this.getTracerouteStageExecutor().shutdown();
+    }
+    this.getBulkheads().values().forEach(ExecutorService::shutdown);
+  }
+}
@@ -0,0 +1,31 @@
+package com.byborgenterprises.schedulers;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+
+/**
+ * The JobScheduler interface defines the operations of the schedulers running the recurring
+ * jobs of the workflow.
+ */
+public interface JobScheduler {
+
+  /**
+   * Schedules a job to run periodically at a fixed rate. If an execution takes longer than the
+   * period, the next execution starts late but never concurrently. If an execution throws,
+   * the subsequent executions are suppressed.
+   *
+   * @param job the job to execute.
+   * @param initialDelay the delay before the first execution.
+   * @param period the period between the start of two executions.
+   * @param unit the time unit of the delay and period.
+   * @return a {@link Future} representing the pending executions of the job.
+   */
+  @NonNull
+  Future<?> scheduleAtFixedRate(@NonNull final Runnable job, final long initialDelay, final long period, @NonNull final TimeUnit unit);
+
+  /**
+   * Stops the scheduler, no new executions are started.
+   */
+  void shutdown();
+}
@@ -0,0 +1,89 @@
+package com.byborgenterprises.schedulers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The JobStartPlanner class computes the initial delay of the recurring jobs so that they do not
+ * all fire at the same instant.
+ *
+ * <p>Jobs sharing the same period are spread evenly across that period, in the order they are
+ * given: with {@code n} jobs the {@code k}-th one starts after {@code k * period / n} milliseconds.
+ * The jitter adds a deterministic offset derived from the hash of the job name, bounded by the
+ * slot of the job, so the phases stay stable across restarts. Without staggering, the jitter is
+ * spread over the whole period.
+ */
+@RequiredArgsConstructor
+@Getter(AccessLevel.PRIVATE)
+public class JobStartPlanner {
+
+  /**
+   * Whether the jobs sharing a period are spread evenly across it.
+   */
+  private final boolean staggered;
+
+  /**
+   * Whether a deterministic per-job jitter is added to the start offset.
+   */
+  private final boolean jittered;
+
+  /**
+   * Mixes the bits of a hash code, so that similar host names land on distant offsets.
+   *
+   * @param hash the hash code to mix.
+   * @return the mixed hash code.
+   */
+  private static int mix(final int hash) {
+    int h = hash;
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    h ^= h >>> 16;
+    return h;
+  }
+
+  /**
+   * Computes the initial delay of each job.
+   *
+   * @param definitions the jobs to plan, in the order of their phases.
+   * @return the jobs with their initial delay, in the same order.
+   */
+  @NonNull
+  public List<@NonNull JobDefinition> plan(@NonNull final List<@NonNull JobDefinition> definitions) {
+    Map<Long, Integer> jobsPerPeriod = new HashMap<>();
+    definitions.forEach(definition -> jobsPerPeriod.merge(definition.period(), 1, Integer::sum));
+    Map<Long, Integer> positions = new HashMap<>();
+    List<JobDefinition> planned = new ArrayList<>(definitions.size());
+    for (JobDefinition definition : definitions) {
+      int position = positions.merge(definition.period(), 1, Integer::sum) - 1;
+      planned.add(definition.withInitialDelay(this.getInitialDelay(definition, position, jobsPerPeriod.get(definition.period()))));
+    }
+    return planned;
+  }
+
+  /**
+   * Computes the initial delay of a job.
+   *
+   * @param definition the job to plan.
+   * @param position the position of the job among the jobs sharing its period.
+   * @param count the number of jobs sharing its period.
+   * @return the initial delay, in milliseconds, always lower than the period.
+   */
+  public long getInitialDelay(@NonNull final JobDefinition definition, final int position, final int count) {
+    long period = definition.period();
+    if (period <= 0 || count <= 0) {
+      return 0L;
+    }
+    long slot = this.isStaggered() ? Math.max(period / count, 1L) : period;
+    long offset = this.isStaggered() ? (period * position) / count : 0L;
+    long jitter = this.isJittered() ? Math.floorMod((long) mix(definition.name().hashCode()), slot) : 0L;
+    return Math.min(offset + jitter, period - 1);
+  }
+}
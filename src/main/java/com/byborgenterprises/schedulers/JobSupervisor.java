@@ -0,0 +1,58 @@
+package com.byborgenterprises.schedulers;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The JobSupervisor class watches scheduled jobs and signals when one of them terminates.
+ *
+ * <p>Each job is wrapped by {@link #supervise(String, Runnable)}. When the wrapped job throws,
+ * the job name is pushed to a completion queue before the exception is propagated to the
+ * scheduler (which stops the periodic execution). The workflow thread blocks on
+ * {@link #awaitTermination()} and therefore only wakes up when a job really dies, instead
+ * of polling the scheduled futures.
+ */
+@Log4j2
+@Getter(AccessLevel.PRIVATE)
+public class JobSupervisor {
+
+  /**
+   * Completion queue fed with the names of the jobs that terminated abnormally.
+   */
+  private final BlockingQueue<String> terminatedJobs = new LinkedBlockingQueue<>();
+
+  /**
+   * Wraps a job so that its abnormal termination is signaled to the supervisor.
+   *
+   * @param jobName the name identifying the job.
+   * @param job the job to supervise.
+   * @return a {@link Runnable} that runs the job and reports its termination.
+   */
+  @NonNull
+  public Runnable supervise(@NonNull final String jobName, @NonNull final Runnable job) {
+    return () -> {
+      try {
+        job.run();
+      } catch (RuntimeException | Error e) {
+        log.error("Job {} terminated with an unexpected error", jobName, e);
+        this.getTerminatedJobs().offer(jobName);
+        throw e;
+      }
+    };
+  }
+
+  /**
+   * Blocks until a supervised job terminates.
+   *
+   * @return the name of the terminated job.
+   * @throws InterruptedException if the waiting thread is interrupted.
+   */
+  @NonNull
+  public String awaitTermination() throws InterruptedException {
+    return this.getTerminatedJobs().take();
+  }
+}
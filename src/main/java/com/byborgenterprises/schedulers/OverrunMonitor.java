@@ -0,0 +1,240 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.dtos.OverrunMetricsDto;
+import com.byborgenterprises.enums.OverrunPolicy;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The OverrunMonitor class measures, for each recurring job, the delay between the scheduled and the
+ * actual start of its executions, and applies an {@link OverrunPolicy} to the ticks missed while a
+ * previous execution was still running.
+ *
+ * <p>The ticks of a job are derived from its start time and period: tick {@code k} is due at
+ * {@code start + k * period}. Each execution serves one tick. With {@link OverrunPolicy#CATCH_UP} it
+ * serves the oldest tick not served yet, with {@link OverrunPolicy#COALESCE} it serves the latest due
+ * tick, and with {@link OverrunPolicy#SKIP} it only runs when the latest due tick became due after the
+ * end of the previous execution. Invocations of the scheduler that do not serve a tick return
+ * immediately, and the ticks that will never be served are counted as skipped.
+ *
+ * <p>When the body of the jobs runs through a {@link JobDispatcher} in virtual mode, ticks arriving
+ * while the job is running are dropped by the dispatcher before reaching the monitor, so
+ * {@link OverrunPolicy#CATCH_UP} behaves like {@link OverrunPolicy#COALESCE}.
+ *
+ * <p>A job whose executions go on after its tick returned, such as an asynchronous TCP/IP probe,
+ * is registered with {@link #trackAsync(JobDefinition, OverrunPolicy, Runnable)}: its ticks are
+ * served the same way, but an execution is measured from its start until the job reports its
+ * completion, and the ticks the job declines while an execution is in flight are counted as
+ * skipped.
+ */
+@Log4j2
+@Getter(AccessLevel.PRIVATE)
+public class OverrunMonitor {
+
+  /**
+   * The trackers of the monitored jobs, by job name.
+   */
+  private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+
+  /**
+   * Wraps a job to measure and police its executions. Must be called right before the job is
+   * registered in the scheduler, since the start time of the job is taken from the current time.
+   *
+   * @param definition the definition of the job.
+   * @param policy the {@link OverrunPolicy} applied to the missed ticks.
+   * @param job the job to wrap.
+   * @return the wrapped job.
+   */
+  @NonNull
+  public Runnable track(@NonNull final JobDefinition definition, @NonNull final OverrunPolicy policy, @NonNull final Runnable job) {
+    return this.track(definition, policy, job, false);
+  }
+
+  /**
+   * Wraps a job whose executions complete asynchronously, after the job returned. Each execution
+   * must be reported by {@link #complete(String, long)}, and each tick declined while an execution
+   * is in flight by {@link #skip(String)}. Must be called right before the job is registered in the
+   * scheduler.
+   *
+   * @param definition the definition of the job.
+   * @param policy the {@link OverrunPolicy} applied to the missed ticks.
+   * @param job the job to wrap.
+   * @return the wrapped job.
+   */
+  @NonNull
+  public Runnable trackAsync(@NonNull final JobDefinition definition, @NonNull final OverrunPolicy policy, @NonNull final Runnable job) {
+    return this.track(definition, policy, job, true);
+  }
+
+  /**
+   * Records the completion of an asynchronous execution of a job.
+   *
+   * @param jobName the name of the job.
+   * @param start the start of the execution, in {@link System#nanoTime()} units.
+   */
+  public void complete(@NonNull final String jobName, final long start) {
+    Tracker tracker = this.getTrackers().get(jobName);
+    if (Objects.nonNull(tracker)) {
+      tracker.record(start, System.nanoTime());
+    }
+  }
+
+  /**
+   * Records a tick declined by an asynchronous job because its previous execution is still in flight.
+   *
+   * @param jobName the name of the job.
+   */
+  public void skip(@NonNull final String jobName) {
+    Tracker tracker = this.getTrackers().get(jobName);
+    if (Objects.nonNull(tracker)) {
+      tracker.skippedTicks++;
+    }
+  }
+
+  /**
+   * Wraps a job to measure and police its executions.
+   *
+   * @param definition the definition of the job.
+   * @param policy the {@link OverrunPolicy} applied to the missed ticks.
+   * @param job the job to wrap.
+   * @param async whether the executions are reported by {@link #complete(String, long)}.
+   * @return the wrapped job.
+   */
+  @NonNull
+  private Runnable track(@NonNull final JobDefinition definition, @NonNull final OverrunPolicy policy, @NonNull final Runnable job, final boolean async) {
+    long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(definition.initialDelay());
+    Tracker tracker = new Tracker(definition.name(), policy, start, TimeUnit.MILLISECONDS.toNanos(definition.period()), async);
+    this.getTrackers().put(definition.name(), tracker);
+    return () -> tracker.run(job);
+  }
+
+  /**
+   * Stops monitoring a job.
+   *
+   * @param jobName the name of the job.
+   */
+  public void untrack(@NonNull final String jobName) {
+    this.getTrackers().remove(jobName);
+  }
+
+  /**
+   * Retrieves the metrics of the monitored jobs, the most delayed first.
+   *
+   * @return a collection of {@link OverrunMetricsDto}.
+   */
+  @NonNull
+  public Collection<@NonNull OverrunMetricsDto> getMetrics() {
+    return this.getTrackers().values().stream().map(Tracker::getMetrics).sorted(Comparator.comparingLong(OverrunMetricsDto::maxLag).reversed()).toList();
+  }
+
+  /**
+   * The Tracker class holds the scheduling state of one job. The executions of a job never overlap,
+   * so the state is only written by one thread at a time and published through volatile fields. The
+   * measures of an asynchronous execution are written by the thread completing it, while the ticks
+   * are served by the scheduler thread.
+   */
+  private static final class Tracker {
+
+    private final String jobName;
+    private final OverrunPolicy policy;
+    private final long start;
+    private final long period;
+    private final boolean async;
+    private volatile long lastServedTick = -1L;
+    private volatile long lastEnd = Long.MIN_VALUE;
+    private volatile long executions;
+    private volatile long overruns;
+    private volatile long skippedTicks;
+    private volatile long lastLag;
+    private volatile long maxLag;
+    private volatile long lastDuration;
+    private volatile long maxDuration;
+
+    private Tracker(@NonNull final String jobName, @NonNull final OverrunPolicy policy, final long start, final long period, final boolean async) {
+      this.jobName = jobName;
+      this.policy = policy;
+      this.start = start;
+      this.period = Math.max(period, 1L);
+      this.async = async;
+    }
+
+    /**
+     * Runs the job if the policy allows it and records the measures of the execution.
+     *
+     * @param job the job to run.
+     */
+    private void run(@NonNull final Runnable job) {
+      long now = System.nanoTime();
+      long dueTick = Math.max((now - this.start) / this.period, 0L);
+      long servedTick = switch (this.policy) {
+        case CATCH_UP -> this.lastServedTick + 1;
+        case COALESCE -> dueTick > this.lastServedTick ? dueTick : -1L;
+        case SKIP -> dueTick > this.lastServedTick && this.getTickTime(dueTick) >= this.lastEnd ? dueTick : -1L;
+      };
+      if (servedTick < 0L) {
+        return;
+      }
+      long lag = Math.max(now - this.getTickTime(this.lastServedTick + 1), 0L);
+      this.skippedTicks += servedTick - this.lastServedTick - 1;
+      this.lastServedTick = servedTick;
+      this.lastLag = lag;
+      this.maxLag = Math.max(this.maxLag, lag);
+      try {
+        job.run();
+      } finally {
+        if (!this.async) {
+          this.record(now, System.nanoTime());
+        }
+      }
+    }
+
+    /**
+     * Records the measures of an execution.
+     *
+     * @param begin the start of the execution, in {@link System#nanoTime()} units.
+     * @param end the end of the execution, in {@link System#nanoTime()} units.
+     */
+    private void record(final long begin, final long end) {
+      long duration = end - begin;
+      this.lastEnd = end;
+      this.executions++;
+      this.lastDuration = duration;
+      this.maxDuration = Math.max(this.maxDuration, duration);
+      if (duration > this.period) {
+        this.overruns++;
+        log.debug("Job {} overran its period of {} ms, execution took {} ms", this.jobName, TimeUnit.NANOSECONDS.toMillis(this.period),
+            TimeUnit.NANOSECONDS.toMillis(duration));
+      }
+    }
+
+    /**
+     * Retrieves the time at which a tick is due.
+     *
+     * @param tick the tick index.
+     * @return the due time, in {@link System#nanoTime()} units.
+     */
+    private long getTickTime(final long tick) {
+      return this.start + tick * this.period;
+    }
+
+    /**
+     * Retrieves a snapshot of the measures of the job.
+     *
+     * @return the {@link OverrunMetricsDto} of the job.
+     */
+    @NonNull
+    private OverrunMetricsDto getMetrics() {
+      return new OverrunMetricsDto(this.jobName, TimeUnit.NANOSECONDS.toMillis(this.period), this.executions, this.overruns, this.skippedTicks,
+          TimeUnit.NANOSECONDS.toMillis(this.lastLag), TimeUnit.NANOSECONDS.toMillis(this.maxLag), TimeUnit.NANOSECONDS.toMillis(this.lastDuration),
+          TimeUnit.NANOSECONDS.toMillis(this.maxDuration));
+    }
+  }
+}
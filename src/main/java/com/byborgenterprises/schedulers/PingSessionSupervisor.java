@@ -0,0 +1,224 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.dtos.TerminalDto;
+import com.byborgenterprises.enums.OperatingSystem;
+import com.byborgenterprises.enums.TerminalOutcome;
+import com.byborgenterprises.services.PingIcmpService;
+import com.byborgenterprises.utils.EchoReplyWatcher;
+import com.byborgenterprises.utils.ExecutorTools;
+import com.byborgenterprises.utils.OperatingSystemTools;
+import com.byborgenterprises.utils.TerminalSession;
+import com.byborgenterprises.utils.TerminalTools;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The PingSessionSupervisor class keeps one long-running ping command per host, instead of
+ * starting a ping command per tick of the ICMP job.
+ *
+ * <p>Each session is read by its own thread. Every reply or lost request written by the command
+ * updates the ping of the host through {@link PingIcmpService#updateSessionPing}, the other lines
+ * are ignored. When the command exits while its session is open, its verdict is saved as the ping
+ * of the host and the command is started again after the restart delay, with a fresh target so
+ * that a host whose address changed is followed.
+ */
+@Log4j2
+@Getter(AccessLevel.PRIVATE)
+public class PingSessionSupervisor {
+
+  private final PingIcmpService pingIcmpService;
+  private final long restartDelay;
+
+  /**
+   * Threads reading the output of the sessions, one per open session.
+   */
+  private final ExecutorService sessionReaders = ExecutorTools.newCachedThreadPool("icmp-session");
+
+  /**
+   * The open sessions, by host.
+   */
+  private final Map<String, PingSession> sessions = new ConcurrentHashMap<>();
+
+  /**
+   * Number of sessions started again since the start.
+   */
+  private final AtomicLong restarts = new AtomicLong();
+
+  /**
+   * Creates a supervisor without open sessions.
+   *
+   * @param pingIcmpService the service building the session commands and saving their results.
+   * @param restartDelay the delay before a session whose command exited is started again, in milliseconds.
+   * @throws IllegalArgumentException if the restart delay is negative.
+   */
+  public PingSessionSupervisor(@NonNull final PingIcmpService pingIcmpService, final long restartDelay) {
+    if (restartDelay < 0) {
+      throw new IllegalArgumentException("Restart delay of the ping sessions cannot be negative");
+    }
+    this.pingIcmpService = pingIcmpService;
+    this.restartDelay = restartDelay;
+  }
+
+  /**
+   * Opens the session of a host, unless it is already open.
+   *
+   * @param host the target host of the session.
+   */
+  public void open(@NonNull final String host) {
+    this.getSessions().computeIfAbsent(host, key -> {
+      PingSession pingSession = new PingSession(key);
+      pingSession.future = this.getSessionReaders().submit(() -> this.supervise(pingSession));
+      log.info("ICMP session of {} opened", key);
+      return pingSession;
+    });
+  }
+
+  /**
+   * Closes the session of a host, ending its command.
+   *
+   * @param host the target host of the session.
+   */
+  public void close(@NonNull final String host) {
+    PingSession pingSession = this.getSessions().remove(host);
+    if (Objects.nonNull(pingSession)) {
+      pingSession.close();
+      log.info("ICMP session of {} closed", host);
+    }
+  }
+
+  /**
+   * Closes the sessions of the hosts missing from a host list.
+   *
+   * @param hosts the hosts whose sessions are kept.
+   */
+  public void retain(@NonNull final Collection<String> hosts) {
+    this.getSessions().keySet().stream().filter(host -> !hosts.contains(host)).toList().forEach(this::close);
+  }
+
+  /**
+   * Closes every session, ending their commands.
+   */
+  public void closeAll() {
+    this.getSessions().keySet().stream().toList().forEach(this::close);
+  }
+
+  /**
+   * Retrieves the number of open sessions.
+   *
+   * @return the number of open sessions.
+   */
+  public int getSessionCount() {
+    return this.getSessions().size();
+  }
+
+  /**
+   * Retrieves the number of sessions started again since the start.
+   *
+   * @return the number of restarts.
+   */
+  public long getRestartCount() {
+    return this.getRestarts().get();
+  }
+
+  /**
+   * Runs the command of a session, then starts it again after the restart delay, until the session
+   * is closed.
+   *
+   * @param pingSession the session.
+   */
+  private void supervise(@NonNull final PingSession pingSession) {
+    Thread.currentThread().setName("icmp-session-" + pingSession.host);
+    while (!pingSession.closed) {
+      try {
+        this.runSession(pingSession);
+      } catch (RuntimeException e) {
+        log.warn("ICMP session of {} failed: {}", pingSession.host, e.getMessage());
+      }
+      if (pingSession.closed) {
+        return;
+      }
+      this.getRestarts().incrementAndGet();
+      try {
+        Thread.sleep(this.getRestartDelay());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Runs the command of a session until it exits or the session is closed, updating the ping of the
+   * host on each reply or lost request.
+   *
+   * @param pingSession the session.
+   */
+  private void runSession(@NonNull final PingSession pingSession) {
+    String host = pingSession.host;
+    OperatingSystem operatingSystem = OperatingSystemTools.getOperatingSystem();
+    String command = this.getPingIcmpService().getSessionCommand(host, operatingSystem);
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(0, 0);
+    try (TerminalSession terminalSession = TerminalTools.startSession(command)) {
+      pingSession.terminalSession = terminalSession;
+      if (pingSession.closed) {
+        return;
+      }
+      TerminalDto terminalDto = TerminalTools.readSession(terminalSession, line -> {
+        int replies = echoReplyWatcher.getReplies();
+        int losses = echoReplyWatcher.getLosses();
+        echoReplyWatcher.onLine(line);
+        if (echoReplyWatcher.getReplies() != replies || echoReplyWatcher.getLosses() != losses) {
+          TerminalDto latest = new TerminalDto(command, -1, line, LocalDateTime.now(), TerminalOutcome.RUNNING);
+          this.getPingIcmpService().updateSessionPing(host, latest, echoReplyWatcher, echoReplyWatcher.getReplies() != replies);
+        }
+        return !pingSession.closed;
+      });
+      if (!pingSession.closed) {
+        log.warn("ICMP session of {} exited with code {}, restarting in {} ms", host, terminalDto.exitCode(), this.getRestartDelay());
+        this.getPingIcmpService().createOrUpdatePing(host, terminalDto, operatingSystem, echoReplyWatcher);
+      }
+    } finally {
+      pingSession.terminalSession = null;
+    }
+  }
+
+  /**
+   * The PingSession class holds the state of the session of one host.
+   */
+  private static final class PingSession {
+
+    private final String host;
+    private volatile boolean closed;
+    private volatile TerminalSession terminalSession;
+    private volatile Future<?> future;
+
+    private PingSession(final String host) {
+      this.host = host;
+    }
+
+    /**
+     * Closes the session, ending its running command and its pending restart.
+     */
+    private void close() {
+      this.closed = true;
+      TerminalSession running = this.terminalSession;
+      if (Objects.nonNull(running)) {
+        running.close();
+      }
+      Future<?> reader = this.future;
+      if (Objects.nonNull(reader) && Objects.isNull(running)) {
+        reader.cancel(true);
+      }
+    }
+  }
+}
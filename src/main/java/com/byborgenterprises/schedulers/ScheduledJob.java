@@ -0,0 +1,21 @@
+package com.byborgenterprises.schedulers;
+
+import java.util.concurrent.Future;
+import lombok.NonNull;
+
+/**
+ * The ScheduledJob record binds a job definition to the {@link Future} of its registration in the
+ * scheduler, so that the job can be cancelled or rescheduled when the configuration changes.
+ *
+ * @param definition the definition the job was scheduled with.
+ * @param future the {@link Future} returned by the scheduler.
+ */
+public record ScheduledJob(@NonNull JobDefinition definition, @NonNull Future<?> future) {
+
+  /**
+   * Stops the periodic execution of the job, letting a running execution finish.
+   */
+  public void cancel() {
+    this.future().cancel(false);
+  }
+}
@@ -0,0 +1,324 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.dtos.TimingWheelMetricsDto;
+import com.byborgenterprises.utils.ExecutorTools;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The TimingWheelJobScheduler class implements {@link JobScheduler} with a hashed timing wheel.
+ *
+ * <p>The wheel is an array of buckets, each one covering one tick of time. A single wheel thread
+ * advances one bucket per tick and hands the expired jobs to a pool of daemon worker threads. Registering a job and
+ * expiring it are constant time operations, unlike the binary heap of a
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor}, which makes the wheel suited for fleets
+ * with tens of thousands of hosts. The price is a scheduling precision of one tick.
+ *
+ * <p>Jobs are registered through a lock-free queue drained by the wheel thread at each tick, so the
+ * buckets are only ever touched by the wheel thread. After each execution, a periodic job is
+ * registered again with a deadline one period after the previous one, giving fixed-rate semantics
+ * without overlapping executions.
+ *
+ * <p>The scheduler reports its tick lag and bucket occupancy through {@link #getMetrics()} and logs a
+ * warning when the wheel thread falls behind by more than one tick.
+ */
+@Log4j2
+@Getter(AccessLevel.PRIVATE)
+public class TimingWheelJobScheduler implements JobScheduler {
+
+  /**
+   * Maximum number of new jobs moved into the buckets per tick, to keep ticks short under bursts.
+   */
+  private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+  private final long tickDuration;
+  private final int mask;
+  private final ArrayDeque<WheelTask>[] buckets;
+  private final Queue<WheelTask> pendingTasks = new ConcurrentLinkedQueue<>();
+  private final ExecutorService taskExecutor;
+  private final Thread wheelThread;
+  private final long startTime;
+  private final AtomicLong scheduledTasks = new AtomicLong();
+  private volatile boolean running = true;
+
+  /*
+   * Wheel thread state, published through volatile fields for the metrics.
+   */
+  private long tick;
+  private int occupiedBucketCount;
+  private int currentMaxBucketSize;
+  private boolean lagWarned;
+  private volatile long processedTicks;
+  private volatile long lastTickLag;
+  private volatile long maxTickLag;
+  private volatile int occupiedBuckets;
+  private volatile int maxBucketSize;
+
+  /**
+   * Creates a timing wheel scheduler and starts its wheel thread.
+   *
+   * @param tickDuration the duration of one tick, in milliseconds.
+   * @param wheelSize the number of buckets, rounded up to a power of two.
+   * @param threadNumber the number of threads executing the expired jobs.
+   * @throws IllegalArgumentException if any of the arguments is not positive.
+   */
+  @SuppressWarnings("unchecked")
+  public TimingWheelJobScheduler(final long tickDuration, final int wheelSize, final int threadNumber) {
+    if (tickDuration <= 0 || wheelSize <= 0 || threadNumber <= 0) {
+      throw new IllegalArgumentException("Tick duration, wheel size and thread number must be positive");
+    }
+    int size = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+    this.tickDuration = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+    this.mask = size - 1;
+    this.buckets = new ArrayDeque[size];
+    for (int i = 0; i < size; i++) {
+      this.buckets[i] = new ArrayDeque<>();
+    }
+    this.taskExecutor = ExecutorTools.newFixedThreadPool("timing-wheel", threadNumber);
+    this.startTime = System.nanoTime();
+    this.wheelThread = new Thread(this::runWheel, "timing-wheel");
+    this.wheelThread.setDaemon(true);
+    this.wheelThread.start();
+  }
+
+  @Override
+  public @NonNull Future<?> scheduleAtFixedRate(@NonNull Runnable job, long initialDelay, long period, @NonNull TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("Period must be positive");
+    }
+    if (!this.isRunning()) {
+      throw new RejectedExecutionException("Timing wheel scheduler is shut down");
+    }
+    WheelTask task = new WheelTask(job, unit.toNanos(period), System.nanoTime() + unit.toNanos(Math.max(initialDelay, 0L)));
+    this.getScheduledTasks().incrementAndGet();
+    this.getPendingTasks().add(task);
+    return task;
+  }
+
+  @Override
+  public void shutdown() {
+    this.running = false;
+    LockSupport.unpark(this.getWheelThread());
+    this.getTaskExecutor().shutdown();
+  }
+
+  /**
+   * Retrieves a snapshot of the wheel health.
+   *
+   * @return the {@link TimingWheelMetricsDto} of the wheel.
+   */
+  @NonNull
+  public TimingWheelMetricsDto getMetrics() {
+    return new TimingWheelMetricsDto(TimeUnit.NANOSECONDS.toMillis(this.getTickDuration()), this.getBuckets().length, this.getProcessedTicks(),
+        TimeUnit.NANOSECONDS.toMillis(this.getLastTickLag()), TimeUnit.NANOSECONDS.toMillis(this.getMaxTickLag()), this.getScheduledTasks().get(), this.getOccupiedBuckets(),
+        this.getMaxBucketSize());
+  }
+
+  /**
+   * Main loop of the wheel thread: waits for the end of the current tick, registers the new jobs and
+   * expires the jobs of the current bucket.
+   */
+  private void runWheel() {
+    while (this.isRunning()) {
+      long deadline = this.getStartTime() + (this.tick + 1) * this.getTickDuration();
+      long sleep = deadline - System.nanoTime();
+      if (sleep > 0) {
+        LockSupport.parkNanos(this, sleep);
+        continue;
+      }
+      this.transferPendingTasks();
+      this.expireBucket(this.getBuckets()[(int) (this.tick & this.getMask())]);
+      this.tick++;
+      this.updateMetrics(-sleep);
+    }
+    this.cancelRemainingTasks();
+  }
+
+  /**
+   * Moves the newly registered jobs from the pending queue into their buckets.
+   */
+  private void transferPendingTasks() {
+    for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+      WheelTask task = this.getPendingTasks().poll();
+      if (task == null) {
+        return;
+      }
+      if (task.isCancelled()) {
+        this.getScheduledTasks().decrementAndGet();
+      } else {
+        long calculated = (task.deadline - this.getStartTime()) / this.getTickDuration();
+        task.remainingRounds = (calculated - this.tick) / this.getBuckets().length;
+        ArrayDeque<WheelTask> bucket = this.getBuckets()[(int) (Math.max(calculated, this.tick) & this.getMask())];
+        if (bucket.isEmpty()) {
+          this.occupiedBucketCount++;
+        }
+        bucket.add(task);
+      }
+    }
+  }
+
+  /**
+   * Expires the jobs of a bucket whose remaining rounds reached zero, the others wait for the next revolution.
+   *
+   * @param bucket the bucket of the current tick.
+   */
+  private void expireBucket(@NonNull final ArrayDeque<WheelTask> bucket) {
+    int size = bucket.size();
+    this.currentMaxBucketSize = Math.max(this.currentMaxBucketSize, size);
+    for (int i = 0; i < size; i++) {
+      WheelTask task = bucket.poll();
+      if (task.isCancelled()) {
+        this.getScheduledTasks().decrementAndGet();
+      } else if (task.remainingRounds > 0) {
+        task.remainingRounds--;
+        bucket.add(task);
+      } else {
+        this.execute(task);
+      }
+    }
+    if (size > 0 && bucket.isEmpty()) {
+      this.occupiedBucketCount--;
+    }
+  }
+
+  /**
+   * Hands an expired job to the worker pool.
+   *
+   * @param task the expired job.
+   */
+  private void execute(@NonNull final WheelTask task) {
+    try {
+      this.getTaskExecutor().execute(() -> this.runTask(task));
+    } catch (RejectedExecutionException e) {
+      this.getScheduledTasks().decrementAndGet();
+      task.state.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * Runs a job on a worker thread and registers its next execution.
+   *
+   * @param task the job to run.
+   */
+  private void runTask(@NonNull final WheelTask task) {
+    try {
+      task.job.run();
+    } catch (Throwable e) {
+      this.getScheduledTasks().decrementAndGet();
+      task.state.completeExceptionally(e);
+      return;
+    }
+    if (task.isCancelled() || !this.isRunning()) {
+      this.getScheduledTasks().decrementAndGet();
+      return;
+    }
+    task.deadline += task.period;
+    this.getPendingTasks().add(task);
+  }
+
+  /**
+   * Publishes the metrics of the last tick and logs the wheel health once per revolution.
+   *
+   * @param lag the delay of the last tick behind its deadline, in nanoseconds.
+   */
+  private void updateMetrics(final long lag) {
+    this.processedTicks = this.tick;
+    this.lastTickLag = lag;
+    this.maxTickLag = Math.max(this.getMaxTickLag(), lag);
+    this.occupiedBuckets = this.occupiedBucketCount;
+    if (lag > this.getTickDuration() && !this.lagWarned) {
+      this.lagWarned = true;
+      log.warn("Timing wheel is falling behind, tick lag of {} ms", TimeUnit.NANOSECONDS.toMillis(lag));
+    }
+    if ((this.tick & this.getMask()) == 0) {
+      this.maxBucketSize = this.currentMaxBucketSize;
+      this.currentMaxBucketSize = 0;
+      this.lagWarned = false;
+      log.debug("Timing wheel metrics: {}", this.getMetrics());
+    }
+  }
+
+  /**
+   * Cancels the jobs left in the wheel after the shutdown.
+   */
+  private void cancelRemainingTasks() {
+    for (ArrayDeque<WheelTask> bucket : this.getBuckets()) {
+      bucket.forEach(task -> task.cancel(false));
+      bucket.clear();
+    }
+    this.getPendingTasks().forEach(task -> task.cancel(false));
+    this.getPendingTasks().clear();
+    this.getScheduledTasks().set(0L);
+  }
+
+  /**
+   * The WheelTask class holds a periodic job registered in the wheel and exposes it as a {@link Future}.
+   */
+  private static final class WheelTask implements Future<Void> {
+
+    private final Runnable job;
+    private final long period;
+    private final CompletableFuture<Void> state = new CompletableFuture<>();
+    private long deadline;
+    private long remainingRounds;
+
+    private WheelTask(@NonNull final Runnable job, final long period, final long deadline) {
+      this.job = job;
+      this.period = period;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      return this.state.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return this.state.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+      return this.state.isDone();
+    }
+
+    @Override
+    public Void get() throws InterruptedException, ExecutionException {
+      return this.state.get();
+    }
+
+    @Override
+    public Void get(long timeout, @NonNull TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+      return this.state.get(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+      String status;
+      if (this.isCancelled()) {
+        status = "Cancelled";
+      } else if (this.state.isCompletedExceptionally()) {
+        status = "Completed exceptionally: " + this.state.handle((value, e) -> e instanceof CancellationException ? null : e).join();
+      } else {
+        status = "Not completed";
+      }
+      return super.toString() + "[" + status + ", period = " + TimeUnit.NANOSECONDS.toMillis(this.period) + " ms]";
+    }
+  }
+}
@@ -3,6 +3,8 @@ package com.byborgenterprises.services;
 import com.byborgenterprises.dtos.PingIcmpDto;
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.enums.OperatingSystem;
+import com.byborgenterprises.utils.EchoReplyWatcher;
+import java.time.Duration;
 import java.util.Optional;
 import lombok.NonNull;
 
@@ -24,6 +26,34 @@ public interface PingIcmpService {
   @NonNull
   String getTerminalCommand(@NonNull final String host, @NonNull final OperatingSystem operatingSystem);
 
+  /**
+   * Generates the terminal command of a long-running ICMP ping session, sending echo requests
+   * until it is ended, based on the given host and operating system.
+   *
+   * @param host the target host for the ICMP ping.
+   * @param operatingSystem the operating system for which the command is generated.
+   * @return the terminal command as a string.
+   */
+  @NonNull
+  String getSessionCommand(@NonNull final String host, @NonNull final OperatingSystem operatingSystem);
+
+  /**
+   * Retrieves the time a ping command may run before its process tree is killed.
+   *
+   * @return the timeout, {@link Duration#ZERO} lets the command run until it exits.
+   */
+  @NonNull
+  Duration getCommandTimeout();
+
+  /**
+   * Creates the watcher of the output of one ICMP ping command, ending the command once the
+   * verdict of the ping is known.
+   *
+   * @return a new {@link EchoReplyWatcher}.
+   */
+  @NonNull
+  EchoReplyWatcher createReplyWatcher();
+
   /**
    * Creates or updates the ICMP ping data for a specified host.
    *
@@ -35,6 +65,53 @@ public interface PingIcmpService {
   @NonNull
   PingIcmpDto createOrUpdatePing(@NonNull final String host, @NonNull final TerminalDto terminalDto, @NonNull final OperatingSystem os);
 
+  /**
+   * Creates or updates the ICMP ping data for a specified host, from a command whose output was
+   * watched while it ran.
+   *
+   * @param host the target host for the ICMP ping.
+   * @param terminalDto the terminal details for executing the ICMP ping.
+   * @param os the operating system used for the ICMP ping.
+   * @param echoReplyWatcher the watcher that received the output of the command.
+   * @return the updated or newly created {@link PingIcmpDto} containing the ping details.
+   */
+  @NonNull
+  PingIcmpDto createOrUpdatePing(@NonNull final String host, @NonNull final TerminalDto terminalDto, @NonNull final OperatingSystem os,
+      @NonNull final EchoReplyWatcher echoReplyWatcher);
+
+  /**
+   * Updates the ICMP ping data of a host from the latest reply or lost request reported by its
+   * running ping session. The counts and the round trip times are those of the whole session, as
+   * summed up by its watcher. Only the session thread of the host calls it.
+   *
+   * @param host the target host for the ICMP ping.
+   * @param terminalDto the terminal details of the session, holding the latest line.
+   * @param echoReplyWatcher the watcher counting the replies and losses of the session.
+   * @param reply {@code true} if the latest line reports a reply, {@code false} if it reports a lost request.
+   * @return the updated or newly created {@link PingIcmpDto} containing the ping details.
+   */
+  @NonNull
+  PingIcmpDto updateSessionPing(@NonNull final String host, @NonNull final TerminalDto terminalDto, @NonNull final EchoReplyWatcher echoReplyWatcher, final boolean reply);
+
+  /**
+   * Indicates whether the service sends echo requests from the JVM, to be checked before
+   * {@link #createOrUpdateEchoPing(String)} is called.
+   *
+   * @return {@code true} if echo requests can be sent without a ping command.
+   */
+  boolean isEchoAvailable();
+
+  /**
+   * Creates or updates the ICMP ping data for a specified host from echo requests sent by the JVM,
+   * without starting a ping command.
+   *
+   * @param host the target host for the ICMP ping.
+   * @return the updated or newly created {@link PingIcmpDto} containing the ping details.
+   * @throws IllegalStateException if the echo requests are not available or cannot be sent anymore.
+   */
+  @NonNull
+  PingIcmpDto createOrUpdateEchoPing(@NonNull final String host);
+
   /**
    * Retrieves the ICMP ping data for a specified host, if available.
    *
@@ -1,7 +1,9 @@
 package com.byborgenterprises.services;
 
 import com.byborgenterprises.dtos.PingTcpIpDto;
+import java.net.URI;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 
 /**
@@ -19,6 +21,44 @@ public interface PingTcpIpService {
   @NonNull
   PingTcpIpDto createOrUpdatePing(@NonNull final String host);
 
+  /**
+   * Creates or updates the TCP/IP ping data for an already built target URI.
+   *
+   * @param uri the target {@link URI} of the TCP/IP ping, as returned by {@link #getUri(String)}.
+   * @return the updated or newly created {@link PingTcpIpDto} containing the ping details.
+   */
+  @NonNull
+  PingTcpIpDto createOrUpdatePingByUri(@NonNull final URI uri);
+
+  /**
+   * Creates or updates the TCP/IP ping data for a specified host without waiting for the HTTP
+   * exchange. The ping data is saved when the response arrives.
+   *
+   * @param host the target host for the TCP/IP ping.
+   * @return a {@link CompletableFuture} completed with the updated or newly created {@link PingTcpIpDto}.
+   */
+  @NonNull
+  CompletableFuture<PingTcpIpDto> createOrUpdatePingAsync(@NonNull final String host);
+
+  /**
+   * Creates or updates the TCP/IP ping data for an already built target URI without waiting for
+   * the HTTP exchange. The ping data is saved when the response arrives.
+   *
+   * @param uri the target {@link URI} of the TCP/IP ping, as returned by {@link #getUri(String)}.
+   * @return a {@link CompletableFuture} completed with the updated or newly created {@link PingTcpIpDto}.
+   */
+  @NonNull
+  CompletableFuture<PingTcpIpDto> createOrUpdatePingByUriAsync(@NonNull final URI uri);
+
+  /**
+   * Builds the target URI of the TCP/IP ping of a host.
+   *
+   * @param host the target host for the TCP/IP ping.
+   * @return the target {@link URI}.
+   */
+  @NonNull
+  URI getUri(@NonNull final String host);
+
   /**
    * Retrieves the TCP/IP ping data for a specified host, if available.
    *
@@ -3,6 +3,7 @@ package com.byborgenterprises.services;
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.dtos.TraceRouteDto;
 import com.byborgenterprises.enums.OperatingSystem;
+import java.time.Duration;
 import java.util.Optional;
 import lombok.NonNull;
 
@@ -24,6 +25,14 @@ public interface TraceRouteService {
   @NonNull
   String getTerminalCommand(@NonNull final String host, @NonNull OperatingSystem operatingSystem);
 
+  /**
+   * Retrieves the time a traceroute command may run before its process tree is killed.
+   *
+   * @return the timeout, {@link Duration#ZERO} lets the command run until it exits.
+   */
+  @NonNull
+  Duration getCommandTimeout();
+
   /**
    * Creates or updates the traceroute data for a specified host.
    *
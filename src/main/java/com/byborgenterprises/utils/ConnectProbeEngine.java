@@ -0,0 +1,287 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.exceptions.NetworkToolsException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Synchronized;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The ConnectProbeEngine class measures the time to complete TCP handshakes.
+ *
+ * <p>A single thread drives a {@link Selector} over all the pending non-blocking connections, so
+ * the number of probes in flight is only bounded by the available sockets. Each connection has its
+ * own deadline and is closed as soon as it is established, failed or expired, its deadline being
+ * dropped at once. The futures are completed on the thread of the engine, their dependent stages
+ * must not block. A connection submitted while the engine is closing either fails at once or is
+ * failed by the engine when it stops, it never stays pending.
+ */
+@Log4j2
+@Getter(AccessLevel.PRIVATE)
+public class ConnectProbeEngine implements Closeable {
+
+  private final Queue<Attempt> pending = new ConcurrentLinkedQueue<>();
+  private final NavigableSet<Attempt> deadlines = new TreeSet<>(Comparator.comparingLong(Attempt::getDeadline).thenComparingLong(Attempt::getSequence));
+  private final Selector selector;
+  private final Thread thread;
+  private volatile boolean running = true;
+
+  /**
+   * The number of connections started, only used by the thread of the engine.
+   */
+  private long started;
+
+  /**
+   * Creates an engine and starts its thread.
+   *
+   * @param name the name of the thread of the engine.
+   * @throws NetworkToolsException if the selector cannot be opened.
+   */
+  public ConnectProbeEngine(@NonNull final String name) {
+    try {
+      this.selector = Selector.open();
+    } catch (IOException e) {
+      throw new NetworkToolsException("Not possible to open the selector of the connect probes", e);
+    }
+    this.thread = new Thread(this::loop, name);
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Opens a TCP connection to an address and closes it once established.
+   *
+   * @param address the resolved address to connect to.
+   * @param timeout the maximum time to establish the connection, in milliseconds.
+   * @return a {@link CompletableFuture} completed with the duration of the handshake in nanoseconds, or exceptionally if the connection failed or timed out.
+   */
+  @NonNull
+  public CompletableFuture<Long> connect(@NonNull final InetSocketAddress address, final long timeout) {
+    Attempt attempt = new Attempt(address, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout));
+    if (address.isUnresolved()) {
+      attempt.getFuture().completeExceptionally(new UnknownHostException(address.getHostString()));
+    } else if (!this.submit(attempt)) {
+      attempt.getFuture().completeExceptionally(new IllegalStateException("The connect probe engine is closed"));
+    }
+    return attempt.getFuture();
+  }
+
+  /**
+   * Submits a connection to the thread of the engine, unless the engine is stopped. The check and
+   * the submission are atomic with {@link #stop()}, so the engine fails the connections submitted
+   * before it stopped.
+   *
+   * @param attempt the connection.
+   * @return {@code true} if the connection was submitted.
+   */
+  @Synchronized
+  private boolean submit(@NonNull final Attempt attempt) {
+    if (!this.isRunning()) {
+      return false;
+    }
+    this.getPending().add(attempt);
+    this.getSelector().wakeup();
+    return true;
+  }
+
+  /**
+   * Marks the engine as stopped, no connection being submitted afterwards.
+   */
+  @Synchronized
+  private void stop() {
+    this.running = false;
+  }
+
+  /**
+   * Stops the engine, the connections still pending fail.
+   */
+  @Override
+  public void close() {
+    this.stop();
+    this.getSelector().wakeup();
+    try {
+      this.getThread().join(TimeUnit.SECONDS.toMillis(5L));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Drives the connections until the engine is closed.
+   */
+  private void loop() {
+    try {
+      while (this.isRunning()) {
+        this.registerPending();
+        Attempt next = this.getDeadlines().isEmpty() ? null : this.getDeadlines().first();
+        long wait = Objects.isNull(next) ? 0L : Math.max(1L, TimeUnit.NANOSECONDS.toMillis(next.getDeadline() - System.nanoTime()));
+        this.getSelector().select(wait);
+        this.processSelected();
+        this.expire(System.nanoTime());
+      }
+    } catch (IOException | RuntimeException e) {
+      log.error("Connect probe engine stopped: {}", e.getMessage());
+    } finally {
+      this.stop();
+      this.failAll();
+    }
+  }
+
+  /**
+   * Starts the connections submitted since the last selection.
+   */
+  private void registerPending() {
+    Attempt attempt;
+    while (Objects.nonNull(attempt = this.getPending().poll())) {
+      try {
+        SocketChannel channel = SocketChannel.open();
+        attempt.setChannel(channel);
+        channel.configureBlocking(false);
+        attempt.setStart(System.nanoTime());
+        attempt.setSequence(this.started++);
+        if (channel.connect(attempt.getAddress())) {
+          attempt.complete(System.nanoTime());
+        } else {
+          channel.register(this.getSelector(), SelectionKey.OP_CONNECT, attempt);
+          this.getDeadlines().add(attempt);
+        }
+      } catch (IOException | RuntimeException e) {
+        attempt.fail(e);
+      }
+    }
+  }
+
+  /**
+   * Completes the connections whose handshake ended.
+   */
+  private void processSelected() {
+    Iterator<SelectionKey> keys = this.getSelector().selectedKeys().iterator();
+    while (keys.hasNext()) {
+      SelectionKey key = keys.next();
+      keys.remove();
+      Attempt attempt = (Attempt) key.attachment();
+      try {
+        if (((SocketChannel) key.channel()).finishConnect()) {
+          this.getDeadlines().remove(attempt);
+          attempt.complete(System.nanoTime());
+        }
+      } catch (IOException | RuntimeException e) {
+        this.getDeadlines().remove(attempt);
+        attempt.fail(e);
+      }
+    }
+  }
+
+  /**
+   * Fails the connections whose deadline passed.
+   *
+   * @param now the current time, in {@link System#nanoTime()} units.
+   */
+  private void expire(final long now) {
+    while (!this.getDeadlines().isEmpty() && now - this.getDeadlines().first().getDeadline() >= 0) {
+      Attempt attempt = this.getDeadlines().pollFirst();
+      attempt.fail(new SocketTimeoutException("Connect timed out to " + attempt.getAddress()));
+    }
+  }
+
+  /**
+   * Fails the connections still pending when the engine stops, and closes the selector.
+   */
+  private void failAll() {
+    IllegalStateException closed = new IllegalStateException("The connect probe engine is closed");
+    this.getDeadlines().forEach(attempt -> attempt.fail(closed));
+    this.getDeadlines().clear();
+    Attempt attempt;
+    while (Objects.nonNull(attempt = this.getPending().poll())) {
+      attempt.fail(closed);
+    }
+    try {
+      this.getSelector().close();
+    } catch (IOException e) {
+      log.warn("Not possible to close the selector of the connect probes: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * The Attempt class holds one connection of the engine, it is only accessed by the thread of the
+   * engine once submitted.
+   */
+  @Getter(AccessLevel.PRIVATE)
+  private static final class Attempt {
+
+    private final InetSocketAddress address;
+    private final long deadline;
+    private final CompletableFuture<Long> future = new CompletableFuture<>();
+    private SocketChannel channel;
+    private long start;
+    private long sequence;
+
+    private Attempt(final InetSocketAddress address, final long deadline) {
+      this.address = address;
+      this.deadline = deadline;
+    }
+
+    private void setChannel(final SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    private void setStart(final long start) {
+      this.start = start;
+    }
+
+    private void setSequence(final long sequence) {
+      this.sequence = sequence;
+    }
+
+    /**
+     * Closes the connection and completes the future with the duration of the handshake.
+     *
+     * @param end the time the handshake completed, in {@link System#nanoTime()} units.
+     */
+    private void complete(final long end) {
+      this.closeChannel();
+      this.getFuture().complete(end - this.getStart());
+    }
+
+    /**
+     * Closes the connection and completes the future exceptionally.
+     *
+     * @param throwable the cause of the failure.
+     */
+    private void fail(@NonNull final Throwable throwable) {
+      this.closeChannel();
+      this.getFuture().completeExceptionally(throwable);
+    }
+
+    /**
+     * Closes the connection, which also cancels its registration in the selector.
+     */
+    private void closeChannel() {
+      if (Objects.nonNull(this.getChannel())) {
+        try {
+          this.getChannel().close();
+        } catch (IOException e) {
+          log.debug("Not possible to close the connection to {}: {}", this.getAddress(), e.getMessage());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,317 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.dtos.DnsCacheMetricsDto;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The DnsCache class caches the resolution of host names, so that the recurring probes of a host
+ * do not wait for a lookup on every execution.
+ *
+ * <p>A resolved address is kept for the positive time to live and a failed resolution for the
+ * negative one. Once three quarters of the positive time to live elapsed, the next use of the
+ * entry still returns the cached address and refreshes it in the background, so the entries of
+ * hosts probed regularly never expire. A failed refresh keeps the cached address until it expires
+ * and is retried after the negative time to live, or half the remaining lifetime of the entry
+ * when failures are not cached, instead of on the next use.
+ *
+ * <p>{@link #resolveAsync(String)} answers from the cache on the calling thread and looks the
+ * missing host names up on a small pool, so that non-blocking probes never wait for a lookup.
+ */
+@Log4j2
+@Getter(AccessLevel.PRIVATE)
+public class DnsCache {
+
+  private static final int LOOKUP_THREADS = 4;
+
+  private final long positiveTtl;
+  private final long negativeTtl;
+  private final Resolver resolver;
+  private final ThreadPoolExecutor refresher = ExecutorTools.newFixedThreadPool("dns-refresh", 1);
+  private final ThreadPoolExecutor lookupExecutor = ExecutorTools.newFixedThreadPool("dns-lookup", LOOKUP_THREADS);
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final LatencyHistogram lookups = new LatencyHistogram("DNS_LOOKUP");
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong negativeHits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong refreshes = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+
+  /**
+   * Creates a cache resolving the host names with the resolver of the JDK.
+   *
+   * @param positiveTtl the time a resolved address is kept, in milliseconds, {@code 0} disables the cache.
+   * @param negativeTtl the time a failed resolution is kept, in milliseconds, {@code 0} disables the negative cache.
+   * @throws IllegalArgumentException if a time to live is negative.
+   */
+  public DnsCache(final long positiveTtl, final long negativeTtl) {
+    this(positiveTtl, negativeTtl, InetAddress::getByName);
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * @param positiveTtl the time a resolved address is kept, in milliseconds, {@code 0} disables the cache.
+   * @param negativeTtl the time a failed resolution is kept, in milliseconds, {@code 0} disables the negative cache.
+   * @param resolver the resolver looking up the host names.
+   * @throws IllegalArgumentException if a time to live is negative.
+   */
+  public DnsCache(final long positiveTtl, final long negativeTtl, @NonNull final Resolver resolver) {
+    if (positiveTtl < 0 || negativeTtl < 0) {
+      throw new IllegalArgumentException("DNS cache time to live cannot be negative");
+    }
+    this.positiveTtl = TimeUnit.MILLISECONDS.toNanos(positiveTtl);
+    this.negativeTtl = TimeUnit.MILLISECONDS.toNanos(negativeTtl);
+    this.resolver = resolver;
+    this.refresher.setKeepAliveTime(1L, TimeUnit.MINUTES);
+    this.refresher.allowCoreThreadTimeOut(true);
+    this.lookupExecutor.setKeepAliveTime(1L, TimeUnit.MINUTES);
+    this.lookupExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Resolves a host name, from the cache when possible.
+   *
+   * @param host the host name or IP address.
+   * @return the {@link InetAddress} of the host.
+   * @throws UnknownHostException if the host name cannot be resolved, or its failed resolution is cached.
+   */
+  @NonNull
+  public InetAddress resolve(@NonNull final String host) throws UnknownHostException {
+    Entry entry = this.getCachedEntry(host);
+    if (Objects.isNull(entry)) {
+      return this.lookUpMissing(host);
+    }
+    if (Objects.isNull(entry.address)) {
+      throw new UnknownHostException(host);
+    }
+    return entry.address;
+  }
+
+  /**
+   * Resolves a host name without blocking: from the cache on the calling thread when possible,
+   * otherwise on the lookup pool of the cache, or on the calling thread once the cache is closed.
+   *
+   * @param host the host name or IP address.
+   * @return a {@link CompletableFuture} completed with the {@link InetAddress} of the host, or exceptionally with an {@link UnknownHostException}.
+   */
+  @NonNull
+  public CompletableFuture<InetAddress> resolveAsync(@NonNull final String host) {
+    Entry entry = this.getCachedEntry(host);
+    if (Objects.isNull(entry)) {
+      try {
+        return CompletableFuture.supplyAsync(() -> this.lookUpMissingUnchecked(host), this.getLookupExecutor());
+      } catch (RejectedExecutionException e) {
+        return CompletableFuture.completedFuture(host).thenApply(this::lookUpMissingUnchecked);
+      }
+    }
+    if (Objects.isNull(entry.address)) {
+      return CompletableFuture.failedFuture(new UnknownHostException(host));
+    }
+    return CompletableFuture.completedFuture(entry.address);
+  }
+
+  /**
+   * Forgets every cached resolution.
+   */
+  public void clear() {
+    this.getEntries().clear();
+  }
+
+  /**
+   * Indicates whether a host name has an unexpired entry, resolved or failed, so that its
+   * resolution will not wait for a lookup. The use of the entry is not counted.
+   *
+   * @param host the host name or IP address.
+   * @return {@code true} if the resolution of the host name is cached.
+   */
+  public boolean isCached(@NonNull final String host) {
+    Entry entry = this.getEntries().get(host);
+    return Objects.nonNull(entry) && System.nanoTime() - entry.expiry < 0;
+  }
+
+  /**
+   * Stops the threads refreshing and looking up the host names, once the cache is replaced. The
+   * lookups already started complete.
+   */
+  public void close() {
+    this.getRefresher().shutdown();
+    this.getLookupExecutor().shutdown();
+  }
+
+  /**
+   * Retrieves a snapshot of the use of the cache.
+   *
+   * @return the {@link DnsCacheMetricsDto} of the cache.
+   */
+  @NonNull
+  public DnsCacheMetricsDto getMetrics() {
+    return new DnsCacheMetricsDto(this.getEntries().size(), this.getHits().get(), this.getNegativeHits().get(), this.getMisses().get(), this.getRefreshes().get(),
+        this.getFailures().get(), this.getLookups().getMetrics());
+  }
+
+  /**
+   * Retrieves the unexpired entry of a host name, counting the hit and starting the refresh of the
+   * entry when it is due. Once the cache is closed, the refresh is skipped and the cached address
+   * is still answered.
+   *
+   * @param host the host name or IP address.
+   * @return the entry, {@code null} if the host name is not cached.
+   */
+  private Entry getCachedEntry(@NonNull final String host) {
+    long now = System.nanoTime();
+    Entry entry = this.getEntries().get(host);
+    if (Objects.isNull(entry) || now - entry.expiry >= 0) {
+      return null;
+    }
+    if (Objects.isNull(entry.address)) {
+      this.getNegativeHits().incrementAndGet();
+      return entry;
+    }
+    this.getHits().incrementAndGet();
+    if (now - entry.refreshAt >= 0 && entry.refreshing.compareAndSet(false, true)) {
+      try {
+        this.getRefresher().execute(() -> this.refresh(host));
+      } catch (RejectedExecutionException e) {
+        entry.refreshing.set(false);
+      }
+    }
+    return entry;
+  }
+
+  /**
+   * Looks a host name missing from the cache up, caching its failed resolution.
+   *
+   * @param host the host name or IP address.
+   * @return the {@link InetAddress} of the host.
+   * @throws UnknownHostException if the host name cannot be resolved.
+   */
+  @NonNull
+  private InetAddress lookUpMissing(@NonNull final String host) throws UnknownHostException {
+    this.getMisses().incrementAndGet();
+    try {
+      return this.lookUp(host);
+    } catch (UnknownHostException e) {
+      if (this.getNegativeTtl() > 0) {
+        this.getEntries().put(host, new Entry(null, System.nanoTime() + this.getNegativeTtl(), Long.MAX_VALUE));
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Looks a host name missing from the cache up, wrapping its failed resolution for a
+   * {@link CompletableFuture}.
+   *
+   * @param host the host name or IP address.
+   * @return the {@link InetAddress} of the host.
+   * @throws CompletionException wrapping the {@link UnknownHostException} if the host name cannot be resolved.
+   */
+  @NonNull
+  private InetAddress lookUpMissingUnchecked(@NonNull final String host) {
+    try {
+      return this.lookUpMissing(host);
+    } catch (UnknownHostException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  /**
+   * Looks a host name up and caches the resolved address.
+   *
+   * @param host the host name or IP address.
+   * @return the {@link InetAddress} of the host.
+   * @throws UnknownHostException if the host name cannot be resolved.
+   */
+  @NonNull
+  private InetAddress lookUp(@NonNull final String host) throws UnknownHostException {
+    long start = System.nanoTime();
+    try {
+      InetAddress address = this.getResolver().resolve(host);
+      long now = System.nanoTime();
+      this.getLookups().record(now - start);
+      if (this.getPositiveTtl() > 0) {
+        this.getEntries().put(host, new Entry(address, now + this.getPositiveTtl(), now + this.getPositiveTtl() * 3 / 4));
+      }
+      return address;
+    } catch (UnknownHostException e) {
+      this.getLookups().record(System.nanoTime() - start);
+      this.getFailures().incrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * Refreshes the cached address of a host name, keeping the cached address if the lookup fails
+   * and postponing the next refresh.
+   *
+   * @param host the host name or IP address.
+   */
+  private void refresh(@NonNull final String host) {
+    this.getRefreshes().incrementAndGet();
+    try {
+      this.lookUp(host);
+    } catch (UnknownHostException e) {
+      log.warn("Cannot refresh the address of {}: {}", host, e.getMessage());
+      this.getEntries().computeIfPresent(host, (key, entry) -> {
+        long now = System.nanoTime();
+        long retryDelay = this.getNegativeTtl() > 0 ? this.getNegativeTtl() : (entry.expiry - now) / 2;
+        return new Entry(entry.address, entry.expiry, now + retryDelay);
+      });
+    } finally {
+      Entry entry = this.getEntries().get(host);
+      if (Objects.nonNull(entry)) {
+        entry.refreshing.set(false);
+      }
+    }
+  }
+
+  /**
+   * The Resolver interface looks a host name up.
+   */
+  @FunctionalInterface
+  public interface Resolver {
+
+    /**
+     * Looks a host name up.
+     *
+     * @param host the host name or IP address.
+     * @return the {@link InetAddress} of the host.
+     * @throws UnknownHostException if the host name cannot be resolved.
+     */
+    @NonNull
+    InetAddress resolve(@NonNull String host) throws UnknownHostException;
+  }
+
+  /**
+   * The Entry class holds the cached resolution of one host name, a {@code null} address being a
+   * cached failure.
+   */
+  private static final class Entry {
+
+    private final InetAddress address;
+    private final long expiry;
+    private final long refreshAt;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private Entry(final InetAddress address, final long expiry, final long refreshAt) {
+      this.address = address;
+      this.expiry = expiry;
+      this.refreshAt = refreshAt;
+    }
+  }
+}
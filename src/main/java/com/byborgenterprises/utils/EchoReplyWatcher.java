@@ -0,0 +1,227 @@
+package com.byborgenterprises.utils;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The EchoReplyWatcher class counts the echo replies and the lost echo requests in the output of a
+ * ping command, as the lines are written, and ends the command once its verdict is known.
+ *
+ * <p>The host is reachable once the required number of replies is received, and unreachable once
+ * the required number of requests is reported lost, timed out or unreachable. A required number
+ * of {@code 0} never ends the command on that verdict. A watcher counts the output of one command
+ * only.
+ *
+ * <p>Linux ping only reports an unanswered request with its {@code -O} option. Without it, the
+ * requests skipped by the {@code icmp_seq} numbers of the replies are counted as lost, a request
+ * reported lost being counted once.
+ *
+ * <p>The round trip times of the replies are summed up as they are counted, so that the minimum,
+ * average, maximum and mean deviation cover every reply seen by the watcher, in milliseconds.
+ */
+@Getter
+public class EchoReplyWatcher implements LineListener {
+
+  @Getter(AccessLevel.PRIVATE)
+  private final int requiredReplies;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final int requiredLosses;
+
+  private int replies;
+  private int losses;
+
+  @Getter(AccessLevel.PRIVATE)
+  private long lastSequence;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final RoundTripStatistics roundTrips = new RoundTripStatistics();
+
+  /**
+   * Creates a watcher.
+   *
+   * @param requiredReplies the number of replies proving the host reachable, {@code 0} never ends the command on replies.
+   * @param requiredLosses the number of lost requests proving the host unreachable, {@code 0} never ends the command on losses.
+   * @throws IllegalArgumentException if a required number is negative.
+   */
+  public EchoReplyWatcher(final int requiredReplies, final int requiredLosses) {
+    if (requiredReplies < 0 || requiredLosses < 0) {
+      throw new IllegalArgumentException("Required replies and losses cannot be negative");
+    }
+    this.requiredReplies = requiredReplies;
+    this.requiredLosses = requiredLosses;
+  }
+
+  /**
+   * Checks whether a line reports an echo reply, the replies of Linux and Windows both carrying
+   * the time to live of the packet.
+   *
+   * @param line the line.
+   * @return {@code true} if the line reports a reply.
+   */
+  private static boolean isReply(@NonNull final String line) {
+    return contains(line, "ttl=");
+  }
+
+  /**
+   * Checks whether a line reports a lost echo request.
+   *
+   * @param line the line.
+   * @return {@code true} if the line reports a loss.
+   */
+  private static boolean isLoss(@NonNull final String line) {
+    return contains(line, "timed out") || contains(line, "unreachable") || contains(line, "no answer yet");
+  }
+
+  /**
+   * Reads the {@code icmp_seq} number of a Linux ping line.
+   *
+   * @param line the line.
+   * @return the sequence number, {@code -1} if the line has none.
+   */
+  private static long getSequence(@NonNull final String line) {
+    int index = indexOf(line, "icmp_seq=");
+    if (index < 0) {
+      return -1L;
+    }
+    long sequence = -1L;
+    for (int i = index + 9; i < line.length() && Character.isDigit(line.charAt(i)); i++) {
+      sequence = Math.max(sequence, 0L) * 10 + Character.digit(line.charAt(i), 10);
+    }
+    return sequence;
+  }
+
+  /**
+   * Reads the round trip time of a reply line, written {@code time=11.2 ms} or {@code time<1ms}.
+   *
+   * @param line the line.
+   * @return the round trip time in milliseconds, {@code -1} if the line has none.
+   */
+  private static double getRoundTrip(@NonNull final String line) {
+    int index = indexOf(line, "time=");
+    if (index < 0) {
+      index = indexOf(line, "time<");
+    }
+    int from = index + 5;
+    int to = from;
+    while (index >= 0 && to < line.length() && (Character.isDigit(line.charAt(to)) || line.charAt(to) == '.')) {
+      to++;
+    }
+    try {
+      return to > from ? Double.parseDouble(line.substring(from, to)) : PingOutputParser.UNKNOWN;
+    } catch (NumberFormatException e) {
+      return PingOutputParser.UNKNOWN;
+    }
+  }
+
+  /**
+   * Searches a text in a line, ignoring the case, without copying the line.
+   *
+   * @param line the line.
+   * @param text the text, in lower case.
+   * @return {@code true} if the line contains the text.
+   */
+  private static boolean contains(@NonNull final String line, @NonNull final String text) {
+    return indexOf(line, text) >= 0;
+  }
+
+  /**
+   * Searches a text in a line, ignoring the case, without copying the line.
+   *
+   * @param line the line.
+   * @param text the text, in lower case.
+   * @return the index of the text, {@code -1} if it is missing.
+   */
+  private static int indexOf(@NonNull final String line, @NonNull final String text) {
+    for (int i = 0; i <= line.length() - text.length(); i++) {
+      if (line.regionMatches(true, i, text, 0, text.length())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean onLine(@NonNull final String line) {
+    if (isReply(line)) {
+      this.replies++;
+      this.skipTo(getSequence(line));
+      this.getRoundTrips().add(getRoundTrip(line));
+    } else if (isLoss(line)) {
+      this.losses++;
+      this.lastSequence = Math.max(this.getLastSequence(), getSequence(line));
+    }
+    return !this.isConclusive();
+  }
+
+  /**
+   * Counts as lost the requests skipped by the sequence number of a reply.
+   *
+   * @param sequence the sequence number of the reply, {@code -1} if it has none.
+   */
+  private void skipTo(final long sequence) {
+    if (sequence < 0) {
+      return;
+    }
+    if (sequence > this.getLastSequence() + 1) {
+      this.losses += (int) (sequence - this.getLastSequence() - 1);
+    }
+    this.lastSequence = Math.max(this.getLastSequence(), sequence);
+  }
+
+  /**
+   * Retrieves the minimum round trip time of the replies.
+   *
+   * @return the time in milliseconds, {@link PingOutputParser#UNKNOWN} if no reply carried a time.
+   */
+  public double getMinRtt() {
+    return this.getRoundTrips().getMinRtt();
+  }
+
+  /**
+   * Retrieves the average round trip time of the replies.
+   *
+   * @return the time in milliseconds, {@link PingOutputParser#UNKNOWN} if no reply carried a time.
+   */
+  public double getAvgRtt() {
+    return this.getRoundTrips().getAvgRtt();
+  }
+
+  /**
+   * Retrieves the maximum round trip time of the replies.
+   *
+   * @return the time in milliseconds, {@link PingOutputParser#UNKNOWN} if no reply carried a time.
+   */
+  public double getMaxRtt() {
+    return this.getRoundTrips().getMaxRtt();
+  }
+
+  /**
+   * Retrieves the mean deviation of the round trip times of the replies.
+   *
+   * @return the deviation in milliseconds, {@link PingOutputParser#UNKNOWN} if no reply carried a time.
+   */
+  public double getMdevRtt() {
+    return this.getRoundTrips().getMdevRtt();
+  }
+
+  /**
+   * Indicates whether the verdict of the ping is known.
+   *
+   * @return {@code true} if enough replies or losses were counted.
+   */
+  public boolean isConclusive() {
+    return (this.getRequiredReplies() > 0 && this.isReachable()) || (this.getRequiredLosses() > 0 && this.getLosses() >= this.getRequiredLosses());
+  }
+
+  /**
+   * Indicates whether enough replies were counted to prove the host reachable, at least one reply
+   * being required.
+   *
+   * @return {@code true} if the host is reachable.
+   */
+  public boolean isReachable() {
+    return this.getReplies() >= Math.max(1, this.getRequiredReplies());
+  }
+}
@@ -0,0 +1,91 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.dtos.ExecutorMetricsDto;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * The ExecutorTools class provides utility methods for creating named thread pools and reading
+ * their load. This is a final utility class and cannot be instantiated.
+ */
+@UtilityClass
+public final class ExecutorTools {
+
+  /**
+   * Creates a fixed size pool of daemon threads named after the pool, queuing the tasks submitted
+   * while all its threads are busy.
+   *
+   * @param name the name of the pool, used to name its threads.
+   * @param threadNumber the number of threads of the pool.
+   * @return the {@link ThreadPoolExecutor}.
+   * @throws IllegalArgumentException if the number of threads is not positive.
+   */
+  @NonNull
+  public static ThreadPoolExecutor newFixedThreadPool(@NonNull final String name, final int threadNumber) {
+    AtomicInteger counter = new AtomicInteger();
+    return new ThreadPoolExecutor(threadNumber, threadNumber, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+      Thread thread = new Thread(runnable, name + "-worker-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Creates a pool of daemon threads named after the pool, starting a thread for each task
+   * submitted while all its threads are busy. The threads stop after a minute without work.
+   *
+   * @param name the name of the pool, used to name its threads.
+   * @return the {@link ThreadPoolExecutor}.
+   */
+  @NonNull
+  public static ThreadPoolExecutor newCachedThreadPool(@NonNull final String name) {
+    AtomicInteger counter = new AtomicInteger();
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1L, TimeUnit.MINUTES, new SynchronousQueue<>(), runnable -> {
+      Thread thread = new Thread(runnable, name + "-worker-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Creates a pool of daemon threads named after the pool, running delayed tasks. A cancelled task
+   * is removed from the pool at once.
+   *
+   * @param name the name of the pool, used to name its threads.
+   * @param threadNumber the number of threads of the pool.
+   * @return the {@link ScheduledThreadPoolExecutor}.
+   * @throws IllegalArgumentException if the number of threads is not positive.
+   */
+  @NonNull
+  public static ScheduledThreadPoolExecutor newScheduledThreadPool(@NonNull final String name, final int threadNumber) {
+    if (threadNumber <= 0) {
+      throw new IllegalArgumentException("Number of threads must be positive");
+    }
+    AtomicInteger counter = new AtomicInteger();
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threadNumber, runnable -> {
+      Thread thread = new Thread(runnable, name + "-worker-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  /**
+   * Retrieves a snapshot of the load of a thread pool.
+   *
+   * @param name the name of the pool.
+   * @param executor the thread pool.
+   * @return the {@link ExecutorMetricsDto} of the pool.
+   */
+  @NonNull
+  public static ExecutorMetricsDto getMetrics(@NonNull final String name, @NonNull final ThreadPoolExecutor executor) {
+    return new ExecutorMetricsDto(name, executor.getPoolSize(), executor.getActiveCount(), executor.getQueue().size(), executor.getLargestPoolSize(), executor.getCompletedTaskCount());
+  }
+}
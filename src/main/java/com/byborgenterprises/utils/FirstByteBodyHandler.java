@@ -0,0 +1,91 @@
+package com.byborgenterprises.utils;
+
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.ResponseInfo;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow.Subscription;
+import lombok.NonNull;
+
+/**
+ * The FirstByteBodyHandler class reads a response body up to its first byte and drops the rest.
+ *
+ * <p>The body of the response is the {@link System#nanoTime()} at which its first byte arrived,
+ * or at which the empty body ended, so the response completes at the first byte whatever the size
+ * of the page.
+ *
+ * <p>Stopping the download has a cost that depends on the protocol. On HTTP/2, cancelling the body
+ * only resets its stream and the connection is kept. On HTTP/1.1, cancelling the body closes the
+ * connection, and the next probe pays a new handshake. The rest of an HTTP/1.1 body is therefore
+ * read and discarded in the background while it stays under {@value #DRAIN_LIMIT} bytes, keeping
+ * the connection alive for small pages, and only larger bodies are cancelled.
+ */
+public class FirstByteBodyHandler implements BodyHandler<Long> {
+
+  /**
+   * Number of bytes of an HTTP/1.1 body discarded to keep its connection before the body is cancelled.
+   */
+  public static final long DRAIN_LIMIT = 64L * 1024L;
+
+  @Override
+  public @NonNull BodySubscriber<Long> apply(@NonNull ResponseInfo responseInfo) {
+    return new FirstByteSubscriber(responseInfo.version() == Version.HTTP_2 ? 0L : DRAIN_LIMIT);
+  }
+
+  /**
+   * The FirstByteSubscriber class requests the chunks of the body until one is not empty, then
+   * discards the following chunks up to the drain limit and cancels the subscription beyond it.
+   */
+  private static final class FirstByteSubscriber implements BodySubscriber<Long> {
+
+    private final CompletableFuture<Long> firstByte = new CompletableFuture<>();
+    private final long drainLimit;
+    private Subscription subscription;
+    private long drained;
+
+    private FirstByteSubscriber(final long drainLimit) {
+      this.drainLimit = drainLimit;
+    }
+
+    @Override
+    public CompletionStage<Long> getBody() {
+      return this.firstByte;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+      this.subscription = subscription;
+      subscription.request(1L);
+    }
+
+    @Override
+    public void onNext(final List<ByteBuffer> item) {
+      long received = item.stream().mapToLong(ByteBuffer::remaining).sum();
+      if (received > 0 && !this.firstByte.isDone()) {
+        this.firstByte.complete(System.nanoTime());
+      }
+      if (this.firstByte.isDone()) {
+        this.drained += received;
+        if (this.drained > this.drainLimit) {
+          this.subscription.cancel();
+          return;
+        }
+      }
+      this.subscription.request(1L);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      this.firstByte.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      this.firstByte.complete(System.nanoTime());
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.dtos.LatencyHistogramDto;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The IcmpEchoEngine class sends echo requests from the JVM, without starting a ping command.
+ *
+ * <p>The echo requests of all the hosts are sent by a small pool of threads with
+ * {@link InetAddress#isReachable(int)}, each probe holding a thread while it waits for its
+ * replies. The requests of one probe are sent one after the other and stop at the first reply. The
+ * round trip time of each reply is measured with {@link System#nanoTime()}.
+ *
+ * <p>Without the right to open a raw ICMP socket, {@link InetAddress#isReachable(int)} silently
+ * tries a TCP connection to the echo port instead, and a refused connection then counts as a
+ * reply. An engine is therefore only created when {@link #isSupported()} confirms that real echo
+ * requests can be sent: on Windows, which sends them through its ICMP API, and on Linux when the
+ * process holds the {@code CAP_NET_RAW} capability.
+ */
+@Log4j2
+@Getter(AccessLevel.PRIVATE)
+public class IcmpEchoEngine implements Closeable {
+
+  private static final String PROCESS_STATUS = "/proc/self/status";
+  private static final String EFFECTIVE_CAPABILITIES = "CapEff:";
+  private static final int CAP_NET_RAW = 13;
+
+  private final ThreadPoolExecutor executor;
+
+  /**
+   * Distribution of the round trip times of the replies.
+   */
+  private final LatencyHistogram roundTrips = new LatencyHistogram("ICMP_ECHO");
+
+  /**
+   * Creates an engine, its threads are started by the first probes.
+   *
+   * @param name the name of the pool of the engine.
+   * @param threadNumber the number of probes sending their requests at once.
+   * @throws IllegalArgumentException if the number of threads is not positive.
+   */
+  public IcmpEchoEngine(@NonNull final String name, final int threadNumber) {
+    this.executor = ExecutorTools.newFixedThreadPool(name, threadNumber);
+  }
+
+  /**
+   * Checks whether the JVM sends real ICMP echo requests rather than TCP connections.
+   *
+   * @return {@code true} on Windows, and on Linux when the process may open raw sockets.
+   */
+  public static boolean isSupported() {
+    try {
+      return switch (OperatingSystemTools.getOperatingSystem()) {
+        case WINDOWS -> true;
+        case LINUX -> hasNetRawCapability(Files.readString(Path.of(PROCESS_STATUS)));
+      };
+    } catch (IOException | RuntimeException e) {
+      log.debug("Can't check the support of ICMP echo requests: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Checks whether the effective capabilities of a Linux process allow it to open raw sockets.
+   *
+   * @param status the content of the {@code /proc/<pid>/status} file of the process.
+   * @return {@code true} if the {@code CAP_NET_RAW} capability is effective.
+   */
+  static boolean hasNetRawCapability(@NonNull final String status) {
+    return status.lines()
+        .filter(line -> line.startsWith(EFFECTIVE_CAPABILITIES))
+        .map(line -> line.substring(EFFECTIVE_CAPABILITIES.length()).trim())
+        .anyMatch(capabilities -> {
+          try {
+            return new BigInteger(capabilities, 16).testBit(CAP_NET_RAW);
+          } catch (NumberFormatException e) {
+            return false;
+          }
+        });
+  }
+
+  /**
+   * Sends echo requests to an address until one is replied or the requests are exhausted.
+   *
+   * @param address the resolved address of the host.
+   * @param count the maximum number of requests.
+   * @param timeout the time to wait for the reply of each request, in milliseconds.
+   * @return a {@link CompletableFuture} completed with the round trip time of each request in nanoseconds, {@code -1} for a lost request.
+   * @throws IllegalArgumentException if the number of requests or the timeout is not positive.
+   */
+  @NonNull
+  public CompletableFuture<long[]> echo(@NonNull final InetAddress address, final int count, final int timeout) {
+    if (count <= 0 || timeout <= 0) {
+      throw new IllegalArgumentException("Number of echo requests and timeout must be positive");
+    }
+    try {
+      return CompletableFuture.supplyAsync(() -> this.sendRequests(address, count, timeout), this.getExecutor());
+    } catch (RejectedExecutionException e) {
+      return CompletableFuture.failedFuture(new IllegalStateException("The ICMP echo engine is closed", e));
+    }
+  }
+
+  /**
+   * Retrieves the distribution of the round trip times of the replies.
+   *
+   * @return the {@link LatencyHistogramDto} of the round trip times.
+   */
+  @NonNull
+  public LatencyHistogramDto getMetrics() {
+    return this.getRoundTrips().getMetrics();
+  }
+
+  /**
+   * Indicates whether the engine was closed.
+   *
+   * @return {@code true} if the engine sends no more echo requests.
+   */
+  public boolean isClosed() {
+    return this.getExecutor().isShutdown();
+  }
+
+  /**
+   * Stops the engine, the probes still waiting for a thread fail.
+   */
+  @Override
+  public void close() {
+    this.getExecutor().shutdownNow();
+  }
+
+  /**
+   * Sends the echo requests of one probe.
+   *
+   * @param address the resolved address of the host.
+   * @param count the maximum number of requests.
+   * @param timeout the time to wait for the reply of each request, in milliseconds.
+   * @return the round trip time of each request sent, {@code -1} for a lost request.
+   */
+  private long @NonNull [] sendRequests(@NonNull final InetAddress address, final int count, final int timeout) {
+    long[] roundTrips = new long[count];
+    for (int i = 0; i < count; i++) {
+      long start = System.nanoTime();
+      long roundTrip = -1L;
+      try {
+        if (address.isReachable(timeout)) {
+          roundTrip = System.nanoTime() - start;
+        }
+      } catch (IOException e) {
+        log.debug("Echo request {} to {} failed: {}", i + 1, address.getHostAddress(), e.getMessage());
+      }
+      roundTrips[i] = roundTrip;
+      if (roundTrip >= 0) {
+        this.getRoundTrips().record(roundTrip);
+        return Arrays.copyOf(roundTrips, i + 1);
+      }
+    }
+    return roundTrips;
+  }
+}
@@ -0,0 +1,124 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.dtos.LatencyHistogramDto;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The LatencyHistogram class records the distribution of a latency in a fixed amount of memory.
+ *
+ * <p>Each power of two is split into eight linear buckets, so a percentile is estimated within
+ * 12.5% of the recorded values whatever their magnitude. Recording is lock-free.
+ */
+@Getter(AccessLevel.PRIVATE)
+public class LatencyHistogram {
+
+  /**
+   * The number of linear buckets per power of two, as a power of two.
+   */
+  private static final int SUB_BUCKET_BITS = 3;
+
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  /**
+   * The name of the measured latency.
+   */
+  private final String name;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(getIndex(Long.MAX_VALUE) + 1);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong total = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Creates an empty histogram.
+   *
+   * @param name the name of the measured latency.
+   */
+  public LatencyHistogram(@NonNull final String name) {
+    this.name = name;
+  }
+
+  /**
+   * Retrieves the bucket of a value.
+   *
+   * @param value the value, not negative.
+   * @return the index of the bucket.
+   */
+  private static int getIndex(final long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * Retrieves the highest value of a bucket.
+   *
+   * @param index the index of the bucket.
+   * @return the highest value counted in the bucket.
+   */
+  private static long getUpperBound(final int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    long width = 1L << (exponent - SUB_BUCKET_BITS);
+    long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+    return lower + width - 1;
+  }
+
+  /**
+   * Records a value, negative values are ignored.
+   *
+   * @param value the latency, in nanoseconds.
+   */
+  public void record(final long value) {
+    if (value < 0) {
+      return;
+    }
+    this.getBuckets().incrementAndGet(getIndex(value));
+    this.getCount().incrementAndGet();
+    this.getTotal().addAndGet(value);
+    this.getMax().accumulateAndGet(value, Math::max);
+  }
+
+  /**
+   * Estimates a percentile of the recorded values.
+   *
+   * @param percentile the percentile, between 0 and 100.
+   * @return the estimated value, or {@code 0} if no value was recorded.
+   */
+  public long getPercentile(final double percentile) {
+    long recorded = this.getCount().get();
+    if (recorded == 0) {
+      return 0L;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(recorded * percentile / 100.0));
+    long cumulated = 0L;
+    for (int i = 0; i < this.getBuckets().length(); i++) {
+      cumulated += this.getBuckets().get(i);
+      if (cumulated >= rank) {
+        return Math.min(getUpperBound(i), this.getMax().get());
+      }
+    }
+    return this.getMax().get();
+  }
+
+  /**
+   * Retrieves a snapshot of the distribution of the recorded values.
+   *
+   * @return the {@link LatencyHistogramDto} of the histogram.
+   */
+  @NonNull
+  public LatencyHistogramDto getMetrics() {
+    long recorded = this.getCount().get();
+    return new LatencyHistogramDto(this.getName(), recorded, recorded == 0 ? 0L : this.getTotal().get() / recorded, this.getPercentile(50.0), this.getPercentile(90.0),
+        this.getPercentile(99.0), this.getMax().get());
+  }
+}
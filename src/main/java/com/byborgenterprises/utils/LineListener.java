@@ -0,0 +1,24 @@
+package com.byborgenterprises.utils;
+
+import lombok.NonNull;
+
+/**
+ * The LineListener interface receives the output of a terminal command line by line, as soon as
+ * each line is written by the command, and can end the command once its output is conclusive.
+ */
+@FunctionalInterface
+public interface LineListener {
+
+  /**
+   * A listener ignoring every line.
+   */
+  LineListener NONE = line -> true;
+
+  /**
+   * Receives a line of the output of the command.
+   *
+   * @param line the line, without its line terminator.
+   * @return {@code true} to keep reading the output, {@code false} to end the command now.
+   */
+  boolean onLine(@NonNull String line);
+}
@@ -0,0 +1,193 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.dtos.HttpClientMetricsDto;
+import com.byborgenterprises.enums.HttpClientPurpose;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The ManagedHttpClient class holds one long-lived {@link HttpClient} and the bounded thread pool
+ * it runs on.
+ *
+ * <p>The client keeps its connections alive between requests and negotiates HTTP/2 when the
+ * server supports it, falling back to HTTP/1.1 otherwise. The threads of the pool stop after a
+ * minute without work. A replaced client is closed: its pool is shut down as soon as the requests
+ * still in flight on it completed, the pool of the HTTP client rejecting work once shut down.
+ */
+@Getter(AccessLevel.PRIVATE)
+public class ManagedHttpClient {
+
+  /**
+   * The use of the client.
+   */
+  private final HttpClientPurpose purpose;
+
+  private final ThreadPoolExecutor executor;
+  private final HttpClient httpClient;
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong http2Responses = new AtomicLong();
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  /**
+   * Creates a client.
+   *
+   * @param purpose the use of the client.
+   * @param threadNumber the number of threads of the pool of the client.
+   * @throws IllegalArgumentException if the number of threads is not positive.
+   */
+  public ManagedHttpClient(@NonNull final HttpClientPurpose purpose, final int threadNumber) {
+    this.purpose = purpose;
+    this.executor = ExecutorTools.newFixedThreadPool("http-" + purpose.name().toLowerCase(), threadNumber);
+    this.executor.setKeepAliveTime(1L, TimeUnit.MINUTES);
+    this.executor.allowCoreThreadTimeOut(true);
+    this.httpClient = HttpClient.newBuilder().version(Version.HTTP_2).followRedirects(Redirect.NEVER).executor(this.executor).build();
+  }
+
+  /**
+   * Sends a request and waits for its response.
+   *
+   * @param httpRequest the request.
+   * @return the {@link HttpResponse} received.
+   * @throws IOException if an I/O error occurs.
+   * @throws InterruptedException if the thread is interrupted while waiting for the response.
+   */
+  @NonNull
+  public HttpResponse<String> send(@NonNull final HttpRequest httpRequest) throws IOException, InterruptedException {
+    return this.send(httpRequest, BodyHandlers.ofString());
+  }
+
+  /**
+   * Sends a request and waits for its response, handling the body with the given handler.
+   *
+   * @param httpRequest the request.
+   * @param bodyHandler the handler of the response body.
+   * @param <T> the type of the response body.
+   * @return the {@link HttpResponse} received.
+   * @throws IOException if an I/O error occurs.
+   * @throws InterruptedException if the thread is interrupted while waiting for the response.
+   */
+  @NonNull
+  public <T> HttpResponse<T> send(@NonNull final HttpRequest httpRequest, @NonNull final BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+    this.getRequests().incrementAndGet();
+    this.getInFlight().incrementAndGet();
+    try {
+      HttpResponse<T> response = this.getHttpClient().send(httpRequest, bodyHandler);
+      if (response.version() == Version.HTTP_2) {
+        this.getHttp2Responses().incrementAndGet();
+      }
+      return response;
+    } catch (IOException | InterruptedException | RuntimeException e) {
+      this.getFailures().incrementAndGet();
+      throw e;
+    } finally {
+      this.release();
+    }
+  }
+
+  /**
+   * Sends a request without waiting for its response. The response completes the returned future
+   * on the thread pool of the client.
+   *
+   * @param httpRequest the request.
+   * @return a {@link CompletableFuture} completed with the {@link HttpResponse} received, or exceptionally if no response was received.
+   */
+  @NonNull
+  public CompletableFuture<HttpResponse<String>> sendAsync(@NonNull final HttpRequest httpRequest) {
+    return this.sendAsync(httpRequest, BodyHandlers.ofString());
+  }
+
+  /**
+   * Sends a request without waiting for its response, handling the body with the given handler.
+   * The response completes the returned future on the thread pool of the client.
+   *
+   * @param httpRequest the request.
+   * @param bodyHandler the handler of the response body.
+   * @param <T> the type of the response body.
+   * @return a {@link CompletableFuture} completed with the {@link HttpResponse} received, or exceptionally if no response was received.
+   */
+  @NonNull
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(@NonNull final HttpRequest httpRequest, @NonNull final BodyHandler<T> bodyHandler) {
+    this.getRequests().incrementAndGet();
+    this.getInFlight().incrementAndGet();
+    try {
+      return this.getHttpClient().sendAsync(httpRequest, bodyHandler).whenComplete((response, throwable) -> {
+        this.release();
+        if (Objects.nonNull(throwable)) {
+          this.getFailures().incrementAndGet();
+        } else if (response.version() == Version.HTTP_2) {
+          this.getHttp2Responses().incrementAndGet();
+        }
+      });
+    } catch (RuntimeException e) {
+      this.release();
+      this.getFailures().incrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * Closes the client once it was replaced: its thread pool is shut down when no request is in
+   * flight anymore, right away if it is idle.
+   */
+  public void close() {
+    this.getClosed().set(true);
+    this.shutdownIfIdle();
+  }
+
+  /**
+   * Indicates whether the thread pool of the client was shut down.
+   *
+   * @return {@code true} if the client was closed and its requests completed.
+   */
+  public boolean isShutdown() {
+    return this.getExecutor().isShutdown();
+  }
+
+  /**
+   * Records the completion of a request, shutting the thread pool down if the client was closed
+   * and this was its last request in flight.
+   */
+  private void release() {
+    if (this.getInFlight().decrementAndGet() == 0) {
+      this.shutdownIfIdle();
+    }
+  }
+
+  /**
+   * Shuts the thread pool down if the client was closed and no request is in flight.
+   */
+  private void shutdownIfIdle() {
+    if (this.getClosed().get() && this.getInFlight().get() == 0) {
+      this.getExecutor().shutdown();
+    }
+  }
+
+  /**
+   * Retrieves a snapshot of the use of the client.
+   *
+   * @return the {@link HttpClientMetricsDto} of the client.
+   */
+  @NonNull
+  public HttpClientMetricsDto getMetrics() {
+    return new HttpClientMetricsDto(this.getPurpose(), this.getRequests().get(), this.getInFlight().get(), this.getFailures().get(), this.getHttp2Responses().get(),
+        ExecutorTools.getMetrics("http-" + this.getPurpose().name().toLowerCase(), this.getExecutor()));
+  }
+}
@@ -1,16 +1,31 @@
 package com.byborgenterprises.utils;
 
+import com.byborgenterprises.dtos.DnsCacheMetricsDto;
+import com.byborgenterprises.dtos.HttpClientMetricsDto;
+import com.byborgenterprises.dtos.LatencyHistogramDto;
+import com.byborgenterprises.enums.HttpClientPurpose;
 import com.byborgenterprises.enums.HttpMethod;
+import com.byborgenterprises.enums.HttpPhase;
 import com.byborgenterprises.exceptions.NetworkToolsException;
 import java.io.IOException;
+import java.net.InetAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.http.HttpClient;
+import java.net.UnknownHostException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.Builder;
 import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
@@ -23,6 +38,156 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public final class NetworkTools {
 
+  /**
+   * Default number of threads of the pool of a shared HTTP client.
+   */
+  private static final int DEFAULT_CLIENT_THREADS = 2;
+
+  /**
+   * Shared HTTP clients, by purpose, created on first use.
+   */
+  private static final Map<HttpClientPurpose, ManagedHttpClient> HTTP_CLIENTS = new ConcurrentHashMap<>();
+
+  /**
+   * Latency histograms of the phases of the TCP/IP pings.
+   */
+  private static final Map<HttpPhase, LatencyHistogram> PHASE_HISTOGRAMS = new EnumMap<>(
+      Arrays.stream(HttpPhase.values()).collect(Collectors.toMap(Function.identity(), phase -> new LatencyHistogram(phase.name()))));
+
+  /**
+   * Cache of the resolution of the host names.
+   */
+  private static volatile DnsCache dnsCache = new DnsCache(60000L, 5000L);
+
+  /**
+   * Replaces the cache of the resolution of the host names, forgetting every cached resolution and
+   * stopping the threads of the previous cache.
+   *
+   * @param positiveTtl the time a resolved address is kept, in milliseconds, {@code 0} disables the cache.
+   * @param negativeTtl the time a failed resolution is kept, in milliseconds.
+   * @throws IllegalArgumentException if a time to live is negative.
+   */
+  public static void configureDnsCache(final long positiveTtl, final long negativeTtl) {
+    DnsCache previous = dnsCache;
+    dnsCache = new DnsCache(positiveTtl, negativeTtl);
+    previous.close();
+  }
+
+  /**
+   * Retrieves a snapshot of the use of the cache of the resolution of the host names.
+   *
+   * @return the {@link DnsCacheMetricsDto} of the cache.
+   */
+  @NonNull
+  public static DnsCacheMetricsDto getDnsCacheMetrics() {
+    return dnsCache.getMetrics();
+  }
+
+  /**
+   * Resolves a host name to its first address, from the cache when possible.
+   *
+   * @param host the host name or IP address.
+   * @return the {@link InetAddress} of the host.
+   * @throws UnknownHostException if the host name cannot be resolved.
+   */
+  @NonNull
+  public static InetAddress resolve(@NonNull final String host) throws UnknownHostException {
+    return dnsCache.resolve(host);
+  }
+
+  /**
+   * Indicates whether the resolution of a host name is cached, so that resolving it will not wait
+   * for a lookup.
+   *
+   * @param host the host name or IP address.
+   * @return {@code true} if the resolution of the host name is cached.
+   */
+  public static boolean isResolutionCached(@NonNull final String host) {
+    return dnsCache.isCached(host);
+  }
+
+  /**
+   * Resolves a host name to its first address without blocking, from the cache when possible.
+   *
+   * @param host the host name or IP address.
+   * @return a {@link CompletableFuture} completed with the {@link InetAddress} of the host, or exceptionally with an {@link UnknownHostException}.
+   */
+  @NonNull
+  public static CompletableFuture<InetAddress> resolveAsync(@NonNull final String host) {
+    return dnsCache.resolveAsync(host);
+  }
+
+  /**
+   * Resolves a host name to the text of its first address, for the commands that would resolve it
+   * again. A host name that cannot be resolved is kept, so that the command reports the failure.
+   *
+   * @param host the host name or IP address.
+   * @return the IP address of the host, or the host name if it cannot be resolved.
+   */
+  @NonNull
+  public static String resolveAddress(@NonNull final String host) {
+    try {
+      return resolve(host).getHostAddress();
+    } catch (UnknownHostException e) {
+      return host;
+    }
+  }
+
+  /**
+   * Records the measured phases of a TCP/IP ping in the latency histograms of the phases.
+   *
+   * @param phaseTimer the timer of the ping.
+   */
+  public static void recordPhases(@NonNull final PhaseTimer phaseTimer) {
+    PHASE_HISTOGRAMS.forEach((phase, histogram) -> histogram.record(phaseTimer.get(phase)));
+  }
+
+  /**
+   * Retrieves a snapshot of the latency distribution of each phase of the TCP/IP pings.
+   *
+   * @return the {@link LatencyHistogramDto} of each phase.
+   */
+  @NonNull
+  public static List<LatencyHistogramDto> getPhaseMetrics() {
+    return PHASE_HISTOGRAMS.values().stream().map(LatencyHistogram::getMetrics).toList();
+  }
+
+  /**
+   * Replaces the shared HTTP client of a purpose. The requests already sent complete on the
+   * previous client, which is then closed and releases its thread pool.
+   *
+   * @param purpose the use of the client.
+   * @param threadNumber the number of threads of the pool of the client.
+   * @throws IllegalArgumentException if the number of threads is not positive.
+   */
+  public static void configureHttpClient(@NonNull final HttpClientPurpose purpose, final int threadNumber) {
+    ManagedHttpClient previous = HTTP_CLIENTS.put(purpose, new ManagedHttpClient(purpose, threadNumber));
+    if (Objects.nonNull(previous)) {
+      previous.close();
+    }
+  }
+
+  /**
+   * Retrieves a snapshot of the use of the shared HTTP clients created so far.
+   *
+   * @return the {@link HttpClientMetricsDto} of each client.
+   */
+  @NonNull
+  public static List<HttpClientMetricsDto> getHttpClientMetrics() {
+    return Arrays.stream(HttpClientPurpose.values()).filter(HTTP_CLIENTS::containsKey).map(purpose -> HTTP_CLIENTS.get(purpose).getMetrics()).toList();
+  }
+
+  /**
+   * Retrieves the shared HTTP client of a purpose, creating it with the default pool if needed.
+   *
+   * @param purpose the use of the client.
+   * @return the {@link ManagedHttpClient}.
+   */
+  @NonNull
+  private static ManagedHttpClient getHttpClient(@NonNull final HttpClientPurpose purpose) {
+    return HTTP_CLIENTS.computeIfAbsent(purpose, key -> new ManagedHttpClient(key, DEFAULT_CLIENT_THREADS));
+  }
+
   /**
    * Generates a URI based on the provided protocol, host, and parameters.
    *
@@ -61,7 +226,7 @@ public final class NetworkTools {
   }
 
   /**
-   * Sends an HTTP request and returns the response.
+   * Sends an HTTP request with the shared probe client and returns the response.
    *
    * @param uri      the target URI.
    * @param method   the HTTP method to use (e.g., GET, POST).
@@ -73,11 +238,47 @@ public final class NetworkTools {
   @NonNull
   public static HttpResponse<String> httpRequest(@NonNull final URI uri, @NonNull final Map<String, String> header, @NonNull final HttpMethod method, @NonNull final String body,
       final long timeout) throws IOException {
-    HttpResponse<String> response;
+    return httpRequest(HttpClientPurpose.PROBE, uri, header, method, body, timeout);
+  }
+
+  /**
+   * Sends an HTTP request with the shared client of a purpose and returns the response.
+   *
+   * @param purpose  the use of the client sending the request.
+   * @param uri      the target URI.
+   * @param method   the HTTP method to use (e.g., GET, POST).
+   * @param timeout  the timeout duration for the request.
+   * @return the {@link HttpResponse} received.
+   * @throws IOException              if an I/O error occurs.
+   * @throws NetworkToolsException    if the request cannot be created or sent.
+   */
+  @NonNull
+  public static HttpResponse<String> httpRequest(@NonNull final HttpClientPurpose purpose, @NonNull final URI uri, @NonNull final Map<String, String> header,
+      @NonNull final HttpMethod method, @NonNull final String body, final long timeout) throws IOException {
+    return httpRequest(purpose, uri, header, method, body, timeout, BodyHandlers.ofString());
+  }
+
+  /**
+   * Sends an HTTP request with the shared client of a purpose and returns the response, handling
+   * the response body with the given handler.
+   *
+   * @param purpose     the use of the client sending the request.
+   * @param uri         the target URI.
+   * @param method      the HTTP method to use (e.g., GET, POST).
+   * @param timeout     the timeout duration for the request.
+   * @param bodyHandler the handler of the response body.
+   * @param <T>         the type of the response body.
+   * @return the {@link HttpResponse} received.
+   * @throws IOException              if an I/O error occurs.
+   * @throws NetworkToolsException    if the request cannot be created or sent.
+   */
+  @NonNull
+  public static <T> HttpResponse<T> httpRequest(@NonNull final HttpClientPurpose purpose, @NonNull final URI uri, @NonNull final Map<String, String> header,
+      @NonNull final HttpMethod method, @NonNull final String body, final long timeout, @NonNull final BodyHandler<T> bodyHandler) throws IOException {
+    HttpResponse<T> response;
     try {
-      HttpClient httpClient = HttpClient.newHttpClient();
       HttpRequest httpRequest = getHttpRequest(uri, header, method, body, timeout);
-      response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+      response = getHttpClient(purpose).send(httpRequest, bodyHandler);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new NetworkToolsException("HTTP client can't set a " + method.getMethodValue() + " request to url " + uri, e);
@@ -85,6 +286,42 @@ public final class NetworkTools {
     return response;
   }
 
+  /**
+   * Sends an HTTP request with the shared client of a purpose without waiting for the response.
+   *
+   * @param purpose  the use of the client sending the request.
+   * @param uri      the target URI.
+   * @param method   the HTTP method to use (e.g., GET, POST).
+   * @param timeout  the timeout duration for the request.
+   * @return a {@link CompletableFuture} completed with the {@link HttpResponse} received, or exceptionally with the {@link IOException} of the exchange.
+   * @throws NetworkToolsException    if the request cannot be created.
+   */
+  @NonNull
+  public static CompletableFuture<HttpResponse<String>> httpRequestAsync(@NonNull final HttpClientPurpose purpose, @NonNull final URI uri, @NonNull final Map<String, String> header,
+      @NonNull final HttpMethod method, @NonNull final String body, final long timeout) {
+    return httpRequestAsync(purpose, uri, header, method, body, timeout, BodyHandlers.ofString());
+  }
+
+  /**
+   * Sends an HTTP request with the shared client of a purpose without waiting for the response,
+   * handling the response body with the given handler.
+   *
+   * @param purpose     the use of the client sending the request.
+   * @param uri         the target URI.
+   * @param method      the HTTP method to use (e.g., GET, POST).
+   * @param timeout     the timeout duration for the request.
+   * @param bodyHandler the handler of the response body.
+   * @param <T>         the type of the response body.
+   * @return a {@link CompletableFuture} completed with the {@link HttpResponse} received, or exceptionally with the {@link IOException} of the exchange.
+   * @throws NetworkToolsException    if the request cannot be created.
+   */
+  @NonNull
+  public static <T> CompletableFuture<HttpResponse<T>> httpRequestAsync(@NonNull final HttpClientPurpose purpose, @NonNull final URI uri, @NonNull final Map<String, String> header,
+      @NonNull final HttpMethod method, @NonNull final String body, final long timeout, @NonNull final BodyHandler<T> bodyHandler) {
+    HttpRequest httpRequest = getHttpRequest(uri, header, method, body, timeout);
+    return getHttpClient(purpose).sendAsync(httpRequest, bodyHandler);
+  }
+
   /**
    * Creates an HTTP request based on the provided URI, method, and timeout.
    *
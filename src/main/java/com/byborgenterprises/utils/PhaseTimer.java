@@ -0,0 +1,68 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.enums.HttpPhase;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The PhaseTimer class measures the successive phases of one TCP/IP ping with nanosecond
+ * resolution. A phase that was not measured keeps the value {@code -1}.
+ *
+ * <p>The phases of an asynchronous ping end on other threads than the one starting it, the timer
+ * can be shared between them.
+ */
+@Getter(AccessLevel.PRIVATE)
+public class PhaseTimer {
+
+  private final AtomicLongArray durations = new AtomicLongArray(HttpPhase.values().length);
+  private volatile long mark = System.nanoTime();
+
+  /**
+   * Creates a timer with no phase measured, started now.
+   */
+  public PhaseTimer() {
+    for (int i = 0; i < this.getDurations().length(); i++) {
+      this.getDurations().set(i, -1L);
+    }
+  }
+
+  /**
+   * Starts the measure of the next phase now.
+   */
+  public void start() {
+    this.mark = System.nanoTime();
+  }
+
+  /**
+   * Ends a phase now and starts the measure of the next one.
+   *
+   * @param phase the phase ending.
+   */
+  public void lap(@NonNull final HttpPhase phase) {
+    long now = System.nanoTime();
+    this.set(phase, now - this.getMark());
+    this.mark = now;
+  }
+
+  /**
+   * Sets the duration of a phase measured elsewhere.
+   *
+   * @param phase the phase.
+   * @param duration the duration of the phase, in nanoseconds.
+   */
+  public void set(@NonNull final HttpPhase phase, final long duration) {
+    this.getDurations().set(phase.ordinal(), duration);
+  }
+
+  /**
+   * Retrieves the duration of a phase.
+   *
+   * @param phase the phase.
+   * @return the duration in nanoseconds, or {@code -1} if the phase was not measured.
+   */
+  public long get(@NonNull final HttpPhase phase) {
+    return this.getDurations().get(phase.ordinal());
+  }
+}
@@ -0,0 +1,414 @@
+package com.byborgenterprises.utils;
+
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The PingOutputParser class extracts the statistics of a ping from its output, on Linux and
+ * Windows, scanning each line of the output once.
+ *
+ * <p>Each reply line gives a round trip time and each timed out or unreachable line a lost
+ * request. The summary of the command, when it was written, gives the number of requests sent and
+ * received, the packet loss and the minimum, average, maximum and mean deviation of the round trip
+ * times. When the summary is missing, as in the output of a stopped command, the statistics are
+ * computed from the reply and loss lines instead.
+ *
+ * <p>Each character of a line is only compared to the keywords starting with it, the positions of
+ * the keywords found deciding what the line reports. The lines and the numbers are read in place,
+ * without regular expressions nor copies of the output. The times are in milliseconds, an unknown
+ * number is {@code -1}.
+ */
+@Getter
+public final class PingOutputParser {
+
+  /**
+   * Value of the numbers missing from the output.
+   */
+  public static final double UNKNOWN = -1.0;
+
+  private static final long MAX_FRACTION_SCALE = 1_000_000_000_000L;
+
+  /**
+   * Keywords searched in each line, in lower case, indexed by the constants below.
+   */
+  private static final String[] KEYWORDS = {"time=", "time<", "ttl=", "reply from", "timed out", "unreachable", "no answer yet", "sent =", "packets transmitted",
+      "received", "received =", "% packet loss", "% loss", "min/avg/max", "minimum =", "maximum =", "average =", "="};
+  private static final int TIME_EQUALS = 0;
+  private static final int TIME_BELOW = 1;
+  private static final int TTL = 2;
+  private static final int REPLY_FROM = 3;
+  private static final int TIMED_OUT = 4;
+  private static final int UNREACHABLE = 5;
+  private static final int NO_ANSWER = 6;
+  private static final int SENT = 7;
+  private static final int PACKETS_TRANSMITTED = 8;
+  private static final int RECEIVED = 9;
+  private static final int RECEIVED_EQUALS = 10;
+  private static final int PACKET_LOSS = 11;
+  private static final int LOSS = 12;
+  private static final int MIN_AVG_MAX = 13;
+  private static final int MINIMUM = 14;
+  private static final int MAXIMUM = 15;
+  private static final int AVERAGE = 16;
+  private static final int EQUALS = 17;
+
+  /**
+   * Indexes of the keywords by their first character, {@code null} for a character starting none.
+   */
+  private static final int[][] KEYWORDS_BY_FIRST_CHAR = new int[128][];
+
+  static {
+    for (int i = 0; i < KEYWORDS.length; i++) {
+      char first = KEYWORDS[i].charAt(0);
+      int[] indexes = KEYWORDS_BY_FIRST_CHAR[first];
+      indexes = indexes == null ? new int[1] : Arrays.copyOf(indexes, indexes.length + 1);
+      indexes[indexes.length - 1] = i;
+      KEYWORDS_BY_FIRST_CHAR[first] = indexes;
+    }
+  }
+
+  private int transmitted = -1;
+  private int received = -1;
+  private double lossPercent = UNKNOWN;
+  private double minRtt = UNKNOWN;
+  private double avgRtt = UNKNOWN;
+  private double maxRtt = UNKNOWN;
+  private double mdevRtt = UNKNOWN;
+
+  /**
+   * Number of reply lines.
+   */
+  private int replies;
+
+  /**
+   * Number of lost request lines.
+   */
+  private int losses;
+
+  @Getter(AccessLevel.NONE)
+  private double[] roundTrips = new double[8];
+
+  @Getter(AccessLevel.NONE)
+  private int roundTripCount;
+
+  /**
+   * Position of the first occurrence of each keyword in the current line, {@code -1} if missing.
+   */
+  @Getter(AccessLevel.NONE)
+  private final int[] positions = new int[KEYWORDS.length];
+
+  /**
+   * End of the last number read.
+   */
+  @Getter(AccessLevel.NONE)
+  private int cursor;
+
+  private PingOutputParser() {
+  }
+
+  /**
+   * Parses the output of a ping.
+   *
+   * @param output the output of the ping command, its lines separated by {@code \n} or {@code \r\n}.
+   * @return the parser holding the statistics of the ping.
+   */
+  @NonNull
+  public static PingOutputParser parse(@NonNull final CharSequence output) {
+    PingOutputParser parser = new PingOutputParser();
+    int start = 0;
+    int length = output.length();
+    for (int i = 0; i <= length; i++) {
+      if (i == length || output.charAt(i) == '\n') {
+        int end = i > start && output.charAt(i - 1) == '\r' ? i - 1 : i;
+        parser.parseLine(output, start, end);
+        start = i + 1;
+      }
+    }
+    parser.complete();
+    return parser;
+  }
+
+  /**
+   * Computes the packet loss of a ping.
+   *
+   * @param transmitted the number of requests sent.
+   * @param received the number of replies received.
+   * @return the percentage of lost requests, {@link #UNKNOWN} if no request was sent.
+   */
+  public static double getLossPercent(final int transmitted, final int received) {
+    return transmitted > 0 ? 100.0 * (transmitted - received) / transmitted : UNKNOWN;
+  }
+
+  /**
+   * Checks whether a keyword starts at a position of the output, ignoring the case, its first
+   * character being already matched.
+   *
+   * @param output the output.
+   * @param position the position of the first character of the keyword.
+   * @param end the end of the line, excluded.
+   * @param keyword the keyword, in lower case.
+   * @return {@code true} if the keyword starts at the position.
+   */
+  private static boolean matches(@NonNull final CharSequence output, final int position, final int end, @NonNull final String keyword) {
+    if (position + keyword.length() > end) {
+      return false;
+    }
+    for (int j = 1; j < keyword.length(); j++) {
+      if (Character.toLowerCase(output.charAt(position + j)) != keyword.charAt(j)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Retrieves the round trip time of each reply line, in the order of the output.
+   *
+   * @return the round trip times, in milliseconds.
+   */
+  public double @NonNull [] getRoundTrips() {
+    return Arrays.copyOf(this.roundTrips, this.roundTripCount);
+  }
+
+  /**
+   * Finds the first occurrence of each keyword in a line, in one scan of its characters.
+   *
+   * @param output the output.
+   * @param start the start of the line.
+   * @param end the end of the line, excluded.
+   */
+  private void scanLine(@NonNull final CharSequence output, final int start, final int end) {
+    Arrays.fill(this.positions, -1);
+    for (int i = start; i < end; i++) {
+      char character = Character.toLowerCase(output.charAt(i));
+      int[] keywords = character < KEYWORDS_BY_FIRST_CHAR.length ? KEYWORDS_BY_FIRST_CHAR[character] : null;
+      if (keywords == null) {
+        continue;
+      }
+      for (int keyword : keywords) {
+        if (this.positions[keyword] < 0 && matches(output, i, end, KEYWORDS[keyword])) {
+          this.positions[keyword] = i;
+        }
+      }
+    }
+  }
+
+  /**
+   * Parses one line of the output.
+   *
+   * @param output the output.
+   * @param start the start of the line.
+   * @param end the end of the line, excluded.
+   */
+  private void parseLine(@NonNull final CharSequence output, final int start, final int end) {
+    this.scanLine(output, start, end);
+    int[] found = this.positions;
+    int time = found[TIME_EQUALS] >= 0 ? found[TIME_EQUALS] : found[TIME_BELOW];
+    if (time >= 0 && (found[TTL] >= 0 || found[REPLY_FROM] >= 0)) {
+      this.replies++;
+      this.addRoundTrip(this.parseNumber(output, time + 5, end));
+    } else if (found[TIMED_OUT] >= 0 || found[UNREACHABLE] >= 0 || found[NO_ANSWER] >= 0) {
+      this.losses++;
+    } else if (found[SENT] >= 0) {
+      this.parseWindowsPackets(output, start, end);
+    } else if (found[PACKETS_TRANSMITTED] >= 0) {
+      this.parseLinuxPackets(output, start);
+    } else if (found[MIN_AVG_MAX] >= 0) {
+      this.parseLinuxRoundTrips(output, end);
+    } else if (found[MINIMUM] >= 0) {
+      this.parseWindowsRoundTrips(output, end);
+    }
+  }
+
+  /**
+   * Parses a Linux packet summary, such as
+   * {@code 5 packets transmitted, 4 received, +1 errors, 20% packet loss, time 4005ms}.
+   *
+   * @param output the output.
+   * @param start the start of the line.
+   */
+  private void parseLinuxPackets(@NonNull final CharSequence output, final int start) {
+    this.transmitted = (int) this.parseNumberBefore(output, start, this.positions[PACKETS_TRANSMITTED]);
+    if (this.positions[RECEIVED] >= 0) {
+      this.received = (int) this.parseNumberBefore(output, start, this.positions[RECEIVED]);
+    }
+    if (this.positions[PACKET_LOSS] >= 0) {
+      this.lossPercent = this.parseNumberBefore(output, start, this.positions[PACKET_LOSS]);
+    }
+  }
+
+  /**
+   * Parses a Windows packet summary, such as
+   * {@code Packets: Sent = 4, Received = 3, Lost = 1 (25% loss),}.
+   *
+   * @param output the output.
+   * @param start the start of the line.
+   * @param end the end of the line, excluded.
+   */
+  private void parseWindowsPackets(@NonNull final CharSequence output, final int start, final int end) {
+    this.transmitted = (int) this.parseNumber(output, this.positions[SENT] + 6, end);
+    if (this.positions[RECEIVED_EQUALS] >= 0) {
+      this.received = (int) this.parseNumber(output, this.positions[RECEIVED_EQUALS] + 10, end);
+    }
+    if (this.positions[LOSS] >= 0) {
+      this.lossPercent = this.parseNumberBefore(output, start, this.positions[LOSS]);
+    }
+  }
+
+  /**
+   * Parses a Linux round trip summary, such as
+   * {@code rtt min/avg/max/mdev = 0.031/0.040/0.045/0.005 ms}, the mean deviation being missing
+   * from the summaries of some ping commands.
+   *
+   * @param output the output.
+   * @param end the end of the line, excluded.
+   */
+  private void parseLinuxRoundTrips(@NonNull final CharSequence output, final int end) {
+    int equals = this.positions[EQUALS];
+    if (equals < 0) {
+      return;
+    }
+    double[] values = {UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN};
+    this.cursor = equals + 1;
+    for (int i = 0; i < values.length && this.cursor < end; i++) {
+      values[i] = this.parseNumber(output, this.cursor, end);
+      if (this.cursor >= end || output.charAt(this.cursor) != '/') {
+        break;
+      }
+      this.cursor++;
+    }
+    this.minRtt = values[0];
+    this.avgRtt = values[1];
+    this.maxRtt = values[2];
+    this.mdevRtt = values[3];
+  }
+
+  /**
+   * Parses a Windows round trip summary, such as
+   * {@code Minimum = 14ms, Maximum = 15ms, Average = 14ms}.
+   *
+   * @param output the output.
+   * @param end the end of the line, excluded.
+   */
+  private void parseWindowsRoundTrips(@NonNull final CharSequence output, final int end) {
+    this.minRtt = this.parseNumber(output, this.positions[MINIMUM] + 9, end);
+    if (this.positions[MAXIMUM] >= 0) {
+      this.maxRtt = this.parseNumber(output, this.positions[MAXIMUM] + 9, end);
+    }
+    if (this.positions[AVERAGE] >= 0) {
+      this.avgRtt = this.parseNumber(output, this.positions[AVERAGE] + 9, end);
+    }
+  }
+
+  /**
+   * Reads a decimal number, after optional blanks, and moves the cursor to its end.
+   *
+   * @param output the output.
+   * @param from the start of the number or of its leading blanks.
+   * @param end the end of the line, excluded.
+   * @return the number, {@link #UNKNOWN} if there is no digit.
+   */
+  private double parseNumber(@NonNull final CharSequence output, final int from, final int end) {
+    int i = from;
+    while (i < end && output.charAt(i) == ' ') {
+      i++;
+    }
+    long integer = 0;
+    long fraction = 0;
+    long scale = 1;
+    boolean digits = false;
+    while (i < end && Character.isDigit(output.charAt(i))) {
+      integer = integer * 10 + Character.digit(output.charAt(i), 10);
+      digits = true;
+      i++;
+    }
+    if (i < end && output.charAt(i) == '.') {
+      i++;
+      while (i < end && Character.isDigit(output.charAt(i))) {
+        if (scale < MAX_FRACTION_SCALE) {
+          fraction = fraction * 10 + Character.digit(output.charAt(i), 10);
+          scale *= 10;
+        }
+        digits = true;
+        i++;
+      }
+    }
+    this.cursor = i;
+    return digits ? integer + (double) fraction / scale : UNKNOWN;
+  }
+
+  /**
+   * Reads the decimal number ending before a position, after optional blanks.
+   *
+   * @param output the output.
+   * @param start the start of the line.
+   * @param position the position following the number and its trailing blanks.
+   * @return the number, {@link #UNKNOWN} if there is no digit.
+   */
+  private double parseNumberBefore(@NonNull final CharSequence output, final int start, final int position) {
+    int end = position;
+    while (end > start && output.charAt(end - 1) == ' ') {
+      end--;
+    }
+    int from = end;
+    while (from > start && (Character.isDigit(output.charAt(from - 1)) || output.charAt(from - 1) == '.')) {
+      from--;
+    }
+    return this.parseNumber(output, from, end);
+  }
+
+  /**
+   * Records the round trip time of a reply.
+   *
+   * @param roundTrip the round trip time, ignored when {@link #UNKNOWN}.
+   */
+  private void addRoundTrip(final double roundTrip) {
+    if (roundTrip < 0) {
+      return;
+    }
+    if (this.roundTripCount == this.roundTrips.length) {
+      this.roundTrips = Arrays.copyOf(this.roundTrips, this.roundTripCount * 2);
+    }
+    this.roundTrips[this.roundTripCount++] = roundTrip;
+  }
+
+  /**
+   * Fills the statistics missing from the summary with those of the reply and loss lines.
+   */
+  private void complete() {
+    if (this.transmitted < 0) {
+      this.transmitted = this.replies + this.losses;
+    }
+    if (this.received < 0) {
+      this.received = this.replies;
+    }
+    if (this.lossPercent < 0) {
+      this.lossPercent = getLossPercent(this.transmitted, this.received);
+    }
+    if (this.roundTripCount == 0) {
+      return;
+    }
+    double min = Double.MAX_VALUE;
+    double max = 0;
+    double sum = 0;
+    double squares = 0;
+    for (int i = 0; i < this.roundTripCount; i++) {
+      double roundTrip = this.roundTrips[i];
+      min = Math.min(min, roundTrip);
+      max = Math.max(max, roundTrip);
+      sum += roundTrip;
+      squares += roundTrip * roundTrip;
+    }
+    double avg = sum / this.roundTripCount;
+    if (this.minRtt < 0) {
+      this.minRtt = min;
+      this.maxRtt = max;
+      this.avgRtt = avg;
+    }
+    if (this.mdevRtt < 0) {
+      this.mdevRtt = Math.sqrt(Math.max(0, squares / this.roundTripCount - avg * avg));
+    }
+  }
+}
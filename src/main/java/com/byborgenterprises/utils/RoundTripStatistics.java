@@ -0,0 +1,82 @@
+package com.byborgenterprises.utils;
+
+/**
+ * The RoundTripStatistics class sums up round trip times as they are measured, so that their
+ * minimum, average, maximum and mean deviation are known without keeping every time.
+ *
+ * <p>The times are in milliseconds, a statistic of no time is {@link PingOutputParser#UNKNOWN}.
+ * An instance is not thread-safe.
+ */
+public final class RoundTripStatistics {
+
+  private int count;
+  private double min = Double.MAX_VALUE;
+  private double max;
+  private double sum;
+  private double squares;
+
+  /**
+   * Sums up a round trip time.
+   *
+   * @param roundTrip the round trip time in milliseconds, ignored when negative.
+   */
+  public void add(final double roundTrip) {
+    if (roundTrip < 0) {
+      return;
+    }
+    this.count++;
+    this.min = Math.min(this.min, roundTrip);
+    this.max = Math.max(this.max, roundTrip);
+    this.sum += roundTrip;
+    this.squares += roundTrip * roundTrip;
+  }
+
+  /**
+   * Retrieves the number of round trip times summed up.
+   *
+   * @return the number of times.
+   */
+  public int getCount() {
+    return this.count;
+  }
+
+  /**
+   * Retrieves the minimum round trip time.
+   *
+   * @return the time in milliseconds, {@link PingOutputParser#UNKNOWN} if no time was summed up.
+   */
+  public double getMinRtt() {
+    return this.count > 0 ? this.min : PingOutputParser.UNKNOWN;
+  }
+
+  /**
+   * Retrieves the average round trip time.
+   *
+   * @return the time in milliseconds, {@link PingOutputParser#UNKNOWN} if no time was summed up.
+   */
+  public double getAvgRtt() {
+    return this.count > 0 ? this.sum / this.count : PingOutputParser.UNKNOWN;
+  }
+
+  /**
+   * Retrieves the maximum round trip time.
+   *
+   * @return the time in milliseconds, {@link PingOutputParser#UNKNOWN} if no time was summed up.
+   */
+  public double getMaxRtt() {
+    return this.count > 0 ? this.max : PingOutputParser.UNKNOWN;
+  }
+
+  /**
+   * Retrieves the mean deviation of the round trip times.
+   *
+   * @return the deviation in milliseconds, {@link PingOutputParser#UNKNOWN} if no time was summed up.
+   */
+  public double getMdevRtt() {
+    if (this.count == 0) {
+      return PingOutputParser.UNKNOWN;
+    }
+    double avg = this.sum / this.count;
+    return Math.sqrt(Math.max(0, this.squares / this.count - avg * avg));
+  }
+}
@@ -0,0 +1,375 @@
+package com.byborgenterprises.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The SpawnHelper class starts terminal commands from a long-lived {@code sh} helper process,
+ * started once, so that the JVM does not pay the cost of a fork for every command.
+ *
+ * <p>The JVM writes one line per command to the helper, holding the id and the command. The helper
+ * starts the command in the background, with its words split on blanks and without glob expansion
+ * like a command started by a {@link ProcessBuilder}, and writes back lines holding the id, the
+ * process id of the command, each line of its output and, once it exited, its exit code. A single
+ * thread reads the helper and feeds the {@link Process} of each command, so that the commands
+ * started by the helper are read, awaited and killed like the commands started by the JVM. The
+ * error stream of the commands is discarded.
+ *
+ * <p>When the helper exits, the running commands end with the exit code {@code -1} and the helper
+ * is started again by the next command.
+ */
+@Log4j2
+@Getter(AccessLevel.PRIVATE)
+public class SpawnHelper {
+
+  /**
+   * Script of the helper, reading {@code <id> <command>} lines and writing {@code <id> p <pid>}
+   * and {@code <id> o <line>} lines, the exit code following the {@code \001} marker of the last
+   * output line.
+   */
+  private static final String SCRIPT = """
+      set -f
+      while IFS=' ' read -r id cmd; do
+        {
+          ( $cmd </dev/null 2>/dev/null & echo "$id p $!" >&3; wait $!; printf '\\001%s\\n' "$?" ) |
+            while IFS= read -r l || [ -n "$l" ]; do printf '%s o %s\\n' "$id" "$l"; done
+        } 3>&1 &
+      done
+      """;
+
+  private static final char EXIT_MARKER = '\001';
+  private static final long SPAWN_TIMEOUT_SECONDS = 10L;
+
+  /**
+   * Threads reading the output of the helpers.
+   */
+  private static final ExecutorService HELPER_READERS = ExecutorTools.newCachedThreadPool("spawn-helper");
+
+  private final AtomicLong ids = new AtomicLong();
+  private final Object lock = new Object();
+  private Shell shell;
+
+  /**
+   * Starts a command from the helper, starting the helper first if it is not running.
+   *
+   * @param command the command, its words separated by blanks.
+   * @return the {@link Process} of the command.
+   * @throws IOException if the helper cannot be started or does not start the command in time.
+   */
+  @NonNull
+  public Process spawn(@NonNull final String command) throws IOException {
+    if (command.indexOf('\n') >= 0 || command.indexOf('\r') >= 0) {
+      throw new IOException("Command cannot span several lines: " + command);
+    }
+    HelperProcess helperProcess = new HelperProcess(this.getIds().incrementAndGet());
+    synchronized (this.getLock()) {
+      if (Objects.isNull(this.shell) || !this.shell.isAlive()) {
+        this.shell = new Shell();
+      }
+      this.shell.send(helperProcess, command);
+    }
+    try {
+      helperProcess.pid.get(SPAWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      return helperProcess;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while the helper starts the command: " + command);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new IOException("Helper did not start the command: " + command, e);
+    }
+  }
+
+  /**
+   * Stops the helper from taking new commands. The commands it already started keep running and
+   * being read until they exit.
+   */
+  public void close() {
+    synchronized (this.getLock()) {
+      if (Objects.nonNull(this.shell)) {
+        this.shell.close();
+        this.shell = null;
+      }
+    }
+  }
+
+  /**
+   * The Shell class is one running helper and the commands it started.
+   */
+  private static final class Shell {
+
+    private final Process process;
+    private final Writer writer;
+    private final Map<Long, HelperProcess> processes = new ConcurrentHashMap<>();
+
+    private Shell() throws IOException {
+      this.process = new ProcessBuilder("sh", "-c", SCRIPT).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+      this.writer = new OutputStreamWriter(this.process.getOutputStream(), Charset.defaultCharset());
+      HELPER_READERS.submit(this::read);
+      log.info("Spawn helper started with pid {}", this.process.pid());
+    }
+
+    private boolean isAlive() {
+      return this.process.isAlive();
+    }
+
+    /**
+     * Asks the helper to start a command.
+     *
+     * @param helperProcess the process of the command.
+     * @param command the command.
+     * @throws IOException if the helper cannot be written.
+     */
+    private void send(@NonNull final HelperProcess helperProcess, @NonNull final String command) throws IOException {
+      this.processes.put(helperProcess.id, helperProcess);
+      try {
+        this.writer.write(helperProcess.id + " " + command + "\n");
+        this.writer.flush();
+      } catch (IOException e) {
+        this.processes.remove(helperProcess.id);
+        throw e;
+      }
+    }
+
+    /**
+     * Reads the lines of the helper until it exits, then ends the commands still running.
+     */
+    private void read() {
+      //@formatter:off
+      try (InputStreamReader inputStreamReader = new InputStreamReader(this.process.getInputStream(), Charset.defaultCharset());
+          BufferedReader reader = new BufferedReader(inputStreamReader)) {
+        //@formatter:on
+        String line;
+        while ((line = reader.readLine()) != null) {
+          try {
+            this.dispatch(line);
+          } catch (NumberFormatException e) {
+            log.debug("Malformed line of the spawn helper: {}", line);
+          }
+        }
+      } catch (IOException e) {
+        log.warn("Can't read the spawn helper: {}", e.getMessage());
+      } finally {
+        this.processes.values().forEach(helperProcess -> helperProcess.exit(-1));
+        this.processes.clear();
+        log.info("Spawn helper with pid {} exited", this.process.pid());
+      }
+    }
+
+    /**
+     * Dispatches a line of the helper to the process of its command.
+     *
+     * @param line the line, {@code <id> <type> <payload>}.
+     */
+    private void dispatch(@NonNull final String line) {
+      int idEnd = line.indexOf(' ');
+      if (idEnd < 0 || line.length() < idEnd + 3) {
+        return;
+      }
+      HelperProcess helperProcess = this.processes.get(Long.parseLong(line.substring(0, idEnd)));
+      if (Objects.isNull(helperProcess)) {
+        return;
+      }
+      String payload = line.length() > idEnd + 3 ? line.substring(idEnd + 3) : "";
+      if (line.charAt(idEnd + 1) == 'p') {
+        helperProcess.pid.complete(Long.parseLong(payload));
+        return;
+      }
+      int marker = payload.lastIndexOf(EXIT_MARKER);
+      if (marker < 0) {
+        helperProcess.output.offer((payload + "\n").getBytes(Charset.defaultCharset()));
+        return;
+      }
+      if (marker > 0) {
+        helperProcess.output.offer(payload.substring(0, marker).getBytes(Charset.defaultCharset()));
+      }
+      this.processes.remove(helperProcess.id);
+      helperProcess.exit(Integer.parseInt(payload.substring(marker + 1)));
+    }
+
+    /**
+     * Closes the input of the helper, which exits once its running commands ended.
+     */
+    private void close() {
+      try {
+        this.writer.close();
+      } catch (IOException e) {
+        log.debug("Can't close the spawn helper: {}", e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * The HelperProcess class is the {@link Process} of a command started by the helper. Its output
+   * is fed by the reader of the helper, and it is signaled through its process id.
+   */
+  private static final class HelperProcess extends Process {
+
+    private final long id;
+    private final CompletableFuture<Long> pid = new CompletableFuture<>();
+    private final CompletableFuture<Integer> exitCode = new CompletableFuture<>();
+    private final QueueInputStream output = new QueueInputStream();
+
+    private HelperProcess(final long id) {
+      this.id = id;
+    }
+
+    /**
+     * Ends the output of the command and records its exit code.
+     *
+     * @param code the exit code.
+     */
+    private void exit(final int code) {
+      this.output.end();
+      this.pid.completeExceptionally(new IOException("Helper exited before starting the command"));
+      this.exitCode.complete(code);
+    }
+
+    @NonNull
+    private Optional<ProcessHandle> getHandle() {
+      return this.pid.isCompletedExceptionally() ? Optional.empty() : ProcessHandle.of(this.pid.join());
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+      return OutputStream.nullOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return this.output;
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+      return InputStream.nullInputStream();
+    }
+
+    @Override
+    public int waitFor() throws InterruptedException {
+      try {
+        return this.exitCode.get();
+      } catch (ExecutionException e) {
+        return -1;
+      }
+    }
+
+    @Override
+    public int exitValue() {
+      if (!this.exitCode.isDone()) {
+        throw new IllegalThreadStateException("Command has not exited");
+      }
+      return this.exitCode.join();
+    }
+
+    @Override
+    public boolean isAlive() {
+      return !this.exitCode.isDone();
+    }
+
+    @Override
+    public long pid() {
+      return this.pid.join();
+    }
+
+    @Override
+    public ProcessHandle toHandle() {
+      return this.getHandle().orElseThrow(() -> new UnsupportedOperationException("Command has exited"));
+    }
+
+    @Override
+    public Stream<ProcessHandle> descendants() {
+      return this.getHandle().map(ProcessHandle::descendants).orElseGet(Stream::empty);
+    }
+
+    @Override
+    public void destroy() {
+      this.getHandle().ifPresent(ProcessHandle::destroy);
+    }
+
+    @Override
+    public Process destroyForcibly() {
+      this.getHandle().ifPresent(ProcessHandle::destroyForcibly);
+      return this;
+    }
+  }
+
+  /**
+   * The QueueInputStream class is an unbounded stream fed with chunks of bytes by another thread, so
+   * that a slow reader never blocks the reader of the helper.
+   */
+  private static final class QueueInputStream extends InputStream {
+
+    private static final byte[] END = new byte[0];
+    private final BlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>();
+    private byte[] current = new byte[0];
+    private int position;
+    private boolean ended;
+
+    private void offer(final byte @NonNull [] chunk) {
+      this.chunks.add(chunk);
+    }
+
+    private void end() {
+      this.chunks.add(END);
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      return this.read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(final byte @NonNull [] buffer, final int offset, final int length) throws IOException {
+      if (length == 0) {
+        return 0;
+      }
+      while (this.position >= this.current.length) {
+        if (this.ended) {
+          return -1;
+        }
+        try {
+          this.current = this.chunks.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while reading the command output");
+        }
+        this.position = 0;
+        this.ended = this.current == END;
+      }
+      int read = Math.min(length, this.current.length - this.position);
+      System.arraycopy(this.current, this.position, buffer, offset, read);
+      this.position += read;
+      return read;
+    }
+
+    @Override
+    public int available() {
+      return this.current.length - this.position;
+    }
+  }
+}
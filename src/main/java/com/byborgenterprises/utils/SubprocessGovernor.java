@@ -0,0 +1,108 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.dtos.SubprocessMetricsDto;
+import com.byborgenterprises.exceptions.SubprocessLimitException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The SubprocessGovernor class bounds the number of terminal subprocesses alive at once.
+ *
+ * <p>Each command takes a slot before its process is started and gives it back once the process
+ * exited. Slots are granted in arrival order, and a command that cannot get a slot within the
+ * maximum waiting time is rejected with a {@link SubprocessLimitException}, so that an outage on
+ * many hosts degrades into skipped probes instead of hundreds of forked processes.
+ */
+@Log4j2
+@Getter(AccessLevel.PRIVATE)
+public class SubprocessGovernor {
+
+  /**
+   * The maximum number of subprocesses running at once.
+   */
+  private final int maxProcesses;
+
+  /**
+   * The maximum time a command waits for a slot, in milliseconds.
+   */
+  private final long maxWait;
+
+  private final Semaphore slots;
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final AtomicLong admitted = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong totalQueueTime = new AtomicLong();
+  private final AtomicLong maxQueueTime = new AtomicLong();
+  private volatile long lastQueueTime;
+
+  /**
+   * Creates a governor.
+   *
+   * @param maxProcesses the maximum number of subprocesses running at once.
+   * @param maxWait the maximum time a command waits for a slot, in milliseconds.
+   * @throws IllegalArgumentException if the maximum number of subprocesses is not positive or the waiting time is negative.
+   */
+  public SubprocessGovernor(final int maxProcesses, final long maxWait) {
+    if (maxProcesses <= 0 || maxWait < 0) {
+      throw new IllegalArgumentException("The maximum number of subprocesses must be positive and the waiting time not negative");
+    }
+    this.maxProcesses = maxProcesses;
+    this.maxWait = maxWait;
+    this.slots = new Semaphore(maxProcesses, true);
+  }
+
+  /**
+   * Waits for a free slot to start the subprocess of a command.
+   *
+   * @param command the command to start.
+   * @throws SubprocessLimitException if no slot became free in time, or the thread was interrupted while waiting.
+   */
+  public void acquire(@NonNull final String command) {
+    long start = System.nanoTime();
+    this.getWaiting().incrementAndGet();
+    try {
+      if (!this.getSlots().tryAcquire(this.getMaxWait(), TimeUnit.MILLISECONDS)) {
+        this.getRejected().incrementAndGet();
+        log.warn("Subprocess limit of {} reached, command rejected after {} ms: {}", this.getMaxProcesses(), this.getMaxWait(), command);
+        throw new SubprocessLimitException("No subprocess slot free after " + this.getMaxWait() + " ms for terminal command: " + command);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      this.getRejected().incrementAndGet();
+      throw new SubprocessLimitException("Interrupted while waiting for a subprocess slot for terminal command: " + command, e);
+    } finally {
+      this.getWaiting().decrementAndGet();
+    }
+    long queueTime = System.nanoTime() - start;
+    this.getAdmitted().incrementAndGet();
+    this.getTotalQueueTime().addAndGet(queueTime);
+    this.getMaxQueueTime().accumulateAndGet(queueTime, Math::max);
+    this.lastQueueTime = queueTime;
+  }
+
+  /**
+   * Gives back the slot of a subprocess that exited.
+   */
+  public void release() {
+    this.getSlots().release();
+  }
+
+  /**
+   * Retrieves a snapshot of the admission of subprocesses.
+   *
+   * @return the {@link SubprocessMetricsDto} of the governor.
+   */
+  @NonNull
+  public SubprocessMetricsDto getMetrics() {
+    long count = this.getAdmitted().get();
+    return new SubprocessMetricsDto(this.getMaxProcesses(), this.getMaxProcesses() - this.getSlots().availablePermits(), this.getWaiting().get(), count, this.getRejected().get(),
+        TimeUnit.NANOSECONDS.toMillis(this.getLastQueueTime()), TimeUnit.NANOSECONDS.toMillis(this.getMaxQueueTime().get()),
+        count == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(this.getTotalQueueTime().get() / count));
+  }
+}
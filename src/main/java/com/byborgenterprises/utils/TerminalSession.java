@@ -0,0 +1,50 @@
+package com.byborgenterprises.utils;
+
+import java.io.Closeable;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The TerminalSession class is the handle of a long-running terminal command started by
+ * {@link TerminalTools#startSession(String)}, whose output is read by
+ * {@link TerminalTools#readSession(TerminalSession, LineListener)} until the command exits or the
+ * session is closed.
+ */
+@Getter
+public final class TerminalSession implements Closeable {
+
+  private final String command;
+  private final LocalDateTime time;
+
+  @Getter(AccessLevel.PACKAGE)
+  private final Process process;
+
+  private volatile boolean closed;
+
+  TerminalSession(@NonNull final String command, @NonNull final LocalDateTime time, @NonNull final Process process) {
+    this.command = command;
+    this.time = time;
+    this.process = process;
+  }
+
+  /**
+   * Indicates whether the command of the session is still running.
+   *
+   * @return {@code true} if the session was not closed and its process is alive.
+   */
+  public boolean isAlive() {
+    return !this.isClosed() && this.getProcess().isAlive();
+  }
+
+  /**
+   * Asks the process of the command and every process it started to end. The output already
+   * written is still read until its end.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    TerminalTools.endTree(this.getProcess());
+  }
+}
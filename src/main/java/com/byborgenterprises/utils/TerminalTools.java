@@ -1,16 +1,33 @@
 package com.byborgenterprises.utils;
 
+import com.byborgenterprises.dtos.SubprocessMetricsDto;
 import com.byborgenterprises.dtos.TerminalDto;
+import com.byborgenterprises.enums.LauncherMode;
 import com.byborgenterprises.enums.OperatingSystem;
+import com.byborgenterprises.enums.TerminalOutcome;
+import com.byborgenterprises.exceptions.SubprocessLimitException;
 import com.byborgenterprises.exceptions.TerminalCommandException;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.stream.Collectors;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * The TerminalTools class provides utility methods for interacting with the terminal
@@ -18,6 +35,7 @@ import lombok.experimental.UtilityClass;
  * and handling errors or exceptions during command execution.
  * This is a final utility class and cannot be instantiated.
  */
+@Log4j2
 @UtilityClass
 public final class TerminalTools {
 
@@ -26,6 +44,139 @@ public final class TerminalTools {
    */
   private static final String WINDOWS_CMD_EXE = "cmd.exe /c ";
 
+  /**
+   * Default maximum number of characters of the result of a terminal command.
+   */
+  private static final int DEFAULT_MAX_RESULT_LENGTH = 64 * 1024;
+
+  /**
+   * Time a command asked to end has to exit before its process tree is killed, in milliseconds.
+   */
+  private static final long END_GRACE_MILLIS = 1000L;
+
+  /**
+   * Threads draining the error stream of the running commands.
+   */
+  private static final ExecutorService ERROR_DRAINER = ExecutorTools.newCachedThreadPool("terminal-stderr");
+
+  /**
+   * Thread killing the commands reaching their deadline.
+   */
+  private static final ScheduledExecutorService WATCHDOG = ExecutorTools.newScheduledThreadPool("terminal-watchdog", 1);
+
+  /**
+   * Number of processes killed since the start.
+   */
+  private static final AtomicLong KILLED_PROCESSES = new AtomicLong();
+
+  /**
+   * Governor bounding the number of subprocesses alive at once.
+   */
+  private static volatile SubprocessGovernor governor = new SubprocessGovernor(32, 10000L);
+
+  /**
+   * Helper starting the processes of the commands, {@code null} when the JVM starts them itself.
+   */
+  private static volatile SpawnHelper spawnHelper;
+
+  /**
+   * Selects how the processes of the commands are started. The helper launcher is only supported
+   * on Linux, other systems keep starting the processes from the JVM. The commands already running
+   * are not affected.
+   *
+   * @param launcherMode the {@link LauncherMode}.
+   */
+  public static void configureLauncher(@NonNull final LauncherMode launcherMode) {
+    SpawnHelper previous = spawnHelper;
+    if (launcherMode == LauncherMode.HELPER && OperatingSystemTools.getOperatingSystem() != OperatingSystem.LINUX) {
+      log.warn("Spawn helper is only supported on Linux, commands are started directly");
+      spawnHelper = null;
+    } else {
+      spawnHelper = launcherMode == LauncherMode.HELPER ? new SpawnHelper() : null;
+    }
+    if (Objects.nonNull(previous)) {
+      previous.close();
+    }
+  }
+
+  /**
+   * Replaces the governor bounding the number of subprocesses alive at once. The commands already
+   * running keep their slot in the previous governor.
+   *
+   * @param maxProcesses the maximum number of subprocesses running at once.
+   * @param maxWait the maximum time a command waits for a slot, in milliseconds.
+   * @throws IllegalArgumentException if the maximum number of subprocesses is not positive or the waiting time is negative.
+   */
+  public static void configureGovernor(final int maxProcesses, final long maxWait) {
+    governor = new SubprocessGovernor(maxProcesses, maxWait);
+  }
+
+  /**
+   * Retrieves a snapshot of the admission of subprocesses.
+   *
+   * @return the {@link SubprocessMetricsDto} of the governor.
+   */
+  @NonNull
+  public static SubprocessMetricsDto getGovernorMetrics() {
+    return governor.getMetrics();
+  }
+
+  /**
+   * Retrieves the number of processes killed since the start, the commands reaching their deadline
+   * and their child processes.
+   *
+   * @return the number of killed processes.
+   */
+  public static long getKilledProcesses() {
+    return KILLED_PROCESSES.get();
+  }
+
+  /**
+   * Kills the process of a terminal command and every process it started.
+   *
+   * @param command the terminal command that was executed.
+   * @param process the {@link Process} object representing the command execution.
+   */
+  private static void killTree(@NonNull final String command, @NonNull final Process process) {
+    List<ProcessHandle> descendants = process.descendants().filter(ProcessHandle::isAlive).toList();
+    int killed = descendants.size() + (process.isAlive() ? 1 : 0);
+    KILLED_PROCESSES.addAndGet(killed);
+    process.destroyForcibly();
+    descendants.forEach(ProcessHandle::destroyForcibly);
+    log.warn("Killed {} processes of the terminal command: {}", killed, command);
+  }
+
+  /**
+   * Asks the process of a terminal command and every process it started to end.
+   *
+   * @param process the {@link Process} object representing the command execution.
+   */
+  static void endTree(@NonNull final Process process) {
+    List<ProcessHandle> descendants = process.descendants().toList();
+    process.destroy();
+    descendants.forEach(ProcessHandle::destroy);
+  }
+
+  /**
+   * Asks the process of a terminal command and every process it started to end, and kills them if
+   * the command does not exit within the grace time.
+   *
+   * @param command the terminal command that was executed.
+   * @param process the {@link Process} object representing the command execution.
+   * @throws TerminalCommandException if the thread is interrupted while waiting for the process to exit.
+   */
+  private static void stopTree(@NonNull final String command, @NonNull final Process process) {
+    endTree(process);
+    try {
+      if (!process.waitFor(END_GRACE_MILLIS, TimeUnit.MILLISECONDS)) {
+        killTree(command, process);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TerminalCommandException("Can't wait for the end of terminal command: " + command, e);
+    }
+  }
+
   /**
    * Retrieves the exit code of a terminal command after execution.
    *
@@ -44,28 +195,76 @@ public final class TerminalTools {
   }
 
   /**
-   * Captures and returns the output of a terminal command.
+   * Streams the output of a terminal command, line by line, to a listener and to a bounded buffer,
+   * until the end of the output or until the listener asks to end the command.
    *
    * @param command the terminal command that was executed.
-   * @param process the {@link Process} object representing the command execution.
-   * @return the output of the terminal command as a string.
+   * @param inputStream the output stream of the command.
+   * @param lineListener the listener receiving each line.
+   * @param lineBuffer the buffer keeping the last lines.
+   * @return {@code true} if the listener asked to end the command.
    * @throws TerminalCommandException if an error occurs while reading the command output.
    */
-  @NonNull
-  private static String getReturn(@NonNull final String command, @NonNull final Process process) {
+  private static boolean readLines(@NonNull final String command, @NonNull final InputStream inputStream, @NonNull final LineListener lineListener,
+      @NonNull final LineBuffer lineBuffer) {
     //@formatter:off
-    try (InputStream inputStream = process.getInputStream();
-        InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
+    try (InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
         BufferedReader reader = new BufferedReader(inputStreamReader)) {
       //@formatter:on
-      return reader.lines().collect(Collectors.joining("\n"));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineBuffer.add(line);
+        if (!lineListener.onLine(line)) {
+          return true;
+        }
+      }
+      return false;
     } catch (IOException e) {
       throw new TerminalCommandException("Can't get output lines on terminal command: " + command, e);
     }
   }
 
   /**
-   * Creates and starts a terminal process for the specified command.
+   * Drains the error stream of a terminal command on another thread, so that the command never
+   * blocks on a full pipe while its output is read.
+   *
+   * @param command the terminal command that was executed.
+   * @param process the {@link Process} object representing the command execution.
+   * @param maxLength the maximum number of characters kept.
+   * @return a {@link Future} of the last lines of the error stream.
+   */
+  @NonNull
+  private static Future<String> drainErrors(@NonNull final String command, @NonNull final Process process, final int maxLength) {
+    return ERROR_DRAINER.submit(() -> {
+      LineBuffer lineBuffer = new LineBuffer(maxLength);
+      readLines(command, process.getErrorStream(), LineListener.NONE, lineBuffer);
+      return lineBuffer.toString();
+    });
+  }
+
+  /**
+   * Waits for the error stream of a terminal command to be drained.
+   *
+   * @param command the terminal command that was executed.
+   * @param errors the {@link Future} of the drained error stream.
+   * @return the last lines of the error stream, or an empty string if it cannot be read.
+   */
+  @NonNull
+  private static String getErrors(@NonNull final String command, @NonNull final Future<String> errors) {
+    try {
+      return errors.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return "";
+    } catch (ExecutionException e) {
+      log.debug("Can't get error lines on terminal command: {}", command, e.getCause());
+      return "";
+    }
+  }
+
+  /**
+   * Creates and starts a terminal process for the specified command, from the spawn helper when
+   * one is configured.
    *
    * @param command the terminal command to execute.
    * @return a {@link Process} representing the running command.
@@ -74,6 +273,10 @@ public final class TerminalTools {
   @NonNull
   private static Process getProcess(@NonNull final String command) {
     try {
+      SpawnHelper helper = spawnHelper;
+      if (Objects.nonNull(helper)) {
+        return helper.spawn(command);
+      }
       String[] terminalCommand = getTerminalCommand(command);
       ProcessBuilder processBuilder = new ProcessBuilder(terminalCommand);
       return processBuilder.start();
@@ -98,18 +301,233 @@ public final class TerminalTools {
   }
 
   /**
-   * Executes a terminal command and returns the result as a {@link TerminalDto}.
+   * Executes a terminal command and returns the result as a {@link TerminalDto}. The command waits
+   * for a subprocess slot of the governor before its process is started.
    *
    * @param command the terminal command to execute.
    * @return a {@link TerminalDto} containing the command, exit code, result, and timestamp.
+   * @throws SubprocessLimitException if no subprocess slot became free in time.
    */
   @NonNull
   public static TerminalDto executeCommand(@NonNull final String command) {
+    return executeCommand(command, LineListener.NONE);
+  }
+
+  /**
+   * Executes a terminal command, streaming its output line by line to a listener as it is
+   * written, and returns the result as a {@link TerminalDto}. The command waits for a subprocess
+   * slot of the governor before its process is started.
+   *
+   * @param command the terminal command to execute.
+   * @param lineListener the listener receiving each line of the output.
+   * @return a {@link TerminalDto} containing the command, exit code, result, and timestamp.
+   * @throws SubprocessLimitException if no subprocess slot became free in time.
+   */
+  @NonNull
+  public static TerminalDto executeCommand(@NonNull final String command, @NonNull final LineListener lineListener) {
+    return executeCommand(command, lineListener, DEFAULT_MAX_RESULT_LENGTH, Duration.ZERO);
+  }
+
+  /**
+   * Executes a terminal command, streaming its output line by line to a listener as it is
+   * written, and kills its process tree if it does not exit before its deadline. The command waits
+   * for a subprocess slot of the governor before its process is started.
+   *
+   * @param command the terminal command to execute.
+   * @param lineListener the listener receiving each line of the output.
+   * @param timeout the time the command may run, {@link Duration#ZERO} lets it run until it exits.
+   * @return a {@link TerminalDto} containing the command, exit code, result, and timestamp.
+   * @throws SubprocessLimitException if no subprocess slot became free in time.
+   * @throws IllegalArgumentException if the timeout is negative.
+   */
+  @NonNull
+  public static TerminalDto executeCommand(@NonNull final String command, @NonNull final LineListener lineListener, @NonNull final Duration timeout) {
+    return executeCommand(command, lineListener, DEFAULT_MAX_RESULT_LENGTH, timeout);
+  }
+
+  /**
+   * Executes a terminal command, streaming its output line by line to a listener as it is
+   * written, and returns the result as a {@link TerminalDto}. The command waits for a subprocess
+   * slot of the governor before its process is started.
+   *
+   * <p>The error stream is drained concurrently and left out of the result. The result keeps the
+   * last lines of the output within the maximum length, the summary of a command being written
+   * last. When the listener asks to end the command, its process is destroyed and the result holds
+   * the output read so far, with the {@link TerminalOutcome#STOPPED} outcome.
+   *
+   * @param command the terminal command to execute.
+   * @param lineListener the listener receiving each line of the output.
+   * @param maxResultLength the maximum number of characters of the result.
+   * @return a {@link TerminalDto} containing the command, exit code, result, and timestamp.
+   * @throws SubprocessLimitException if no subprocess slot became free in time.
+   * @throws IllegalArgumentException if the maximum length of the result is not positive.
+   */
+  @NonNull
+  public static TerminalDto executeCommand(@NonNull final String command, @NonNull final LineListener lineListener, final int maxResultLength) {
+    return executeCommand(command, lineListener, maxResultLength, Duration.ZERO);
+  }
+
+  /**
+   * Executes a terminal command, streaming its output line by line to a listener as it is
+   * written, and returns the result as a {@link TerminalDto}. The command waits for a subprocess
+   * slot of the governor before its process is started.
+   *
+   * <p>The error stream is drained concurrently and left out of the result. The result keeps the
+   * last lines of the output within the maximum length, the summary of a command being written
+   * last. When the listener asks to end the command, its process tree is destroyed, then killed if
+   * it does not exit within a grace time, and the result holds the output read so far, with the
+   * {@link TerminalOutcome#STOPPED} outcome. When the command is still running at its deadline,
+   * its process tree is killed and the result holds the output read so far, with the
+   * {@link TerminalOutcome#TIMED_OUT} outcome.
+   *
+   * @param command the terminal command to execute.
+   * @param lineListener the listener receiving each line of the output.
+   * @param maxResultLength the maximum number of characters of the result.
+   * @param timeout the time the command may run, {@link Duration#ZERO} lets it run until it exits.
+   * @return a {@link TerminalDto} containing the command, exit code, result, and timestamp.
+   * @throws SubprocessLimitException if no subprocess slot became free in time.
+   * @throws IllegalArgumentException if the maximum length of the result is not positive or the timeout is negative.
+   */
+  @NonNull
+  public static TerminalDto executeCommand(@NonNull final String command, @NonNull final LineListener lineListener, final int maxResultLength, @NonNull final Duration timeout) {
+    if (maxResultLength <= 0) {
+      throw new IllegalArgumentException("Maximum length of the result must be positive");
+    }
+    if (timeout.isNegative()) {
+      throw new IllegalArgumentException("Timeout of the command cannot be negative");
+    }
+    SubprocessGovernor subprocessGovernor = governor;
+    subprocessGovernor.acquire(command);
+    Process process = null;
+    ScheduledFuture<?> deadline = null;
+    AtomicBoolean timedOut = new AtomicBoolean();
+    try {
+      LocalDateTime time = LocalDateTime.now();
+      process = getProcess(command);
+      if (!timeout.isZero()) {
+        Process started = process;
+        deadline = WATCHDOG.schedule(() -> {
+          if (started.isAlive()) {
+            timedOut.set(true);
+            killTree(command, started);
+          }
+        }, timeout.toNanos(), TimeUnit.NANOSECONDS);
+      }
+      Future<String> errors = drainErrors(command, process, maxResultLength);
+      LineBuffer lineBuffer = new LineBuffer(maxResultLength);
+      boolean stopped = readLines(command, process.getInputStream(), lineListener, lineBuffer);
+      if (stopped) {
+        stopTree(command, process);
+      }
+      int exitCode = getExitCode(command, process);
+      String errorLines = getErrors(command, errors);
+      TerminalOutcome outcome = timedOut.get() ? TerminalOutcome.TIMED_OUT : stopped ? TerminalOutcome.STOPPED : TerminalOutcome.COMPLETED;
+      if (outcome == TerminalOutcome.COMPLETED && exitCode != 0 && !errorLines.isBlank()) {
+        log.debug("Terminal command {} failed with exit code {}: {}", command, exitCode, errorLines);
+      }
+
+      return new TerminalDto(command, exitCode, lineBuffer.toString(), time, outcome);
+    } finally {
+      if (Objects.nonNull(deadline)) {
+        deadline.cancel(false);
+      }
+      if (Objects.nonNull(process) && process.isAlive()) {
+        killTree(command, process);
+      }
+      subprocessGovernor.release();
+    }
+  }
+
+  /**
+   * Starts a long-running terminal command, such as a ping without a count, whose output is then
+   * read by {@link #readSession(TerminalSession, LineListener)}. A session does not take a slot of
+   * the governor, it is alive for the whole workflow and would otherwise starve the bounded
+   * commands. Its error stream is drained concurrently and discarded.
+   *
+   * @param command the terminal command to execute.
+   * @return the {@link TerminalSession} of the running command, to be closed once no longer needed.
+   * @throws TerminalCommandException if an error occurs while starting the command.
+   */
+  @NonNull
+  public static TerminalSession startSession(@NonNull final String command) {
     LocalDateTime time = LocalDateTime.now();
     Process process = getProcess(command);
-    String result = getReturn(command, process);
-    int exitCode = getExitCode(command, process);
+    drainErrors(command, process, DEFAULT_MAX_RESULT_LENGTH);
+    return new TerminalSession(command, time, process);
+  }
+
+  /**
+   * Streams the output of a session line by line to a listener, until the command exits, the
+   * session is closed or the listener asks to end the command, and returns the result as a
+   * {@link TerminalDto}. The result keeps the last lines of the output, with the
+   * {@link TerminalOutcome#STOPPED} outcome when the session was closed or ended by the listener,
+   * its process tree being killed if it does not exit within a grace time. Closing the session
+   * closes its output, so a read failing after the close ends the output.
+   *
+   * @param terminalSession the session of the running command.
+   * @param lineListener the listener receiving each line of the output.
+   * @return a {@link TerminalDto} containing the command, exit code, result, and start time.
+   * @throws TerminalCommandException if an error occurs while reading the command output.
+   */
+  @NonNull
+  public static TerminalDto readSession(@NonNull final TerminalSession terminalSession, @NonNull final LineListener lineListener) {
+    String command = terminalSession.getCommand();
+    Process process = terminalSession.getProcess();
+    try {
+      LineBuffer lineBuffer = new LineBuffer(DEFAULT_MAX_RESULT_LENGTH);
+      boolean stopped;
+      try {
+        stopped = readLines(command, process.getInputStream(), lineListener, lineBuffer);
+      } catch (TerminalCommandException e) {
+        if (!terminalSession.isClosed()) {
+          throw e;
+        }
+        stopped = false;
+      }
+      if (stopped || terminalSession.isClosed()) {
+        stopTree(command, process);
+      }
+      int exitCode = getExitCode(command, process);
+      TerminalOutcome outcome = stopped || terminalSession.isClosed() ? TerminalOutcome.STOPPED : TerminalOutcome.COMPLETED;
+      return new TerminalDto(command, exitCode, lineBuffer.toString(), terminalSession.getTime(), outcome);
+    } finally {
+      if (process.isAlive()) {
+        killTree(command, process);
+      }
+    }
+  }
 
-    return new TerminalDto(command, exitCode, result, time);
+  /**
+   * The LineBuffer class keeps the last lines of an output within a maximum number of characters,
+   * dropping the oldest lines first.
+   */
+  private static final class LineBuffer {
+
+    private final int maxLength;
+    private final Deque<String> lines = new ArrayDeque<>();
+    private int length;
+
+    private LineBuffer(final int maxLength) {
+      this.maxLength = maxLength;
+    }
+
+    /**
+     * Appends a line, dropping the oldest lines beyond the maximum length.
+     *
+     * @param line the line.
+     */
+    private void add(@NonNull final String line) {
+      String kept = line.length() > this.maxLength ? line.substring(line.length() - this.maxLength) : line;
+      this.lines.addLast(kept);
+      this.length += kept.length() + 1;
+      while (this.length - 1 > this.maxLength && this.lines.size() > 1) {
+        this.length -= this.lines.removeFirst().length() + 1;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return String.join("\n", this.lines);
+    }
   }
 }
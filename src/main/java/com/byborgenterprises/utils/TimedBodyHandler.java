@@ -0,0 +1,37 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.enums.HttpPhase;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.net.http.HttpResponse.ResponseInfo;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The TimedBodyHandler class wraps a {@link BodyHandler} to time the reception of a response.
+ *
+ * <p>The {@link HttpPhase#FIRST_BYTE} phase ends when the response headers are received and the
+ * {@link HttpPhase#TRANSFER} phase when the wrapped handler produced the body. The timer must be
+ * started right before the request is sent, and a handler must only be used for one request.
+ *
+ * @param <T> the type of the response body.
+ */
+@RequiredArgsConstructor
+@Getter(AccessLevel.PRIVATE)
+public class TimedBodyHandler<T> implements BodyHandler<T> {
+
+  private final BodyHandler<T> bodyHandler;
+  private final PhaseTimer phaseTimer;
+
+  @Override
+  public @NonNull BodySubscriber<T> apply(@NonNull ResponseInfo responseInfo) {
+    this.getPhaseTimer().lap(HttpPhase.FIRST_BYTE);
+    return BodySubscribers.mapping(this.getBodyHandler().apply(responseInfo), body -> {
+      this.getPhaseTimer().lap(HttpPhase.TRANSFER);
+      return body;
+    });
+  }
+}
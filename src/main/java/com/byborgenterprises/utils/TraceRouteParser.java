@@ -0,0 +1,294 @@
+package com.byborgenterprises.utils;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The TraceRouteParser class extracts the hops of a traceroute from the output of
+ * {@code traceroute} on Linux and {@code tracert} on Windows, in a single pass over the
+ * characters of the output.
+ *
+ * <p>Each hop line gives the time to live of the hop, the address of its first responder and the
+ * round trip time of up to {@value #PROBES_PER_HOP} probes. The hops are packed in parallel
+ * arrays, the round trip times of a hop following each other in one array of floats, so that a
+ * traceroute is held by a few small arrays instead of its text.
+ *
+ * <p>A probe that timed out, shown as {@code *}, or that was not sent has the round trip time
+ * {@link #TIMED_OUT}. A hop without responder has a {@code null} address. The numeric address of a
+ * responder is preferred to its name when both are written.
+ */
+public final class TraceRouteParser {
+
+  /**
+   * Number of probes kept per hop.
+   */
+  public static final int PROBES_PER_HOP = 3;
+
+  /**
+   * Round trip time of a probe that timed out or was not sent.
+   */
+  public static final float TIMED_OUT = -1f;
+
+  private static final int INITIAL_HOPS = 32;
+  private static final long MAX_FRACTION_SCALE = 1_000_000L;
+
+  /**
+   * Number of hops.
+   */
+  @Getter
+  private int hopCount;
+
+  private int[] ttls = new int[INITIAL_HOPS];
+  private String[] addresses = new String[INITIAL_HOPS];
+  private float[] roundTrips = new float[INITIAL_HOPS * PROBES_PER_HOP];
+
+  private Hop hop;
+
+  private TraceRouteParser() {
+  }
+
+  /**
+   * Parses the output of a traceroute.
+   *
+   * @param output the output of the traceroute command, its lines separated by {@code \n} or {@code \r\n}.
+   * @return the parser holding the hops of the traceroute.
+   */
+  @NonNull
+  public static TraceRouteParser parse(@NonNull final CharSequence output) {
+    TraceRouteParser parser = new TraceRouteParser();
+    int start = 0;
+    int length = output.length();
+    for (int i = 0; i <= length; i++) {
+      if (i == length || output.charAt(i) == '\n') {
+        parser.parseLine(output, start, i);
+        start = i + 1;
+      }
+    }
+    return parser;
+  }
+
+  /**
+   * Retrieves the time to live of each hop.
+   *
+   * @return the times to live, one per hop.
+   */
+  public int @NonNull [] getTtls() {
+    return Arrays.copyOf(this.ttls, this.hopCount);
+  }
+
+  /**
+   * Retrieves the address of the first responder of each hop.
+   *
+   * @return the addresses, one per hop, {@code null} for a hop without responder.
+   */
+  public String @NonNull [] getAddresses() {
+    return Arrays.copyOf(this.addresses, this.hopCount);
+  }
+
+  /**
+   * Retrieves the round trip times of the probes of each hop, {@value #PROBES_PER_HOP} per hop.
+   *
+   * @return the round trip times in milliseconds, {@link #TIMED_OUT} for a probe that timed out.
+   */
+  public float @NonNull [] getRoundTrips() {
+    return Arrays.copyOf(this.roundTrips, this.hopCount * PROBES_PER_HOP);
+  }
+
+  /**
+   * Checks whether a character separates the words of a line.
+   *
+   * @param c the character.
+   * @return {@code true} if the character is a blank.
+   */
+  private static boolean isBlank(final char c) {
+    return c == ' ' || c == '\t' || c == '\r';
+  }
+
+  /**
+   * Checks whether a word is an address, holding a dot or a colon before its last character.
+   *
+   * @param output the output.
+   * @param from the start of the word.
+   * @param to the end of the word, excluded.
+   * @return {@code true} if the word is an address.
+   */
+  private static boolean isAddress(@NonNull final CharSequence output, final int from, final int to) {
+    for (int i = from; i < to - 1; i++) {
+      if (output.charAt(i) == '.' || output.charAt(i) == ':') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether a word is {@code ms}.
+   *
+   * @param output the output.
+   * @param from the start of the word.
+   * @param to the end of the word, excluded.
+   * @return {@code true} if the word is the unit of a round trip time.
+   */
+  private static boolean isMilliseconds(@NonNull final CharSequence output, final int from, final int to) {
+    return to - from == 2 && output.charAt(from) == 'm' && output.charAt(from + 1) == 's';
+  }
+
+  /**
+   * Parses one line of the output, the lines not starting with a time to live being ignored.
+   *
+   * @param output the output.
+   * @param start the start of the line.
+   * @param end the end of the line, excluded.
+   */
+  private void parseLine(@NonNull final CharSequence output, final int start, final int end) {
+    int i = start;
+    while (i < end && isBlank(output.charAt(i))) {
+      i++;
+    }
+    int ttl = 0;
+    int digits = i;
+    while (i < end && Character.isDigit(output.charAt(i))) {
+      ttl = ttl * 10 + Character.digit(output.charAt(i), 10);
+      i++;
+    }
+    if (i == digits || i == end || !isBlank(output.charAt(i))) {
+      return;
+    }
+    this.hop = new Hop(ttl);
+    while (i < end) {
+      while (i < end && isBlank(output.charAt(i))) {
+        i++;
+      }
+      int wordStart = i;
+      while (i < end && !isBlank(output.charAt(i))) {
+        i++;
+      }
+      if (wordStart < i) {
+        i = this.parseWord(output, wordStart, i, end);
+      }
+    }
+    this.addHop(this.hop);
+  }
+
+  /**
+   * Parses one word of a hop line: a timed out probe, a round trip time or an address.
+   *
+   * @param output the output.
+   * @param from the start of the word.
+   * @param to the end of the word, excluded.
+   * @param end the end of the line, excluded.
+   * @return the position following the parsed words, the unit of a round trip time being parsed with it.
+   */
+  private int parseWord(@NonNull final CharSequence output, final int from, final int to, final int end) {
+    if (to - from == 1 && output.charAt(from) == '*') {
+      this.hop.addRoundTrip(TIMED_OUT);
+      return to;
+    }
+    int i = output.charAt(from) == '<' ? from + 1 : from;
+    long integer = 0;
+    long fraction = 0;
+    long scale = 1;
+    int digits = i;
+    while (i < to && Character.isDigit(output.charAt(i))) {
+      integer = integer * 10 + Character.digit(output.charAt(i), 10);
+      i++;
+    }
+    if (i < to && i > digits && output.charAt(i) == '.') {
+      i++;
+      while (i < to && Character.isDigit(output.charAt(i))) {
+        if (scale < MAX_FRACTION_SCALE) {
+          fraction = fraction * 10 + Character.digit(output.charAt(i), 10);
+          scale *= 10;
+        }
+        i++;
+      }
+    }
+    if (i > digits) {
+      float roundTrip = (float) (integer + (double) fraction / scale);
+      if (isMilliseconds(output, i, to)) {
+        this.hop.addRoundTrip(roundTrip);
+        return to;
+      }
+      if (i == to) {
+        int unit = to;
+        while (unit < end && isBlank(output.charAt(unit))) {
+          unit++;
+        }
+        int unitEnd = unit;
+        while (unitEnd < end && !isBlank(output.charAt(unitEnd))) {
+          unitEnd++;
+        }
+        if (isMilliseconds(output, unit, unitEnd)) {
+          this.hop.addRoundTrip(roundTrip);
+          return unitEnd;
+        }
+      }
+    }
+    this.parseAddress(output, from, to);
+    return to;
+  }
+
+  /**
+   * Parses an address of a hop line, an address between parentheses or brackets replacing the
+   * name written before it.
+   *
+   * @param output the output.
+   * @param from the start of the word.
+   * @param to the end of the word, excluded.
+   */
+  private void parseAddress(@NonNull final CharSequence output, final int from, final int to) {
+    char first = output.charAt(from);
+    boolean enclosed = first == '(' || first == '[';
+    int addressStart = enclosed ? from + 1 : from;
+    int addressEnd = to;
+    while (enclosed && addressEnd > addressStart && (output.charAt(addressEnd - 1) == ')' || output.charAt(addressEnd - 1) == ']' || output.charAt(addressEnd - 1) == ',')) {
+      addressEnd--;
+    }
+    if (this.hop.numeric || !isAddress(output, addressStart, addressEnd) || (!enclosed && this.hop.address != null)) {
+      return;
+    }
+    this.hop.address = output.subSequence(addressStart, addressEnd).toString();
+    this.hop.numeric = enclosed;
+  }
+
+  /**
+   * Packs a hop after the previous ones.
+   *
+   * @param hop the hop.
+   */
+  private void addHop(@NonNull final Hop hop) {
+    if (this.hopCount == this.ttls.length) {
+      int capacity = this.hopCount * 2;
+      this.ttls = Arrays.copyOf(this.ttls, capacity);
+      this.addresses = Arrays.copyOf(this.addresses, capacity);
+      this.roundTrips = Arrays.copyOf(this.roundTrips, capacity * PROBES_PER_HOP);
+    }
+    this.ttls[this.hopCount] = hop.ttl;
+    this.addresses[this.hopCount] = hop.address;
+    System.arraycopy(hop.roundTrips, 0, this.roundTrips, this.hopCount * PROBES_PER_HOP, PROBES_PER_HOP);
+    this.hopCount++;
+  }
+
+  /**
+   * The Hop class holds the hop of the line being parsed.
+   */
+  private static final class Hop {
+
+    private final int ttl;
+    private final float[] roundTrips = {TIMED_OUT, TIMED_OUT, TIMED_OUT};
+    private int probes;
+    private String address;
+    private boolean numeric;
+
+    private Hop(final int ttl) {
+      this.ttl = ttl;
+    }
+
+    private void addRoundTrip(final float roundTrip) {
+      if (this.probes < PROBES_PER_HOP) {
+        this.roundTrips[this.probes++] = roundTrip;
+      }
+    }
+  }
+}
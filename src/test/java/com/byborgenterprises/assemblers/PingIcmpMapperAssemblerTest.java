@@ -4,8 +4,10 @@ import com.byborgenterprises.dtos.PingIcmpDto;
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.embeddables.Terminal;
 import com.byborgenterprises.entities.PingIcmp;
+import com.byborgenterprises.enums.IcmpProbeMode;
 import com.byborgenterprises.mappers.TerminalMapper;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,12 +37,33 @@ class PingIcmpMapperAssemblerTest {
     //when
     Mockito.when(terminalMapper.toDto(terminal)).thenReturn(terminalDto);
     pingIcmp.setSuccess(success);
+    pingIcmp.setTransmitted(5);
+    pingIcmp.setReceived(4);
+    pingIcmp.setLossPercent(20.0);
+    pingIcmp.setMinRtt(1.5);
+    pingIcmp.setAvgRtt(2.0);
+    pingIcmp.setMaxRtt(2.5);
+    pingIcmp.setMdevRtt(0.5);
+    float[] roundTrips = {1.5f, 2.5f};
+    pingIcmp.setRoundTrips(roundTrips);
+    roundTrips[0] = 9.0f;
+    pingIcmp.getRoundTrips()[1] = 9.0f;
+    pingIcmp.setProbeMode(IcmpProbeMode.ECHO);
     PingIcmpDto pingIcmpDto = pingIcmpMapperAssembler.toDto(pingIcmp);
     //then
     Assertions.assertNotNull(pingIcmpDto);
     Assertions.assertEquals(host, pingIcmpDto.host());
     Assertions.assertEquals(terminalDto, pingIcmpDto.terminal());
     Assertions.assertEquals(success, pingIcmpDto.success());
+    Assertions.assertEquals(5, pingIcmpDto.transmitted());
+    Assertions.assertEquals(4, pingIcmpDto.received());
+    Assertions.assertEquals(20.0, pingIcmpDto.lossPercent());
+    Assertions.assertEquals(1.5, pingIcmpDto.minRtt());
+    Assertions.assertEquals(2.0, pingIcmpDto.avgRtt());
+    Assertions.assertEquals(2.5, pingIcmpDto.maxRtt());
+    Assertions.assertEquals(0.5, pingIcmpDto.mdevRtt());
+    Assertions.assertEquals(List.of(1.5f, 2.5f), pingIcmpDto.roundTrips());
+    Assertions.assertEquals(IcmpProbeMode.ECHO, pingIcmpDto.probeMode());
   }
 
   @Test
@@ -31,6 +31,10 @@ class PingTcpIpMapperAssemblerTest {
     pingTcpIp.setResponseCode(responseCode);
     pingTcpIp.setResponseTime(responseTime);
     pingTcpIp.setSuccess(success);
+    pingTcpIp.setDnsTime(1L);
+    pingTcpIp.setConnectTime(2L);
+    pingTcpIp.setFirstByteTime(3L);
+    pingTcpIp.setTransferTime(4L);
     PingTcpIpDto pingTcpIpDto = pingTcpIpMapperAssembler.toDto(pingTcpIp);
     //then
     Assertions.assertNotNull(pingTcpIpDto);
@@ -39,6 +43,10 @@ class PingTcpIpMapperAssemblerTest {
     Assertions.assertEquals(responseCode, pingTcpIpDto.responseCode());
     Assertions.assertEquals(responseTime, pingTcpIpDto.responseTime());
     Assertions.assertEquals(success, pingTcpIpDto.success());
+    Assertions.assertEquals(1L, pingTcpIpDto.dnsTime());
+    Assertions.assertEquals(2L, pingTcpIpDto.connectTime());
+    Assertions.assertEquals(3L, pingTcpIpDto.firstByteTime());
+    Assertions.assertEquals(4L, pingTcpIpDto.transferTime());
 
   }
 
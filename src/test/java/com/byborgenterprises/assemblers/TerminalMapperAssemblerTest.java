@@ -2,6 +2,7 @@ package com.byborgenterprises.assemblers;
 
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.embeddables.Terminal;
+import com.byborgenterprises.enums.TerminalOutcome;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,18 @@ class TerminalMapperAssemblerTest {
     Assertions.assertEquals(result, terminalDto.result());
     Assertions.assertEquals(localDateTime, terminalDto.time());
     Assertions.assertEquals(exitCode, terminalDto.exitCode());
+    Assertions.assertEquals(TerminalOutcome.COMPLETED, terminalDto.outcome());
+  }
+
+  @Test
+  void testToEntity_StoppedOutcome() {
+    //given
+    TerminalDto terminalDto = new TerminalDto("command", 143, "result", LocalDateTime.now(), TerminalOutcome.STOPPED);
+    //when
+    Terminal terminal = terminalMapperAssembler.toEntity(terminalDto);
+    //then
+    Assertions.assertEquals(TerminalOutcome.STOPPED, terminal.getOutcome());
+    Assertions.assertEquals(terminalDto, terminalMapperAssembler.toDto(terminal));
   }
 
   @Test
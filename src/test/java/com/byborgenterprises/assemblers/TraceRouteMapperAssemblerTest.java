@@ -2,10 +2,12 @@ package com.byborgenterprises.assemblers;
 
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.dtos.TraceRouteDto;
+import com.byborgenterprises.dtos.TraceRouteHopDto;
 import com.byborgenterprises.embeddables.Terminal;
 import com.byborgenterprises.entities.TraceRoute;
 import com.byborgenterprises.mappers.TerminalMapper;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,6 +43,31 @@ class TraceRouteMapperAssemblerTest {
     Assertions.assertEquals(host, traceRouteDto.host());
     Assertions.assertEquals(terminalDto, traceRouteDto.terminal());
     Assertions.assertEquals(success, traceRouteDto.success());
+    Assertions.assertTrue(traceRouteDto.hops().isEmpty());
+  }
+
+  @Test
+  void testToDto_UnpacksHops() {
+    //given
+    Terminal terminal = Mockito.mock(Terminal.class);
+    TraceRoute traceRoute = new TraceRoute("google.com", terminal);
+    TerminalDto terminalDto = new TerminalDto("", 0, "", LocalDateTime.now());
+    //when
+    Mockito.when(terminalMapper.toDto(terminal)).thenReturn(terminalDto);
+    int[] hopTtls = {1, 2};
+    traceRoute.setHopTtls(hopTtls);
+    hopTtls[0] = 9;
+    traceRoute.getHopTtls()[1] = 9;
+    traceRoute.setHopAddresses(new String[]{"192.168.1.1", null});
+    traceRoute.getHopAddresses()[1] = "10.0.0.1";
+    float[] hopRoundTrips = {0.5f, 0.6f, -1f, -1f, -1f, -1f};
+    traceRoute.setHopRoundTrips(hopRoundTrips);
+    hopRoundTrips[0] = 9.0f;
+    TraceRouteDto traceRouteDto = traceRouteMapperAssembler.toDto(traceRoute);
+    //then
+    Assertions.assertEquals(List.of(new TraceRouteHopDto(1, "192.168.1.1", 0.5f, 0.6f, -1f), new TraceRouteHopDto(2, null, -1f, -1f, -1f)), traceRouteDto.hops());
+    Assertions.assertFalse(traceRouteDto.hops().get(0).timedOut());
+    Assertions.assertTrue(traceRouteDto.hops().get(1).timedOut());
   }
 
   @Test
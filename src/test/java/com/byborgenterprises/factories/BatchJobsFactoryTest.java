@@ -1,16 +1,25 @@
 package com.byborgenterprises.factories;
 
+import com.byborgenterprises.configs.PropertiesConfig;
 import com.byborgenterprises.controllers.PingController;
 import com.byborgenterprises.controllers.ReportController;
 import com.byborgenterprises.dtos.PingIcmpDto;
 import com.byborgenterprises.dtos.PingTcpIpDto;
+import com.byborgenterprises.dtos.ProbeTargetDto;
 import com.byborgenterprises.dtos.ReportDto;
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.dtos.TraceRouteDto;
+import com.byborgenterprises.enums.ExecutionMode;
+import com.byborgenterprises.enums.JobType;
+import com.byborgenterprises.enums.OperatingSystem;
+import com.byborgenterprises.enums.OverrunPolicy;
 import com.byborgenterprises.enums.ResponseStatus;
+import com.byborgenterprises.enums.SchedulerType;
 import com.byborgenterprises.exceptions.BatchJobsException;
+import com.byborgenterprises.schedulers.JobDefinition;
 import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
@@ -31,6 +40,9 @@ class BatchJobsFactoryTest {
   @Mock
   private ReportController reportController;
 
+  @Mock
+  private PropertiesConfig propertiesConfig;
+
   @Spy
   private BatchJobsFactory batchJobsFactory;
 
@@ -64,7 +76,7 @@ class BatchJobsFactoryTest {
     Exception e = Mockito.mock(BatchJobsException.class);
     try (MockedStatic<CompletableFuture> cf = Mockito.mockStatic(CompletableFuture.class)) {
       //when
-      cf.when(() -> CompletableFuture.supplyAsync(Mockito.any())).thenThrow(e);
+      cf.when(() -> CompletableFuture.supplyAsync(Mockito.any(), Mockito.any())).thenThrow(e);
       Mockito.when(pingController.postIcmp(host)).thenReturn(icmpResponseFactory);
       Mockito.when(icmpResponseFactory.getStatus()).thenReturn(ResponseStatus.OK);
       Mockito.when(icmpResponseFactory.getResponse()).thenReturn(pingIcmpDto);
@@ -76,6 +88,25 @@ class BatchJobsFactoryTest {
     }
   }
 
+  @Test
+  void pingIcmpProtocolJob_FailedRequestResetsAdaptiveInterval() {
+    //given
+    String host = "localhost";
+    ResponseFactory<PingIcmpDto> responseFactory = ResponseFactory.<PingIcmpDto>builder().status(ResponseStatus.SERVICE_UNAVAILABLE).exception(new RuntimeException()).build();
+    JobDefinition definition = new JobDefinition(host, JobType.ICMP, () -> {
+    }, 1000L);
+    batchJobsFactory.getAdaptiveIntervals().gate(definition, 1000L, 8000L, 2.0, definition.job());
+    batchJobsFactory.getAdaptiveIntervals().record(definition.name(), true);
+    //when
+    Mockito.doReturn(pingController).when(batchJobsFactory).getPingController();
+    Mockito.when(pingController.postIcmp(host)).thenReturn(responseFactory);
+    Runnable job = batchJobsFactory.pingIcmpProtocolJob(host);
+    //then
+    Assertions.assertEquals(2000L, batchJobsFactory.getAdaptiveIntervals().getInterval(definition.name()));
+    Assertions.assertDoesNotThrow(job::run);
+    Assertions.assertEquals(1000L, batchJobsFactory.getAdaptiveIntervals().getInterval(definition.name()));
+  }
+
   @SneakyThrows
   @Test
   void pingIcmpProtocolJob_ReportInformationSent() {
@@ -97,7 +128,7 @@ class BatchJobsFactoryTest {
       Mockito.when(icmpResponseFactory.getStatus()).thenReturn(ResponseStatus.OK);
       Mockito.when(icmpResponseFactory.getResponse()).thenReturn(pingIcmpDto);
       Mockito.when(reportResponseFactory.getStatus()).thenReturn(ResponseStatus.OK);
-      cf.when(() -> CompletableFuture.supplyAsync(Mockito.any())).thenReturn(icmpFuture, tcpFuture, traceFuture);
+      cf.when(() -> CompletableFuture.supplyAsync(Mockito.any(), Mockito.any())).thenReturn(icmpFuture, tcpFuture, traceFuture);
       cf.when(() -> CompletableFuture.allOf(icmpFuture, tcpFuture, traceFuture)).thenReturn(combinedFuture);
       Mockito.when(combinedFuture.join()).thenReturn(null);
       Mockito.when(icmpFuture.get()).thenReturn(pingIcmpDto);
@@ -146,7 +177,7 @@ class BatchJobsFactoryTest {
     Exception e = Mockito.mock(BatchJobsException.class);
     try (MockedStatic<CompletableFuture> cf = Mockito.mockStatic(CompletableFuture.class)) {
       //when
-      cf.when(() -> CompletableFuture.supplyAsync(Mockito.any())).thenThrow(e);
+      cf.when(() -> CompletableFuture.supplyAsync(Mockito.any(), Mockito.any())).thenThrow(e);
       Mockito.when(pingController.postTcp(host)).thenReturn(tcpResponseFactory);
       Mockito.when(tcpResponseFactory.getStatus()).thenReturn(ResponseStatus.OK);
       Mockito.when(tcpResponseFactory.getResponse()).thenReturn(pingTcpIpDto);
@@ -179,7 +210,7 @@ class BatchJobsFactoryTest {
       Mockito.when(tcpResponseFactory.getStatus()).thenReturn(ResponseStatus.OK);
       Mockito.when(tcpResponseFactory.getResponse()).thenReturn(pingTcpIpDto);
       Mockito.when(reportResponseFactory.getStatus()).thenReturn(ResponseStatus.OK);
-      mockedStatic.when(() -> CompletableFuture.supplyAsync(Mockito.any())).thenReturn(icmpFuture, tcpFuture, traceFuture);
+      mockedStatic.when(() -> CompletableFuture.supplyAsync(Mockito.any(), Mockito.any())).thenReturn(icmpFuture, tcpFuture, traceFuture);
       mockedStatic.when(() -> CompletableFuture.allOf(icmpFuture, tcpFuture, traceFuture)).thenReturn(combinedFuture);
       Mockito.when(combinedFuture.join()).thenReturn(null);
       Mockito.when(icmpFuture.get()).thenReturn(pingIcmpDto);
@@ -200,6 +231,32 @@ class BatchJobsFactoryTest {
     }
   }
 
+  @SneakyThrows
+  @Test
+  void pingTcpIpProtocolJob_AsyncSkipsTicksWhileInFlight() {
+    //given
+    String host = "localhost";
+    ResponseFactory<PingTcpIpDto> responseFactory = Mockito.mock(ResponseFactory.class);
+    PingTcpIpDto pingTcpIpDto = new PingTcpIpDto(URI.create("http://localhost"), 200, 0, LocalDateTime.now(), true);
+    CompletableFuture<ResponseFactory<PingTcpIpDto>> inFlight = new CompletableFuture<>();
+    //when
+    Mockito.doReturn(propertiesConfig).when(batchJobsFactory).getPropertiesConfig();
+    Mockito.doReturn(pingController).when(batchJobsFactory).getPingController();
+    Mockito.when(propertiesConfig.isTcpIpAsyncEnabled()).thenReturn(true);
+    Mockito.when(pingController.postTcpAsync(host)).thenReturn(inFlight, CompletableFuture.completedFuture(responseFactory));
+    Mockito.when(responseFactory.getStatus()).thenReturn(ResponseStatus.OK);
+    Mockito.when(responseFactory.getResponse()).thenReturn(pingTcpIpDto);
+    Runnable job = batchJobsFactory.pingTcpIpProtocolJob(host);
+    job.run();
+    job.run();
+    inFlight.complete(responseFactory);
+    Thread.sleep(200L);
+    job.run();
+    //then
+    Mockito.verify(pingController, Mockito.times(2)).postTcpAsync(host);
+    Mockito.verify(pingController, Mockito.never()).postTcp(host);
+  }
+
   @Test
   void traceRouteJob_Successful() {
     //given
@@ -230,7 +287,7 @@ class BatchJobsFactoryTest {
     Exception e = Mockito.mock(BatchJobsException.class);
     try (MockedStatic<CompletableFuture> cf = Mockito.mockStatic(CompletableFuture.class)) {
       //when
-      cf.when(() -> CompletableFuture.supplyAsync(Mockito.any())).thenThrow(e);
+      cf.when(() -> CompletableFuture.supplyAsync(Mockito.any(), Mockito.any())).thenThrow(e);
       Mockito.when(pingController.postTraceRoute(host)).thenReturn(traceResponseFactory);
       Mockito.when(traceResponseFactory.getStatus()).thenReturn(ResponseStatus.OK);
       Mockito.when(traceResponseFactory.getResponse()).thenReturn(traceRouteDto);
@@ -263,7 +320,7 @@ class BatchJobsFactoryTest {
       Mockito.when(pingController.postTraceRoute(host)).thenReturn(traceResponseFactory);
       Mockito.when(traceResponseFactory.getStatus()).thenReturn(ResponseStatus.OK);
       Mockito.when(traceResponseFactory.getResponse()).thenReturn(traceRouteDto);
-      mockedStatic.when(() -> CompletableFuture.supplyAsync(Mockito.any())).thenReturn(icmpFuture, tcpFuture, traceFuture);
+      mockedStatic.when(() -> CompletableFuture.supplyAsync(Mockito.any(), Mockito.any())).thenReturn(icmpFuture, tcpFuture, traceFuture);
       mockedStatic.when(() -> CompletableFuture.allOf(icmpFuture, tcpFuture, traceFuture)).thenReturn(combinedFuture);
       Mockito.when(combinedFuture.join()).thenReturn(null);
       Mockito.when(icmpFuture.get()).thenReturn(pingIcmpDto);
@@ -302,4 +359,122 @@ class BatchJobsFactoryTest {
 
   }
 
+  @Test
+  void startWorkflow_VirtualExecutionMode() {
+    //given
+    Runnable runnable = () -> {
+      throw new RuntimeException();
+    };
+    //when
+    Mockito.doReturn(propertiesConfig).when(batchJobsFactory).getPropertiesConfig();
+    Mockito.when(propertiesConfig.getExecutionMode()).thenReturn(ExecutionMode.VIRTUAL);
+    Mockito.when(propertiesConfig.getSchedulerType()).thenReturn(SchedulerType.EXECUTOR);
+    Mockito.when(propertiesConfig.getScheduledThreadNumber()).thenReturn(0);
+    Mockito.when(propertiesConfig.getHosts()).thenReturn(List.of("localhost"));
+    Mockito.when(propertiesConfig.getDelayIcmp()).thenReturn(5000L);
+    Mockito.when(propertiesConfig.getDelayTcpIp()).thenReturn(5000L);
+    Mockito.when(propertiesConfig.getDelayTraceroute()).thenReturn(5000L);
+    Mockito.when(propertiesConfig.getOverrunPolicyIcmp()).thenReturn(OverrunPolicy.CATCH_UP);
+    Mockito.when(propertiesConfig.getOverrunPolicyTcpIp()).thenReturn(OverrunPolicy.COALESCE);
+    Mockito.when(propertiesConfig.getOverrunPolicyTraceroute()).thenReturn(OverrunPolicy.SKIP);
+    Mockito.doReturn(runnable).when(batchJobsFactory).pingIcmpProtocolJob(Mockito.anyString());
+    Mockito.doReturn(runnable).when(batchJobsFactory).pingTcpIpProtocolJob(Mockito.anyString());
+    Mockito.doReturn(runnable).when(batchJobsFactory).traceRouteJob(Mockito.anyString());
+    Assertions.assertDoesNotThrow(() -> batchJobsFactory.startWorkflow());
+    //then
+    Mockito.verify(batchJobsFactory, Mockito.times(1)).pingIcmpProtocolJob("localhost");
+    Mockito.verify(batchJobsFactory, Mockito.times(1)).pingTcpIpProtocolJob("localhost");
+    Mockito.verify(batchJobsFactory, Mockito.times(1)).traceRouteJob("localhost");
+  }
+
+  @Test
+  void startWorkflow_TimingWheelScheduler() {
+    //given
+    Runnable runnable = () -> {
+      throw new RuntimeException();
+    };
+    //when
+    Mockito.doReturn(propertiesConfig).when(batchJobsFactory).getPropertiesConfig();
+    Mockito.when(propertiesConfig.getExecutionMode()).thenReturn(ExecutionMode.PLATFORM);
+    Mockito.when(propertiesConfig.getSchedulerType()).thenReturn(SchedulerType.TIMING_WHEEL);
+    Mockito.when(propertiesConfig.getWheelTickDuration()).thenReturn(10L);
+    Mockito.when(propertiesConfig.getWheelSize()).thenReturn(64);
+    Mockito.when(propertiesConfig.getScheduledThreadNumber()).thenReturn(2);
+    Mockito.when(propertiesConfig.getHosts()).thenReturn(List.of("localhost"));
+    Mockito.when(propertiesConfig.getDelayIcmp()).thenReturn(5000L);
+    Mockito.when(propertiesConfig.getDelayTcpIp()).thenReturn(5000L);
+    Mockito.when(propertiesConfig.getDelayTraceroute()).thenReturn(5000L);
+    Mockito.when(propertiesConfig.getOverrunPolicyIcmp()).thenReturn(OverrunPolicy.CATCH_UP);
+    Mockito.when(propertiesConfig.getOverrunPolicyTcpIp()).thenReturn(OverrunPolicy.COALESCE);
+    Mockito.when(propertiesConfig.getOverrunPolicyTraceroute()).thenReturn(OverrunPolicy.SKIP);
+    Mockito.doReturn(runnable).when(batchJobsFactory).pingIcmpProtocolJob(Mockito.anyString());
+    Mockito.doReturn(runnable).when(batchJobsFactory).pingTcpIpProtocolJob(Mockito.anyString());
+    Mockito.doReturn(runnable).when(batchJobsFactory).traceRouteJob(Mockito.anyString());
+    Assertions.assertDoesNotThrow(() -> batchJobsFactory.startWorkflow());
+    //then
+    Mockito.verify(batchJobsFactory, Mockito.times(1)).pingIcmpProtocolJob("localhost");
+    Mockito.verify(batchJobsFactory, Mockito.times(1)).pingTcpIpProtocolJob("localhost");
+    Mockito.verify(batchJobsFactory, Mockito.times(1)).traceRouteJob("localhost");
+  }
+
+  @Test
+  void startWorkflow_ReloadSchedulesAddedHosts() {
+    //given
+    Runnable idle = () -> {
+    };
+    Runnable failing = () -> {
+      throw new RuntimeException();
+    };
+    //when
+    Mockito.doReturn(propertiesConfig).when(batchJobsFactory).getPropertiesConfig();
+    Mockito.when(propertiesConfig.getExecutionMode()).thenReturn(ExecutionMode.PLATFORM);
+    Mockito.when(propertiesConfig.getSchedulerType()).thenReturn(SchedulerType.EXECUTOR);
+    Mockito.when(propertiesConfig.getScheduledThreadNumber()).thenReturn(2);
+    Mockito.when(propertiesConfig.getReloadInterval()).thenReturn(50L);
+    Mockito.when(propertiesConfig.getHosts()).thenReturn(List.of("localhost"), List.of("localhost", "remotehost"));
+    Mockito.when(propertiesConfig.getDelayIcmp()).thenReturn(5000L);
+    Mockito.when(propertiesConfig.getDelayTcpIp()).thenReturn(5000L);
+    Mockito.when(propertiesConfig.getDelayTraceroute()).thenReturn(5000L);
+    Mockito.when(propertiesConfig.getOverrunPolicyIcmp()).thenReturn(OverrunPolicy.CATCH_UP);
+    Mockito.when(propertiesConfig.getOverrunPolicyTcpIp()).thenReturn(OverrunPolicy.CATCH_UP);
+    Mockito.when(propertiesConfig.getOverrunPolicyTraceroute()).thenReturn(OverrunPolicy.CATCH_UP);
+    Mockito.doReturn(idle).when(batchJobsFactory).pingIcmpProtocolJob("localhost");
+    Mockito.doReturn(idle).when(batchJobsFactory).pingTcpIpProtocolJob("localhost");
+    Mockito.doReturn(idle).when(batchJobsFactory).traceRouteJob("localhost");
+    Mockito.doReturn(failing).when(batchJobsFactory).pingIcmpProtocolJob("remotehost");
+    Mockito.doReturn(failing).when(batchJobsFactory).pingTcpIpProtocolJob("remotehost");
+    Mockito.doReturn(failing).when(batchJobsFactory).traceRouteJob("remotehost");
+    Assertions.assertDoesNotThrow(() -> batchJobsFactory.startWorkflow());
+    //then
+    Mockito.verify(propertiesConfig, Mockito.atLeastOnce()).reload();
+    Mockito.verify(batchJobsFactory, Mockito.atLeast(2)).pingIcmpProtocolJob("localhost");
+    Mockito.verify(batchJobsFactory, Mockito.atLeastOnce()).pingIcmpProtocolJob("remotehost");
+  }
+
+  @Test
+  void startWorkflow_FusedProbes() {
+    //given
+    ProbeTargetDto target = new ProbeTargetDto("localhost", OperatingSystem.LINUX, "ping localhost", URI.create("http://localhost"), "traceroute localhost");
+    ResponseFactory<ProbeTargetDto> targetResponse = ResponseFactory.<ProbeTargetDto>builder().response(target).status(ResponseStatus.OK).build();
+    ResponseFactory<PingIcmpDto> icmpResponse = ResponseFactory.<PingIcmpDto>builder().status(ResponseStatus.INTERNAL_SERVER_ERROR).exception(new RuntimeException()).build();
+    //when
+    Mockito.doReturn(propertiesConfig).when(batchJobsFactory).getPropertiesConfig();
+    Mockito.doReturn(pingController).when(batchJobsFactory).getPingController();
+    Mockito.when(propertiesConfig.getExecutionMode()).thenReturn(ExecutionMode.PLATFORM);
+    Mockito.when(propertiesConfig.getSchedulerType()).thenReturn(SchedulerType.EXECUTOR);
+    Mockito.when(propertiesConfig.getScheduledThreadNumber()).thenReturn(1);
+    Mockito.when(propertiesConfig.isFusedEnabled()).thenReturn(true);
+    Mockito.when(propertiesConfig.getHosts()).thenReturn(List.of("localhost"));
+    Mockito.when(propertiesConfig.getDelayIcmp()).thenReturn(5000L);
+    Mockito.when(propertiesConfig.getDelayTcpIp()).thenReturn(5000L);
+    Mockito.when(propertiesConfig.getDelayTraceroute()).thenReturn(30000L);
+    Mockito.when(propertiesConfig.getOverrunPolicyFused()).thenReturn(OverrunPolicy.COALESCE);
+    Mockito.when(pingController.getProbeTarget("localhost")).thenReturn(targetResponse);
+    Mockito.when(pingController.postIcmp(target)).thenReturn(icmpResponse);
+    Assertions.assertDoesNotThrow(() -> batchJobsFactory.startWorkflow());
+    //then
+    Mockito.verify(pingController, Mockito.times(1)).postIcmp(target);
+    Mockito.verify(batchJobsFactory, Mockito.never()).pingIcmpProtocolJob(Mockito.anyString());
+    Mockito.verify(pingController, Mockito.never()).postIcmp(Mockito.anyString());
+  }
 }
@@ -1,22 +1,33 @@
 package com.byborgenterprises.providers;
 
+import com.byborgenterprises.configs.PingIcmpSettings;
 import com.byborgenterprises.dtos.PingIcmpDto;
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.embeddables.Terminal;
 import com.byborgenterprises.entities.PingIcmp;
+import com.byborgenterprises.assemblers.PingIcmpMapperAssembler;
+import com.byborgenterprises.assemblers.TerminalMapperAssembler;
+import com.byborgenterprises.enums.IcmpProbeMode;
 import com.byborgenterprises.enums.OperatingSystem;
+import com.byborgenterprises.enums.TerminalOutcome;
 import com.byborgenterprises.mappers.PingIcmpMapper;
 import com.byborgenterprises.mappers.TerminalMapper;
 import com.byborgenterprises.repositories.PingIcmpRepository;
+import com.byborgenterprises.utils.EchoReplyWatcher;
+import com.byborgenterprises.utils.IcmpEchoEngine;
+import com.byborgenterprises.utils.NetworkTools;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -32,7 +43,6 @@ class PingIcmpProviderTest {
   @Mock
   private TerminalMapper terminalMapper;
 
-  @InjectMocks
   private PingIcmpProvider pingIcmpProvider;
 
   @BeforeEach
@@ -40,7 +50,11 @@ class PingIcmpProviderTest {
     String pingCommandWindows = "ping -n 5 HOST";
     String pingCommandLinux = "ping -c 5 HOST";
 
-    pingIcmpProvider = new PingIcmpProvider(pingCommandWindows, pingCommandLinux, pingIcmpRepository, pingIcmpMapper, terminalMapper);
+    PingIcmpSettings settings = PingIcmpSettings.builder()
+        .pingCommandWindows(pingCommandWindows)
+        .pingCommandLinux(pingCommandLinux)
+        .build();
+    pingIcmpProvider = new PingIcmpProvider(settings, pingIcmpRepository, pingIcmpMapper, terminalMapper);
   }
 
   @Test
@@ -55,6 +69,26 @@ class PingIcmpProviderTest {
     Assertions.assertEquals(expectedCommand, command);
   }
 
+  @Test
+  void testGetTerminalCommand_PreResolved() {
+    //given
+    PingIcmpSettings settings = PingIcmpSettings.builder()
+        .pingCommandWindows("ping -n 5 HOST")
+        .pingCommandLinux("ping -c 5 HOST")
+        .preResolve(true)
+        .sessionCommandWindows("ping -t HOST")
+        .sessionCommandLinux("ping -O HOST")
+        .build();
+    PingIcmpProvider provider = new PingIcmpProvider(settings, pingIcmpRepository, pingIcmpMapper, terminalMapper);
+    try (MockedStatic<NetworkTools> networkToolsMockedStatic = Mockito.mockStatic(NetworkTools.class)) {
+      //when
+      networkToolsMockedStatic.when(() -> NetworkTools.resolveAddress("example.com")).thenReturn("93.184.216.34");
+      String command = provider.getTerminalCommand("example.com:8080", OperatingSystem.LINUX);
+      //then
+      Assertions.assertEquals("ping -c 5 93.184.216.34", command);
+    }
+  }
+
   @Test
   void testGetTerminalCommand_Windows() {
     //given
@@ -146,6 +180,195 @@ class PingIcmpProviderTest {
     Assertions.assertEquals(pingIcmpDto, result);
   }
 
+  @Test
+  void testCreateOrUpdatePing_CompletedWithStatistics() {
+    //given
+    PingIcmpSettings settings = PingIcmpSettings.builder()
+        .pingCommandWindows("ping -n 5 HOST")
+        .pingCommandLinux("ping -c 5 HOST")
+        .build();
+    PingIcmpProvider provider = new PingIcmpProvider(settings, new PingIcmpRepository(), new PingIcmpMapperAssembler(new TerminalMapperAssembler()), new TerminalMapperAssembler());
+    String output = "Reply from 93.184.216.34: bytes=32 time=14ms TTL=117\nReply from 93.184.216.34: bytes=32 time=15ms TTL=117\n"
+        + "    Packets: Sent = 2, Received = 2, Lost = 0 (0% loss),\n    Minimum = 14ms, Maximum = 15ms, Average = 14ms";
+    TerminalDto terminalDto = new TerminalDto("ping -n 5 example.com", 0, output, LocalDateTime.now());
+    //when
+    PingIcmpDto result = provider.createOrUpdatePing("example.com", terminalDto, OperatingSystem.WINDOWS);
+    //then
+    Assertions.assertTrue(result.success());
+    Assertions.assertEquals(2, result.transmitted());
+    Assertions.assertEquals(2, result.received());
+    Assertions.assertEquals(0.0, result.lossPercent());
+    Assertions.assertEquals(14.0, result.minRtt());
+    Assertions.assertEquals(14.0, result.avgRtt());
+    Assertions.assertEquals(15.0, result.maxRtt());
+    Assertions.assertEquals(0.5, result.mdevRtt(), 1e-9);
+    Assertions.assertEquals(List.of(14.0f, 15.0f), result.roundTrips());
+  }
+
+  @Test
+  void testCreateOrUpdatePing_StoppedOnReply() {
+    //given
+    PingIcmpSettings settings = PingIcmpSettings.builder()
+        .pingCommandWindows("ping -n 5 HOST")
+        .pingCommandLinux("ping -c 5 HOST")
+        .requiredReplies(1)
+        .requiredLosses(3)
+        .sessionCommandWindows("ping -t HOST")
+        .sessionCommandLinux("ping -O HOST")
+        .build();
+    PingIcmpProvider provider = new PingIcmpProvider(settings, new PingIcmpRepository(), new PingIcmpMapperAssembler(new TerminalMapperAssembler()), new TerminalMapperAssembler());
+    EchoReplyWatcher echoReplyWatcher = provider.createReplyWatcher();
+    String output = "PING example.com (93.184.216.34) 56(84) bytes of data.\n64 bytes from 93.184.216.34: icmp_seq=1 ttl=56 time=11.2 ms";
+    boolean keepReading = output.lines().allMatch(echoReplyWatcher::onLine);
+    TerminalDto terminalDto = new TerminalDto("ping -c 5 example.com", 143, output, LocalDateTime.now(), TerminalOutcome.STOPPED);
+    //when
+    PingIcmpDto result = provider.createOrUpdatePing("example.com", terminalDto, OperatingSystem.LINUX, echoReplyWatcher);
+    //then
+    Assertions.assertFalse(keepReading);
+    Assertions.assertTrue(result.success());
+    Assertions.assertEquals(1, result.received());
+    Assertions.assertEquals(1, result.transmitted());
+    Assertions.assertEquals(output, result.terminal().result());
+    Assertions.assertEquals(TerminalOutcome.STOPPED, result.terminal().outcome());
+  }
+
+  @Test
+  void testCreateOrUpdatePing_StoppedOnLosses() {
+    //given
+    PingIcmpSettings settings = PingIcmpSettings.builder()
+        .pingCommandWindows("ping -n 5 HOST")
+        .pingCommandLinux("ping -c 5 HOST")
+        .requiredReplies(1)
+        .requiredLosses(2)
+        .commandTimeout(Duration.ofSeconds(15))
+        .sessionCommandWindows("ping -t HOST")
+        .sessionCommandLinux("ping -O HOST")
+        .build();
+    PingIcmpProvider provider = new PingIcmpProvider(settings, new PingIcmpRepository(), new PingIcmpMapperAssembler(new TerminalMapperAssembler()), new TerminalMapperAssembler());
+    EchoReplyWatcher echoReplyWatcher = provider.createReplyWatcher();
+    String output = "Pinging example.com [93.184.216.34] with 32 bytes of data:\nRequest timed out.\nRequest timed out.";
+    output.lines().forEach(echoReplyWatcher::onLine);
+    TerminalDto terminalDto = new TerminalDto("ping -n 5 example.com", 1, output, LocalDateTime.now(), TerminalOutcome.STOPPED);
+    //when
+    PingIcmpDto result = provider.createOrUpdatePing("example.com", terminalDto, OperatingSystem.WINDOWS, echoReplyWatcher);
+    //then
+    Assertions.assertFalse(result.success());
+    Assertions.assertEquals(0, result.received());
+    Assertions.assertEquals(2, result.transmitted());
+  }
+
+  @Test
+  void testCreateOrUpdatePing_TimedOutAfterReply() {
+    //given
+    PingIcmpSettings settings = PingIcmpSettings.builder()
+        .pingCommandWindows("ping -n 5 HOST")
+        .pingCommandLinux("ping -c 5 HOST")
+        .commandTimeout(Duration.ofSeconds(15))
+        .sessionCommandWindows("ping -t HOST")
+        .sessionCommandLinux("ping -O HOST")
+        .build();
+    PingIcmpProvider provider = new PingIcmpProvider(settings, new PingIcmpRepository(), new PingIcmpMapperAssembler(new TerminalMapperAssembler()), new TerminalMapperAssembler());
+    EchoReplyWatcher echoReplyWatcher = provider.createReplyWatcher();
+    String output = "64 bytes from 93.184.216.34: icmp_seq=1 ttl=56 time=11.2 ms";
+    echoReplyWatcher.onLine(output);
+    TerminalDto terminalDto = new TerminalDto("ping -c 5 example.com", 137, output, LocalDateTime.now(), TerminalOutcome.TIMED_OUT);
+    //when
+    PingIcmpDto result = provider.createOrUpdatePing("example.com", terminalDto, OperatingSystem.LINUX, echoReplyWatcher);
+    //then
+    Assertions.assertTrue(result.success());
+    Assertions.assertEquals(1, result.received());
+    Assertions.assertEquals(TerminalOutcome.TIMED_OUT, result.terminal().outcome());
+    Assertions.assertEquals(Duration.ofSeconds(15), provider.getCommandTimeout());
+  }
+
+  @Test
+  void testGetSessionCommand_HostWithPort() {
+    //given
+    String host = "example.com:8080";
+    //when
+    String linux = pingIcmpProvider.getSessionCommand(host, OperatingSystem.LINUX);
+    String windows = pingIcmpProvider.getSessionCommand(host, OperatingSystem.WINDOWS);
+    //then
+    Assertions.assertEquals("ping -O example.com", linux);
+    Assertions.assertEquals("ping -t example.com", windows);
+  }
+
+  @Test
+  void testUpdateSessionPing_LatestLineDecides() {
+    //given
+    PingIcmpSettings settings = PingIcmpSettings.builder()
+        .pingCommandWindows("ping -n 5 HOST")
+        .pingCommandLinux("ping -c 5 HOST")
+        .sessionCommandWindows("ping -t HOST")
+        .sessionCommandLinux("ping -O HOST")
+        .build();
+    PingIcmpProvider provider = new PingIcmpProvider(settings, new PingIcmpRepository(), new PingIcmpMapperAssembler(new TerminalMapperAssembler()), new TerminalMapperAssembler());
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(0, 0);
+    echoReplyWatcher.onLine("64 bytes from 93.184.216.34: icmp_seq=1 ttl=56 time=11.2 ms");
+    provider.updateSessionPing("example.com", new TerminalDto("ping -O example.com", -1, "64 bytes from 93.184.216.34: icmp_seq=1 ttl=56 time=11.2 ms", LocalDateTime.now(),
+        TerminalOutcome.RUNNING), echoReplyWatcher, true);
+    echoReplyWatcher.onLine("no answer yet for icmp_seq=2");
+    TerminalDto terminalDto = new TerminalDto("ping -O example.com", -1, "no answer yet for icmp_seq=2", LocalDateTime.now(), TerminalOutcome.RUNNING);
+    //when
+    PingIcmpDto result = provider.updateSessionPing("example.com", terminalDto, echoReplyWatcher, false);
+    //then
+    Assertions.assertFalse(result.success());
+    Assertions.assertEquals(2, result.transmitted());
+    Assertions.assertEquals(1, result.received());
+    Assertions.assertEquals(50.0, result.lossPercent());
+    Assertions.assertEquals(11.2, result.minRtt());
+    Assertions.assertEquals(11.2, result.maxRtt());
+    Assertions.assertEquals(TerminalOutcome.RUNNING, result.terminal().outcome());
+    Assertions.assertEquals(IcmpProbeMode.SESSION, result.probeMode());
+    Assertions.assertEquals(result, provider.getPing("example.com").orElseThrow());
+  }
+
+  @Test
+  void testCreateOrUpdateEchoPing_RepliedAfterLoss() {
+    //given
+    IcmpEchoEngine echoEngine = Mockito.mock(IcmpEchoEngine.class);
+    PingIcmpSettings settings = PingIcmpSettings.builder()
+        .pingCommandWindows("ping -n 5 HOST")
+        .pingCommandLinux("ping -c 5 HOST")
+        .sessionCommandWindows("ping -t HOST")
+        .sessionCommandLinux("ping -O HOST")
+        .echoCount(3)
+        .echoTimeout(1000)
+        .build();
+    PingIcmpProvider provider = new PingIcmpProvider(settings, new PingIcmpRepository(), new PingIcmpMapperAssembler(new TerminalMapperAssembler()), new TerminalMapperAssembler(),
+        echoEngine);
+    //when
+    Mockito.when(echoEngine.echo(Mockito.any(), Mockito.eq(3), Mockito.eq(1000))).thenReturn(CompletableFuture.completedFuture(new long[]{-1L, 1500000L}));
+    boolean available = provider.isEchoAvailable();
+    PingIcmpDto result = provider.createOrUpdateEchoPing("127.0.0.1:8080");
+    //then
+    Assertions.assertTrue(available);
+    Assertions.assertTrue(result.success());
+    Assertions.assertEquals(2, result.transmitted());
+    Assertions.assertEquals(1, result.received());
+    Assertions.assertEquals("icmp echo 127.0.0.1", result.terminal().command());
+    Assertions.assertEquals("", result.terminal().result());
+    Assertions.assertEquals(0, result.terminal().exitCode());
+    Assertions.assertEquals(50.0, result.lossPercent());
+    Assertions.assertEquals(1.5, result.minRtt());
+    Assertions.assertEquals(1.5, result.maxRtt());
+    Assertions.assertEquals(0.0, result.mdevRtt());
+    Assertions.assertEquals(List.of(1.5f), result.roundTrips());
+    Assertions.assertEquals(IcmpProbeMode.ECHO, result.probeMode());
+  }
+
+  @Test
+  void testCreateOrUpdateEchoPing_NoEngine() {
+    //given
+    String host = "127.0.0.1";
+    //when
+    boolean available = pingIcmpProvider.isEchoAvailable();
+    Executable executable = () -> pingIcmpProvider.createOrUpdateEchoPing(host);
+    //then
+    Assertions.assertFalse(available);
+    Assertions.assertThrows(IllegalStateException.class, executable);
+  }
+
   @Test
   void testCreateOrUpdatePing_HostWithPort() {
     //given
@@ -0,0 +1,102 @@
+package com.byborgenterprises.providers;
+
+import com.byborgenterprises.assemblers.PingTcpIpMapperAssembler;
+import com.byborgenterprises.dtos.PingTcpIpDto;
+import com.byborgenterprises.mappers.PingTcpIpMapper;
+import com.byborgenterprises.repositories.PingTcpIpRepository;
+import com.byborgenterprises.utils.ConnectProbeEngine;
+import com.byborgenterprises.utils.ExecutorTools;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class PingTcpIpConnectProviderTest {
+
+  private ConnectProbeEngine connectProbeEngine;
+
+  private ThreadPoolExecutor resultExecutor;
+
+  private PingTcpIpConnectProvider pingTcpIpConnectProvider;
+
+  @BeforeEach
+  void setUp() {
+    connectProbeEngine = new ConnectProbeEngine("tcp-connect-test");
+    resultExecutor = ExecutorTools.newFixedThreadPool("tcp-connect-result-test", 1);
+    pingTcpIpConnectProvider = new PingTcpIpConnectProvider(new PingTcpIpRepository(), new PingTcpIpMapperAssembler(), connectProbeEngine, resultExecutor, 5000L, "http");
+  }
+
+  @AfterEach
+  void tearDown() {
+    connectProbeEngine.close();
+    resultExecutor.shutdownNow();
+  }
+
+  @SneakyThrows
+  @Test
+  void testCreateOrUpdatePing_Connected() {
+    //given
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      String host = "127.0.0.1:" + serverSocket.getLocalPort();
+      //when
+      PingTcpIpDto pingTcpIpDto = pingTcpIpConnectProvider.createOrUpdatePing(host);
+      Optional<PingTcpIpDto> stored = pingTcpIpConnectProvider.getPing(host);
+      //then
+      Assertions.assertTrue(pingTcpIpDto.success());
+      Assertions.assertEquals(0, pingTcpIpDto.responseCode());
+      Assertions.assertEquals(URI.create("http://" + host), pingTcpIpDto.url());
+      Assertions.assertTrue(stored.isPresent());
+      Assertions.assertEquals(pingTcpIpDto, stored.get());
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testCreateOrUpdatePing_SavedOffEngineThread() {
+    //given
+    PingTcpIpMapper pingTcpIpMapper = new PingTcpIpMapperAssembler();
+    AtomicReference<String> savingThread = new AtomicReference<>();
+    PingTcpIpConnectProvider provider = new PingTcpIpConnectProvider(new PingTcpIpRepository(), pingTcpIp -> {
+      savingThread.set(Thread.currentThread().getName());
+      return pingTcpIpMapper.toDto(pingTcpIp);
+    }, connectProbeEngine, resultExecutor, 5000L, "http");
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      //when
+      PingTcpIpDto pingTcpIpDto = provider.createOrUpdatePing("127.0.0.1:" + serverSocket.getLocalPort());
+      //then
+      Assertions.assertTrue(pingTcpIpDto.success());
+      Assertions.assertTrue(savingThread.get().startsWith("tcp-connect-result-test"));
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testCreateOrUpdatePingAsync_Refused() {
+    //given
+    int port;
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      port = serverSocket.getLocalPort();
+    }
+    //when
+    PingTcpIpDto pingTcpIpDto = pingTcpIpConnectProvider.createOrUpdatePingAsync("127.0.0.1:" + port).join();
+    //then
+    Assertions.assertFalse(pingTcpIpDto.success());
+    Assertions.assertEquals(-1, pingTcpIpDto.responseCode());
+  }
+
+  @Test
+  void testCreateOrUpdatePing_HostNull() {
+    //given
+    //when
+    Executable executable = () -> pingTcpIpConnectProvider.createOrUpdatePing(null);
+    //then
+    Assertions.assertThrows(NullPointerException.class, executable);
+  }
+}
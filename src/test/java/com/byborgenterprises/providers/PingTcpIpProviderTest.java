@@ -1,17 +1,32 @@
 package com.byborgenterprises.providers;
 
+import com.byborgenterprises.assemblers.PingTcpIpMapperAssembler;
 import com.byborgenterprises.dtos.PingTcpIpDto;
 import com.byborgenterprises.entities.PingTcpIp;
+import com.byborgenterprises.enums.HttpClientPurpose;
 import com.byborgenterprises.enums.HttpMethod;
+import com.byborgenterprises.enums.HttpPhase;
+import com.byborgenterprises.enums.HttpProbeMode;
 import com.byborgenterprises.mappers.PingTcpIpMapper;
 import com.byborgenterprises.repositories.PingTcpIpRepository;
 import com.byborgenterprises.utils.NetworkTools;
+import com.sun.net.httpserver.HttpServer;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -56,10 +71,10 @@ class PingTcpIpProviderTest {
       localDateTimeMockedStatic.when(LocalDateTime::now).thenReturn(timestamp);
       networkToolsMockedStatic.when(() -> NetworkTools.getUri(Mockito.anyString(), Mockito.eq(host), Mockito.eq(Map.of()))).thenReturn(uri);
       networkToolsMockedStatic.when(
-              () -> NetworkTools.httpRequest(Mockito.eq(uri), Mockito.eq(Map.of("Content-Type", "text/plain")), Mockito.eq(HttpMethod.GET), Mockito.eq(""), Mockito.eq(5000L)))
+              () -> NetworkTools.httpRequest(Mockito.eq(HttpClientPurpose.PROBE), Mockito.eq(uri), Mockito.eq(Map.of("Content-Type", "text/plain")), Mockito.eq(HttpMethod.GET), Mockito.eq(""), Mockito.eq(5000L), Mockito.any()))
           .thenReturn(httpResponse);
       Mockito.when(httpResponse.statusCode()).thenReturn(statusCode);
-      Mockito.when(pingTcpIpRepository.save(Mockito.any(PingTcpIp.class))).thenReturn(pingTcpIp);
+      Mockito.when(pingTcpIpRepository.saveIf(Mockito.any(PingTcpIp.class), Mockito.any())).thenReturn(pingTcpIp);
       Mockito.when(pingTcpIpMapper.toDto(pingTcpIp)).thenReturn(pingTcpIpDto);
       Executable executable = () -> pingTcpIpProvider.createOrUpdatePing(host);
       //then
@@ -79,7 +94,7 @@ class PingTcpIpProviderTest {
       localDateTimeMockedStatic.when(LocalDateTime::now).thenReturn(timestamp);
       networkToolsMockedStatic.when(() -> NetworkTools.getUri(Mockito.anyString(), Mockito.eq(host), Mockito.eq(Map.of()))).thenReturn(uri);
       networkToolsMockedStatic.when(
-              () -> NetworkTools.httpRequest(Mockito.eq(uri), Mockito.eq(Map.of("Content-Type", "text/plain")), Mockito.eq(HttpMethod.GET), Mockito.eq(""), Mockito.eq(5000L)))
+              () -> NetworkTools.httpRequest(Mockito.eq(HttpClientPurpose.PROBE), Mockito.eq(uri), Mockito.eq(Map.of("Content-Type", "text/plain")), Mockito.eq(HttpMethod.GET), Mockito.eq(""), Mockito.eq(5000L), Mockito.any()))
           .thenThrow(IOException.class);
       Executable executable = () -> pingTcpIpProvider.createOrUpdatePing(host);
       //then
@@ -87,6 +102,56 @@ class PingTcpIpProviderTest {
     }
   }
 
+  @Test
+  void testCreateOrUpdatePingAsync_Success() {
+    //given
+    URI uri = URI.create("http://localhost");
+    PingTcpIpProvider provider = new PingTcpIpProvider(new PingTcpIpRepository(), new PingTcpIpMapperAssembler(), 5000L, "http");
+    HttpResponse<String> httpResponse = Mockito.mock(HttpResponse.class);
+    try (MockedStatic<NetworkTools> networkToolsMockedStatic = Mockito.mockStatic(NetworkTools.class)) {
+      //when
+      networkToolsMockedStatic.when(() -> NetworkTools.getUri(Mockito.anyString(), Mockito.eq("localhost"), Mockito.eq(Map.of()))).thenReturn(uri);
+      networkToolsMockedStatic.when(() -> NetworkTools.httpRequestAsync(Mockito.eq(HttpClientPurpose.PROBE), Mockito.eq(uri), Mockito.eq(Map.of("Content-Type", "text/plain")),
+          Mockito.eq(HttpMethod.GET), Mockito.eq(""), Mockito.eq(5000L), Mockito.any())).thenReturn(CompletableFuture.completedFuture(httpResponse));
+      Mockito.when(httpResponse.statusCode()).thenReturn(200);
+      PingTcpIpDto pingTcpIpDto = provider.createOrUpdatePingAsync("localhost").join();
+      //then
+      Assertions.assertEquals(200, pingTcpIpDto.responseCode());
+      Assertions.assertTrue(pingTcpIpDto.success());
+    }
+  }
+
+  @Test
+  void testCreateOrUpdatePingByUriAsync_Timeout() {
+    //given
+    URI uri = URI.create("http://localhost");
+    PingTcpIpProvider provider = new PingTcpIpProvider(new PingTcpIpRepository(), new PingTcpIpMapperAssembler(), 5000L, "http");
+    try (MockedStatic<NetworkTools> networkToolsMockedStatic = Mockito.mockStatic(NetworkTools.class)) {
+      //when
+      networkToolsMockedStatic.when(() -> NetworkTools.httpRequestAsync(Mockito.eq(HttpClientPurpose.PROBE), Mockito.eq(uri), Mockito.anyMap(), Mockito.eq(HttpMethod.GET),
+          Mockito.eq(""), Mockito.eq(5000L), Mockito.any())).thenReturn(CompletableFuture.failedFuture(new HttpTimeoutException("timeout")));
+      PingTcpIpDto pingTcpIpDto = provider.createOrUpdatePingByUriAsync(uri).join();
+      //then
+      Assertions.assertEquals(-1, pingTcpIpDto.responseCode());
+      Assertions.assertFalse(pingTcpIpDto.success());
+    }
+  }
+
+  @Test
+  void testCreateOrUpdatePingByUriAsync_UnexpectedError() {
+    //given
+    URI uri = URI.create("http://localhost");
+    PingTcpIpProvider provider = new PingTcpIpProvider(new PingTcpIpRepository(), new PingTcpIpMapperAssembler(), 5000L, "http");
+    try (MockedStatic<NetworkTools> networkToolsMockedStatic = Mockito.mockStatic(NetworkTools.class)) {
+      //when
+      networkToolsMockedStatic.when(() -> NetworkTools.httpRequestAsync(Mockito.eq(HttpClientPurpose.PROBE), Mockito.eq(uri), Mockito.anyMap(), Mockito.eq(HttpMethod.GET),
+          Mockito.eq(""), Mockito.eq(5000L), Mockito.any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("closed")));
+      CompletableFuture<PingTcpIpDto> ping = provider.createOrUpdatePingByUriAsync(uri);
+      //then
+      Assertions.assertThrows(CompletionException.class, ping::join);
+    }
+  }
+
   @Test
   void testCreateOrUpdatePing_HostNull() {
     //given
@@ -128,4 +193,137 @@ class PingTcpIpProviderTest {
       Assertions.assertThrows(NullPointerException.class, executable);
     }
   }
-}
\ No newline at end of file
+
+  @SneakyThrows
+  @Test
+  void testCreateOrUpdatePingByUri_ConcurrentHostsDoNotSerialize() {
+    //given
+    long delay = 300L;
+    HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    httpServer.createContext("/", exchange -> {
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      exchange.sendResponseHeaders(204, -1);
+      exchange.close();
+    });
+    ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    ExecutorService probeExecutor = Executors.newCachedThreadPool();
+    httpServer.setExecutor(serverExecutor);
+    httpServer.start();
+    PingTcpIpProvider provider = new PingTcpIpProvider(new PingTcpIpRepository(), new PingTcpIpMapperAssembler(), 5000L, "http");
+    String base = "http://127.0.0.1:" + httpServer.getAddress().getPort() + "/host";
+    try {
+      //when
+      long oneHost = probeHosts(provider, probeExecutor, base, 1);
+      long manyHosts = probeHosts(provider, probeExecutor, base, 16);
+      //then
+      Assertions.assertTrue(oneHost >= delay);
+      Assertions.assertTrue(manyHosts < delay * 4, "16 hosts took " + manyHosts + " ms, one host took " + oneHost + " ms");
+      IntStream.range(0, 16).forEach(i -> Assertions.assertEquals(204, provider.getPing("127.0.0.1:" + httpServer.getAddress().getPort() + "/host" + i).orElseThrow().responseCode()));
+    } finally {
+      httpServer.stop(0);
+      serverExecutor.shutdownNow();
+      probeExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testCreateOrUpdatePingByUri_KeepsNewerPing() {
+    //given
+    URI uri = URI.create("http://localhost");
+    LocalDateTime older = LocalDateTime.of(2024, 1, 1, 0, 0);
+    LocalDateTime newer = older.plusSeconds(1);
+    PingTcpIpRepository repository = new PingTcpIpRepository();
+    PingTcpIpProvider provider = new PingTcpIpProvider(repository, new PingTcpIpMapperAssembler(), 5000L, "http");
+    HttpResponse<String> httpResponse = Mockito.mock(HttpResponse.class);
+    try (MockedStatic<NetworkTools> networkToolsMockedStatic = Mockito.mockStatic(NetworkTools.class); MockedStatic<LocalDateTime> localDateTimeMockedStatic = Mockito.mockStatic(
+        LocalDateTime.class)) {
+      //when
+      networkToolsMockedStatic.when(() -> NetworkTools.httpRequest(Mockito.eq(HttpClientPurpose.PROBE), Mockito.eq(uri), Mockito.anyMap(), Mockito.eq(HttpMethod.GET), Mockito.eq(""), Mockito.eq(5000L), Mockito.any()))
+          .thenReturn(httpResponse);
+      Mockito.when(httpResponse.statusCode()).thenReturn(200, 500);
+      localDateTimeMockedStatic.when(LocalDateTime::now).thenReturn(newer, older);
+      provider.createOrUpdatePingByUri(uri);
+      PingTcpIpDto stale = provider.createOrUpdatePingByUri(uri);
+      //then
+      Assertions.assertEquals(200, stale.responseCode());
+      Assertions.assertEquals(newer, repository.findById(uri).orElseThrow().getTime());
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testCreateOrUpdatePingByUri_HeadAndFirstByteModes() {
+    //given
+    List<String> methods = new CopyOnWriteArrayList<>();
+    HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    httpServer.createContext("/", exchange -> {
+      methods.add(exchange.getRequestMethod());
+      byte[] body = "page".repeat(1024).getBytes();
+      exchange.sendResponseHeaders(200, "HEAD".equals(exchange.getRequestMethod()) ? -1 : body.length);
+      if (!"HEAD".equals(exchange.getRequestMethod())) {
+        exchange.getResponseBody().write(body);
+      }
+      exchange.close();
+    });
+    httpServer.start();
+    URI uri = URI.create("http://127.0.0.1:" + httpServer.getAddress().getPort() + "/");
+    PingTcpIpProvider headProvider = new PingTcpIpProvider(new PingTcpIpRepository(), new PingTcpIpMapperAssembler(), 5000L, "http", HttpProbeMode.HEAD);
+    PingTcpIpProvider firstByteProvider = new PingTcpIpProvider(new PingTcpIpRepository(), new PingTcpIpMapperAssembler(), 5000L, "http", HttpProbeMode.FIRST_BYTE);
+    try {
+      //when
+      PingTcpIpDto head = headProvider.createOrUpdatePingByUri(uri);
+      PingTcpIpDto firstByte = firstByteProvider.createOrUpdatePingByUri(uri);
+      PingTcpIpDto firstByteAsync = firstByteProvider.createOrUpdatePingByUriAsync(uri).join();
+      //then
+      Assertions.assertEquals(200, head.responseCode());
+      Assertions.assertEquals(200, firstByte.responseCode());
+      Assertions.assertEquals(200, firstByteAsync.responseCode());
+      Assertions.assertEquals(List.of("HEAD", "GET", "GET"), methods);
+    } finally {
+      httpServer.stop(0);
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testCreateOrUpdatePingByUri_RecordsPhases() {
+    //given
+    HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    httpServer.createContext("/", exchange -> {
+      byte[] body = "page".repeat(1024).getBytes();
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    httpServer.start();
+    URI uri = URI.create("http://localhost:" + httpServer.getAddress().getPort() + "/");
+    PingTcpIpProvider provider = new PingTcpIpProvider(new PingTcpIpRepository(), new PingTcpIpMapperAssembler(), 5000L, "http");
+    long firstBytes = NetworkTools.getPhaseMetrics().stream().filter(metrics -> metrics.name().equals(HttpPhase.FIRST_BYTE.name())).findFirst().orElseThrow().count();
+    try {
+      //when
+      PingTcpIpDto pingTcpIpDto = provider.createOrUpdatePingByUri(uri);
+      //then
+      Assertions.assertEquals(200, pingTcpIpDto.responseCode());
+      Assertions.assertTrue(pingTcpIpDto.dnsTime() >= 0);
+      Assertions.assertTrue(pingTcpIpDto.firstByteTime() >= 0);
+      Assertions.assertTrue(pingTcpIpDto.transferTime() >= 0);
+      Assertions.assertEquals(-1L, pingTcpIpDto.connectTime());
+      Assertions.assertTrue(NetworkTools.getPhaseMetrics().stream().filter(metrics -> metrics.name().equals(HttpPhase.FIRST_BYTE.name())).findFirst().orElseThrow().count() > firstBytes);
+    } finally {
+      httpServer.stop(0);
+    }
+  }
+
+  @SneakyThrows
+  private static long probeHosts(final PingTcpIpProvider provider, final ExecutorService executor, final String base, final int hosts) {
+    long start = System.currentTimeMillis();
+    List<CompletableFuture<PingTcpIpDto>> probes = IntStream.range(0, hosts)
+        .mapToObj(i -> CompletableFuture.supplyAsync(() -> provider.createOrUpdatePingByUri(URI.create(base + i)), executor)).toList();
+    CompletableFuture.allOf(probes.toArray(CompletableFuture[]::new)).get();
+    return System.currentTimeMillis() - start;
+  }
+}
@@ -1,6 +1,7 @@
 package com.byborgenterprises.providers;
 
 import com.byborgenterprises.dtos.ReportDto;
+import com.byborgenterprises.enums.HttpClientPurpose;
 import com.byborgenterprises.enums.HttpMethod;
 import com.byborgenterprises.exceptions.ReportException;
 import com.byborgenterprises.utils.NetworkTools;
@@ -40,7 +41,7 @@ class ReportProviderTest {
       //when
       networkTools.when(() -> NetworkTools.getUri(Mockito.anyString(), Mockito.eq(Map.of()))).thenReturn(uri);
       networkTools.when(
-              () -> NetworkTools.httpRequest(Mockito.eq(uri), Mockito.eq(Map.of("Content-Type", "application/json")), Mockito.eq(HttpMethod.POST), Mockito.anyString(), Mockito.eq(10000L)))
+              () -> NetworkTools.httpRequest(Mockito.eq(HttpClientPurpose.REPORT), Mockito.eq(uri), Mockito.eq(Map.of("Content-Type", "application/json")), Mockito.eq(HttpMethod.POST), Mockito.anyString(), Mockito.eq(10000L)))
           .thenReturn(httpResponse);
       Mockito.when(httpResponse.statusCode()).thenReturn(200);
       Executable executable = () -> reportProvider.sendReport(reportDto);
@@ -58,7 +59,7 @@ class ReportProviderTest {
       //when
       networkTools.when(() -> NetworkTools.getUri(Mockito.anyString(), Mockito.eq(Map.of()))).thenReturn(uri);
       networkTools.when(
-              () -> NetworkTools.httpRequest(Mockito.eq(uri), Mockito.eq(Map.of("Content-Type", "application/json")), Mockito.eq(HttpMethod.POST), Mockito.anyString(), Mockito.eq(10000L)))
+              () -> NetworkTools.httpRequest(Mockito.eq(HttpClientPurpose.REPORT), Mockito.eq(uri), Mockito.eq(Map.of("Content-Type", "application/json")), Mockito.eq(HttpMethod.POST), Mockito.anyString(), Mockito.eq(10000L)))
           .thenThrow(IOException.class);
       Executable executable = () -> reportProvider.sendReport(reportDto);
       //then
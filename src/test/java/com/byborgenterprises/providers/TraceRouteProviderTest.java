@@ -1,22 +1,28 @@
 package com.byborgenterprises.providers;
 
+import com.byborgenterprises.assemblers.TerminalMapperAssembler;
+import com.byborgenterprises.assemblers.TraceRouteMapperAssembler;
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.dtos.TraceRouteDto;
+import com.byborgenterprises.dtos.TraceRouteHopDto;
 import com.byborgenterprises.embeddables.Terminal;
 import com.byborgenterprises.entities.TraceRoute;
 import com.byborgenterprises.enums.OperatingSystem;
 import com.byborgenterprises.mappers.TerminalMapper;
 import com.byborgenterprises.mappers.TraceRouteMapper;
 import com.byborgenterprises.repositories.TraceRouteRepository;
+import com.byborgenterprises.utils.NetworkTools;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -32,7 +38,6 @@ class TraceRouteProviderTest {
   @Mock
   private TerminalMapper terminalMapper;
 
-  @InjectMocks
   private TraceRouteProvider traceRouteProvider;
 
   @BeforeEach
@@ -54,6 +59,19 @@ class TraceRouteProviderTest {
     Assertions.assertEquals(expectedCommand, command);
   }
 
+  @Test
+  void testGetTerminalCommand_PreResolved() {
+    //given
+    TraceRouteProvider provider = new TraceRouteProvider(traceRouteRepository, traceRouteMapper, terminalMapper, "tracert HOST", "traceroute HOST", true, Duration.ZERO, true);
+    try (MockedStatic<NetworkTools> networkToolsMockedStatic = Mockito.mockStatic(NetworkTools.class)) {
+      //when
+      networkToolsMockedStatic.when(() -> NetworkTools.resolveAddress("example.com")).thenReturn("93.184.216.34");
+      String command = provider.getTerminalCommand("example.com:8080", OperatingSystem.LINUX);
+      //then
+      Assertions.assertEquals("traceroute 93.184.216.34", command);
+    }
+  }
+
   @Test
   void testGetTerminalCommand_Windows() {
     //given
@@ -126,6 +144,38 @@ class TraceRouteProviderTest {
     Assertions.assertEquals(traceRouteDto, result);
   }
 
+  @Test
+  void testCreateOrUpdateTraceRoute_ParsedHops() {
+    //given
+    TraceRouteProvider provider = new TraceRouteProvider(new TraceRouteRepository(), new TraceRouteMapperAssembler(new TerminalMapperAssembler()), new TerminalMapperAssembler(),
+        "tracert HOST", "traceroute HOST");
+    String output = "traceroute to example.com (93.184.216.34), 30 hops max, 60 byte packets\n 1  _gateway (192.168.1.1)  0.5 ms  0.25 ms  0.75 ms\n 2  * * *";
+    TerminalDto terminalDto = new TerminalDto("traceroute example.com", 0, output, LocalDateTime.now());
+    //when
+    TraceRouteDto result = provider.createOrUpdateTraceRoute("example.com", terminalDto, OperatingSystem.LINUX);
+    //then
+    Assertions.assertTrue(result.success());
+    Assertions.assertEquals(List.of(new TraceRouteHopDto(1, "192.168.1.1", 0.5f, 0.25f, 0.75f), new TraceRouteHopDto(2, null, -1f, -1f, -1f)), result.hops());
+    Assertions.assertEquals(result, provider.getTraceRoute("example.com").orElseThrow());
+  }
+
+  @Test
+  void testCreateOrUpdateTraceRoute_DropsParsedOutput() {
+    //given
+    TraceRouteProvider provider = new TraceRouteProvider(new TraceRouteRepository(), new TraceRouteMapperAssembler(new TerminalMapperAssembler()), new TerminalMapperAssembler(),
+        "tracert HOST", "traceroute HOST", false, Duration.ZERO, false);
+    String output = "traceroute to example.com (93.184.216.34), 30 hops max, 60 byte packets\n 1  _gateway (192.168.1.1)  0.5 ms  0.25 ms  0.75 ms";
+    String failure = "example.com: Name or service not known";
+    //when
+    TraceRouteDto parsed = provider.createOrUpdateTraceRoute("example.com", new TerminalDto("traceroute example.com", 0, output, LocalDateTime.now()), OperatingSystem.LINUX);
+    TraceRouteDto failed = provider.createOrUpdateTraceRoute("example.org", new TerminalDto("traceroute example.org", 2, failure, LocalDateTime.now()), OperatingSystem.LINUX);
+    //then
+    Assertions.assertEquals("", parsed.terminal().result());
+    Assertions.assertEquals(1, parsed.hops().size());
+    Assertions.assertEquals(failure, failed.terminal().result());
+    Assertions.assertTrue(failed.hops().isEmpty());
+  }
+
   @Test
   void testCreateOrUpdateTraceRoute_HostWithPort() {
     //given
@@ -2,22 +2,28 @@ package com.byborgenterprises.requests;
 
 import com.byborgenterprises.dtos.PingIcmpDto;
 import com.byborgenterprises.dtos.PingTcpIpDto;
+import com.byborgenterprises.dtos.ProbeTargetDto;
 import com.byborgenterprises.dtos.TerminalDto;
 import com.byborgenterprises.dtos.TraceRouteDto;
 import com.byborgenterprises.enums.OperatingSystem;
 import com.byborgenterprises.enums.ResponseStatus;
 import com.byborgenterprises.exceptions.NetworkToolsException;
 import com.byborgenterprises.exceptions.OperatingSystemNotFoundException;
+import com.byborgenterprises.exceptions.SubprocessLimitException;
 import com.byborgenterprises.exceptions.TerminalCommandException;
 import com.byborgenterprises.factories.ResponseFactory;
 import com.byborgenterprises.services.PingIcmpService;
 import com.byborgenterprises.services.PingTcpIpService;
 import com.byborgenterprises.services.TraceRouteService;
+import com.byborgenterprises.utils.EchoReplyWatcher;
+import com.byborgenterprises.utils.LineListener;
 import com.byborgenterprises.utils.OperatingSystemTools;
 import com.byborgenterprises.utils.TerminalTools;
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -83,6 +89,8 @@ class PingRequestTest {
   @Test
   void testPostIcmp_Success() {
     //given
+    Duration timeout = Duration.ofSeconds(15);
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(1, 3);
     String host = "host";
     OperatingSystem operatingSystem = Mockito.mock(OperatingSystem.class);
     String command = "command";
@@ -93,8 +101,10 @@ class PingRequestTest {
       //when
       operatingSystemTools.when(OperatingSystemTools::getOperatingSystem).thenReturn(operatingSystem);
       Mockito.when(pingIcmpService.getTerminalCommand(host, operatingSystem)).thenReturn(command);
-      terminalTools.when(() -> TerminalTools.executeCommand(command)).thenReturn(terminalDto);
-      Mockito.when(pingIcmpService.createOrUpdatePing(host, terminalDto, operatingSystem)).thenReturn(pingIcmpDto);
+      Mockito.when(pingIcmpService.createReplyWatcher()).thenReturn(echoReplyWatcher);
+      Mockito.when(pingIcmpService.getCommandTimeout()).thenReturn(timeout);
+      terminalTools.when(() -> TerminalTools.executeCommand(command, echoReplyWatcher, timeout)).thenReturn(terminalDto);
+      Mockito.when(pingIcmpService.createOrUpdatePing(host, terminalDto, operatingSystem, echoReplyWatcher)).thenReturn(pingIcmpDto);
       ResponseFactory<PingIcmpDto> response = pingRequest.postIcmp(host);
       //then
       Assertions.assertNotNull(response);
@@ -122,6 +132,8 @@ class PingRequestTest {
   @Test
   void testPostIcmp_InternalServerError_TerminalCommandException() {
     //given
+    Duration timeout = Duration.ofSeconds(15);
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(1, 3);
     String host = "host";
     OperatingSystem operatingSystem = Mockito.mock(OperatingSystem.class);
     String command = "command";
@@ -131,7 +143,9 @@ class PingRequestTest {
       //when
       operatingSystemTools.when(OperatingSystemTools::getOperatingSystem).thenReturn(operatingSystem);
       Mockito.when(pingIcmpService.getTerminalCommand(host, operatingSystem)).thenReturn(command);
-      terminalTools.when(() -> TerminalTools.executeCommand(command)).thenThrow(e);
+      Mockito.when(pingIcmpService.createReplyWatcher()).thenReturn(echoReplyWatcher);
+      Mockito.when(pingIcmpService.getCommandTimeout()).thenReturn(timeout);
+      terminalTools.when(() -> TerminalTools.executeCommand(command, echoReplyWatcher, timeout)).thenThrow(e);
       ResponseFactory<PingIcmpDto> response = pingRequest.postIcmp(host);
       //then
       Assertions.assertNotNull(response);
@@ -150,6 +164,42 @@ class PingRequestTest {
     Assertions.assertThrows(NullPointerException.class, executable);
   }
 
+  @Test
+  void testPostIcmpEcho_Success() {
+    //given
+    String host = "host";
+    PingIcmpDto pingIcmpDto = new PingIcmpDto(host, new TerminalDto("icmp echo 127.0.0.1", 0, "", LocalDateTime.now()), true);
+    //when
+    Mockito.when(pingIcmpService.createOrUpdateEchoPing(host)).thenReturn(pingIcmpDto);
+    ResponseFactory<PingIcmpDto> posted = pingRequest.postIcmpEcho(host);
+    //then
+    Assertions.assertEquals(ResponseStatus.OK, posted.getStatus());
+    Assertions.assertEquals(pingIcmpDto, posted.getResponse());
+  }
+
+  @Test
+  void testPostIcmpEcho_ServiceUnavailable_NoEngine() {
+    //given
+    String host = "host";
+    IllegalStateException e = new IllegalStateException("No ICMP echo engine");
+    //when
+    Mockito.when(pingIcmpService.createOrUpdateEchoPing(host)).thenThrow(e);
+    ResponseFactory<PingIcmpDto> posted = pingRequest.postIcmpEcho(host);
+    //then
+    Assertions.assertEquals(ResponseStatus.SERVICE_UNAVAILABLE, posted.getStatus());
+    Assertions.assertEquals(e, posted.getException());
+  }
+
+  @Test
+  void testIsIcmpEchoAvailable() {
+    //given
+    //when
+    Mockito.when(pingIcmpService.isEchoAvailable()).thenReturn(true);
+    boolean available = pingRequest.isIcmpEchoAvailable();
+    //then
+    Assertions.assertTrue(available);
+  }
+
   @Test
   void testGetTcp_Success() {
     //given
@@ -224,6 +274,47 @@ class PingRequestTest {
     Assertions.assertThrows(NullPointerException.class, executable);
   }
 
+  @Test
+  void testPostTcpAsync_Success() {
+    //given
+    String host = "host";
+    PingTcpIpDto pingTcpIpDto = new PingTcpIpDto(URI.create("http://localhost"), 0,0, LocalDateTime.now(), true);
+    //when
+    Mockito.when(pingTcpIpService.createOrUpdatePingAsync(host)).thenReturn(CompletableFuture.completedFuture(pingTcpIpDto));
+    ResponseFactory<PingTcpIpDto> posted = pingRequest.postTcpAsync(host).join();
+    //then
+    Assertions.assertEquals(ResponseStatus.OK, posted.getStatus());
+    Assertions.assertEquals(pingTcpIpDto, posted.getResponse());
+  }
+
+  @Test
+  void testPostTcpAsync_InternalServerError_FailedExchange() {
+    //given
+    String host = "host";
+    NetworkToolsException e = Mockito.mock(NetworkToolsException.class);
+    //when
+    Mockito.when(pingTcpIpService.createOrUpdatePingAsync(host)).thenReturn(CompletableFuture.supplyAsync(() -> {
+      throw e;
+    }));
+    ResponseFactory<PingTcpIpDto> posted = pingRequest.postTcpAsync(host).join();
+    //then
+    Assertions.assertEquals(ResponseStatus.INTERNAL_SERVER_ERROR, posted.getStatus());
+    Assertions.assertEquals(e, posted.getException());
+  }
+
+  @Test
+  void testPostTcpAsync_InternalServerError_InvalidHost() {
+    //given
+    String host = "host";
+    NetworkToolsException e = Mockito.mock(NetworkToolsException.class);
+    //when
+    Mockito.when(pingTcpIpService.createOrUpdatePingAsync(host)).thenThrow(e);
+    ResponseFactory<PingTcpIpDto> posted = pingRequest.postTcpAsync(host).join();
+    //then
+    Assertions.assertEquals(ResponseStatus.INTERNAL_SERVER_ERROR, posted.getStatus());
+    Assertions.assertEquals(e, posted.getException());
+  }
+
   @Test
   void testGetTraceRoute_Success() {
     //given
@@ -264,6 +355,7 @@ class PingRequestTest {
   @Test
   void testPostTraceRoute_Success() {
     //given
+    Duration timeout = Duration.ofSeconds(15);
     String host = "host";
     OperatingSystem operatingSystem = Mockito.mock(OperatingSystem.class);
     String command = "command";
@@ -274,7 +366,8 @@ class PingRequestTest {
       //when
       operatingSystemTools.when(OperatingSystemTools::getOperatingSystem).thenReturn(operatingSystem);
       Mockito.when(traceRouteService.getTerminalCommand(host, operatingSystem)).thenReturn(command);
-      terminalTools.when(() -> TerminalTools.executeCommand(command)).thenReturn(terminalDto);
+      Mockito.when(traceRouteService.getCommandTimeout()).thenReturn(timeout);
+      terminalTools.when(() -> TerminalTools.executeCommand(command, LineListener.NONE, timeout)).thenReturn(terminalDto);
       Mockito.when(traceRouteService.createOrUpdateTraceRoute(host, terminalDto, operatingSystem)).thenReturn(traceRouteDto);
       ResponseFactory<TraceRouteDto> response = pingRequest.postTraceRoute(host);
       //then
@@ -303,6 +396,7 @@ class PingRequestTest {
   @Test
   void testPostTraceRoute_InternalServerError_TerminalCommandException() {
     //given
+    Duration timeout = Duration.ofSeconds(15);
     String host = "host";
     OperatingSystem operatingSystem = Mockito.mock(OperatingSystem.class);
     String command = "command";
@@ -312,7 +406,8 @@ class PingRequestTest {
       //when
       operatingSystemTools.when(OperatingSystemTools::getOperatingSystem).thenReturn(operatingSystem);
       Mockito.when(traceRouteService.getTerminalCommand(host, operatingSystem)).thenReturn(command);
-      terminalTools.when(() -> TerminalTools.executeCommand(command)).thenThrow(e);
+      Mockito.when(traceRouteService.getCommandTimeout()).thenReturn(timeout);
+      terminalTools.when(() -> TerminalTools.executeCommand(command, LineListener.NONE, timeout)).thenThrow(e);
       ResponseFactory<TraceRouteDto> response = pingRequest.postTraceRoute(host);
       //then
       Assertions.assertNotNull(response);
@@ -330,4 +425,112 @@ class PingRequestTest {
     //then
     Assertions.assertThrows(NullPointerException.class, executable);
   }
+
+  @Test
+  void testGetProbeTarget_Success() {
+    //given
+    String host = "host";
+    URI uri = URI.create("http://host");
+    try (MockedStatic<OperatingSystemTools> operatingSystemTools = Mockito.mockStatic(OperatingSystemTools.class)) {
+      //when
+      operatingSystemTools.when(OperatingSystemTools::getOperatingSystem).thenReturn(OperatingSystem.LINUX);
+      Mockito.when(pingIcmpService.getTerminalCommand(host, OperatingSystem.LINUX)).thenReturn("ping host");
+      Mockito.when(pingTcpIpService.getUri(host)).thenReturn(uri);
+      Mockito.when(traceRouteService.getTerminalCommand(host, OperatingSystem.LINUX)).thenReturn("traceroute host");
+      ResponseFactory<ProbeTargetDto> response = pingRequest.getProbeTarget(host);
+      //then
+      Assertions.assertEquals(ResponseStatus.OK, response.getStatus());
+      Assertions.assertEquals(new ProbeTargetDto(host, OperatingSystem.LINUX, "ping host", uri, "traceroute host"), response.getResponse());
+    }
+  }
+
+  @Test
+  void testGetProbeTarget_InternalServerError_OperatingSystemNotFoundException() {
+    //given
+    String host = "host";
+    try (MockedStatic<OperatingSystemTools> operatingSystemTools = Mockito.mockStatic(OperatingSystemTools.class)) {
+      //when
+      operatingSystemTools.when(OperatingSystemTools::getOperatingSystem).thenThrow(OperatingSystemNotFoundException.class);
+      ResponseFactory<ProbeTargetDto> response = pingRequest.getProbeTarget(host);
+      //then
+      Assertions.assertEquals(ResponseStatus.INTERNAL_SERVER_ERROR, response.getStatus());
+      Assertions.assertInstanceOf(OperatingSystemNotFoundException.class, response.getException());
+    }
+  }
+
+  @Test
+  void testPostIcmp_PreparedTarget() {
+    //given
+    Duration timeout = Duration.ofSeconds(15);
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(1, 3);
+    ProbeTargetDto target = new ProbeTargetDto("host", OperatingSystem.LINUX, "ping host", URI.create("http://host"), "traceroute host");
+    TerminalDto terminalDto = new TerminalDto("ping host", 0, "", LocalDateTime.now());
+    PingIcmpDto pingIcmpDto = new PingIcmpDto("host", terminalDto, true);
+    try (MockedStatic<TerminalTools> terminalTools = Mockito.mockStatic(TerminalTools.class)) {
+      //when
+      Mockito.when(pingIcmpService.createReplyWatcher()).thenReturn(echoReplyWatcher);
+      Mockito.when(pingIcmpService.getCommandTimeout()).thenReturn(timeout);
+      terminalTools.when(() -> TerminalTools.executeCommand("ping host", echoReplyWatcher, timeout)).thenReturn(terminalDto);
+      Mockito.when(pingIcmpService.createOrUpdatePing("host", terminalDto, OperatingSystem.LINUX, echoReplyWatcher)).thenReturn(pingIcmpDto);
+      ResponseFactory<PingIcmpDto> response = pingRequest.postIcmp(target);
+      //then
+      Assertions.assertEquals(ResponseStatus.OK, response.getStatus());
+      Assertions.assertEquals(pingIcmpDto, response.getResponse());
+      Mockito.verify(pingIcmpService, Mockito.never()).getTerminalCommand(Mockito.anyString(), Mockito.any());
+    }
+  }
+
+  @Test
+  void testPostTcp_PreparedTarget() {
+    //given
+    URI uri = URI.create("http://host");
+    ProbeTargetDto target = new ProbeTargetDto("host", OperatingSystem.LINUX, "ping host", uri, "traceroute host");
+    PingTcpIpDto pingTcpIpDto = new PingTcpIpDto(uri, 200, 0, LocalDateTime.now(), true);
+    //when
+    Mockito.when(pingTcpIpService.createOrUpdatePingByUri(uri)).thenReturn(pingTcpIpDto);
+    ResponseFactory<PingTcpIpDto> response = pingRequest.postTcp(target);
+    //then
+    Assertions.assertEquals(ResponseStatus.OK, response.getStatus());
+    Assertions.assertEquals(pingTcpIpDto, response.getResponse());
+  }
+
+  @Test
+  void testPostIcmp_ServiceUnavailable_SubprocessLimitException() {
+    //given
+    Duration timeout = Duration.ofSeconds(15);
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(1, 3);
+    String host = "host";
+    String command = "command";
+    SubprocessLimitException e = new SubprocessLimitException();
+    try (MockedStatic<OperatingSystemTools> operatingSystemTools = Mockito.mockStatic(OperatingSystemTools.class); MockedStatic<TerminalTools> terminalTools = Mockito.mockStatic(
+        TerminalTools.class)) {
+      //when
+      operatingSystemTools.when(OperatingSystemTools::getOperatingSystem).thenReturn(OperatingSystem.LINUX);
+      Mockito.when(pingIcmpService.getTerminalCommand(host, OperatingSystem.LINUX)).thenReturn(command);
+      Mockito.when(pingIcmpService.createReplyWatcher()).thenReturn(echoReplyWatcher);
+      Mockito.when(pingIcmpService.getCommandTimeout()).thenReturn(timeout);
+      terminalTools.when(() -> TerminalTools.executeCommand(command, echoReplyWatcher, timeout)).thenThrow(e);
+      ResponseFactory<PingIcmpDto> response = pingRequest.postIcmp(host);
+      //then
+      Assertions.assertEquals(ResponseStatus.SERVICE_UNAVAILABLE, response.getStatus());
+      Assertions.assertEquals(e, response.getException());
+    }
+  }
+
+  @Test
+  void testPostTraceRoute_ServiceUnavailable_SubprocessLimitException() {
+    //given
+    Duration timeout = Duration.ofSeconds(15);
+    ProbeTargetDto target = new ProbeTargetDto("host", OperatingSystem.LINUX, "ping host", URI.create("http://host"), "traceroute host");
+    SubprocessLimitException e = new SubprocessLimitException();
+    try (MockedStatic<TerminalTools> terminalTools = Mockito.mockStatic(TerminalTools.class)) {
+      //when
+      Mockito.when(traceRouteService.getCommandTimeout()).thenReturn(timeout);
+      terminalTools.when(() -> TerminalTools.executeCommand("traceroute host", LineListener.NONE, timeout)).thenThrow(e);
+      ResponseFactory<TraceRouteDto> response = pingRequest.postTraceRoute(target);
+      //then
+      Assertions.assertEquals(ResponseStatus.SERVICE_UNAVAILABLE, response.getStatus());
+      Assertions.assertEquals(e, response.getException());
+    }
+  }
 }
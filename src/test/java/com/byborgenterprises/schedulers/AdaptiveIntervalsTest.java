@@ -0,0 +1,76 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.enums.JobType;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class AdaptiveIntervalsTest {
+
+  private static final JobDefinition DEFINITION = new JobDefinition("localhost", JobType.ICMP, () -> {}, 5000L);
+
+  @Test
+  void testGate_FirstTickProbes() {
+    //given
+    AdaptiveIntervals adaptiveIntervals = new AdaptiveIntervals();
+    AtomicInteger probes = new AtomicInteger();
+    //when
+    Runnable job = adaptiveIntervals.gate(DEFINITION, 1000L, 60000L, 2.0, probes::incrementAndGet);
+    job.run();
+    job.run();
+    //then
+    Assertions.assertEquals(1, probes.get());
+    Assertions.assertEquals(5000L, adaptiveIntervals.getInterval(DEFINITION.name()));
+  }
+
+  @Test
+  void testRecord_SuccessBacksOffToMax() {
+    //given
+    AdaptiveIntervals adaptiveIntervals = new AdaptiveIntervals();
+    adaptiveIntervals.gate(DEFINITION, 1000L, 15000L, 2.0, () -> {});
+    //when
+    adaptiveIntervals.record(DEFINITION.name(), true);
+    long first = adaptiveIntervals.getInterval(DEFINITION.name());
+    adaptiveIntervals.record(DEFINITION.name(), true);
+    long second = adaptiveIntervals.getInterval(DEFINITION.name());
+    //then
+    Assertions.assertEquals(10000L, first);
+    Assertions.assertEquals(15000L, second);
+  }
+
+  @Test
+  void testRecord_FailureTightensToMinAndProbesNextTick() {
+    //given
+    AdaptiveIntervals adaptiveIntervals = new AdaptiveIntervals();
+    AtomicInteger probes = new AtomicInteger();
+    Runnable job = adaptiveIntervals.gate(DEFINITION, 1000L, 60000L, 2.0, probes::incrementAndGet);
+    job.run();
+    //when
+    adaptiveIntervals.record(DEFINITION.name(), false);
+    job.run();
+    //then
+    Assertions.assertEquals(2, probes.get());
+    Assertions.assertEquals(1000L, adaptiveIntervals.getInterval(DEFINITION.name()));
+  }
+
+  @Test
+  void testRecord_UnknownJobIsIgnored() {
+    //given
+    AdaptiveIntervals adaptiveIntervals = new AdaptiveIntervals();
+    //when
+    adaptiveIntervals.record(DEFINITION.name(), false);
+    //then
+    Assertions.assertEquals(-1L, adaptiveIntervals.getInterval(DEFINITION.name()));
+  }
+
+  @Test
+  void testGate_InvalidBounds() {
+    //given
+    AdaptiveIntervals adaptiveIntervals = new AdaptiveIntervals();
+    //when
+    Executable executable = () -> adaptiveIntervals.gate(DEFINITION, 2000L, 1000L, 2.0, () -> {});
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+}
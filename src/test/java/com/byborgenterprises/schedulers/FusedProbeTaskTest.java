@@ -0,0 +1,80 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.enums.JobType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class FusedProbeTaskTest {
+
+  @Test
+  void testFusedProbeTask_PeriodIsGreatestCommonDivisor() {
+    //given
+    List<JobDefinition> stages = List.of(new JobDefinition("localhost", JobType.ICMP, () -> {}, 5000L), new JobDefinition("localhost", JobType.TCP_IP, () -> {}, 10000L),
+        new JobDefinition("localhost", JobType.TRACEROUTE, () -> {}, 30000L));
+    //when
+    FusedProbeTask fusedProbeTask = new FusedProbeTask(JobType.PROBE.getJobName("localhost"), stages);
+    //then
+    Assertions.assertEquals(5000L, fusedProbeTask.getPeriod());
+    Assertions.assertEquals(List.of(5000L, 10000L, 30000L), fusedProbeTask.getStagePeriods());
+  }
+
+  @Test
+  void testRun_RunsDueStagesInOrder() {
+    //given
+    List<String> executions = new ArrayList<>();
+    List<JobDefinition> stages = List.of(new JobDefinition("localhost", JobType.ICMP, () -> executions.add("icmp"), 1000L),
+        new JobDefinition("localhost", JobType.TCP_IP, () -> executions.add("tcp"), 2000L), new JobDefinition("localhost", JobType.TRACEROUTE, () -> executions.add("traceroute"), 3000L));
+    FusedProbeTask fusedProbeTask = new FusedProbeTask(JobType.PROBE.getJobName("localhost"), stages);
+    //when
+    for (int i = 0; i < 4; i++) {
+      fusedProbeTask.run(TimeUnit.SECONDS.toNanos(i));
+    }
+    //then
+    Assertions.assertEquals(List.of("icmp", "tcp", "traceroute", "icmp", "icmp", "tcp", "icmp", "traceroute"), executions);
+    Assertions.assertEquals(JobType.PROBE.getJobName("localhost"), Thread.currentThread().getName());
+  }
+
+  @Test
+  void testRun_FollowsElapsedTimeNotTicks() {
+    //given
+    List<String> executions = new ArrayList<>();
+    List<JobDefinition> stages = List.of(new JobDefinition("localhost", JobType.ICMP, () -> executions.add("icmp"), 1000L),
+        new JobDefinition("localhost", JobType.TRACEROUTE, () -> executions.add("traceroute"), 3000L));
+    FusedProbeTask fusedProbeTask = new FusedProbeTask(JobType.PROBE.getJobName("localhost"), stages);
+    //when
+    fusedProbeTask.run(TimeUnit.MILLISECONDS.toNanos(0L));
+    fusedProbeTask.run(TimeUnit.MILLISECONDS.toNanos(1100L));
+    fusedProbeTask.run(TimeUnit.MILLISECONDS.toNanos(2900L));
+    fusedProbeTask.run(TimeUnit.MILLISECONDS.toNanos(9000L));
+    fusedProbeTask.run(TimeUnit.MILLISECONDS.toNanos(9200L));
+    fusedProbeTask.run(TimeUnit.MILLISECONDS.toNanos(10000L));
+    //then
+    Assertions.assertEquals(List.of("icmp", "traceroute", "icmp", "icmp", "traceroute", "icmp", "traceroute", "icmp"), executions);
+  }
+
+  @Test
+  void testMap_RecomputesPeriod() {
+    //given
+    List<JobDefinition> stages = List.of(new JobDefinition("localhost", JobType.ICMP, () -> {}, 4000L), new JobDefinition("localhost", JobType.TRACEROUTE, () -> {}, 8000L));
+    FusedProbeTask fusedProbeTask = new FusedProbeTask(JobType.PROBE.getJobName("localhost"), stages);
+    //when
+    FusedProbeTask mapped = fusedProbeTask.map(stage -> stage.type() == JobType.ICMP ? stage.withPeriod(1000L) : stage);
+    //then
+    Assertions.assertEquals(1000L, mapped.getPeriod());
+    Assertions.assertEquals(4000L, fusedProbeTask.getPeriod());
+  }
+
+  @Test
+  void testFusedProbeTask_NoStages() {
+    //given
+    List<JobDefinition> stages = List.of();
+    //when
+    Executable executable = () -> new FusedProbeTask(JobType.PROBE.getJobName("localhost"), stages);
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+}
@@ -0,0 +1,186 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.dtos.ExecutorMetricsDto;
+import com.byborgenterprises.enums.ExecutionMode;
+import com.byborgenterprises.enums.JobType;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class JobDispatcherTest {
+
+  @Test
+  void testDispatch_PlatformRunsOnCallerThread() {
+    //given
+    JobDispatcher jobDispatcher = new JobDispatcher(ExecutionMode.PLATFORM);
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    //when
+    Runnable tick = jobDispatcher.dispatch("job-localhost-icmp", () -> thread.set(Thread.currentThread()));
+    tick.run();
+    //then
+    Assertions.assertEquals(Thread.currentThread(), thread.get());
+    jobDispatcher.shutdown();
+  }
+
+  @SneakyThrows
+  @Test
+  void testDispatch_VirtualRunsOnWorkerThread() {
+    //given
+    JobDispatcher jobDispatcher = new JobDispatcher(ExecutionMode.VIRTUAL);
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    CountDownLatch executed = new CountDownLatch(1);
+    //when
+    Runnable tick = jobDispatcher.dispatch("job-localhost-icmp", () -> {
+      thread.set(Thread.currentThread());
+      executed.countDown();
+    });
+    tick.run();
+    //then
+    Assertions.assertTrue(executed.await(5L, TimeUnit.SECONDS));
+    Assertions.assertNotEquals(Thread.currentThread(), thread.get());
+    jobDispatcher.shutdown();
+  }
+
+  @SneakyThrows
+  @Test
+  void testDispatch_VirtualRunsJobsBeyondProcessorCount() {
+    //given
+    JobDispatcher jobDispatcher = new JobDispatcher(ExecutionMode.VIRTUAL);
+    int jobNumber = Runtime.getRuntime().availableProcessors() + 2;
+    CountDownLatch started = new CountDownLatch(jobNumber);
+    CountDownLatch release = new CountDownLatch(1);
+    //when
+    for (int i = 0; i < jobNumber; i++) {
+      jobDispatcher.dispatch("job-host" + i + "-icmp", () -> {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }).run();
+    }
+    boolean allStarted = started.await(5L, TimeUnit.SECONDS);
+    release.countDown();
+    //then
+    Assertions.assertTrue(allStarted);
+    jobDispatcher.shutdown();
+  }
+
+  @SneakyThrows
+  @Test
+  void testDispatch_VirtualDropsOverlappingTicks() {
+    //given
+    JobDispatcher jobDispatcher = new JobDispatcher(ExecutionMode.VIRTUAL);
+    AtomicInteger executions = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Runnable tick = jobDispatcher.dispatch("job-localhost-traceroute", () -> {
+      executions.incrementAndGet();
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    //when
+    tick.run();
+    Assertions.assertTrue(started.await(5L, TimeUnit.SECONDS));
+    tick.run();
+    tick.run();
+    release.countDown();
+    //then
+    Assertions.assertEquals(1, executions.get());
+    jobDispatcher.shutdown();
+  }
+
+  @Test
+  void testDispatcher_NullExecutionMode() {
+    //given
+    //when
+    Executable executable = () -> new JobDispatcher(null);
+    //then
+    Assertions.assertThrows(NullPointerException.class, executable);
+  }
+
+  @SneakyThrows
+  @Test
+  void testDispatch_BulkheadIsolatesJobTypes() {
+    //given
+    JobDispatcher jobDispatcher = new JobDispatcher(ExecutionMode.BULKHEAD, Map.of(JobType.TRACEROUTE, 1));
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch icmpExecuted = new CountDownLatch(1);
+    AtomicReference<Thread> icmpThread = new AtomicReference<>();
+    Runnable blocking = () -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+    Runnable traceroute1 = jobDispatcher.dispatch(new JobDefinition("a.com", JobType.TRACEROUTE, blocking, 1000L), blocking);
+    Runnable traceroute2 = jobDispatcher.dispatch(new JobDefinition("b.com", JobType.TRACEROUTE, blocking, 1000L), blocking);
+    Runnable icmp = jobDispatcher.dispatch(new JobDefinition("a.com", JobType.ICMP, () -> {}, 1000L), () -> {
+      icmpThread.set(Thread.currentThread());
+      icmpExecuted.countDown();
+    });
+    //when
+    traceroute1.run();
+    traceroute2.run();
+    icmp.run();
+    //then
+    Assertions.assertTrue(icmpExecuted.await(5L, TimeUnit.SECONDS));
+    Assertions.assertTrue(icmpThread.get().getName().startsWith("bulkhead-icmp-worker-"));
+    ExecutorMetricsDto traceroute = jobDispatcher.getMetrics().stream().filter(metrics -> metrics.name().equals("bulkhead-traceroute")).findFirst().orElseThrow();
+    Assertions.assertEquals(1, traceroute.poolSize());
+    Assertions.assertEquals(1, traceroute.queueDepth());
+    Assertions.assertEquals(3, jobDispatcher.getMetrics().size());
+    release.countDown();
+    jobDispatcher.shutdown();
+  }
+
+  @Test
+  void testDispatch_BulkheadWithoutTypeRunsOnCallerThread() {
+    //given
+    JobDispatcher jobDispatcher = new JobDispatcher(ExecutionMode.BULKHEAD);
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    //when
+    Runnable tick = jobDispatcher.dispatch(new JobDefinition("localhost", JobType.PROBE, () -> {}, 1000L), () -> thread.set(Thread.currentThread()));
+    tick.run();
+    //then
+    Assertions.assertEquals(Thread.currentThread(), thread.get());
+    jobDispatcher.shutdown();
+  }
+
+  @SneakyThrows
+  @Test
+  void testDispatchStage_PlatformDetachesTracerouteOnly() {
+    //given
+    JobDispatcher jobDispatcher = new JobDispatcher(ExecutionMode.PLATFORM);
+    AtomicReference<Thread> icmpThread = new AtomicReference<>();
+    AtomicReference<Thread> tracerouteThread = new AtomicReference<>();
+    CountDownLatch executed = new CountDownLatch(1);
+    JobDefinition icmp = new JobDefinition("localhost", JobType.ICMP, () -> {}, 1000L);
+    JobDefinition traceroute = new JobDefinition("localhost", JobType.TRACEROUTE, () -> {}, 1000L);
+    //when
+    jobDispatcher.dispatchStage(icmp, () -> icmpThread.set(Thread.currentThread())).run();
+    jobDispatcher.dispatchStage(traceroute, () -> {
+      tracerouteThread.set(Thread.currentThread());
+      executed.countDown();
+    }).run();
+    //then
+    Assertions.assertTrue(executed.await(5L, TimeUnit.SECONDS));
+    Assertions.assertFalse(jobDispatcher.isDetached(icmp));
+    Assertions.assertTrue(jobDispatcher.isDetached(traceroute));
+    Assertions.assertEquals(Thread.currentThread(), icmpThread.get());
+    Assertions.assertNotEquals(Thread.currentThread(), tracerouteThread.get());
+    jobDispatcher.shutdown();
+  }
+}
@@ -0,0 +1,95 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.enums.JobType;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class JobStartPlannerTest {
+
+  private static List<JobDefinition> getDefinitions(final int hosts, final long period) {
+    return IntStream.range(0, hosts).boxed().flatMap(i -> Stream.of(JobType.ICMP, JobType.TCP_IP, JobType.TRACEROUTE).map(type -> new JobDefinition("host" + i + ".com", type, () -> {
+    }, period))).toList();
+  }
+
+  @Test
+  void testPlan_StaggeredSpreadsEvenly() {
+    //given
+    JobStartPlanner jobStartPlanner = new JobStartPlanner(true, false);
+    List<JobDefinition> definitions = getDefinitions(4, 6000L);
+    //when
+    List<JobDefinition> planned = jobStartPlanner.plan(definitions);
+    //then
+    Assertions.assertEquals(12, planned.size());
+    for (int i = 0; i < planned.size(); i++) {
+      Assertions.assertEquals(i * 500L, planned.get(i).initialDelay());
+      Assertions.assertEquals(definitions.get(i).name(), planned.get(i).name());
+    }
+  }
+
+  @Test
+  void testPlan_StaggeredPerPeriod() {
+    //given
+    JobStartPlanner jobStartPlanner = new JobStartPlanner(true, false);
+    Runnable job = () -> {
+    };
+    List<JobDefinition> definitions = List.of(new JobDefinition("a.com", JobType.ICMP, job, 1000L), new JobDefinition("a.com", JobType.TRACEROUTE, job, 30000L),
+        new JobDefinition("b.com", JobType.ICMP, job, 1000L), new JobDefinition("b.com", JobType.TRACEROUTE, job, 30000L));
+    //when
+    List<JobDefinition> planned = jobStartPlanner.plan(definitions);
+    //then
+    Assertions.assertEquals(List.of(0L, 0L, 500L, 15000L), planned.stream().map(JobDefinition::initialDelay).toList());
+  }
+
+  @Test
+  void testPlan_JitterIsDeterministicAndBoundedBySlot() {
+    //given
+    JobStartPlanner jobStartPlanner = new JobStartPlanner(true, true);
+    List<JobDefinition> definitions = getDefinitions(5, 15000L);
+    //when
+    List<JobDefinition> first = jobStartPlanner.plan(definitions);
+    List<JobDefinition> second = jobStartPlanner.plan(definitions);
+    //then
+    for (int i = 0; i < first.size(); i++) {
+      Assertions.assertEquals(first.get(i).initialDelay(), second.get(i).initialDelay());
+      Assertions.assertTrue(first.get(i).initialDelay() >= i * 1000L);
+      Assertions.assertTrue(first.get(i).initialDelay() < (i + 1) * 1000L);
+    }
+  }
+
+  @Test
+  void testPlan_JitterOnlyStaysWithinPeriod() {
+    //given
+    JobStartPlanner jobStartPlanner = new JobStartPlanner(false, true);
+    List<JobDefinition> definitions = getDefinitions(10, 5000L);
+    //when
+    List<JobDefinition> planned = jobStartPlanner.plan(definitions);
+    //then
+    Assertions.assertTrue(planned.stream().allMatch(definition -> definition.initialDelay() >= 0L && definition.initialDelay() < 5000L));
+    Assertions.assertTrue(planned.stream().map(JobDefinition::initialDelay).distinct().count() > 1L);
+  }
+
+  @Test
+  void testPlan_Disabled() {
+    //given
+    JobStartPlanner jobStartPlanner = new JobStartPlanner(false, false);
+    List<JobDefinition> definitions = getDefinitions(3, 5000L);
+    //when
+    List<JobDefinition> planned = jobStartPlanner.plan(definitions);
+    //then
+    Assertions.assertTrue(planned.stream().allMatch(definition -> definition.initialDelay() == 0L));
+  }
+
+  @Test
+  void testPlan_NullDefinitions() {
+    //given
+    JobStartPlanner jobStartPlanner = new JobStartPlanner(true, true);
+    //when
+    Executable executable = () -> jobStartPlanner.plan(null);
+    //then
+    Assertions.assertThrows(NullPointerException.class, executable);
+  }
+}
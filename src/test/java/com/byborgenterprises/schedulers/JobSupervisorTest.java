@@ -0,0 +1,74 @@
+package com.byborgenterprises.schedulers;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class JobSupervisorTest {
+
+  @Test
+  void testSupervise_SuccessfulJob() {
+    //given
+    JobSupervisor jobSupervisor = new JobSupervisor();
+    AtomicInteger executions = new AtomicInteger();
+    //when
+    Runnable job = jobSupervisor.supervise("job-localhost-icmp", executions::incrementAndGet);
+    job.run();
+    //then
+    Assertions.assertEquals(1, executions.get());
+  }
+
+  @Test
+  void testSupervise_FailedJobIsPropagated() {
+    //given
+    JobSupervisor jobSupervisor = new JobSupervisor();
+    Runnable job = jobSupervisor.supervise("job-localhost-icmp", () -> {
+      throw new IllegalStateException();
+    });
+    //when
+    Executable executable = job::run;
+    //then
+    Assertions.assertThrows(IllegalStateException.class, executable);
+  }
+
+  @SneakyThrows
+  @Test
+  void testAwaitTermination_WakesUpOnScheduledJobFailure() {
+    //given
+    JobSupervisor jobSupervisor = new JobSupervisor();
+    ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+    AtomicInteger executions = new AtomicInteger();
+    Runnable job = jobSupervisor.supervise("job-localhost-tcp", () -> {
+      if (executions.incrementAndGet() == 3) {
+        throw new IllegalStateException();
+      }
+    });
+    try {
+      //when
+      ScheduledFuture<?> future = scheduledExecutorService.scheduleAtFixedRate(job, 0L, 10L, TimeUnit.MILLISECONDS);
+      String terminatedJob = jobSupervisor.awaitTermination();
+      //then
+      Assertions.assertEquals("job-localhost-tcp", terminatedJob);
+      Assertions.assertEquals(3, executions.get());
+      Assertions.assertThrows(Exception.class, () -> future.get(1L, TimeUnit.SECONDS));
+    } finally {
+      scheduledExecutorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void testSupervise_NullJob() {
+    //given
+    JobSupervisor jobSupervisor = new JobSupervisor();
+    //when
+    Executable executable = () -> jobSupervisor.supervise("job-localhost-icmp", null);
+    //then
+    Assertions.assertThrows(NullPointerException.class, executable);
+  }
+}
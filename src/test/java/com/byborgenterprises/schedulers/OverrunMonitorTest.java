@@ -0,0 +1,131 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.dtos.OverrunMetricsDto;
+import com.byborgenterprises.enums.JobType;
+import com.byborgenterprises.enums.OverrunPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class OverrunMonitorTest {
+
+  private static final long PERIOD = 200L;
+
+  private static Runnable slowFirstJob(final AtomicInteger executions) {
+    return () -> {
+      if (executions.incrementAndGet() > 1) {
+        return;
+      }
+      try {
+        Thread.sleep(PERIOD * 5 / 2);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+  }
+
+  @Test
+  void testTrack_CatchUpRunsEveryMissedTick() {
+    //given
+    OverrunMonitor overrunMonitor = new OverrunMonitor();
+    AtomicInteger executions = new AtomicInteger();
+    JobDefinition definition = new JobDefinition("localhost", JobType.ICMP, () -> {}, PERIOD);
+    Runnable tracked = overrunMonitor.track(definition, OverrunPolicy.CATCH_UP, slowFirstJob(executions));
+    //when
+    tracked.run();
+    tracked.run();
+    tracked.run();
+    //then
+    OverrunMetricsDto metrics = overrunMonitor.getMetrics().iterator().next();
+    Assertions.assertEquals(3, executions.get());
+    Assertions.assertEquals(3L, metrics.executions());
+    Assertions.assertEquals(1L, metrics.overruns());
+    Assertions.assertEquals(0L, metrics.skippedTicks());
+    Assertions.assertTrue(metrics.maxLag() >= PERIOD);
+  }
+
+  @Test
+  void testTrack_CoalesceRunsOnceForMissedTicks() {
+    //given
+    OverrunMonitor overrunMonitor = new OverrunMonitor();
+    AtomicInteger executions = new AtomicInteger();
+    JobDefinition definition = new JobDefinition("localhost", JobType.TCP_IP, () -> {}, PERIOD);
+    Runnable tracked = overrunMonitor.track(definition, OverrunPolicy.COALESCE, slowFirstJob(executions));
+    //when
+    tracked.run();
+    tracked.run();
+    tracked.run();
+    //then
+    OverrunMetricsDto metrics = overrunMonitor.getMetrics().iterator().next();
+    Assertions.assertEquals(2, executions.get());
+    Assertions.assertEquals(2L, metrics.executions());
+    Assertions.assertEquals(1L, metrics.skippedTicks());
+  }
+
+  @SneakyThrows
+  @Test
+  void testTrack_SkipWaitsForNextTick() {
+    //given
+    OverrunMonitor overrunMonitor = new OverrunMonitor();
+    AtomicInteger executions = new AtomicInteger();
+    JobDefinition definition = new JobDefinition("localhost", JobType.TRACEROUTE, () -> {}, PERIOD);
+    Runnable tracked = overrunMonitor.track(definition, OverrunPolicy.SKIP, slowFirstJob(executions));
+    //when
+    tracked.run();
+    tracked.run();
+    Thread.sleep(PERIOD);
+    tracked.run();
+    //then
+    OverrunMetricsDto metrics = overrunMonitor.getMetrics().iterator().next();
+    Assertions.assertEquals(2, executions.get());
+    Assertions.assertEquals(2L, metrics.executions());
+    Assertions.assertEquals(2L, metrics.skippedTicks());
+  }
+
+  @Test
+  void testTrackAsync_MeasuresUntilCompletion() {
+    //given
+    OverrunMonitor overrunMonitor = new OverrunMonitor();
+    JobDefinition definition = new JobDefinition("localhost", JobType.TCP_IP, () -> {}, PERIOD);
+    Runnable tracked = overrunMonitor.trackAsync(definition, OverrunPolicy.COALESCE, definition.job());
+    long start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(PERIOD * 2);
+    //when
+    tracked.run();
+    OverrunMetricsDto inFlight = overrunMonitor.getMetrics().iterator().next();
+    overrunMonitor.skip(definition.name());
+    overrunMonitor.complete(definition.name(), start);
+    //then
+    OverrunMetricsDto metrics = overrunMonitor.getMetrics().iterator().next();
+    Assertions.assertEquals(0L, inFlight.executions());
+    Assertions.assertEquals(1L, metrics.executions());
+    Assertions.assertEquals(1L, metrics.overruns());
+    Assertions.assertEquals(1L, metrics.skippedTicks());
+    Assertions.assertTrue(metrics.lastDuration() >= PERIOD * 2);
+  }
+
+  @Test
+  void testUntrack_RemovesMetrics() {
+    //given
+    OverrunMonitor overrunMonitor = new OverrunMonitor();
+    JobDefinition definition = new JobDefinition("localhost", JobType.ICMP, () -> {}, PERIOD);
+    overrunMonitor.track(definition, OverrunPolicy.CATCH_UP, definition.job());
+    //when
+    overrunMonitor.untrack(definition.name());
+    //then
+    Assertions.assertTrue(overrunMonitor.getMetrics().isEmpty());
+  }
+
+  @Test
+  void testTrack_NullPolicy() {
+    //given
+    OverrunMonitor overrunMonitor = new OverrunMonitor();
+    JobDefinition definition = new JobDefinition("localhost", JobType.ICMP, () -> {}, PERIOD);
+    //when
+    Executable executable = () -> overrunMonitor.track(definition, null, definition.job());
+    //then
+    Assertions.assertThrows(NullPointerException.class, executable);
+  }
+}
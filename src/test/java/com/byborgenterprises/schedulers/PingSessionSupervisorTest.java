@@ -0,0 +1,82 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.assemblers.PingIcmpMapperAssembler;
+import com.byborgenterprises.assemblers.TerminalMapperAssembler;
+import com.byborgenterprises.configs.PingIcmpSettings;
+import com.byborgenterprises.dtos.PingIcmpDto;
+import com.byborgenterprises.providers.PingIcmpProvider;
+import com.byborgenterprises.repositories.PingIcmpRepository;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class PingSessionSupervisorTest {
+
+  private static PingIcmpProvider getProvider(final String sessionCommand) {
+    PingIcmpSettings settings = PingIcmpSettings.builder()
+        .pingCommandWindows("ping -n 5 HOST")
+        .pingCommandLinux("ping -c 5 HOST")
+        .sessionCommandWindows(sessionCommand)
+        .sessionCommandLinux(sessionCommand)
+        .build();
+    return new PingIcmpProvider(settings, new PingIcmpRepository(), new PingIcmpMapperAssembler(new TerminalMapperAssembler()), new TerminalMapperAssembler());
+  }
+
+  @SneakyThrows
+  private static void awaitCondition(final BooleanSupplier condition) {
+    long deadline = System.currentTimeMillis() + 10000L;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20L);
+    }
+  }
+
+  @Test
+  void testOpen_ExitedSessionIsSavedAndRestarted() {
+    //given
+    PingIcmpProvider provider = getProvider("echo 64 bytes from HOST: icmp_seq=1 ttl=64 time=0.1 ms");
+    PingSessionSupervisor supervisor = new PingSessionSupervisor(provider, 50L);
+    //when
+    supervisor.open("127.0.0.1");
+    supervisor.open("127.0.0.1");
+    awaitCondition(() -> supervisor.getRestartCount() >= 2);
+    supervisor.closeAll();
+    //then
+    PingIcmpDto result = provider.getPing("127.0.0.1").orElseThrow();
+    Assertions.assertTrue(result.success());
+    Assertions.assertEquals(1, result.received());
+    Assertions.assertTrue(supervisor.getRestartCount() >= 2);
+    Assertions.assertEquals(0, supervisor.getSessionCount());
+  }
+
+  @SneakyThrows
+  @Test
+  void testRetain_ClosesRemovedHosts() {
+    //given
+    PingIcmpProvider provider = getProvider("sleep 30");
+    PingSessionSupervisor supervisor = new PingSessionSupervisor(provider, 50L);
+    supervisor.open("first.example.com");
+    supervisor.open("second.example.com");
+    //when
+    supervisor.retain(List.of("second.example.com"));
+    Thread.sleep(200L);
+    //then
+    Assertions.assertEquals(1, supervisor.getSessionCount());
+    Assertions.assertEquals(0L, supervisor.getRestartCount());
+    Assertions.assertTrue(provider.getPing("first.example.com").isEmpty());
+    supervisor.closeAll();
+    Assertions.assertEquals(0, supervisor.getSessionCount());
+  }
+
+  @Test
+  void testPingSessionSupervisor_NegativeRestartDelay() {
+    //given
+    PingIcmpProvider provider = getProvider("sleep 30");
+    //when
+    Executable executable = () -> new PingSessionSupervisor(provider, -1L);
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+}
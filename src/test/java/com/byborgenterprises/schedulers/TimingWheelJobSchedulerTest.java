@@ -0,0 +1,156 @@
+package com.byborgenterprises.schedulers;
+
+import com.byborgenterprises.dtos.TimingWheelMetricsDto;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class TimingWheelJobSchedulerTest {
+
+  @SneakyThrows
+  @Test
+  void testScheduleAtFixedRate_RunsPeriodically() {
+    //given
+    TimingWheelJobScheduler scheduler = new TimingWheelJobScheduler(5L, 16, 1);
+    CountDownLatch executions = new CountDownLatch(3);
+    try {
+      //when
+      Future<?> future = scheduler.scheduleAtFixedRate(executions::countDown, 0L, 20L, TimeUnit.MILLISECONDS);
+      //then
+      Assertions.assertTrue(executions.await(5L, TimeUnit.SECONDS));
+      Assertions.assertFalse(future.isDone());
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testScheduleAtFixedRate_RunsOnDaemonWorkers() {
+    //given
+    TimingWheelJobScheduler scheduler = new TimingWheelJobScheduler(5L, 16, 1);
+    CompletableFuture<Thread> worker = new CompletableFuture<>();
+    try {
+      //when
+      scheduler.scheduleAtFixedRate(() -> worker.complete(Thread.currentThread()), 0L, 20L, TimeUnit.MILLISECONDS);
+      Thread thread = worker.get(5L, TimeUnit.SECONDS);
+      //then
+      Assertions.assertTrue(thread.isDaemon());
+      Assertions.assertTrue(thread.getName().startsWith("timing-wheel-worker-"));
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testScheduleAtFixedRate_DelayLongerThanOneRevolution() {
+    //given
+    TimingWheelJobScheduler scheduler = new TimingWheelJobScheduler(1L, 4, 1);
+    CountDownLatch executed = new CountDownLatch(1);
+    long start = System.nanoTime();
+    try {
+      //when
+      scheduler.scheduleAtFixedRate(executed::countDown, 50L, 1000L, TimeUnit.MILLISECONDS);
+      //then
+      Assertions.assertTrue(executed.await(5L, TimeUnit.SECONDS));
+      Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50L);
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testScheduleAtFixedRate_FailureStopsExecutions() {
+    //given
+    TimingWheelJobScheduler scheduler = new TimingWheelJobScheduler(5L, 16, 1);
+    AtomicInteger executions = new AtomicInteger();
+    try {
+      //when
+      Future<?> future = scheduler.scheduleAtFixedRate(() -> {
+        executions.incrementAndGet();
+        throw new IllegalStateException();
+      }, 0L, 10L, TimeUnit.MILLISECONDS);
+      //then
+      Assertions.assertThrows(ExecutionException.class, () -> future.get(5L, TimeUnit.SECONDS));
+      Thread.sleep(50L);
+      Assertions.assertEquals(1, executions.get());
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testScheduleAtFixedRate_Cancel() {
+    //given
+    TimingWheelJobScheduler scheduler = new TimingWheelJobScheduler(5L, 16, 1);
+    AtomicInteger executions = new AtomicInteger();
+    try {
+      //when
+      Future<?> future = scheduler.scheduleAtFixedRate(executions::incrementAndGet, 100L, 10L, TimeUnit.MILLISECONDS);
+      future.cancel(false);
+      Thread.sleep(200L);
+      //then
+      Assertions.assertTrue(future.isCancelled());
+      Assertions.assertEquals(0, executions.get());
+      Assertions.assertEquals(0L, scheduler.getMetrics().scheduledTasks());
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testGetMetrics() {
+    //given
+    TimingWheelJobScheduler scheduler = new TimingWheelJobScheduler(5L, 10, 1);
+    try {
+      //when
+      scheduler.scheduleAtFixedRate(() -> {
+      }, 10_000L, 10_000L, TimeUnit.MILLISECONDS);
+      scheduler.scheduleAtFixedRate(() -> {
+      }, 10_000L, 10_000L, TimeUnit.MILLISECONDS);
+      Thread.sleep(50L);
+      TimingWheelMetricsDto metrics = scheduler.getMetrics();
+      //then
+      Assertions.assertEquals(16, metrics.wheelSize());
+      Assertions.assertEquals(5L, metrics.tickDuration());
+      Assertions.assertEquals(2L, metrics.scheduledTasks());
+      Assertions.assertTrue(metrics.occupiedBuckets() >= 1);
+      Assertions.assertTrue(metrics.ticks() > 0L);
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
+  @Test
+  void testScheduleAtFixedRate_AfterShutdown() {
+    //given
+    TimingWheelJobScheduler scheduler = new TimingWheelJobScheduler(5L, 16, 1);
+    scheduler.shutdown();
+    //when
+    Executable executable = () -> scheduler.scheduleAtFixedRate(() -> {
+    }, 0L, 10L, TimeUnit.MILLISECONDS);
+    //then
+    Assertions.assertThrows(RejectedExecutionException.class, executable);
+  }
+
+  @Test
+  void testConstructor_InvalidArguments() {
+    //given
+    //when
+    Executable executable = () -> new TimingWheelJobScheduler(0L, 16, 1);
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+}
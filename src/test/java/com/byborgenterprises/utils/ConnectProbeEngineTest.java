@@ -0,0 +1,113 @@
+package com.byborgenterprises.utils;
+
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConnectProbeEngineTest {
+
+  private ConnectProbeEngine connectProbeEngine;
+
+  @BeforeEach
+  void setUp() {
+    connectProbeEngine = new ConnectProbeEngine("tcp-connect-test");
+  }
+
+  @AfterEach
+  void tearDown() {
+    connectProbeEngine.close();
+  }
+
+  @SneakyThrows
+  @Test
+  void testConnect_Established() {
+    //given
+    try (ServerSocket serverSocket = new ServerSocket(0, 512)) {
+      InetSocketAddress address = new InetSocketAddress("127.0.0.1", serverSocket.getLocalPort());
+      //when
+      long connectTime = connectProbeEngine.connect(address, 5000L).get(5L, TimeUnit.SECONDS);
+      //then
+      Assertions.assertTrue(connectTime > 0L);
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testConnect_ManyConnectionsFromOneThread() {
+    //given
+    try (ServerSocket serverSocket = new ServerSocket(0, 512)) {
+      InetSocketAddress address = new InetSocketAddress("127.0.0.1", serverSocket.getLocalPort());
+      //when
+      List<CompletableFuture<Long>> connections = IntStream.range(0, 200).mapToObj(i -> connectProbeEngine.connect(address, 5000L)).toList();
+      CompletableFuture.allOf(connections.toArray(CompletableFuture[]::new)).get(10L, TimeUnit.SECONDS);
+      //then
+      Assertions.assertTrue(connections.stream().allMatch(connection -> connection.join() > 0L));
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testConnect_Refused() {
+    //given
+    int port;
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      port = serverSocket.getLocalPort();
+    }
+    InetSocketAddress address = new InetSocketAddress("127.0.0.1", port);
+    //when
+    CompletableFuture<Long> connection = connectProbeEngine.connect(address, 5000L);
+    //then
+    ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> connection.get(5L, TimeUnit.SECONDS));
+    Assertions.assertInstanceOf(ConnectException.class, e.getCause());
+  }
+
+  @Test
+  void testConnect_UnresolvedAddress() {
+    //given
+    InetSocketAddress address = InetSocketAddress.createUnresolved("unknown.invalid", 80);
+    //when
+    CompletableFuture<Long> connection = connectProbeEngine.connect(address, 5000L);
+    //then
+    ExecutionException e = Assertions.assertThrows(ExecutionException.class, connection::get);
+    Assertions.assertInstanceOf(UnknownHostException.class, e.getCause());
+  }
+
+  @Test
+  void testConnect_AfterClose() {
+    //given
+    connectProbeEngine.close();
+    InetSocketAddress address = new InetSocketAddress("127.0.0.1", 80);
+    //when
+    CompletableFuture<Long> connection = connectProbeEngine.connect(address, 5000L);
+    //then
+    Assertions.assertTrue(connection.isCompletedExceptionally());
+  }
+
+  @SneakyThrows
+  @Test
+  void testConnect_RacingCloseNeverStaysPending() {
+    //given
+    try (ServerSocket serverSocket = new ServerSocket(0, 512)) {
+      InetSocketAddress address = new InetSocketAddress("127.0.0.1", serverSocket.getLocalPort());
+      CompletableFuture<List<CompletableFuture<Long>>> submitted = CompletableFuture.supplyAsync(
+          () -> IntStream.range(0, 500).mapToObj(i -> connectProbeEngine.connect(address, 5000L)).toList());
+      //when
+      connectProbeEngine.close();
+      List<CompletableFuture<Long>> connections = submitted.get(5L, TimeUnit.SECONDS);
+      //then
+      Assertions.assertDoesNotThrow(() -> CompletableFuture.allOf(connections.toArray(CompletableFuture[]::new)).exceptionally(throwable -> null).get(5L, TimeUnit.SECONDS));
+      Assertions.assertTrue(connections.stream().allMatch(CompletableFuture::isDone));
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.dtos.DnsCacheMetricsDto;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class DnsCacheTest {
+
+  @SneakyThrows
+  private static InetAddress address(final int last) {
+    return InetAddress.getByAddress(new byte[] {10, 0, 0, (byte) last});
+  }
+
+  @SneakyThrows
+  @Test
+  void testResolve_CachesAddress() {
+    //given
+    AtomicInteger lookups = new AtomicInteger();
+    DnsCache dnsCache = new DnsCache(60000L, 5000L, host -> address(lookups.incrementAndGet()));
+    //when
+    InetAddress first = dnsCache.resolve("example.com");
+    InetAddress second = dnsCache.resolve("example.com");
+    //then
+    DnsCacheMetricsDto metrics = dnsCache.getMetrics();
+    Assertions.assertEquals(first, second);
+    Assertions.assertEquals(1, lookups.get());
+    Assertions.assertEquals(1L, metrics.hits());
+    Assertions.assertEquals(1L, metrics.misses());
+    Assertions.assertEquals(1L, metrics.lookups().count());
+  }
+
+  @SneakyThrows
+  @Test
+  void testResolveAsync_LooksUpMissOffCallerThread() {
+    //given
+    AtomicReference<Thread> lookupThread = new AtomicReference<>();
+    DnsCache dnsCache = new DnsCache(60000L, 5000L, host -> {
+      lookupThread.set(Thread.currentThread());
+      return address(1);
+    });
+    //when
+    InetAddress first = dnsCache.resolveAsync("example.com").get(5L, TimeUnit.SECONDS);
+    CompletableFuture<InetAddress> second = dnsCache.resolveAsync("example.com");
+    //then
+    Assertions.assertEquals(address(1), first);
+    Assertions.assertNotEquals(Thread.currentThread(), lookupThread.get());
+    Assertions.assertTrue(second.isDone());
+    Assertions.assertEquals(1L, dnsCache.getMetrics().hits());
+    Assertions.assertEquals(1L, dnsCache.getMetrics().misses());
+  }
+
+  @Test
+  void testResolve_CachesFailure() {
+    //given
+    AtomicInteger lookups = new AtomicInteger();
+    DnsCache dnsCache = new DnsCache(60000L, 5000L, host -> {
+      lookups.incrementAndGet();
+      throw new UnknownHostException(host);
+    });
+    //when
+    Executable executable = () -> dnsCache.resolve("unknown.invalid");
+    //then
+    Assertions.assertThrows(UnknownHostException.class, executable);
+    Assertions.assertThrows(UnknownHostException.class, executable);
+    Assertions.assertEquals(1, lookups.get());
+    Assertions.assertEquals(1L, dnsCache.getMetrics().negativeHits());
+    Assertions.assertEquals(1L, dnsCache.getMetrics().failures());
+  }
+
+  @SneakyThrows
+  @Test
+  void testResolve_ClosedCacheSkipsRefresh() {
+    //given
+    AtomicInteger lookups = new AtomicInteger();
+    DnsCache dnsCache = new DnsCache(200L, 0L, host -> address(lookups.incrementAndGet()));
+    InetAddress first = dnsCache.resolve("example.com");
+    dnsCache.close();
+    Thread.sleep(160L);
+    //when
+    InetAddress stale = dnsCache.resolve("example.com");
+    InetAddress missing = dnsCache.resolveAsync("example.org").get(5L, TimeUnit.SECONDS);
+    //then
+    Assertions.assertEquals(first, stale);
+    Assertions.assertEquals(address(2), missing);
+    Assertions.assertEquals(0L, dnsCache.getMetrics().refreshes());
+  }
+
+  @SneakyThrows
+  @Test
+  void testResolve_RefreshesInBackground() {
+    //given
+    AtomicInteger lookups = new AtomicInteger();
+    DnsCache dnsCache = new DnsCache(200L, 0L, host -> address(lookups.incrementAndGet()));
+    InetAddress first = dnsCache.resolve("example.com");
+    Thread.sleep(160L);
+    //when
+    InetAddress stale = dnsCache.resolve("example.com");
+    long deadline = System.currentTimeMillis() + 1000L;
+    while (lookups.get() < 2 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5L);
+    }
+    Thread.sleep(20L);
+    InetAddress refreshed = dnsCache.resolve("example.com");
+    //then
+    Assertions.assertEquals(first, stale);
+    Assertions.assertEquals(address(2), refreshed);
+    Assertions.assertEquals(1L, dnsCache.getMetrics().refreshes());
+    Assertions.assertEquals(1L, dnsCache.getMetrics().misses());
+  }
+
+  @SneakyThrows
+  @Test
+  void testResolve_FailedRefreshIsPostponed() {
+    //given
+    AtomicInteger lookups = new AtomicInteger();
+    DnsCache dnsCache = new DnsCache(400L, 5000L, host -> {
+      if (lookups.incrementAndGet() > 1) {
+        throw new UnknownHostException(host);
+      }
+      return address(1);
+    });
+    InetAddress first = dnsCache.resolve("example.com");
+    Thread.sleep(320L);
+    //when
+    dnsCache.resolve("example.com");
+    long deadline = System.currentTimeMillis() + 1000L;
+    while (dnsCache.getMetrics().failures() < 1L && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5L);
+    }
+    Thread.sleep(20L);
+    InetAddress kept = dnsCache.resolve("example.com");
+    dnsCache.resolve("example.com");
+    //then
+    Assertions.assertEquals(first, kept);
+    Assertions.assertEquals(2, lookups.get());
+    Assertions.assertEquals(1L, dnsCache.getMetrics().refreshes());
+    Assertions.assertTrue(dnsCache.isCached("example.com"));
+    dnsCache.close();
+  }
+
+  @SneakyThrows
+  @Test
+  void testResolve_DisabledCache() {
+    //given
+    AtomicInteger lookups = new AtomicInteger();
+    DnsCache dnsCache = new DnsCache(0L, 0L, host -> address(lookups.incrementAndGet()));
+    //when
+    dnsCache.resolve("example.com");
+    dnsCache.resolve("example.com");
+    //then
+    Assertions.assertEquals(2, lookups.get());
+    Assertions.assertEquals(0, dnsCache.getMetrics().entries());
+  }
+
+  @Test
+  void testDnsCache_NegativeTtl() {
+    //given
+    //when
+    Executable executable = () -> new DnsCache(-1L, 0L);
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+}
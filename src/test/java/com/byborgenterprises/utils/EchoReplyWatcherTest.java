@@ -0,0 +1,124 @@
+package com.byborgenterprises.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class EchoReplyWatcherTest {
+
+  @Test
+  void testOnLine_LinuxReplies() {
+    //given
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(2, 3);
+    //when
+    boolean header = echoReplyWatcher.onLine("PING example.com (93.184.216.34) 56(84) bytes of data.");
+    boolean first = echoReplyWatcher.onLine("64 bytes from 93.184.216.34: icmp_seq=1 ttl=56 time=11.2 ms");
+    boolean second = echoReplyWatcher.onLine("64 bytes from 93.184.216.34: icmp_seq=2 ttl=56 time=11.4 ms");
+    //then
+    Assertions.assertTrue(header);
+    Assertions.assertTrue(first);
+    Assertions.assertFalse(second);
+    Assertions.assertTrue(echoReplyWatcher.isReachable());
+    Assertions.assertEquals(2, echoReplyWatcher.getReplies());
+  }
+
+  @Test
+  void testOnLine_WindowsLosses() {
+    //given
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(1, 2);
+    //when
+    echoReplyWatcher.onLine("Reply from 10.0.0.1: Destination host unreachable.");
+    echoReplyWatcher.onLine("Reply from 10.0.0.1: TTL expired in transit.");
+    boolean keepReading = echoReplyWatcher.onLine("Request timed out.");
+    //then
+    Assertions.assertFalse(keepReading);
+    Assertions.assertTrue(echoReplyWatcher.isConclusive());
+    Assertions.assertFalse(echoReplyWatcher.isReachable());
+    Assertions.assertEquals(0, echoReplyWatcher.getReplies());
+    Assertions.assertEquals(2, echoReplyWatcher.getLosses());
+  }
+
+  @Test
+  void testOnLine_LinuxUnansweredRequests() {
+    //given
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(1, 3);
+    //when
+    echoReplyWatcher.onLine("PING 10.255.255.1 (10.255.255.1) 56(84) bytes of data.");
+    echoReplyWatcher.onLine("no answer yet for icmp_seq=1");
+    echoReplyWatcher.onLine("no answer yet for icmp_seq=2");
+    boolean keepReading = echoReplyWatcher.onLine("no answer yet for icmp_seq=3");
+    //then
+    Assertions.assertFalse(keepReading);
+    Assertions.assertFalse(echoReplyWatcher.isReachable());
+    Assertions.assertEquals(3, echoReplyWatcher.getLosses());
+  }
+
+  @Test
+  void testOnLine_LinuxSequenceGaps() {
+    //given
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(0, 0);
+    //when
+    echoReplyWatcher.onLine("64 bytes from 93.184.216.34: icmp_seq=1 ttl=56 time=11.2 ms");
+    echoReplyWatcher.onLine("64 bytes from 93.184.216.34: icmp_seq=4 ttl=56 time=11.6 ms");
+    echoReplyWatcher.onLine("");
+    echoReplyWatcher.onLine("--- example.com ping statistics ---");
+    echoReplyWatcher.onLine("5 packets transmitted, 2 received, 60% packet loss, time 4006ms");
+    //then
+    Assertions.assertEquals(2, echoReplyWatcher.getReplies());
+    Assertions.assertEquals(2, echoReplyWatcher.getLosses());
+  }
+
+  @Test
+  void testOnLine_LinuxReportedLossesCountedOnce() {
+    //given
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(0, 0);
+    //when
+    echoReplyWatcher.onLine("64 bytes from 93.184.216.34: icmp_seq=1 ttl=56 time=11.2 ms");
+    echoReplyWatcher.onLine("no answer yet for icmp_seq=2");
+    echoReplyWatcher.onLine("64 bytes from 93.184.216.34: icmp_seq=3 ttl=56 time=11.5 ms");
+    echoReplyWatcher.onLine("64 bytes from 93.184.216.34: icmp_seq=5 ttl=56 time=11.3 ms");
+    //then
+    Assertions.assertEquals(3, echoReplyWatcher.getReplies());
+    Assertions.assertEquals(2, echoReplyWatcher.getLosses());
+  }
+
+  @Test
+  void testOnLine_SumsUpRoundTrips() {
+    //given
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(0, 0);
+    //when
+    double before = echoReplyWatcher.getMinRtt();
+    echoReplyWatcher.onLine("64 bytes from 93.184.216.34: icmp_seq=1 ttl=56 time=10.0 ms");
+    echoReplyWatcher.onLine("no answer yet for icmp_seq=2");
+    echoReplyWatcher.onLine("Reply from 93.184.216.34: bytes=32 time<1ms TTL=56");
+    echoReplyWatcher.onLine("64 bytes from 93.184.216.34: icmp_seq=4 ttl=56 time=20.0 ms");
+    //then
+    Assertions.assertEquals(PingOutputParser.UNKNOWN, before);
+    Assertions.assertEquals(1.0, echoReplyWatcher.getMinRtt());
+    Assertions.assertEquals(31.0 / 3, echoReplyWatcher.getAvgRtt(), 1e-9);
+    Assertions.assertEquals(20.0, echoReplyWatcher.getMaxRtt());
+    Assertions.assertTrue(echoReplyWatcher.getMdevRtt() > 0);
+  }
+
+  @Test
+  void testOnLine_DisabledVerdicts() {
+    //given
+    EchoReplyWatcher echoReplyWatcher = new EchoReplyWatcher(0, 0);
+    //when
+    boolean keepReading = echoReplyWatcher.onLine("Reply from 93.184.216.34: bytes=32 time=11ms TTL=56");
+    //then
+    Assertions.assertTrue(keepReading);
+    Assertions.assertFalse(echoReplyWatcher.isConclusive());
+    Assertions.assertTrue(echoReplyWatcher.isReachable());
+    Assertions.assertEquals(1, echoReplyWatcher.getReplies());
+  }
+
+  @Test
+  void testEchoReplyWatcher_NegativeRequirement() {
+    //given
+    //when
+    Executable executable = () -> new EchoReplyWatcher(-1, 0);
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+}
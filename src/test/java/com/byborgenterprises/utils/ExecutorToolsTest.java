@@ -0,0 +1,51 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.dtos.ExecutorMetricsDto;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class ExecutorToolsTest {
+
+  @SneakyThrows
+  @Test
+  void testNewFixedThreadPool_NamedDaemonThreads() {
+    //given
+    ThreadPoolExecutor executor = ExecutorTools.newFixedThreadPool("report", 2);
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    //when
+    executor.submit(() -> thread.set(Thread.currentThread())).get(5L, TimeUnit.SECONDS);
+    //then
+    Assertions.assertEquals("report-worker-1", thread.get().getName());
+    Assertions.assertTrue(thread.get().isDaemon());
+    executor.shutdown();
+  }
+
+  @SneakyThrows
+  @Test
+  void testGetMetrics_Success() {
+    //given
+    ThreadPoolExecutor executor = ExecutorTools.newFixedThreadPool("report", 2);
+    executor.submit(() -> {
+    }).get(5L, TimeUnit.SECONDS);
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(5L, TimeUnit.SECONDS));
+    //when
+    ExecutorMetricsDto metrics = ExecutorTools.getMetrics("report", executor);
+    //then
+    Assertions.assertEquals(new ExecutorMetricsDto("report", 0, 0, 0, 1, 1L), metrics);
+  }
+
+  @Test
+  void testNewFixedThreadPool_InvalidThreadNumber() {
+    //given
+    //when
+    Executable executable = () -> ExecutorTools.newFixedThreadPool("report", 0);
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+}
@@ -0,0 +1,105 @@
+package com.byborgenterprises.utils;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FirstByteBodyHandlerTest {
+
+  private final AtomicBoolean bodyFullySent = new AtomicBoolean();
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+  private HttpServer httpServer;
+
+  @SneakyThrows
+  @BeforeEach
+  void setUp() {
+    httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    httpServer.createContext("/large", exchange -> {
+      byte[] chunk = new byte[64 * 1024];
+      exchange.sendResponseHeaders(200, 0);
+      try (OutputStream body = exchange.getResponseBody()) {
+        for (int i = 0; i < 1024; i++) {
+          body.write(chunk);
+          body.flush();
+        }
+        bodyFullySent.set(true);
+      } catch (IOException e) {
+        // the client stopped reading
+      }
+    });
+    httpServer.createContext("/small", exchange -> {
+      clientPorts.add(exchange.getRemoteAddress().getPort());
+      byte[] body = new byte[1024];
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    httpServer.createContext("/empty", exchange -> {
+      exchange.sendResponseHeaders(204, -1);
+      exchange.close();
+    });
+    httpServer.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    httpServer.stop(0);
+  }
+
+  @SneakyThrows
+  @Test
+  void testApply_StopsAtFirstByte() {
+    //given
+    HttpRequest httpRequest = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + httpServer.getAddress().getPort() + "/large")).build();
+    long start = System.nanoTime();
+    //when
+    HttpResponse<Long> response = HttpClient.newHttpClient().send(httpRequest, new FirstByteBodyHandler());
+    //then
+    Assertions.assertEquals(200, response.statusCode());
+    Assertions.assertTrue(response.body() > start);
+    Assertions.assertFalse(bodyFullySent.get());
+  }
+
+  @SneakyThrows
+  @Test
+  void testApply_SmallBodyKeepsConnection() {
+    //given
+    HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    HttpRequest httpRequest = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + httpServer.getAddress().getPort() + "/small")).build();
+    //when
+    HttpResponse<Long> first = httpClient.send(httpRequest, new FirstByteBodyHandler());
+    Thread.sleep(100L);
+    HttpResponse<Long> second = httpClient.send(httpRequest, new FirstByteBodyHandler());
+    //then
+    Assertions.assertEquals(200, first.statusCode());
+    Assertions.assertEquals(200, second.statusCode());
+    Assertions.assertEquals(1, clientPorts.size());
+  }
+
+  @SneakyThrows
+  @Test
+  void testApply_EmptyBody() {
+    //given
+    HttpRequest httpRequest = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + httpServer.getAddress().getPort() + "/empty")).build();
+    long start = System.nanoTime();
+    //when
+    HttpResponse<Long> response = HttpClient.newHttpClient().send(httpRequest, new FirstByteBodyHandler());
+    //then
+    Assertions.assertEquals(204, response.statusCode());
+    Assertions.assertTrue(response.body() > start);
+  }
+}
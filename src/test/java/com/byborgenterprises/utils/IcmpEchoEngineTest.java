@@ -0,0 +1,81 @@
+package com.byborgenterprises.utils;
+
+import java.net.InetAddress;
+import java.util.concurrent.CompletionException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class IcmpEchoEngineTest {
+
+  @SneakyThrows
+  @Test
+  void testEcho_StopsAtFirstReply() {
+    //given
+    IcmpEchoEngine icmpEchoEngine = new IcmpEchoEngine("icmp-echo-test", 2);
+    InetAddress address = InetAddress.getLoopbackAddress();
+    //when
+    long[] roundTrips = icmpEchoEngine.echo(address, 3, 1000).join();
+    icmpEchoEngine.close();
+    //then
+    Assertions.assertTrue(roundTrips.length >= 1 && roundTrips.length <= 3);
+    for (int i = 0; i < roundTrips.length - 1; i++) {
+      Assertions.assertEquals(-1L, roundTrips[i]);
+    }
+    long replies = roundTrips[roundTrips.length - 1] >= 0 ? 1L : 0L;
+    Assertions.assertEquals(replies, icmpEchoEngine.getMetrics().count());
+  }
+
+  @Test
+  void testEcho_ClosedEngine() {
+    //given
+    IcmpEchoEngine icmpEchoEngine = new IcmpEchoEngine("icmp-echo-test", 1);
+    icmpEchoEngine.close();
+    //when
+    Executable executable = () -> icmpEchoEngine.echo(InetAddress.getLoopbackAddress(), 1, 1000).join();
+    //then
+    CompletionException exception = Assertions.assertThrows(CompletionException.class, executable);
+    Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+  }
+
+  @Test
+  void testEcho_InvalidCount() {
+    //given
+    IcmpEchoEngine icmpEchoEngine = new IcmpEchoEngine("icmp-echo-test", 1);
+    //when
+    Executable executable = () -> icmpEchoEngine.echo(InetAddress.getLoopbackAddress(), 0, 1000);
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+
+  @Test
+  void testHasNetRawCapability() {
+    //given
+    String root = "Name:\tjava\nCapInh:\t0000000000000000\nCapEff:\t000001ffffffffff\n";
+    String user = "Name:\tjava\nCapInh:\t0000000000000000\nCapEff:\t0000000000000000\n";
+    String netRaw = "CapEff:\t0000000000002000";
+    //when
+    boolean rootCapable = IcmpEchoEngine.hasNetRawCapability(root);
+    boolean userCapable = IcmpEchoEngine.hasNetRawCapability(user);
+    boolean netRawCapable = IcmpEchoEngine.hasNetRawCapability(netRaw);
+    boolean missing = IcmpEchoEngine.hasNetRawCapability("Name:\tjava");
+    //then
+    Assertions.assertTrue(rootCapable);
+    Assertions.assertFalse(userCapable);
+    Assertions.assertTrue(netRawCapable);
+    Assertions.assertFalse(missing);
+  }
+
+  @Test
+  void testIsClosed() {
+    //given
+    IcmpEchoEngine icmpEchoEngine = new IcmpEchoEngine("icmp-echo-test", 1);
+    //when
+    boolean before = icmpEchoEngine.isClosed();
+    icmpEchoEngine.close();
+    //then
+    Assertions.assertFalse(before);
+    Assertions.assertTrue(icmpEchoEngine.isClosed());
+  }
+}
@@ -0,0 +1,58 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.dtos.LatencyHistogramDto;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class LatencyHistogramTest {
+
+  @Test
+  void testGetMetrics_Percentiles() {
+    //given
+    LatencyHistogram latencyHistogram = new LatencyHistogram("FIRST_BYTE");
+    //when
+    LongStream.rangeClosed(1, 1000).forEach(value -> latencyHistogram.record(value * 1000L));
+    LatencyHistogramDto metrics = latencyHistogram.getMetrics();
+    //then
+    Assertions.assertEquals("FIRST_BYTE", metrics.name());
+    Assertions.assertEquals(1000L, metrics.count());
+    Assertions.assertEquals(500500L, metrics.mean());
+    Assertions.assertEquals(1000000L, metrics.max());
+    Assertions.assertEquals(500000L, metrics.p50(), 500000L * 0.125);
+    Assertions.assertEquals(900000L, metrics.p90(), 900000L * 0.125);
+    Assertions.assertEquals(990000L, metrics.p99(), 990000L * 0.125);
+  }
+
+  @Test
+  void testRecord_SmallAndNegativeValues() {
+    //given
+    LatencyHistogram latencyHistogram = new LatencyHistogram("DNS");
+    //when
+    latencyHistogram.record(-1L);
+    latencyHistogram.record(3L);
+    //then
+    Assertions.assertEquals(1L, latencyHistogram.getMetrics().count());
+    Assertions.assertEquals(3L, latencyHistogram.getPercentile(100.0));
+  }
+
+  @Test
+  void testGetPercentile_Empty() {
+    //given
+    LatencyHistogram latencyHistogram = new LatencyHistogram("TLS");
+    //when
+    long percentile = latencyHistogram.getPercentile(99.0);
+    //then
+    Assertions.assertEquals(0L, percentile);
+  }
+
+  @Test
+  void testLatencyHistogram_NullName() {
+    //given
+    //when
+    Executable executable = () -> new LatencyHistogram(null);
+    //then
+    Assertions.assertThrows(NullPointerException.class, executable);
+  }
+}
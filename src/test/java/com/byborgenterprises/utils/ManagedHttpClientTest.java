@@ -0,0 +1,119 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.dtos.HttpClientMetricsDto;
+import com.byborgenterprises.enums.HttpClientPurpose;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class ManagedHttpClientTest {
+
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+  private HttpServer httpServer;
+
+  @SneakyThrows
+  @BeforeEach
+  void setUp() {
+    httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    httpServer.createContext("/", exchange -> {
+      clientPorts.add(exchange.getRemoteAddress().getPort());
+      byte[] body = "pong".getBytes();
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    httpServer.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    httpServer.stop(0);
+  }
+
+  @SneakyThrows
+  @Test
+  void testSend_ReusesConnection() {
+    //given
+    ManagedHttpClient managedHttpClient = new ManagedHttpClient(HttpClientPurpose.PROBE, 2);
+    HttpRequest httpRequest = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + httpServer.getAddress().getPort() + "/")).timeout(Duration.ofSeconds(5L)).build();
+    //when
+    HttpResponse<String> first = managedHttpClient.send(httpRequest);
+    HttpResponse<String> second = managedHttpClient.send(httpRequest);
+    HttpClientMetricsDto metrics = managedHttpClient.getMetrics();
+    //then
+    Assertions.assertEquals("pong", first.body());
+    Assertions.assertEquals(200, second.statusCode());
+    Assertions.assertEquals(1, clientPorts.size());
+    Assertions.assertEquals(2L, metrics.requests());
+    Assertions.assertEquals(0, metrics.inFlight());
+    Assertions.assertEquals(0L, metrics.failures());
+    Assertions.assertEquals("http-probe", metrics.executor().name());
+  }
+
+  @Test
+  void testSend_CountsFailures() {
+    //given
+    ManagedHttpClient managedHttpClient = new ManagedHttpClient(HttpClientPurpose.REPORT, 1);
+    int port = httpServer.getAddress().getPort();
+    httpServer.stop(0);
+    HttpRequest httpRequest = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/")).timeout(Duration.ofSeconds(5L)).build();
+    //when
+    Executable executable = () -> managedHttpClient.send(httpRequest);
+    //then
+    Assertions.assertThrows(IOException.class, executable);
+    Assertions.assertEquals(1L, managedHttpClient.getMetrics().failures());
+    Assertions.assertEquals(HttpClientPurpose.REPORT, managedHttpClient.getMetrics().purpose());
+  }
+
+  @SneakyThrows
+  @Test
+  void testClose_ShutsDownOnceRequestsCompleted() {
+    //given
+    CountDownLatch release = new CountDownLatch(1);
+    httpServer.createContext("/slow", exchange -> {
+      try {
+        release.await(5L, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      exchange.sendResponseHeaders(204, -1);
+      exchange.close();
+    });
+    ManagedHttpClient managedHttpClient = new ManagedHttpClient(HttpClientPurpose.REPORT, 1);
+    HttpRequest httpRequest = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + httpServer.getAddress().getPort() + "/slow")).timeout(Duration.ofSeconds(5L)).build();
+    //when
+    CompletableFuture<HttpResponse<String>> response = managedHttpClient.sendAsync(httpRequest);
+    managedHttpClient.close();
+    boolean shutdownInFlight = managedHttpClient.isShutdown();
+    release.countDown();
+    //then
+    Assertions.assertFalse(shutdownInFlight);
+    Assertions.assertEquals(204, response.get(5L, TimeUnit.SECONDS).statusCode());
+    Assertions.assertTrue(managedHttpClient.isShutdown());
+  }
+
+  @Test
+  void testManagedHttpClient_InvalidThreads() {
+    //given
+    //when
+    Executable executable = () -> new ManagedHttpClient(HttpClientPurpose.PROBE, 0);
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+}
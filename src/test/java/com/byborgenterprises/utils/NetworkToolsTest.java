@@ -1,7 +1,10 @@
 package com.byborgenterprises.utils;
 
+import com.byborgenterprises.dtos.HttpClientMetricsDto;
+import com.byborgenterprises.enums.HttpClientPurpose;
 import com.byborgenterprises.exceptions.NetworkToolsException;
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -110,4 +113,16 @@ class NetworkToolsTest {
     Assertions.assertNotNull(uri);
     Assertions.assertEquals("https://example.com", uri.toString());
   }
+
+  @Test
+  void testConfigureHttpClient_ExposesMetrics() {
+    // given
+    NetworkTools.configureHttpClient(HttpClientPurpose.REPORT, 1);
+    // when
+    List<HttpClientMetricsDto> metrics = NetworkTools.getHttpClientMetrics();
+    // then
+    HttpClientMetricsDto report = metrics.stream().filter(metric -> metric.purpose() == HttpClientPurpose.REPORT).findFirst().orElseThrow();
+    Assertions.assertEquals(0L, report.requests());
+    Assertions.assertEquals("http-report", report.executor().name());
+  }
 }
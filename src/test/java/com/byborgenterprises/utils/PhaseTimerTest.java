@@ -0,0 +1,38 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.enums.HttpPhase;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PhaseTimerTest {
+
+  @Test
+  void testPhaseTimer_NothingMeasured() {
+    //given
+    //when
+    PhaseTimer phaseTimer = new PhaseTimer();
+    //then
+    for (HttpPhase phase : HttpPhase.values()) {
+      Assertions.assertEquals(-1L, phaseTimer.get(phase));
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void testLap_MeasuresSuccessivePhases() {
+    //given
+    PhaseTimer phaseTimer = new PhaseTimer();
+    //when
+    phaseTimer.start();
+    Thread.sleep(20L);
+    phaseTimer.lap(HttpPhase.FIRST_BYTE);
+    phaseTimer.lap(HttpPhase.TRANSFER);
+    phaseTimer.set(HttpPhase.CONNECT, 5L);
+    //then
+    Assertions.assertTrue(phaseTimer.get(HttpPhase.FIRST_BYTE) >= 20_000_000L);
+    Assertions.assertTrue(phaseTimer.get(HttpPhase.TRANSFER) < phaseTimer.get(HttpPhase.FIRST_BYTE));
+    Assertions.assertEquals(5L, phaseTimer.get(HttpPhase.CONNECT));
+    Assertions.assertEquals(-1L, phaseTimer.get(HttpPhase.DNS));
+  }
+}
@@ -0,0 +1,109 @@
+package com.byborgenterprises.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class PingOutputParserTest {
+
+  @Test
+  void testParse_LinuxSummary() {
+    //given
+    String output = """
+        PING example.com (93.184.216.34) 56(84) bytes of data.
+        64 bytes from 93.184.216.34: icmp_seq=1 ttl=56 time=11.2 ms
+        64 bytes from 93.184.216.34: icmp_seq=3 ttl=56 time=11.6 ms
+
+        --- example.com ping statistics ---
+        3 packets transmitted, 2 received, +1 errors, 33.3333% packet loss, time 2003ms
+        rtt min/avg/max/mdev = 11.200/11.400/11.600/0.200 ms
+        """;
+    //when
+    PingOutputParser statistics = PingOutputParser.parse(output);
+    //then
+    Assertions.assertEquals(3, statistics.getTransmitted());
+    Assertions.assertEquals(2, statistics.getReceived());
+    Assertions.assertEquals(33.3333, statistics.getLossPercent(), 1e-9);
+    Assertions.assertEquals(11.2, statistics.getMinRtt(), 1e-9);
+    Assertions.assertEquals(11.4, statistics.getAvgRtt(), 1e-9);
+    Assertions.assertEquals(11.6, statistics.getMaxRtt(), 1e-9);
+    Assertions.assertEquals(0.2, statistics.getMdevRtt(), 1e-9);
+    Assertions.assertArrayEquals(new double[]{11.2, 11.6}, statistics.getRoundTrips(), 1e-9);
+  }
+
+  @Test
+  void testParse_WindowsSummary() {
+    //given
+    String output = "Pinging example.com [93.184.216.34] with 32 bytes of data:\r\n" + "Reply from 93.184.216.34: bytes=32 time=14ms TTL=117\r\n"
+        + "Reply from 93.184.216.34: bytes=32 time<1ms TTL=117\r\n" + "Request timed out.\r\n" + "\r\n" + "Ping statistics for 93.184.216.34:\r\n"
+        + "    Packets: Sent = 3, Received = 2, Lost = 1 (33% loss),\r\n" + "Approximate round trip times in milli-seconds:\r\n"
+        + "    Minimum = 1ms, Maximum = 14ms, Average = 7ms\r\n";
+    //when
+    PingOutputParser statistics = PingOutputParser.parse(output);
+    //then
+    Assertions.assertEquals(3, statistics.getTransmitted());
+    Assertions.assertEquals(2, statistics.getReceived());
+    Assertions.assertEquals(33.0, statistics.getLossPercent());
+    Assertions.assertEquals(1.0, statistics.getMinRtt());
+    Assertions.assertEquals(7.0, statistics.getAvgRtt());
+    Assertions.assertEquals(14.0, statistics.getMaxRtt());
+    Assertions.assertEquals(6.5, statistics.getMdevRtt(), 1e-9);
+    Assertions.assertEquals(2, statistics.getReplies());
+    Assertions.assertEquals(1, statistics.getLosses());
+  }
+
+  @Test
+  void testParse_PartialOutputWithoutSummary() {
+    //given
+    String output = "64 bytes from 93.184.216.34: icmp_seq=1 ttl=56 time=10 ms\nno answer yet for icmp_seq=2\n64 bytes from 93.184.216.34: icmp_seq=3 ttl=56 time=20 ms";
+    //when
+    PingOutputParser statistics = PingOutputParser.parse(output);
+    //then
+    Assertions.assertEquals(3, statistics.getTransmitted());
+    Assertions.assertEquals(2, statistics.getReceived());
+    Assertions.assertEquals(100.0 / 3, statistics.getLossPercent(), 1e-9);
+    Assertions.assertEquals(10.0, statistics.getMinRtt());
+    Assertions.assertEquals(15.0, statistics.getAvgRtt());
+    Assertions.assertEquals(20.0, statistics.getMaxRtt());
+    Assertions.assertEquals(5.0, statistics.getMdevRtt(), 1e-9);
+  }
+
+  @Test
+  void testParse_KeywordsInAnyCaseAndOrder() {
+    //given
+    String output = "From 10.0.0.1 icmp_seq=1 Destination Host Unreachable\n64 BYTES FROM 10.0.0.2: ICMP_SEQ=2 TTL=64 TIME=0.5 MS\n"
+        + "2 packets transmitted, 1 received, +1 errors, 50% packet loss, time 1001ms";
+    //when
+    PingOutputParser statistics = PingOutputParser.parse(output);
+    //then
+    Assertions.assertEquals(1, statistics.getLosses());
+    Assertions.assertEquals(1, statistics.getReplies());
+    Assertions.assertEquals(2, statistics.getTransmitted());
+    Assertions.assertEquals(1, statistics.getReceived());
+    Assertions.assertEquals(50.0, statistics.getLossPercent());
+    Assertions.assertArrayEquals(new double[]{0.5}, statistics.getRoundTrips());
+  }
+
+  @Test
+  void testParse_EmptyOutput() {
+    //given
+    //when
+    PingOutputParser statistics = PingOutputParser.parse("");
+    //then
+    Assertions.assertEquals(0, statistics.getTransmitted());
+    Assertions.assertEquals(0, statistics.getReceived());
+    Assertions.assertEquals(PingOutputParser.UNKNOWN, statistics.getLossPercent());
+    Assertions.assertEquals(PingOutputParser.UNKNOWN, statistics.getMinRtt());
+    Assertions.assertEquals(PingOutputParser.UNKNOWN, statistics.getMdevRtt());
+    Assertions.assertEquals(0, statistics.getRoundTrips().length);
+  }
+
+  @Test
+  void testParse_NullOutput() {
+    //given
+    //when
+    Executable executable = () -> PingOutputParser.parse(null);
+    //then
+    Assertions.assertThrows(NullPointerException.class, executable);
+  }
+}
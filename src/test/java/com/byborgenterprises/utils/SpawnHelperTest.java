@@ -0,0 +1,81 @@
+package com.byborgenterprises.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class SpawnHelperTest {
+
+  private final SpawnHelper spawnHelper = new SpawnHelper();
+
+  @SneakyThrows
+  private static List<String> readLines(final Process process) {
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+      return reader.lines().toList();
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    spawnHelper.close();
+  }
+
+  @SneakyThrows
+  @Test
+  void testSpawn_StreamsOutputAndExitCode() {
+    //given
+    String command = "seq 1 3";
+    //when
+    Process process = spawnHelper.spawn(command);
+    List<String> lines = readLines(process);
+    int exitCode = process.waitFor();
+    //then
+    Assertions.assertEquals(List.of("1", "2", "3"), lines);
+    Assertions.assertEquals(0, exitCode);
+    Assertions.assertFalse(process.isAlive());
+    Assertions.assertTrue(process.pid() > 0);
+  }
+
+  @SneakyThrows
+  @Test
+  void testSpawn_FailingCommand() {
+    //given
+    String command = "ls /nonexistent-spawn-helper-test *";
+    //when
+    Process process = spawnHelper.spawn(command);
+    List<String> lines = readLines(process);
+    int exitCode = process.waitFor();
+    //then
+    Assertions.assertTrue(lines.isEmpty());
+    Assertions.assertNotEquals(0, exitCode);
+  }
+
+  @SneakyThrows
+  @Test
+  void testSpawn_KilledCommand() {
+    //given
+    Process process = spawnHelper.spawn("sleep 30");
+    //when
+    process.destroyForcibly();
+    int exitCode = process.waitFor();
+    //then
+    Assertions.assertEquals(137, exitCode);
+    Assertions.assertTrue(readLines(process).isEmpty());
+  }
+
+  @Test
+  void testSpawn_MultiLineCommand() {
+    //given
+    String command = "echo Hello\nreboot";
+    //when
+    Executable executable = () -> spawnHelper.spawn(command);
+    //then
+    Assertions.assertThrows(IOException.class, executable);
+  }
+}
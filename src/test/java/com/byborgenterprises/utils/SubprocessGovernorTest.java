@@ -0,0 +1,70 @@
+package com.byborgenterprises.utils;
+
+import com.byborgenterprises.dtos.SubprocessMetricsDto;
+import com.byborgenterprises.exceptions.SubprocessLimitException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class SubprocessGovernorTest {
+
+  @Test
+  void testAcquire_WithinLimit() {
+    //given
+    SubprocessGovernor subprocessGovernor = new SubprocessGovernor(2, 0L);
+    //when
+    subprocessGovernor.acquire("ping localhost");
+    subprocessGovernor.acquire("ping localhost");
+    SubprocessMetricsDto metrics = subprocessGovernor.getMetrics();
+    //then
+    Assertions.assertEquals(2, metrics.running());
+    Assertions.assertEquals(2L, metrics.admitted());
+    Assertions.assertEquals(0L, metrics.rejected());
+  }
+
+  @Test
+  void testAcquire_RejectedBeyondLimit() {
+    //given
+    SubprocessGovernor subprocessGovernor = new SubprocessGovernor(1, 50L);
+    subprocessGovernor.acquire("ping localhost");
+    //when
+    Executable executable = () -> subprocessGovernor.acquire("traceroute localhost");
+    //then
+    Assertions.assertThrows(SubprocessLimitException.class, executable);
+    Assertions.assertEquals(1L, subprocessGovernor.getMetrics().rejected());
+    Assertions.assertEquals(0, subprocessGovernor.getMetrics().waiting());
+  }
+
+  @SneakyThrows
+  @Test
+  void testRelease_AdmitsWaitingCommand() {
+    //given
+    SubprocessGovernor subprocessGovernor = new SubprocessGovernor(1, 5000L);
+    subprocessGovernor.acquire("ping localhost");
+    CountDownLatch admitted = new CountDownLatch(1);
+    Thread waiting = new Thread(() -> {
+      subprocessGovernor.acquire("traceroute localhost");
+      admitted.countDown();
+    });
+    //when
+    waiting.start();
+    Thread.sleep(100L);
+    subprocessGovernor.release();
+    //then
+    Assertions.assertTrue(admitted.await(5L, TimeUnit.SECONDS));
+    Assertions.assertTrue(subprocessGovernor.getMetrics().maxQueueTime() >= 50L);
+    Assertions.assertEquals(1, subprocessGovernor.getMetrics().running());
+  }
+
+  @Test
+  void testSubprocessGovernor_InvalidLimit() {
+    //given
+    //when
+    Executable executable = () -> new SubprocessGovernor(0, 1000L);
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+}
@@ -1,6 +1,14 @@
 package com.byborgenterprises.utils;
 
 import com.byborgenterprises.dtos.TerminalDto;
+import com.byborgenterprises.enums.LauncherMode;
+import com.byborgenterprises.enums.TerminalOutcome;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
@@ -29,4 +37,161 @@ class TerminalToolsTest {
     // then
     Assertions.assertThrows(NullPointerException.class, executable);
   }
+
+  @Test
+  void testExecuteCommand_ReleasesSubprocessSlot() {
+    //given
+    String command = "echo Hello";
+    TerminalTools.configureGovernor(1, 0L);
+    //when
+    TerminalTools.executeCommand(command);
+    TerminalTools.executeCommand(command);
+    //then
+    Assertions.assertEquals(0, TerminalTools.getGovernorMetrics().running());
+    Assertions.assertEquals(2L, TerminalTools.getGovernorMetrics().admitted());
+    TerminalTools.configureGovernor(32, 10000L);
+  }
+
+  @Test
+  void testExecuteCommand_StreamsLinesAndBoundsResult() {
+    //given
+    String command = "seq 1 1000";
+    List<String> lines = new ArrayList<>();
+    //when
+    TerminalDto result = TerminalTools.executeCommand(command, lines::add, 16);
+    //then
+    Assertions.assertEquals(1000, lines.size());
+    Assertions.assertEquals("1", lines.get(0));
+    Assertions.assertEquals("997\n998\n999\n1000", result.result());
+    Assertions.assertEquals(0, result.exitCode());
+  }
+
+  @Test
+  void testExecuteCommand_DrainsErrorStream() {
+    //given
+    String command = "ls /nonexistent-terminal-tools-test";
+    List<String> lines = new ArrayList<>();
+    //when
+    TerminalDto result = TerminalTools.executeCommand(command, lines::add, 1024);
+    //then
+    Assertions.assertNotEquals(0, result.exitCode());
+    Assertions.assertTrue(lines.isEmpty());
+    Assertions.assertEquals("", result.result());
+  }
+
+  @Test
+  void testExecuteCommand_InvalidMaxResultLength() {
+    //given
+    String command = "echo Hello";
+    //when
+    Executable executable = () -> TerminalTools.executeCommand(command, LineListener.NONE, 0);
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+
+  @Test
+  void testExecuteCommand_StopsOnListenerVerdict() {
+    //given
+    String command = "seq 1 100000000";
+    //when
+    TerminalDto result = TerminalTools.executeCommand(command, line -> !"3".equals(line));
+    //then
+    Assertions.assertEquals(TerminalOutcome.STOPPED, result.outcome());
+    Assertions.assertEquals("1\n2\n3", result.result());
+    Assertions.assertEquals(0, TerminalTools.getGovernorMetrics().running());
+  }
+
+  @Test
+  void testExecuteCommand_KillsStoppedCommandIgnoringEnd() throws IOException {
+    //given
+    Path script = Files.createTempFile("ignore-term", ".sh");
+    Files.writeString(script, "trap '' TERM\necho ready\nwhile :; do sleep 0.1; done\n");
+    long killed = TerminalTools.getKilledProcesses();
+    long start = System.currentTimeMillis();
+    //when
+    TerminalDto result = TerminalTools.executeCommand("sh " + script, line -> !"ready".equals(line));
+    Files.delete(script);
+    //then
+    Assertions.assertEquals(TerminalOutcome.STOPPED, result.outcome());
+    Assertions.assertTrue(System.currentTimeMillis() - start < 10000L);
+    Assertions.assertTrue(TerminalTools.getKilledProcesses() > killed);
+    Assertions.assertEquals(0, TerminalTools.getGovernorMetrics().running());
+  }
+
+  @Test
+  void testExecuteCommand_KillsCommandAtDeadline() {
+    //given
+    String command = "sleep 30";
+    long killed = TerminalTools.getKilledProcesses();
+    long start = System.currentTimeMillis();
+    //when
+    TerminalDto result = TerminalTools.executeCommand(command, LineListener.NONE, Duration.ofMillis(200L));
+    //then
+    Assertions.assertEquals(TerminalOutcome.TIMED_OUT, result.outcome());
+    Assertions.assertNotEquals(0, result.exitCode());
+    Assertions.assertTrue(System.currentTimeMillis() - start < 10000L);
+    Assertions.assertTrue(TerminalTools.getKilledProcesses() > killed);
+    Assertions.assertEquals(0, TerminalTools.getGovernorMetrics().running());
+  }
+
+  @Test
+  void testExecuteCommand_NegativeTimeout() {
+    //given
+    String command = "echo Hello";
+    //when
+    Executable executable = () -> TerminalTools.executeCommand(command, LineListener.NONE, Duration.ofMillis(-1L));
+    //then
+    Assertions.assertThrows(IllegalArgumentException.class, executable);
+  }
+
+  @Test
+  void testReadSession_ReadsUntilExit() {
+    //given
+    List<String> lines = new ArrayList<>();
+    TerminalSession terminalSession = TerminalTools.startSession("seq 1 3");
+    //when
+    TerminalDto result = TerminalTools.readSession(terminalSession, lines::add);
+    //then
+    Assertions.assertEquals(List.of("1", "2", "3"), lines);
+    Assertions.assertEquals(TerminalOutcome.COMPLETED, result.outcome());
+    Assertions.assertEquals(0, result.exitCode());
+    Assertions.assertFalse(terminalSession.isAlive());
+    Assertions.assertEquals(0, TerminalTools.getGovernorMetrics().running());
+  }
+
+  @Test
+  void testReadSession_ClosedSession() {
+    //given
+    long start = System.currentTimeMillis();
+    TerminalSession terminalSession = TerminalTools.startSession("sleep 30");
+    //when
+    terminalSession.close();
+    TerminalDto result = TerminalTools.readSession(terminalSession, LineListener.NONE);
+    //then
+    Assertions.assertEquals(TerminalOutcome.STOPPED, result.outcome());
+    Assertions.assertFalse(terminalSession.isAlive());
+    Assertions.assertTrue(System.currentTimeMillis() - start < 10000L);
+  }
+
+  @Test
+  void testExecuteCommand_HelperLauncher() {
+    //given
+    String command = "seq 1 100000000";
+    TerminalTools.configureLauncher(LauncherMode.HELPER);
+    try {
+      //when
+      TerminalDto echo = TerminalTools.executeCommand("echo Hello");
+      TerminalDto stopped = TerminalTools.executeCommand(command, line -> !"3".equals(line));
+      TerminalDto killed = TerminalTools.executeCommand("sleep 30", LineListener.NONE, Duration.ofMillis(200L));
+      //then
+      Assertions.assertEquals("Hello", echo.result());
+      Assertions.assertEquals(0, echo.exitCode());
+      Assertions.assertEquals(TerminalOutcome.STOPPED, stopped.outcome());
+      Assertions.assertEquals("1\n2\n3", stopped.result());
+      Assertions.assertEquals(TerminalOutcome.TIMED_OUT, killed.outcome());
+      Assertions.assertEquals(0, TerminalTools.getGovernorMetrics().running());
+    } finally {
+      TerminalTools.configureLauncher(LauncherMode.DIRECT);
+    }
+  }
 }
@@ -0,0 +1,66 @@
+package com.byborgenterprises.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class TraceRouteParserTest {
+
+  @Test
+  void testParse_Linux() {
+    //given
+    String output = """
+        traceroute to example.com (93.184.216.34), 30 hops max, 60 byte packets
+         1  _gateway (192.168.1.1)  0.456 ms  0.412 ms  0.398 ms
+         2  * * *
+         3  10.0.0.1  5.125 ms * 5.375 ms
+         4  edge.example.net (1.2.3.4)  10.5 ms core.example.net (5.6.7.8)  11.5 ms  12 ms !H
+        """;
+    //when
+    TraceRouteParser hops = TraceRouteParser.parse(output);
+    //then
+    Assertions.assertEquals(4, hops.getHopCount());
+    Assertions.assertArrayEquals(new int[]{1, 2, 3, 4}, hops.getTtls());
+    Assertions.assertArrayEquals(new String[]{"192.168.1.1", null, "10.0.0.1", "1.2.3.4"}, hops.getAddresses());
+    Assertions.assertArrayEquals(new float[]{0.456f, 0.412f, 0.398f, -1f, -1f, -1f, 5.125f, -1f, 5.375f, 10.5f, 11.5f, 12f}, hops.getRoundTrips(), 1e-6f);
+  }
+
+  @Test
+  void testParse_Windows() {
+    //given
+    String output = "\r\nTracing route to example.com [93.184.216.34]\r\nover a maximum of 30 hops:\r\n\r\n" + "  1    <1 ms    <1 ms    <1 ms  192.168.1.1\r\n"
+        + "  2     *        *        *     Request timed out.\r\n" + "  3    12 ms    11 ms    13 ms  edge.example.net [10.0.0.1]\r\n" + "\r\nTrace complete.\r\n";
+    //when
+    TraceRouteParser hops = TraceRouteParser.parse(output);
+    //then
+    Assertions.assertEquals(3, hops.getHopCount());
+    Assertions.assertArrayEquals(new int[]{1, 2, 3}, hops.getTtls());
+    Assertions.assertArrayEquals(new String[]{"192.168.1.1", null, "10.0.0.1"}, hops.getAddresses());
+    Assertions.assertArrayEquals(new float[]{1f, 1f, 1f, -1f, -1f, -1f, 12f, 11f, 13f}, hops.getRoundTrips());
+  }
+
+  @Test
+  void testParse_ManyHops() {
+    //given
+    StringBuilder output = new StringBuilder();
+    for (int ttl = 1; ttl <= 40; ttl++) {
+      output.append(ttl).append("  10.0.0.").append(ttl).append("  1.5 ms\n");
+    }
+    //when
+    TraceRouteParser hops = TraceRouteParser.parse(output);
+    //then
+    Assertions.assertEquals(40, hops.getHopCount());
+    Assertions.assertEquals("10.0.0.40", hops.getAddresses()[39]);
+    Assertions.assertEquals(1.5f, hops.getRoundTrips()[117]);
+    Assertions.assertEquals(TraceRouteParser.TIMED_OUT, hops.getRoundTrips()[118]);
+  }
+
+  @Test
+  void testParse_NullOutput() {
+    //given
+    //when
+    Executable executable = () -> TraceRouteParser.parse(null);
+    //then
+    Assertions.assertThrows(NullPointerException.class, executable);
+  }
+}